@@ -8565,6 +8565,50 @@ public final class BibixIdProto {
      */
     com.google.protobuf.ByteString
         getNonExistentBytes(int index);
+
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash> 
+        getTargetOutputsList();
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    com.giyeok.bibix.BibixIdProto.TargetOutputHash getTargetOutputs(int index);
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    int getTargetOutputsCount();
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    java.util.List<? extends com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder> 
+        getTargetOutputsOrBuilderList();
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder getTargetOutputsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code com.giyeok.bibix.InputHashes}
@@ -8583,6 +8627,7 @@ public final class BibixIdProto {
       files_ = java.util.Collections.emptyList();
       nonExistent_ =
           com.google.protobuf.LazyStringArrayList.emptyList();
+      targetOutputs_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -8724,6 +8769,67 @@ public final class BibixIdProto {
       return nonExistent_.getByteString(index);
     }
 
+    public static final int TARGET_OUTPUTS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash> targetOutputs_;
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash> getTargetOutputsList() {
+      return targetOutputs_;
+    }
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder> 
+        getTargetOutputsOrBuilderList() {
+      return targetOutputs_;
+    }
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    @java.lang.Override
+    public int getTargetOutputsCount() {
+      return targetOutputs_.size();
+    }
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixIdProto.TargetOutputHash getTargetOutputs(int index) {
+      return targetOutputs_.get(index);
+    }
+    /**
+     * <pre>
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder getTargetOutputsOrBuilder(
+        int index) {
+      return targetOutputs_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -8747,6 +8853,9 @@ public final class BibixIdProto {
       for (int i = 0; i < nonExistent_.size(); i++) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, nonExistent_.getRaw(i));
       }
+      for (int i = 0; i < targetOutputs_.size(); i++) {
+        output.writeMessage(4, targetOutputs_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -8772,6 +8881,10 @@ public final class BibixIdProto {
         size += dataSize;
         size += 1 * getNonExistentList().size();
       }
+      for (int i = 0; i < targetOutputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, targetOutputs_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -8793,6 +8906,8 @@ public final class BibixIdProto {
           .equals(other.getFilesList())) return false;
       if (!getNonExistentList()
           .equals(other.getNonExistentList())) return false;
+      if (!getTargetOutputsList()
+          .equals(other.getTargetOutputsList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -8816,6 +8931,10 @@ public final class BibixIdProto {
         hash = (37 * hash) + NON_EXISTENT_FIELD_NUMBER;
         hash = (53 * hash) + getNonExistentList().hashCode();
       }
+      if (getTargetOutputsCount() > 0) {
+        hash = (37 * hash) + TARGET_OUTPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetOutputsList().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -8961,6 +9080,13 @@ public final class BibixIdProto {
         bitField0_ = (bitField0_ & ~0x00000002);
         nonExistent_ =
             com.google.protobuf.LazyStringArrayList.emptyList();
+        if (targetOutputsBuilder_ == null) {
+          targetOutputs_ = java.util.Collections.emptyList();
+        } else {
+          targetOutputs_ = null;
+          targetOutputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -9012,6 +9138,15 @@ public final class BibixIdProto {
         } else {
           result.files_ = filesBuilder_.build();
         }
+        if (targetOutputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            targetOutputs_ = java.util.Collections.unmodifiableList(targetOutputs_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.targetOutputs_ = targetOutputs_;
+        } else {
+          result.targetOutputs_ = targetOutputsBuilder_.build();
+        }
       }
 
       private void buildPartial0(com.giyeok.bibix.BibixIdProto.InputHashes result) {
@@ -9096,6 +9231,32 @@ public final class BibixIdProto {
           }
           onChanged();
         }
+        if (targetOutputsBuilder_ == null) {
+          if (!other.targetOutputs_.isEmpty()) {
+            if (targetOutputs_.isEmpty()) {
+              targetOutputs_ = other.targetOutputs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureTargetOutputsIsMutable();
+              targetOutputs_.addAll(other.targetOutputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.targetOutputs_.isEmpty()) {
+            if (targetOutputsBuilder_.isEmpty()) {
+              targetOutputsBuilder_.dispose();
+              targetOutputsBuilder_ = null;
+              targetOutputs_ = other.targetOutputs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              targetOutputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTargetOutputsFieldBuilder() : null;
+            } else {
+              targetOutputsBuilder_.addAllMessages(other.targetOutputs_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -9154,6 +9315,19 @@ public final class BibixIdProto {
                 nonExistent_.add(s);
                 break;
               } // case 26
+              case 34: {
+                com.giyeok.bibix.BibixIdProto.TargetOutputHash m =
+                    input.readMessage(
+                        com.giyeok.bibix.BibixIdProto.TargetOutputHash.parser(),
+                        extensionRegistry);
+                if (targetOutputsBuilder_ == null) {
+                  ensureTargetOutputsIsMutable();
+                  targetOutputs_.add(m);
+                } else {
+                  targetOutputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -9604,160 +9778,1221 @@ public final class BibixIdProto {
         }
       }
       /**
-       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       */
+      public java.util.List<? extends com.giyeok.bibix.BibixIdProto.FileHashOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.FileHash.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            com.giyeok.bibix.BibixIdProto.FileHash.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.FileHash.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, com.giyeok.bibix.BibixIdProto.FileHash.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       */
+      public java.util.List<com.giyeok.bibix.BibixIdProto.FileHash.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.BibixIdProto.FileHash, com.giyeok.bibix.BibixIdProto.FileHash.Builder, com.giyeok.bibix.BibixIdProto.FileHashOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.giyeok.bibix.BibixIdProto.FileHash, com.giyeok.bibix.BibixIdProto.FileHash.Builder, com.giyeok.bibix.BibixIdProto.FileHashOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList nonExistent_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureNonExistentIsMutable() {
+        if (!nonExistent_.isModifiable()) {
+          nonExistent_ = new com.google.protobuf.LazyStringArrayList(nonExistent_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @return A list containing the nonExistent.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getNonExistentList() {
+        nonExistent_.makeImmutable();
+        return nonExistent_;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @return The count of nonExistent.
+       */
+      public int getNonExistentCount() {
+        return nonExistent_.size();
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param index The index of the element to return.
+       * @return The nonExistent at the given index.
+       */
+      public java.lang.String getNonExistent(int index) {
+        return nonExistent_.get(index);
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the nonExistent at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getNonExistentBytes(int index) {
+        return nonExistent_.getByteString(index);
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The nonExistent to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNonExistent(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureNonExistentIsMutable();
+        nonExistent_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param value The nonExistent to add.
+       * @return This builder for chaining.
+       */
+      public Builder addNonExistent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureNonExistentIsMutable();
+        nonExistent_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param values The nonExistent to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllNonExistent(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNonExistentIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, nonExistent_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNonExistent() {
+        nonExistent_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string non_existent = 3;</code>
+       * @param value The bytes of the nonExistent to add.
+       * @return This builder for chaining.
+       */
+      public Builder addNonExistentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureNonExistentIsMutable();
+        nonExistent_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash> targetOutputs_ =
+        java.util.Collections.emptyList();
+      private void ensureTargetOutputsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          targetOutputs_ = new java.util.ArrayList<com.giyeok.bibix.BibixIdProto.TargetOutputHash>(targetOutputs_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.BibixIdProto.TargetOutputHash, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder, com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder> targetOutputsBuilder_;
+
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash> getTargetOutputsList() {
+        if (targetOutputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(targetOutputs_);
+        } else {
+          return targetOutputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public int getTargetOutputsCount() {
+        if (targetOutputsBuilder_ == null) {
+          return targetOutputs_.size();
+        } else {
+          return targetOutputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash getTargetOutputs(int index) {
+        if (targetOutputsBuilder_ == null) {
+          return targetOutputs_.get(index);
+        } else {
+          return targetOutputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder setTargetOutputs(
+          int index, com.giyeok.bibix.BibixIdProto.TargetOutputHash value) {
+        if (targetOutputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.set(index, value);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder setTargetOutputs(
+          int index, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder builderForValue) {
+        if (targetOutputsBuilder_ == null) {
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          targetOutputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder addTargetOutputs(com.giyeok.bibix.BibixIdProto.TargetOutputHash value) {
+        if (targetOutputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.add(value);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder addTargetOutputs(
+          int index, com.giyeok.bibix.BibixIdProto.TargetOutputHash value) {
+        if (targetOutputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.add(index, value);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder addTargetOutputs(
+          com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder builderForValue) {
+        if (targetOutputsBuilder_ == null) {
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          targetOutputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder addTargetOutputs(
+          int index, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder builderForValue) {
+        if (targetOutputsBuilder_ == null) {
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          targetOutputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder addAllTargetOutputs(
+          java.lang.Iterable<? extends com.giyeok.bibix.BibixIdProto.TargetOutputHash> values) {
+        if (targetOutputsBuilder_ == null) {
+          ensureTargetOutputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, targetOutputs_);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder clearTargetOutputs() {
+        if (targetOutputsBuilder_ == null) {
+          targetOutputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public Builder removeTargetOutputs(int index) {
+        if (targetOutputsBuilder_ == null) {
+          ensureTargetOutputsIsMutable();
+          targetOutputs_.remove(index);
+          onChanged();
+        } else {
+          targetOutputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder getTargetOutputsBuilder(
+          int index) {
+        return getTargetOutputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder getTargetOutputsOrBuilder(
+          int index) {
+        if (targetOutputsBuilder_ == null) {
+          return targetOutputs_.get(index);  } else {
+          return targetOutputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public java.util.List<? extends com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder> 
+           getTargetOutputsOrBuilderList() {
+        if (targetOutputsBuilder_ != null) {
+          return targetOutputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(targetOutputs_);
+        }
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder addTargetOutputsBuilder() {
+        return getTargetOutputsFieldBuilder().addBuilder(
+            com.giyeok.bibix.BibixIdProto.TargetOutputHash.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder addTargetOutputsBuilder(
+          int index) {
+        return getTargetOutputsFieldBuilder().addBuilder(
+            index, com.giyeok.bibix.BibixIdProto.TargetOutputHash.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;</code>
+       */
+      public java.util.List<com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder> 
+           getTargetOutputsBuilderList() {
+        return getTargetOutputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.BibixIdProto.TargetOutputHash, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder, com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder> 
+          getTargetOutputsFieldBuilder() {
+        if (targetOutputsBuilder_ == null) {
+          targetOutputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.giyeok.bibix.BibixIdProto.TargetOutputHash, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder, com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder>(
+                  targetOutputs_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          targetOutputs_ = null;
+        }
+        return targetOutputsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.InputHashes)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.InputHashes)
+    private static final com.giyeok.bibix.BibixIdProto.InputHashes DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.BibixIdProto.InputHashes();
+    }
+
+    public static com.giyeok.bibix.BibixIdProto.InputHashes getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InputHashes>
+        PARSER = new com.google.protobuf.AbstractParser<InputHashes>() {
+      @java.lang.Override
+      public InputHashes parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InputHashes> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InputHashes> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.BibixIdProto.InputHashes getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TargetOutputHashOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.TargetOutputHash)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    java.lang.String getPath();
+    /**
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>string target_id = 2;</code>
+     * @return The targetId.
+     */
+    java.lang.String getTargetId();
+    /**
+     * <code>string target_id = 2;</code>
+     * @return The bytes for targetId.
+     */
+    com.google.protobuf.ByteString
+        getTargetIdBytes();
+
+    /**
+     * <code>bytes output_digest = 3;</code>
+     * @return The outputDigest.
+     */
+    com.google.protobuf.ByteString getOutputDigest();
+  }
+  /**
+   * <pre>
+   * 다른 target이 만든 파일이나 폴더. output_digest는 파일의 수정 시각을 포함하지 않으므로
+   * 그 target이 다시 빌드되어도 같은 내용을 만들었으면 값이 바뀌지 않는다
+   * </pre>
+   *
+   * Protobuf type {@code com.giyeok.bibix.TargetOutputHash}
+   */
+  public static final class TargetOutputHash extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.TargetOutputHash)
+      TargetOutputHashOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TargetOutputHash.newBuilder() to construct.
+    private TargetOutputHash(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TargetOutputHash() {
+      path_ = "";
+      targetId_ = "";
+      outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TargetOutputHash();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.BibixIdProto.internal_static_com_giyeok_bibix_TargetOutputHash_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.BibixIdProto.internal_static_com_giyeok_bibix_TargetOutputHash_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.BibixIdProto.TargetOutputHash.class, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder.class);
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object path_ = "";
+    /**
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    @java.lang.Override
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object targetId_ = "";
+    /**
+     * <code>string target_id = 2;</code>
+     * @return The targetId.
+     */
+    @java.lang.Override
+    public java.lang.String getTargetId() {
+      java.lang.Object ref = targetId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        targetId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string target_id = 2;</code>
+     * @return The bytes for targetId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetIdBytes() {
+      java.lang.Object ref = targetId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        targetId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OUTPUT_DIGEST_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes output_digest = 3;</code>
+     * @return The outputDigest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getOutputDigest() {
+      return outputDigest_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(path_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(targetId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, targetId_);
+      }
+      if (!outputDigest_.isEmpty()) {
+        output.writeBytes(3, outputDigest_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(path_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(targetId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, targetId_);
+      }
+      if (!outputDigest_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, outputDigest_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.BibixIdProto.TargetOutputHash)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.BibixIdProto.TargetOutputHash other = (com.giyeok.bibix.BibixIdProto.TargetOutputHash) obj;
+
+      if (!getPath()
+          .equals(other.getPath())) return false;
+      if (!getTargetId()
+          .equals(other.getTargetId())) return false;
+      if (!getOutputDigest()
+          .equals(other.getOutputDigest())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetId().hashCode();
+      hash = (37 * hash) + OUTPUT_DIGEST_FIELD_NUMBER;
+      hash = (53 * hash) + getOutputDigest().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.BibixIdProto.TargetOutputHash prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 다른 target이 만든 파일이나 폴더. output_digest는 파일의 수정 시각을 포함하지 않으므로
+     * 그 target이 다시 빌드되어도 같은 내용을 만들었으면 값이 바뀌지 않는다
+     * </pre>
+     *
+     * Protobuf type {@code com.giyeok.bibix.TargetOutputHash}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.TargetOutputHash)
+        com.giyeok.bibix.BibixIdProto.TargetOutputHashOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.BibixIdProto.internal_static_com_giyeok_bibix_TargetOutputHash_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.BibixIdProto.internal_static_com_giyeok_bibix_TargetOutputHash_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.BibixIdProto.TargetOutputHash.class, com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.BibixIdProto.TargetOutputHash.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        path_ = "";
+        targetId_ = "";
+        outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.BibixIdProto.internal_static_com_giyeok_bibix_TargetOutputHash_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash getDefaultInstanceForType() {
+        return com.giyeok.bibix.BibixIdProto.TargetOutputHash.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash build() {
+        com.giyeok.bibix.BibixIdProto.TargetOutputHash result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.BibixIdProto.TargetOutputHash buildPartial() {
+        com.giyeok.bibix.BibixIdProto.TargetOutputHash result = new com.giyeok.bibix.BibixIdProto.TargetOutputHash(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.BibixIdProto.TargetOutputHash result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.path_ = path_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.targetId_ = targetId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.outputDigest_ = outputDigest_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.BibixIdProto.TargetOutputHash) {
+          return mergeFrom((com.giyeok.bibix.BibixIdProto.TargetOutputHash)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.BibixIdProto.TargetOutputHash other) {
+        if (other == com.giyeok.bibix.BibixIdProto.TargetOutputHash.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getTargetId().isEmpty()) {
+          targetId_ = other.targetId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.getOutputDigest() != com.google.protobuf.ByteString.EMPTY) {
+          setOutputDigest(other.getOutputDigest());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                path_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                targetId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                outputDigest_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object path_ = "";
+      /**
+       * <code>string path = 1;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string path = 1;</code>
+       * @return The bytes for path.
        */
-      public java.util.List<? extends com.giyeok.bibix.BibixIdProto.FileHashOrBuilder> 
-           getFilesOrBuilderList() {
-        if (filesBuilder_ != null) {
-          return filesBuilder_.getMessageOrBuilderList();
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
         } else {
-          return java.util.Collections.unmodifiableList(files_);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       * <code>string path = 1;</code>
+       * @param value The path to set.
+       * @return This builder for chaining.
        */
-      public com.giyeok.bibix.BibixIdProto.FileHash.Builder addFilesBuilder() {
-        return getFilesFieldBuilder().addBuilder(
-            com.giyeok.bibix.BibixIdProto.FileHash.getDefaultInstance());
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       * <code>string path = 1;</code>
+       * @return This builder for chaining.
        */
-      public com.giyeok.bibix.BibixIdProto.FileHash.Builder addFilesBuilder(
-          int index) {
-        return getFilesFieldBuilder().addBuilder(
-            index, com.giyeok.bibix.BibixIdProto.FileHash.getDefaultInstance());
+      public Builder clearPath() {
+        path_ = getDefaultInstance().getPath();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .com.giyeok.bibix.FileHash files = 2;</code>
+       * <code>string path = 1;</code>
+       * @param value The bytes for path to set.
+       * @return This builder for chaining.
        */
-      public java.util.List<com.giyeok.bibix.BibixIdProto.FileHash.Builder> 
-           getFilesBuilderList() {
-        return getFilesFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.giyeok.bibix.BibixIdProto.FileHash, com.giyeok.bibix.BibixIdProto.FileHash.Builder, com.giyeok.bibix.BibixIdProto.FileHashOrBuilder> 
-          getFilesFieldBuilder() {
-        if (filesBuilder_ == null) {
-          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.giyeok.bibix.BibixIdProto.FileHash, com.giyeok.bibix.BibixIdProto.FileHash.Builder, com.giyeok.bibix.BibixIdProto.FileHashOrBuilder>(
-                  files_,
-                  ((bitField0_ & 0x00000002) != 0),
-                  getParentForChildren(),
-                  isClean());
-          files_ = null;
-        }
-        return filesBuilder_;
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
 
-      private com.google.protobuf.LazyStringArrayList nonExistent_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      private void ensureNonExistentIsMutable() {
-        if (!nonExistent_.isModifiable()) {
-          nonExistent_ = new com.google.protobuf.LazyStringArrayList(nonExistent_);
-        }
-        bitField0_ |= 0x00000004;
-      }
-      /**
-       * <code>repeated string non_existent = 3;</code>
-       * @return A list containing the nonExistent.
-       */
-      public com.google.protobuf.ProtocolStringList
-          getNonExistentList() {
-        nonExistent_.makeImmutable();
-        return nonExistent_;
-      }
-      /**
-       * <code>repeated string non_existent = 3;</code>
-       * @return The count of nonExistent.
-       */
-      public int getNonExistentCount() {
-        return nonExistent_.size();
-      }
+      private java.lang.Object targetId_ = "";
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param index The index of the element to return.
-       * @return The nonExistent at the given index.
+       * <code>string target_id = 2;</code>
+       * @return The targetId.
        */
-      public java.lang.String getNonExistent(int index) {
-        return nonExistent_.get(index);
+      public java.lang.String getTargetId() {
+        java.lang.Object ref = targetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          targetId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the nonExistent at the given index.
+       * <code>string target_id = 2;</code>
+       * @return The bytes for targetId.
        */
       public com.google.protobuf.ByteString
-          getNonExistentBytes(int index) {
-        return nonExistent_.getByteString(index);
+          getTargetIdBytes() {
+        java.lang.Object ref = targetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          targetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param index The index to set the value at.
-       * @param value The nonExistent to set.
+       * <code>string target_id = 2;</code>
+       * @param value The targetId to set.
        * @return This builder for chaining.
        */
-      public Builder setNonExistent(
-          int index, java.lang.String value) {
+      public Builder setTargetId(
+          java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        ensureNonExistentIsMutable();
-        nonExistent_.set(index, value);
-        bitField0_ |= 0x00000004;
+        targetId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param value The nonExistent to add.
+       * <code>string target_id = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder addNonExistent(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureNonExistentIsMutable();
-        nonExistent_.add(value);
-        bitField0_ |= 0x00000004;
+      public Builder clearTargetId() {
+        targetId_ = getDefaultInstance().getTargetId();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param values The nonExistent to add.
+       * <code>string target_id = 2;</code>
+       * @param value The bytes for targetId to set.
        * @return This builder for chaining.
        */
-      public Builder addAllNonExistent(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureNonExistentIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, nonExistent_);
-        bitField0_ |= 0x00000004;
+      public Builder setTargetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        targetId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
+
+      private com.google.protobuf.ByteString outputDigest_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated string non_existent = 3;</code>
+       * <code>bytes output_digest = 3;</code>
+       * @return The outputDigest.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getOutputDigest() {
+        return outputDigest_;
+      }
+      /**
+       * <code>bytes output_digest = 3;</code>
+       * @param value The outputDigest to set.
        * @return This builder for chaining.
        */
-      public Builder clearNonExistent() {
-        nonExistent_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000004);;
+      public Builder setOutputDigest(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        outputDigest_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string non_existent = 3;</code>
-       * @param value The bytes of the nonExistent to add.
+       * <code>bytes output_digest = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder addNonExistentBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        ensureNonExistentIsMutable();
-        nonExistent_.add(value);
-        bitField0_ |= 0x00000004;
+      public Builder clearOutputDigest() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        outputDigest_ = getDefaultInstance().getOutputDigest();
         onChanged();
         return this;
       }
@@ -9774,23 +11009,23 @@ public final class BibixIdProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.InputHashes)
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.TargetOutputHash)
     }
 
-    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.InputHashes)
-    private static final com.giyeok.bibix.BibixIdProto.InputHashes DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.TargetOutputHash)
+    private static final com.giyeok.bibix.BibixIdProto.TargetOutputHash DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.giyeok.bibix.BibixIdProto.InputHashes();
+      DEFAULT_INSTANCE = new com.giyeok.bibix.BibixIdProto.TargetOutputHash();
     }
 
-    public static com.giyeok.bibix.BibixIdProto.InputHashes getDefaultInstance() {
+    public static com.giyeok.bibix.BibixIdProto.TargetOutputHash getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InputHashes>
-        PARSER = new com.google.protobuf.AbstractParser<InputHashes>() {
+    private static final com.google.protobuf.Parser<TargetOutputHash>
+        PARSER = new com.google.protobuf.AbstractParser<TargetOutputHash>() {
       @java.lang.Override
-      public InputHashes parsePartialFrom(
+      public TargetOutputHash parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9809,17 +11044,17 @@ public final class BibixIdProto {
       }
     };
 
-    public static com.google.protobuf.Parser<InputHashes> parser() {
+    public static com.google.protobuf.Parser<TargetOutputHash> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InputHashes> getParserForType() {
+    public com.google.protobuf.Parser<TargetOutputHash> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.giyeok.bibix.BibixIdProto.InputHashes getDefaultInstanceForType() {
+    public com.giyeok.bibix.BibixIdProto.TargetOutputHash getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9888,6 +11123,17 @@ public final class BibixIdProto {
      */
     com.giyeok.bibix.BibixIdProto.FileHashOrBuilder getFilesOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+     * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+     * </pre>
+     *
+     * <code>bytes digest = 4;</code>
+     * @return The digest.
+     */
+    com.google.protobuf.ByteString getDigest();
   }
   /**
    * <pre>
@@ -9909,6 +11155,7 @@ public final class BibixIdProto {
       path_ = "";
       directories_ = java.util.Collections.emptyList();
       files_ = java.util.Collections.emptyList();
+      digest_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -10052,6 +11299,22 @@ public final class BibixIdProto {
       return files_.get(index);
     }
 
+    public static final int DIGEST_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString digest_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+     * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+     * </pre>
+     *
+     * <code>bytes digest = 4;</code>
+     * @return The digest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getDigest() {
+      return digest_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10075,6 +11338,9 @@ public final class BibixIdProto {
       for (int i = 0; i < files_.size(); i++) {
         output.writeMessage(3, files_.get(i));
       }
+      if (!digest_.isEmpty()) {
+        output.writeBytes(4, digest_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10095,6 +11361,10 @@ public final class BibixIdProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, files_.get(i));
       }
+      if (!digest_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, digest_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10116,6 +11386,8 @@ public final class BibixIdProto {
           .equals(other.getDirectoriesList())) return false;
       if (!getFilesList()
           .equals(other.getFilesList())) return false;
+      if (!getDigest()
+          .equals(other.getDigest())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -10137,6 +11409,8 @@ public final class BibixIdProto {
         hash = (37 * hash) + FILES_FIELD_NUMBER;
         hash = (53 * hash) + getFilesList().hashCode();
       }
+      hash = (37 * hash) + DIGEST_FIELD_NUMBER;
+      hash = (53 * hash) + getDigest().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -10285,6 +11559,7 @@ public final class BibixIdProto {
           filesBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
+        digest_ = com.google.protobuf.ByteString.EMPTY;
         return this;
       }
 
@@ -10343,6 +11618,9 @@ public final class BibixIdProto {
         if (((from_bitField0_ & 0x00000001) != 0)) {
           result.path_ = path_;
         }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.digest_ = digest_;
+        }
       }
 
       @java.lang.Override
@@ -10414,6 +11692,9 @@ public final class BibixIdProto {
             }
           }
         }
+        if (other.getDigest() != com.google.protobuf.ByteString.EMPTY) {
+          setDigest(other.getDigest());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -10471,6 +11752,11 @@ public final class BibixIdProto {
                 }
                 break;
               } // case 26
+              case 34: {
+                digest_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -11039,6 +12325,53 @@ public final class BibixIdProto {
         }
         return filesBuilder_;
       }
+
+      private com.google.protobuf.ByteString digest_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+       * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+       * </pre>
+       *
+       * <code>bytes digest = 4;</code>
+       * @return The digest.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getDigest() {
+        return digest_;
+      }
+      /**
+       * <pre>
+       * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+       * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+       * </pre>
+       *
+       * <code>bytes digest = 4;</code>
+       * @param value The digest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDigest(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        digest_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+       * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+       * </pre>
+       *
+       * <code>bytes digest = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDigest() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        digest_ = getDefaultInstance().getDigest();
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -12013,6 +13346,11 @@ public final class BibixIdProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_giyeok_bibix_InputHashes_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_TargetOutputHash_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_TargetOutputHash_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_giyeok_bibix_DirectoryHash_descriptor;
   private static final 
@@ -12066,17 +13404,20 @@ public final class BibixIdProto {
       "3\n\007ArgsMap\022(\n\005pairs\030\001 \003(\0132\031.com.giyeok.b" +
       "ibix.ArgPair\"D\n\007ArgPair\022\014\n\004name\030\001 \001(\t\022+\n" +
       "\005value\030\002 \001(\0132\034.com.giyeok.bibix.BibixVal" +
-      "ue\"\204\001\n\013InputHashes\0224\n\013directories\030\001 \003(\0132" +
+      "ue\"\300\001\n\013InputHashes\0224\n\013directories\030\001 \003(\0132" +
       "\037.com.giyeok.bibix.DirectoryHash\022)\n\005file" +
       "s\030\002 \003(\0132\032.com.giyeok.bibix.FileHash\022\024\n\014n" +
-      "on_existent\030\003 \003(\t\"~\n\rDirectoryHash\022\014\n\004pa" +
-      "th\030\001 \001(\t\0224\n\013directories\030\002 \003(\0132\037.com.giye" +
-      "ok.bibix.DirectoryHash\022)\n\005files\030\003 \003(\0132\032." +
-      "com.giyeok.bibix.FileHash\"q\n\010FileHash\022\014\n" +
-      "\004path\030\001 \001(\t\0226\n\022last_modified_time\030\002 \001(\0132" +
-      "\032.google.protobuf.Timestamp\022\014\n\004size\030\003 \001(" +
-      "\003\022\021\n\tsha1_hash\030\004 \001(\014B\016B\014BibixIdProtob\006pr" +
-      "oto3"
+      "on_existent\030\003 \003(\t\022:\n\016target_outputs\030\004 \003(" +
+      "\0132\".com.giyeok.bibix.TargetOutputHash\"J\n" +
+      "\020TargetOutputHash\022\014\n\004path\030\001 \001(\t\022\021\n\ttarge" +
+      "t_id\030\002 \001(\t\022\025\n\routput_digest\030\003 \001(\014\"\216\001\n\rDi" +
+      "rectoryHash\022\014\n\004path\030\001 \001(\t\0224\n\013directories" +
+      "\030\002 \003(\0132\037.com.giyeok.bibix.DirectoryHash\022" +
+      ")\n\005files\030\003 \003(\0132\032.com.giyeok.bibix.FileHa" +
+      "sh\022\016\n\006digest\030\004 \001(\014\"q\n\010FileHash\022\014\n\004path\030\001" +
+      " \001(\t\0226\n\022last_modified_time\030\002 \001(\0132\032.googl" +
+      "e.protobuf.Timestamp\022\014\n\004size\030\003 \001(\003\022\021\n\tsh" +
+      "a1_hash\030\004 \001(\014B\016B\014BibixIdProtob\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -12144,15 +13485,21 @@ public final class BibixIdProto {
     internal_static_com_giyeok_bibix_InputHashes_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_InputHashes_descriptor,
-        new java.lang.String[] { "Directories", "Files", "NonExistent", });
-    internal_static_com_giyeok_bibix_DirectoryHash_descriptor =
+        new java.lang.String[] { "Directories", "Files", "NonExistent", "TargetOutputs", });
+    internal_static_com_giyeok_bibix_TargetOutputHash_descriptor =
       getDescriptor().getMessageTypes().get(10);
+    internal_static_com_giyeok_bibix_TargetOutputHash_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_TargetOutputHash_descriptor,
+        new java.lang.String[] { "Path", "TargetId", "OutputDigest", });
+    internal_static_com_giyeok_bibix_DirectoryHash_descriptor =
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_giyeok_bibix_DirectoryHash_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_DirectoryHash_descriptor,
-        new java.lang.String[] { "Path", "Directories", "Files", });
+        new java.lang.String[] { "Path", "Directories", "Files", "Digest", });
     internal_static_com_giyeok_bibix_FileHash_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_com_giyeok_bibix_FileHash_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_FileHash_descriptor,
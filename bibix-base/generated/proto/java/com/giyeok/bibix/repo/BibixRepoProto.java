@@ -285,6 +285,155 @@ java.lang.String defaultValue);
      */
     java.lang.String getOutputNamesOrThrow(
         java.lang.String key);
+
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    int getTargetBuildStatsCount();
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    boolean containsTargetBuildStats(
+        java.lang.String key);
+    /**
+     * Use {@link #getTargetBuildStatsMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+    getTargetBuildStats();
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+    getTargetBuildStatsMap();
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats defaultValue);
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    int getTargetLastAccessCount();
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    boolean containsTargetLastAccess(
+        java.lang.String key);
+    /**
+     * Use {@link #getTargetLastAccessMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, com.google.protobuf.Timestamp>
+    getTargetLastAccess();
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    java.util.Map<java.lang.String, com.google.protobuf.Timestamp>
+    getTargetLastAccessMap();
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    /* nullable */
+com.google.protobuf.Timestamp getTargetLastAccessOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.google.protobuf.Timestamp defaultValue);
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    com.google.protobuf.Timestamp getTargetLastAccessOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @return A list containing the removedTargets.
+     */
+    java.util.List<java.lang.String>
+        getRemovedTargetsList();
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @return The count of removedTargets.
+     */
+    int getRemovedTargetsCount();
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @param index The index of the element to return.
+     * @return The removedTargets at the given index.
+     */
+    java.lang.String getRemovedTargets(int index);
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedTargets at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedTargetsBytes(int index);
   }
   /**
    * <pre>
@@ -304,6 +453,8 @@ java.lang.String defaultValue);
       super(builder);
     }
     private BibixRepoData() {
+      removedTargets_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
     }
 
     @java.lang.Override
@@ -329,6 +480,10 @@ java.lang.String defaultValue);
           return internalGetTargetStates();
         case 3:
           return internalGetOutputNames();
+        case 4:
+          return internalGetTargetBuildStats();
+        case 5:
+          return internalGetTargetLastAccess();
         default:
           throw new RuntimeException(
               "Invalid map field number: " + number);
@@ -611,6 +766,249 @@ java.lang.String defaultValue) {
       return map.get(key);
     }
 
+    public static final int TARGET_BUILD_STATS_FIELD_NUMBER = 4;
+    private static final class TargetBuildStatsDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>newDefaultInstance(
+                  com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> targetBuildStats_;
+    private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+    internalGetTargetBuildStats() {
+      if (targetBuildStats_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            TargetBuildStatsDefaultEntryHolder.defaultEntry);
+      }
+      return targetBuildStats_;
+    }
+    public int getTargetBuildStatsCount() {
+      return internalGetTargetBuildStats().getMap().size();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    @java.lang.Override
+    public boolean containsTargetBuildStats(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetTargetBuildStats().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getTargetBuildStatsMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> getTargetBuildStats() {
+      return getTargetBuildStatsMap();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> getTargetBuildStatsMap() {
+      return internalGetTargetBuildStats().getMap();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> map =
+          internalGetTargetBuildStats().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> map =
+          internalGetTargetBuildStats().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int TARGET_LAST_ACCESS_FIELD_NUMBER = 5;
+    private static final class TargetLastAccessDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, com.google.protobuf.Timestamp> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, com.google.protobuf.Timestamp>newDefaultInstance(
+                  com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.google.protobuf.Timestamp.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, com.google.protobuf.Timestamp> targetLastAccess_;
+    private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.Timestamp>
+    internalGetTargetLastAccess() {
+      if (targetLastAccess_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            TargetLastAccessDefaultEntryHolder.defaultEntry);
+      }
+      return targetLastAccess_;
+    }
+    public int getTargetLastAccessCount() {
+      return internalGetTargetLastAccess().getMap().size();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    @java.lang.Override
+    public boolean containsTargetLastAccess(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetTargetLastAccess().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getTargetLastAccessMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, com.google.protobuf.Timestamp> getTargetLastAccess() {
+      return getTargetLastAccessMap();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, com.google.protobuf.Timestamp> getTargetLastAccessMap() {
+      return internalGetTargetLastAccess().getMap();
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+com.google.protobuf.Timestamp getTargetLastAccessOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.google.protobuf.Timestamp defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.google.protobuf.Timestamp> map =
+          internalGetTargetLastAccess().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * </pre>
+     *
+     * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.Timestamp getTargetLastAccessOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.google.protobuf.Timestamp> map =
+          internalGetTargetLastAccess().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int REMOVED_TARGETS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList removedTargets_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @return A list containing the removedTargets.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedTargetsList() {
+      return removedTargets_;
+    }
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @return The count of removedTargets.
+     */
+    public int getRemovedTargetsCount() {
+      return removedTargets_.size();
+    }
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @param index The index of the element to return.
+     * @return The removedTargets at the given index.
+     */
+    public java.lang.String getRemovedTargets(int index) {
+      return removedTargets_.get(index);
+    }
+    /**
+     * <pre>
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * </pre>
+     *
+     * <code>repeated string removed_targets = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedTargets at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedTargetsBytes(int index) {
+      return removedTargets_.getByteString(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -643,6 +1041,21 @@ java.lang.String defaultValue) {
           internalGetOutputNames(),
           OutputNamesDefaultEntryHolder.defaultEntry,
           3);
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetTargetBuildStats(),
+          TargetBuildStatsDefaultEntryHolder.defaultEntry,
+          4);
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetTargetLastAccess(),
+          TargetLastAccessDefaultEntryHolder.defaultEntry,
+          5);
+      for (int i = 0; i < removedTargets_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, removedTargets_.getRaw(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -682,6 +1095,34 @@ java.lang.String defaultValue) {
         size += com.google.protobuf.CodedOutputStream
             .computeMessageSize(3, outputNames__);
       }
+      for (java.util.Map.Entry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> entry
+           : internalGetTargetBuildStats().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+        targetBuildStats__ = TargetBuildStatsDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, targetBuildStats__);
+      }
+      for (java.util.Map.Entry<java.lang.String, com.google.protobuf.Timestamp> entry
+           : internalGetTargetLastAccess().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, com.google.protobuf.Timestamp>
+        targetLastAccess__ = TargetLastAccessDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(5, targetLastAccess__);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedTargets_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedTargets_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedTargetsList().size();
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -703,6 +1144,12 @@ java.lang.String defaultValue) {
           other.internalGetTargetStates())) return false;
       if (!internalGetOutputNames().equals(
           other.internalGetOutputNames())) return false;
+      if (!internalGetTargetBuildStats().equals(
+          other.internalGetTargetBuildStats())) return false;
+      if (!internalGetTargetLastAccess().equals(
+          other.internalGetTargetLastAccess())) return false;
+      if (!getRemovedTargetsList()
+          .equals(other.getRemovedTargetsList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -726,7 +1173,19 @@ java.lang.String defaultValue) {
         hash = (37 * hash) + OUTPUT_NAMES_FIELD_NUMBER;
         hash = (53 * hash) + internalGetOutputNames().hashCode();
       }
-      hash = (29 * hash) + getUnknownFields().hashCode();
+      if (!internalGetTargetBuildStats().getMap().isEmpty()) {
+        hash = (37 * hash) + TARGET_BUILD_STATS_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetTargetBuildStats().hashCode();
+      }
+      if (!internalGetTargetLastAccess().getMap().isEmpty()) {
+        hash = (37 * hash) + TARGET_LAST_ACCESS_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetTargetLastAccess().hashCode();
+      }
+      if (getRemovedTargetsCount() > 0) {
+        hash = (37 * hash) + REMOVED_TARGETS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedTargetsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -848,6 +1307,10 @@ java.lang.String defaultValue) {
             return internalGetTargetStates();
           case 3:
             return internalGetOutputNames();
+          case 4:
+            return internalGetTargetBuildStats();
+          case 5:
+            return internalGetTargetLastAccess();
           default:
             throw new RuntimeException(
                 "Invalid map field number: " + number);
@@ -863,6 +1326,10 @@ java.lang.String defaultValue) {
             return internalGetMutableTargetStates();
           case 3:
             return internalGetMutableOutputNames();
+          case 4:
+            return internalGetMutableTargetBuildStats();
+          case 5:
+            return internalGetMutableTargetLastAccess();
           default:
             throw new RuntimeException(
                 "Invalid map field number: " + number);
@@ -893,6 +1360,10 @@ java.lang.String defaultValue) {
         internalGetMutableTargetIdData().clear();
         internalGetMutableTargetStates().clear();
         internalGetMutableOutputNames().clear();
+        internalGetMutableTargetBuildStats().clear();
+        internalGetMutableTargetLastAccess().clear();
+        removedTargets_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
         return this;
       }
 
@@ -938,6 +1409,18 @@ java.lang.String defaultValue) {
           result.outputNames_ = internalGetOutputNames();
           result.outputNames_.makeImmutable();
         }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.targetBuildStats_ = internalGetTargetBuildStats();
+          result.targetBuildStats_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.targetLastAccess_ = internalGetTargetLastAccess();
+          result.targetLastAccess_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          removedTargets_.makeImmutable();
+          result.removedTargets_ = removedTargets_;
+        }
       }
 
       @java.lang.Override
@@ -961,6 +1444,22 @@ java.lang.String defaultValue) {
         internalGetMutableOutputNames().mergeFrom(
             other.internalGetOutputNames());
         bitField0_ |= 0x00000004;
+        internalGetMutableTargetBuildStats().mergeFrom(
+            other.internalGetTargetBuildStats());
+        bitField0_ |= 0x00000008;
+        internalGetMutableTargetLastAccess().mergeFrom(
+            other.internalGetTargetLastAccess());
+        bitField0_ |= 0x00000010;
+        if (!other.removedTargets_.isEmpty()) {
+          if (removedTargets_.isEmpty()) {
+            removedTargets_ = other.removedTargets_;
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureRemovedTargetsIsMutable();
+            removedTargets_.addAll(other.removedTargets_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -1014,6 +1513,30 @@ java.lang.String defaultValue) {
                 bitField0_ |= 0x00000004;
                 break;
               } // case 26
+              case 34: {
+                com.google.protobuf.MapEntry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+                targetBuildStats__ = input.readMessage(
+                    TargetBuildStatsDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableTargetBuildStats().getMutableMap().put(
+                    targetBuildStats__.getKey(), targetBuildStats__.getValue());
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                com.google.protobuf.MapEntry<java.lang.String, com.google.protobuf.Timestamp>
+                targetLastAccess__ = input.readMessage(
+                    TargetLastAccessDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableTargetLastAccess().getMutableMap().put(
+                    targetLastAccess__.getKey(), targetLastAccess__.getValue());
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedTargetsIsMutable();
+                removedTargets_.add(s);
+                break;
+              } // case 50
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1467,2070 +1990,10235 @@ java.lang.String defaultValue) {
         bitField0_ |= 0x00000004;
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private com.google.protobuf.MapField<
+          java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> targetBuildStats_;
+      private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+          internalGetTargetBuildStats() {
+        if (targetBuildStats_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              TargetBuildStatsDefaultEntryHolder.defaultEntry);
+        }
+        return targetBuildStats_;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.BibixRepoData)
-    }
-
-    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.BibixRepoData)
-    private static final com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData();
-    }
-
-    public static com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<BibixRepoData>
-        PARSER = new com.google.protobuf.AbstractParser<BibixRepoData>() {
-      @java.lang.Override
-      public BibixRepoData parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
+      private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+          internalGetMutableTargetBuildStats() {
+        if (targetBuildStats_ == null) {
+          targetBuildStats_ = com.google.protobuf.MapField.newMapField(
+              TargetBuildStatsDefaultEntryHolder.defaultEntry);
         }
-        return builder.buildPartial();
+        if (!targetBuildStats_.isMutable()) {
+          targetBuildStats_ = targetBuildStats_.copy();
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return targetBuildStats_;
+      }
+      public int getTargetBuildStatsCount() {
+        return internalGetTargetBuildStats().getMap().size();
       }
-    };
-
-    public static com.google.protobuf.Parser<BibixRepoData> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<BibixRepoData> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface TargetStateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
-     * </pre>
-     *
-     * <code>string unique_run_id = 1;</code>
-     * @return The uniqueRunId.
-     */
-    java.lang.String getUniqueRunId();
-    /**
-     * <pre>
-     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
-     * </pre>
-     *
-     * <code>string unique_run_id = 1;</code>
-     * @return The bytes for uniqueRunId.
-     */
-    com.google.protobuf.ByteString
-        getUniqueRunIdBytes();
-
-    /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-     * @return Whether the buildStartTime field is set.
-     */
-    boolean hasBuildStartTime();
-    /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-     * @return The buildStartTime.
-     */
-    com.google.protobuf.Timestamp getBuildStartTime();
-    /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-     */
-    com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder();
-
-    /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-     * @return Whether the inputHashes field is set.
-     */
-    boolean hasInputHashes();
-    /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-     * @return The inputHashes.
-     */
-    com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes();
-    /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-     */
-    com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder();
-
-    /**
-     * <code>bytes input_hash_string = 4;</code>
-     * @return The inputHashString.
-     */
-    com.google.protobuf.ByteString getInputHashString();
-
-    /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
-     * @return Whether the buildStarted field is set.
-     */
-    boolean hasBuildStarted();
-    /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
-     * @return The buildStarted.
-     */
-    com.google.protobuf.Empty getBuildStarted();
-    /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
-     */
-    com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder();
-
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-     * @return Whether the buildSucceeded field is set.
-     */
-    boolean hasBuildSucceeded();
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-     * @return The buildSucceeded.
-     */
-    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded();
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-     */
-    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder();
-
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-     * @return Whether the buildFailed field is set.
-     */
-    boolean hasBuildFailed();
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-     * @return The buildFailed.
-     */
-    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed();
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-     */
-    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder();
-
-    com.giyeok.bibix.repo.BibixRepoProto.TargetState.StateCase getStateCase();
-  }
-  /**
-   * Protobuf type {@code com.giyeok.bibix.repo.TargetState}
-   */
-  public static final class TargetState extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState)
-      TargetStateOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use TargetState.newBuilder() to construct.
-    private TargetState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private TargetState() {
-      uniqueRunId_ = "";
-      inputHashString_ = com.google.protobuf.ByteString.EMPTY;
-    }
-
-    @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new TargetState();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.giyeok.bibix.repo.BibixRepoProto.TargetState.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.Builder.class);
-    }
-
-    public interface BuildSucceededOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
-        com.google.protobuf.MessageOrBuilder {
-
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-       * @return Whether the buildEndTime field is set.
+       * <pre>
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      boolean hasBuildEndTime();
+      @java.lang.Override
+      public boolean containsTargetBuildStats(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetTargetBuildStats().getMap().containsKey(key);
+      }
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-       * @return The buildEndTime.
+       * Use {@link #getTargetBuildStatsMap()} instead.
        */
-      com.google.protobuf.Timestamp getBuildEndTime();
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> getTargetBuildStats() {
+        return getTargetBuildStatsMap();
+      }
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-       */
-      com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder();
-
-      /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-       * @return Whether the resultValue field is set.
+       * <pre>
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      boolean hasResultValue();
+      @java.lang.Override
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> getTargetBuildStatsMap() {
+        return internalGetTargetBuildStats().getMap();
+      }
       /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-       * @return The resultValue.
+       * <pre>
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      com.giyeok.bibix.BibixValueProto.BibixValue getResultValue();
+      @java.lang.Override
+      public /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrDefault(
+          java.lang.String key,
+          /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> map =
+            internalGetTargetBuildStats().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
       /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * <pre>
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder();
-
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getTargetBuildStatsOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> map =
+            internalGetTargetBuildStats().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearTargetBuildStats() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        internalGetMutableTargetBuildStats().getMutableMap()
+            .clear();
+        return this;
+      }
       /**
        * <pre>
-       * object id는 뭐지 근데..?
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
        * </pre>
        *
-       * <code>optional bytes object_id = 3;</code>
-       * @return Whether the objectId field is set.
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      boolean hasObjectId();
+      public Builder removeTargetBuildStats(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableTargetBuildStats().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>
+          getMutableTargetBuildStats() {
+        bitField0_ |= 0x00000008;
+        return internalGetMutableTargetBuildStats().getMutableMap();
+      }
       /**
        * <pre>
-       * object id는 뭐지 근데..?
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
        * </pre>
        *
-       * <code>optional bytes object_id = 3;</code>
-       * @return The objectId.
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
        */
-      com.google.protobuf.ByteString getObjectId();
-    }
-    /**
-     * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildSucceeded}
-     */
-    public static final class BuildSucceeded extends
-        com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
-        BuildSucceededOrBuilder {
-    private static final long serialVersionUID = 0L;
-      // Use BuildSucceeded.newBuilder() to construct.
-      private BuildSucceeded(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-        super(builder);
+      public Builder putTargetBuildStats(
+          java.lang.String key,
+          com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableTargetBuildStats().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000008;
+        return this;
       }
-      private BuildSucceeded() {
-        objectId_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * target id hex -&gt; 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.TargetBuildStats&gt; target_build_stats = 4;</code>
+       */
+      public Builder putAllTargetBuildStats(
+          java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats> values) {
+        internalGetMutableTargetBuildStats().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000008;
+        return this;
       }
 
-      @java.lang.Override
-      @SuppressWarnings({"unused"})
-      protected java.lang.Object newInstance(
-          UnusedPrivateParameter unused) {
-        return new BuildSucceeded();
+      private com.google.protobuf.MapField<
+          java.lang.String, com.google.protobuf.Timestamp> targetLastAccess_;
+      private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.Timestamp>
+          internalGetTargetLastAccess() {
+        if (targetLastAccess_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              TargetLastAccessDefaultEntryHolder.defaultEntry);
+        }
+        return targetLastAccess_;
       }
-
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
+      private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.Timestamp>
+          internalGetMutableTargetLastAccess() {
+        if (targetLastAccess_ == null) {
+          targetLastAccess_ = com.google.protobuf.MapField.newMapField(
+              TargetLastAccessDefaultEntryHolder.defaultEntry);
+        }
+        if (!targetLastAccess_.isMutable()) {
+          targetLastAccess_ = targetLastAccess_.copy();
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return targetLastAccess_;
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder.class);
+      public int getTargetLastAccessCount() {
+        return internalGetTargetLastAccess().getMap().size();
       }
-
-      private int bitField0_;
-      public static final int BUILD_END_TIME_FIELD_NUMBER = 1;
-      private com.google.protobuf.Timestamp buildEndTime_;
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-       * @return Whether the buildEndTime field is set.
+       * <pre>
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
       @java.lang.Override
-      public boolean hasBuildEndTime() {
-        return buildEndTime_ != null;
+      public boolean containsTargetLastAccess(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetTargetLastAccess().getMap().containsKey(key);
       }
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-       * @return The buildEndTime.
+       * Use {@link #getTargetLastAccessMap()} instead.
        */
       @java.lang.Override
-      public com.google.protobuf.Timestamp getBuildEndTime() {
-        return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.google.protobuf.Timestamp> getTargetLastAccess() {
+        return getTargetLastAccessMap();
       }
       /**
-       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       * <pre>
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
       @java.lang.Override
-      public com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder() {
-        return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+      public java.util.Map<java.lang.String, com.google.protobuf.Timestamp> getTargetLastAccessMap() {
+        return internalGetTargetLastAccess().getMap();
       }
-
-      public static final int RESULT_VALUE_FIELD_NUMBER = 2;
-      private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
       /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-       * @return Whether the resultValue field is set.
+       * <pre>
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
       @java.lang.Override
-      public boolean hasResultValue() {
-        return resultValue_ != null;
+      public /* nullable */
+com.google.protobuf.Timestamp getTargetLastAccessOrDefault(
+          java.lang.String key,
+          /* nullable */
+com.google.protobuf.Timestamp defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.google.protobuf.Timestamp> map =
+            internalGetTargetLastAccess().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
       }
       /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-       * @return The resultValue.
+       * <pre>
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
       @java.lang.Override
-      public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
-        return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+      public com.google.protobuf.Timestamp getTargetLastAccessOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.google.protobuf.Timestamp> map =
+            internalGetTargetLastAccess().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearTargetLastAccess() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        internalGetMutableTargetLastAccess().getMutableMap()
+            .clear();
+        return this;
       }
       /**
-       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * <pre>
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+       * </pre>
+       *
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
-      @java.lang.Override
-      public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
-        return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+      public Builder removeTargetLastAccess(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableTargetLastAccess().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.google.protobuf.Timestamp>
+          getMutableTargetLastAccess() {
+        bitField0_ |= 0x00000010;
+        return internalGetMutableTargetLastAccess().getMutableMap();
       }
-
-      public static final int OBJECT_ID_FIELD_NUMBER = 3;
-      private com.google.protobuf.ByteString objectId_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <pre>
-       * object id는 뭐지 근데..?
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
        * </pre>
        *
-       * <code>optional bytes object_id = 3;</code>
-       * @return Whether the objectId field is set.
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
-      @java.lang.Override
-      public boolean hasObjectId() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public Builder putTargetLastAccess(
+          java.lang.String key,
+          com.google.protobuf.Timestamp value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableTargetLastAccess().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000010;
+        return this;
       }
       /**
        * <pre>
-       * object id는 뭐지 근데..?
+       * target id hex -&gt; 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
        * </pre>
        *
-       * <code>optional bytes object_id = 3;</code>
-       * @return The objectId.
+       * <code>map&lt;string, .google.protobuf.Timestamp&gt; target_last_access = 5;</code>
        */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getObjectId() {
-        return objectId_;
-      }
-
-      private byte memoizedIsInitialized = -1;
-      @java.lang.Override
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
+      public Builder putAllTargetLastAccess(
+          java.util.Map<java.lang.String, com.google.protobuf.Timestamp> values) {
+        internalGetMutableTargetLastAccess().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000010;
+        return this;
       }
 
-      @java.lang.Override
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (buildEndTime_ != null) {
-          output.writeMessage(1, getBuildEndTime());
-        }
-        if (resultValue_ != null) {
-          output.writeMessage(2, getResultValue());
+      private com.google.protobuf.LazyStringArrayList removedTargets_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureRemovedTargetsIsMutable() {
+        if (!removedTargets_.isModifiable()) {
+          removedTargets_ = new com.google.protobuf.LazyStringArrayList(removedTargets_);
         }
-        if (((bitField0_ & 0x00000001) != 0)) {
-          output.writeBytes(3, objectId_);
-        }
-        getUnknownFields().writeTo(output);
+        bitField0_ |= 0x00000020;
       }
-
-      @java.lang.Override
-      public int getSerializedSize() {
-        int size = memoizedSize;
-        if (size != -1) return size;
-
-        size = 0;
-        if (buildEndTime_ != null) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, getBuildEndTime());
-        }
-        if (resultValue_ != null) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(2, getResultValue());
-        }
-        if (((bitField0_ & 0x00000001) != 0)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(3, objectId_);
-        }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSize = size;
-        return size;
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @return A list containing the removedTargets.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedTargetsList() {
+        removedTargets_.makeImmutable();
+        return removedTargets_;
       }
-
-      @java.lang.Override
-      public boolean equals(final java.lang.Object obj) {
-        if (obj == this) {
-         return true;
-        }
-        if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded)) {
-          return super.equals(obj);
-        }
-        com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) obj;
-
-        if (hasBuildEndTime() != other.hasBuildEndTime()) return false;
-        if (hasBuildEndTime()) {
-          if (!getBuildEndTime()
-              .equals(other.getBuildEndTime())) return false;
-        }
-        if (hasResultValue() != other.hasResultValue()) return false;
-        if (hasResultValue()) {
-          if (!getResultValue()
-              .equals(other.getResultValue())) return false;
-        }
-        if (hasObjectId() != other.hasObjectId()) return false;
-        if (hasObjectId()) {
-          if (!getObjectId()
-              .equals(other.getObjectId())) return false;
-        }
-        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-        return true;
-      }
-
-      @java.lang.Override
-      public int hashCode() {
-        if (memoizedHashCode != 0) {
-          return memoizedHashCode;
-        }
-        int hash = 41;
-        hash = (19 * hash) + getDescriptor().hashCode();
-        if (hasBuildEndTime()) {
-          hash = (37 * hash) + BUILD_END_TIME_FIELD_NUMBER;
-          hash = (53 * hash) + getBuildEndTime().hashCode();
-        }
-        if (hasResultValue()) {
-          hash = (37 * hash) + RESULT_VALUE_FIELD_NUMBER;
-          hash = (53 * hash) + getResultValue().hashCode();
-        }
-        if (hasObjectId()) {
-          hash = (37 * hash) + OBJECT_ID_FIELD_NUMBER;
-          hash = (53 * hash) + getObjectId().hashCode();
-        }
-        hash = (29 * hash) + getUnknownFields().hashCode();
-        memoizedHashCode = hash;
-        return hash;
-      }
-
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          java.nio.ByteBuffer data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          java.nio.ByteBuffer data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @return The count of removedTargets.
+       */
+      public int getRemovedTargetsCount() {
+        return removedTargets_.size();
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param index The index of the element to return.
+       * @return The removedTargets at the given index.
+       */
+      public java.lang.String getRemovedTargets(int index) {
+        return removedTargets_.get(index);
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedTargets at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedTargetsBytes(int index) {
+        return removedTargets_.getByteString(index);
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The removedTargets to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedTargets(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedTargetsIsMutable();
+        removedTargets_.set(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param value The removedTargets to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedTargets(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedTargetsIsMutable();
+        removedTargets_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param values The removedTargets to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedTargets(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedTargetsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedTargets_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
       }
-
-      @java.lang.Override
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder() {
-        return DEFAULT_INSTANCE.toBuilder();
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedTargets() {
+        removedTargets_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);;
+        onChanged();
+        return this;
       }
-      public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded prototype) {
-        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      /**
+       * <pre>
+       * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+       * </pre>
+       *
+       * <code>repeated string removed_targets = 6;</code>
+       * @param value The bytes of the removedTargets to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedTargetsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureRemovedTargetsIsMutable();
+        removedTargets_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
       }
       @java.lang.Override
-      public Builder toBuilder() {
-        return this == DEFAULT_INSTANCE
-            ? new Builder() : new Builder().mergeFrom(this);
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
 
       @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      /**
-       * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildSucceeded}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
-        }
 
-        @java.lang.Override
-        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder.class);
-        }
 
-        // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.newBuilder()
-        private Builder() {
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.BibixRepoData)
+    }
 
-        }
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.BibixRepoData)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData();
+    }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-          super(parent);
+    public static com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
 
+    private static final com.google.protobuf.Parser<BibixRepoData>
+        PARSER = new com.google.protobuf.AbstractParser<BibixRepoData>() {
+      @java.lang.Override
+      public BibixRepoData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
         }
-        @java.lang.Override
-        public Builder clear() {
-          super.clear();
-          bitField0_ = 0;
-          buildEndTime_ = null;
-          if (buildEndTimeBuilder_ != null) {
-            buildEndTimeBuilder_.dispose();
-            buildEndTimeBuilder_ = null;
-          }
-          resultValue_ = null;
-          if (resultValueBuilder_ != null) {
-            resultValueBuilder_.dispose();
-            resultValueBuilder_ = null;
-          }
-          objectId_ = com.google.protobuf.ByteString.EMPTY;
-          return this;
-        }
+        return builder.buildPartial();
+      }
+    };
 
-        @java.lang.Override
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
-        }
+    public static com.google.protobuf.Parser<BibixRepoData> parser() {
+      return PARSER;
+    }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstanceForType() {
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
-        }
+    @java.lang.Override
+    public com.google.protobuf.Parser<BibixRepoData> getParserForType() {
+      return PARSER;
+    }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded build() {
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded buildPartial() {
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded(this);
-          if (bitField0_ != 0) { buildPartial0(result); }
-          onBuilt();
-          return result;
-        }
+  }
 
-        private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result) {
-          int from_bitField0_ = bitField0_;
-          if (((from_bitField0_ & 0x00000001) != 0)) {
-            result.buildEndTime_ = buildEndTimeBuilder_ == null
-                ? buildEndTime_
-                : buildEndTimeBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000002) != 0)) {
-            result.resultValue_ = resultValueBuilder_ == null
-                ? resultValue_
-                : resultValueBuilder_.build();
-          }
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000004) != 0)) {
-            result.objectId_ = objectId_;
-            to_bitField0_ |= 0x00000001;
-          }
-          result.bitField0_ |= to_bitField0_;
-        }
+  public interface TargetStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState)
+      com.google.protobuf.MessageOrBuilder {
 
-        @java.lang.Override
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) {
-            return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
+    /**
+     * <pre>
+     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * </pre>
+     *
+     * <code>string unique_run_id = 1;</code>
+     * @return The uniqueRunId.
+     */
+    java.lang.String getUniqueRunId();
+    /**
+     * <pre>
+     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * </pre>
+     *
+     * <code>string unique_run_id = 1;</code>
+     * @return The bytes for uniqueRunId.
+     */
+    com.google.protobuf.ByteString
+        getUniqueRunIdBytes();
 
-        public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded other) {
-          if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance()) return this;
-          if (other.hasBuildEndTime()) {
-            mergeBuildEndTime(other.getBuildEndTime());
-          }
-          if (other.hasResultValue()) {
-            mergeResultValue(other.getResultValue());
-          }
-          if (other.hasObjectId()) {
-            setObjectId(other.getObjectId());
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          onChanged();
-          return this;
-        }
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     * @return Whether the buildStartTime field is set.
+     */
+    boolean hasBuildStartTime();
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     * @return The buildStartTime.
+     */
+    com.google.protobuf.Timestamp getBuildStartTime();
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     */
+    com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder();
 
-        @java.lang.Override
-        public final boolean isInitialized() {
-          return true;
-        }
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     * @return Whether the inputHashes field is set.
+     */
+    boolean hasInputHashes();
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     * @return The inputHashes.
+     */
+    com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes();
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     */
+    com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder();
 
-        @java.lang.Override
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          if (extensionRegistry == null) {
-            throw new java.lang.NullPointerException();
-          }
-          try {
-            boolean done = false;
-            while (!done) {
-              int tag = input.readTag();
-              switch (tag) {
-                case 0:
-                  done = true;
-                  break;
-                case 10: {
-                  input.readMessage(
-                      getBuildEndTimeFieldBuilder().getBuilder(),
-                      extensionRegistry);
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 10
-                case 18: {
-                  input.readMessage(
-                      getResultValueFieldBuilder().getBuilder(),
-                      extensionRegistry);
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 18
-                case 26: {
-                  objectId_ = input.readBytes();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 26
-                default: {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
-              } // switch (tag)
-            } // while (!done)
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            throw e.unwrapIOException();
-          } finally {
-            onChanged();
-          } // finally
-          return this;
-        }
-        private int bitField0_;
+    /**
+     * <code>bytes input_hash_string = 4;</code>
+     * @return The inputHashString.
+     */
+    com.google.protobuf.ByteString getInputHashString();
 
-        private com.google.protobuf.Timestamp buildEndTime_;
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildEndTimeBuilder_;
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         * @return Whether the buildEndTime field is set.
-         */
-        public boolean hasBuildEndTime() {
-          return ((bitField0_ & 0x00000001) != 0);
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         * @return The buildEndTime.
-         */
-        public com.google.protobuf.Timestamp getBuildEndTime() {
-          if (buildEndTimeBuilder_ == null) {
-            return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
-          } else {
-            return buildEndTimeBuilder_.getMessage();
-          }
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        public Builder setBuildEndTime(com.google.protobuf.Timestamp value) {
-          if (buildEndTimeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            buildEndTime_ = value;
-          } else {
-            buildEndTimeBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        public Builder setBuildEndTime(
-            com.google.protobuf.Timestamp.Builder builderForValue) {
-          if (buildEndTimeBuilder_ == null) {
-            buildEndTime_ = builderForValue.build();
-          } else {
-            buildEndTimeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     * @return Whether the buildStarted field is set.
+     */
+    boolean hasBuildStarted();
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     * @return The buildStarted.
+     */
+    com.google.protobuf.Empty getBuildStarted();
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     */
+    com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder();
+
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     * @return Whether the buildSucceeded field is set.
+     */
+    boolean hasBuildSucceeded();
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     * @return The buildSucceeded.
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded();
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder();
+
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     * @return Whether the buildFailed field is set.
+     */
+    boolean hasBuildFailed();
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     * @return The buildFailed.
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed();
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder();
+
+    com.giyeok.bibix.repo.BibixRepoProto.TargetState.StateCase getStateCase();
+  }
+  /**
+   * Protobuf type {@code com.giyeok.bibix.repo.TargetState}
+   */
+  public static final class TargetState extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState)
+      TargetStateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TargetState.newBuilder() to construct.
+    private TargetState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TargetState() {
+      uniqueRunId_ = "";
+      inputHashString_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TargetState();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.TargetState.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.Builder.class);
+    }
+
+    public interface BuildSucceededOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       * @return Whether the buildEndTime field is set.
+       */
+      boolean hasBuildEndTime();
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       * @return The buildEndTime.
+       */
+      com.google.protobuf.Timestamp getBuildEndTime();
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       */
+      com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder();
+
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * @return Whether the resultValue field is set.
+       */
+      boolean hasResultValue();
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * @return The resultValue.
+       */
+      com.giyeok.bibix.BibixValueProto.BibixValue getResultValue();
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       */
+      com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder();
+
+      /**
+       * <pre>
+       * object id는 뭐지 근데..?
+       * </pre>
+       *
+       * <code>optional bytes object_id = 3;</code>
+       * @return Whether the objectId field is set.
+       */
+      boolean hasObjectId();
+      /**
+       * <pre>
+       * object id는 뭐지 근데..?
+       * </pre>
+       *
+       * <code>optional bytes object_id = 3;</code>
+       * @return The objectId.
+       */
+      com.google.protobuf.ByteString getObjectId();
+
+      /**
+       * <pre>
+       * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+       * </pre>
+       *
+       * <code>bytes output_digest = 4;</code>
+       * @return The outputDigest.
+       */
+      com.google.protobuf.ByteString getOutputDigest();
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildSucceeded}
+     */
+    public static final class BuildSucceeded extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+        BuildSucceededOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use BuildSucceeded.newBuilder() to construct.
+      private BuildSucceeded(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private BuildSucceeded() {
+        objectId_ = com.google.protobuf.ByteString.EMPTY;
+        outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new BuildSucceeded();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int BUILD_END_TIME_FIELD_NUMBER = 1;
+      private com.google.protobuf.Timestamp buildEndTime_;
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       * @return Whether the buildEndTime field is set.
+       */
+      @java.lang.Override
+      public boolean hasBuildEndTime() {
+        return buildEndTime_ != null;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       * @return The buildEndTime.
+       */
+      @java.lang.Override
+      public com.google.protobuf.Timestamp getBuildEndTime() {
+        return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+       */
+      @java.lang.Override
+      public com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder() {
+        return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+      }
+
+      public static final int RESULT_VALUE_FIELD_NUMBER = 2;
+      private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * @return Whether the resultValue field is set.
+       */
+      @java.lang.Override
+      public boolean hasResultValue() {
+        return resultValue_ != null;
+      }
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       * @return The resultValue.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
+        return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+      }
+      /**
+       * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
+        return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+      }
+
+      public static final int OBJECT_ID_FIELD_NUMBER = 3;
+      private com.google.protobuf.ByteString objectId_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * object id는 뭐지 근데..?
+       * </pre>
+       *
+       * <code>optional bytes object_id = 3;</code>
+       * @return Whether the objectId field is set.
+       */
+      @java.lang.Override
+      public boolean hasObjectId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * object id는 뭐지 근데..?
+       * </pre>
+       *
+       * <code>optional bytes object_id = 3;</code>
+       * @return The objectId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getObjectId() {
+        return objectId_;
+      }
+
+      public static final int OUTPUT_DIGEST_FIELD_NUMBER = 4;
+      private com.google.protobuf.ByteString outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+       * </pre>
+       *
+       * <code>bytes output_digest = 4;</code>
+       * @return The outputDigest.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getOutputDigest() {
+        return outputDigest_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (buildEndTime_ != null) {
+          output.writeMessage(1, getBuildEndTime());
+        }
+        if (resultValue_ != null) {
+          output.writeMessage(2, getResultValue());
+        }
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeBytes(3, objectId_);
+        }
+        if (!outputDigest_.isEmpty()) {
+          output.writeBytes(4, outputDigest_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (buildEndTime_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, getBuildEndTime());
+        }
+        if (resultValue_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, getResultValue());
+        }
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, objectId_);
+        }
+        if (!outputDigest_.isEmpty()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, outputDigest_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded)) {
+          return super.equals(obj);
+        }
+        com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) obj;
+
+        if (hasBuildEndTime() != other.hasBuildEndTime()) return false;
+        if (hasBuildEndTime()) {
+          if (!getBuildEndTime()
+              .equals(other.getBuildEndTime())) return false;
+        }
+        if (hasResultValue() != other.hasResultValue()) return false;
+        if (hasResultValue()) {
+          if (!getResultValue()
+              .equals(other.getResultValue())) return false;
+        }
+        if (hasObjectId() != other.hasObjectId()) return false;
+        if (hasObjectId()) {
+          if (!getObjectId()
+              .equals(other.getObjectId())) return false;
+        }
+        if (!getOutputDigest()
+            .equals(other.getOutputDigest())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasBuildEndTime()) {
+          hash = (37 * hash) + BUILD_END_TIME_FIELD_NUMBER;
+          hash = (53 * hash) + getBuildEndTime().hashCode();
+        }
+        if (hasResultValue()) {
+          hash = (37 * hash) + RESULT_VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getResultValue().hashCode();
+        }
+        if (hasObjectId()) {
+          hash = (37 * hash) + OBJECT_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getObjectId().hashCode();
+        }
+        hash = (37 * hash) + OUTPUT_DIGEST_FIELD_NUMBER;
+        hash = (53 * hash) + getOutputDigest().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildSucceeded}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder.class);
+        }
+
+        // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          buildEndTime_ = null;
+          if (buildEndTimeBuilder_ != null) {
+            buildEndTimeBuilder_.dispose();
+            buildEndTimeBuilder_ = null;
+          }
+          resultValue_ = null;
+          if (resultValueBuilder_ != null) {
+            resultValueBuilder_.dispose();
+            resultValueBuilder_ = null;
+          }
+          objectId_ = com.google.protobuf.ByteString.EMPTY;
+          outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor;
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstanceForType() {
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded build() {
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded buildPartial() {
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.buildEndTime_ = buildEndTimeBuilder_ == null
+                ? buildEndTime_
+                : buildEndTimeBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.resultValue_ = resultValueBuilder_ == null
+                ? resultValue_
+                : resultValueBuilder_.build();
+          }
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.objectId_ = objectId_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.outputDigest_ = outputDigest_;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) {
+            return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded other) {
+          if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance()) return this;
+          if (other.hasBuildEndTime()) {
+            mergeBuildEndTime(other.getBuildEndTime());
+          }
+          if (other.hasResultValue()) {
+            mergeResultValue(other.getResultValue());
+          }
+          if (other.hasObjectId()) {
+            setObjectId(other.getObjectId());
+          }
+          if (other.getOutputDigest() != com.google.protobuf.ByteString.EMPTY) {
+            setOutputDigest(other.getOutputDigest());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  input.readMessage(
+                      getBuildEndTimeFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  input.readMessage(
+                      getResultValueFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  objectId_ = input.readBytes();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 34: {
+                  outputDigest_ = input.readBytes();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private com.google.protobuf.Timestamp buildEndTime_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildEndTimeBuilder_;
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         * @return Whether the buildEndTime field is set.
+         */
+        public boolean hasBuildEndTime() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         * @return The buildEndTime.
+         */
+        public com.google.protobuf.Timestamp getBuildEndTime() {
+          if (buildEndTimeBuilder_ == null) {
+            return buildEndTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+          } else {
+            return buildEndTimeBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        public Builder setBuildEndTime(com.google.protobuf.Timestamp value) {
+          if (buildEndTimeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            buildEndTime_ = value;
+          } else {
+            buildEndTimeBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        public Builder setBuildEndTime(
+            com.google.protobuf.Timestamp.Builder builderForValue) {
+          if (buildEndTimeBuilder_ == null) {
+            buildEndTime_ = builderForValue.build();
+          } else {
+            buildEndTimeBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
         public Builder mergeBuildEndTime(com.google.protobuf.Timestamp value) {
           if (buildEndTimeBuilder_ == null) {
             if (((bitField0_ & 0x00000001) != 0) &&
-              buildEndTime_ != null &&
-              buildEndTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
-              getBuildEndTimeBuilder().mergeFrom(value);
+              buildEndTime_ != null &&
+              buildEndTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
+              getBuildEndTimeBuilder().mergeFrom(value);
+            } else {
+              buildEndTime_ = value;
+            }
+          } else {
+            buildEndTimeBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        public Builder clearBuildEndTime() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          buildEndTime_ = null;
+          if (buildEndTimeBuilder_ != null) {
+            buildEndTimeBuilder_.dispose();
+            buildEndTimeBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        public com.google.protobuf.Timestamp.Builder getBuildEndTimeBuilder() {
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return getBuildEndTimeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        public com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder() {
+          if (buildEndTimeBuilder_ != null) {
+            return buildEndTimeBuilder_.getMessageOrBuilder();
+          } else {
+            return buildEndTime_ == null ?
+                com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
+          }
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
+            getBuildEndTimeFieldBuilder() {
+          if (buildEndTimeBuilder_ == null) {
+            buildEndTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
+                    getBuildEndTime(),
+                    getParentForChildren(),
+                    isClean());
+            buildEndTime_ = null;
+          }
+          return buildEndTimeBuilder_;
+        }
+
+        private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> resultValueBuilder_;
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         * @return Whether the resultValue field is set.
+         */
+        public boolean hasResultValue() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         * @return The resultValue.
+         */
+        public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
+          if (resultValueBuilder_ == null) {
+            return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+          } else {
+            return resultValueBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public Builder setResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
+          if (resultValueBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            resultValue_ = value;
+          } else {
+            resultValueBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public Builder setResultValue(
+            com.giyeok.bibix.BibixValueProto.BibixValue.Builder builderForValue) {
+          if (resultValueBuilder_ == null) {
+            resultValue_ = builderForValue.build();
+          } else {
+            resultValueBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public Builder mergeResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
+          if (resultValueBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0) &&
+              resultValue_ != null &&
+              resultValue_ != com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance()) {
+              getResultValueBuilder().mergeFrom(value);
+            } else {
+              resultValue_ = value;
+            }
+          } else {
+            resultValueBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public Builder clearResultValue() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          resultValue_ = null;
+          if (resultValueBuilder_ != null) {
+            resultValueBuilder_.dispose();
+            resultValueBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public com.giyeok.bibix.BibixValueProto.BibixValue.Builder getResultValueBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getResultValueFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
+          if (resultValueBuilder_ != null) {
+            return resultValueBuilder_.getMessageOrBuilder();
+          } else {
+            return resultValue_ == null ?
+                com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+          }
+        }
+        /**
+         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> 
+            getResultValueFieldBuilder() {
+          if (resultValueBuilder_ == null) {
+            resultValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder>(
+                    getResultValue(),
+                    getParentForChildren(),
+                    isClean());
+            resultValue_ = null;
+          }
+          return resultValueBuilder_;
+        }
+
+        private com.google.protobuf.ByteString objectId_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <pre>
+         * object id는 뭐지 근데..?
+         * </pre>
+         *
+         * <code>optional bytes object_id = 3;</code>
+         * @return Whether the objectId field is set.
+         */
+        @java.lang.Override
+        public boolean hasObjectId() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <pre>
+         * object id는 뭐지 근데..?
+         * </pre>
+         *
+         * <code>optional bytes object_id = 3;</code>
+         * @return The objectId.
+         */
+        @java.lang.Override
+        public com.google.protobuf.ByteString getObjectId() {
+          return objectId_;
+        }
+        /**
+         * <pre>
+         * object id는 뭐지 근데..?
+         * </pre>
+         *
+         * <code>optional bytes object_id = 3;</code>
+         * @param value The objectId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setObjectId(com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          objectId_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * object id는 뭐지 근데..?
+         * </pre>
+         *
+         * <code>optional bytes object_id = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearObjectId() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          objectId_ = getDefaultInstance().getObjectId();
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString outputDigest_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <pre>
+         * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+         * </pre>
+         *
+         * <code>bytes output_digest = 4;</code>
+         * @return The outputDigest.
+         */
+        @java.lang.Override
+        public com.google.protobuf.ByteString getOutputDigest() {
+          return outputDigest_;
+        }
+        /**
+         * <pre>
+         * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+         * </pre>
+         *
+         * <code>bytes output_digest = 4;</code>
+         * @param value The outputDigest to set.
+         * @return This builder for chaining.
+         */
+        public Builder setOutputDigest(com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          outputDigest_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+         * </pre>
+         *
+         * <code>bytes output_digest = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearOutputDigest() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          outputDigest_ = getDefaultInstance().getOutputDigest();
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+      }
+
+      // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+      private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded();
+      }
+
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<BuildSucceeded>
+          PARSER = new com.google.protobuf.AbstractParser<BuildSucceeded>() {
+        @java.lang.Override
+        public BuildSucceeded parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<BuildSucceeded> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<BuildSucceeded> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface BuildFailedOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState.BuildFailed)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * @return Whether the buildFailTime field is set.
+       */
+      boolean hasBuildFailTime();
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * @return The buildFailTime.
+       */
+      com.google.protobuf.Timestamp getBuildFailTime();
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       */
+      com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder();
+
+      /**
+       * <code>string error_message = 2;</code>
+       * @return The errorMessage.
+       */
+      java.lang.String getErrorMessage();
+      /**
+       * <code>string error_message = 2;</code>
+       * @return The bytes for errorMessage.
+       */
+      com.google.protobuf.ByteString
+          getErrorMessageBytes();
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildFailed}
+     */
+    public static final class BuildFailed extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState.BuildFailed)
+        BuildFailedOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use BuildFailed.newBuilder() to construct.
+      private BuildFailed(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private BuildFailed() {
+        errorMessage_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new BuildFailed();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder.class);
+      }
+
+      public static final int BUILD_FAIL_TIME_FIELD_NUMBER = 1;
+      private com.google.protobuf.Timestamp buildFailTime_;
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * @return Whether the buildFailTime field is set.
+       */
+      @java.lang.Override
+      public boolean hasBuildFailTime() {
+        return buildFailTime_ != null;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * @return The buildFailTime.
+       */
+      @java.lang.Override
+      public com.google.protobuf.Timestamp getBuildFailTime() {
+        return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       */
+      @java.lang.Override
+      public com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder() {
+        return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+      }
+
+      public static final int ERROR_MESSAGE_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object errorMessage_ = "";
+      /**
+       * <code>string error_message = 2;</code>
+       * @return The errorMessage.
+       */
+      @java.lang.Override
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errorMessage_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string error_message = 2;</code>
+       * @return The bytes for errorMessage.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (buildFailTime_ != null) {
+          output.writeMessage(1, getBuildFailTime());
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, errorMessage_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (buildFailTime_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, getBuildFailTime());
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, errorMessage_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed)) {
+          return super.equals(obj);
+        }
+        com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) obj;
+
+        if (hasBuildFailTime() != other.hasBuildFailTime()) return false;
+        if (hasBuildFailTime()) {
+          if (!getBuildFailTime()
+              .equals(other.getBuildFailTime())) return false;
+        }
+        if (!getErrorMessage()
+            .equals(other.getErrorMessage())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasBuildFailTime()) {
+          hash = (37 * hash) + BUILD_FAIL_TIME_FIELD_NUMBER;
+          hash = (53 * hash) + getBuildFailTime().hashCode();
+        }
+        hash = (37 * hash) + ERROR_MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getErrorMessage().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildFailed}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState.BuildFailed)
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder.class);
+        }
+
+        // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          buildFailTime_ = null;
+          if (buildFailTimeBuilder_ != null) {
+            buildFailTimeBuilder_.dispose();
+            buildFailTimeBuilder_ = null;
+          }
+          errorMessage_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstanceForType() {
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed build() {
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed buildPartial() {
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.buildFailTime_ = buildFailTimeBuilder_ == null
+                ? buildFailTime_
+                : buildFailTimeBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.errorMessage_ = errorMessage_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) {
+            return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed other) {
+          if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance()) return this;
+          if (other.hasBuildFailTime()) {
+            mergeBuildFailTime(other.getBuildFailTime());
+          }
+          if (!other.getErrorMessage().isEmpty()) {
+            errorMessage_ = other.errorMessage_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  input.readMessage(
+                      getBuildFailTimeFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  errorMessage_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private com.google.protobuf.Timestamp buildFailTime_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildFailTimeBuilder_;
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         * @return Whether the buildFailTime field is set.
+         */
+        public boolean hasBuildFailTime() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         * @return The buildFailTime.
+         */
+        public com.google.protobuf.Timestamp getBuildFailTime() {
+          if (buildFailTimeBuilder_ == null) {
+            return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+          } else {
+            return buildFailTimeBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public Builder setBuildFailTime(com.google.protobuf.Timestamp value) {
+          if (buildFailTimeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            buildFailTime_ = value;
+          } else {
+            buildFailTimeBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public Builder setBuildFailTime(
+            com.google.protobuf.Timestamp.Builder builderForValue) {
+          if (buildFailTimeBuilder_ == null) {
+            buildFailTime_ = builderForValue.build();
+          } else {
+            buildFailTimeBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public Builder mergeBuildFailTime(com.google.protobuf.Timestamp value) {
+          if (buildFailTimeBuilder_ == null) {
+            if (((bitField0_ & 0x00000001) != 0) &&
+              buildFailTime_ != null &&
+              buildFailTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
+              getBuildFailTimeBuilder().mergeFrom(value);
+            } else {
+              buildFailTime_ = value;
+            }
+          } else {
+            buildFailTimeBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public Builder clearBuildFailTime() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          buildFailTime_ = null;
+          if (buildFailTimeBuilder_ != null) {
+            buildFailTimeBuilder_.dispose();
+            buildFailTimeBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public com.google.protobuf.Timestamp.Builder getBuildFailTimeBuilder() {
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return getBuildFailTimeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        public com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder() {
+          if (buildFailTimeBuilder_ != null) {
+            return buildFailTimeBuilder_.getMessageOrBuilder();
+          } else {
+            return buildFailTime_ == null ?
+                com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+          }
+        }
+        /**
+         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
+            getBuildFailTimeFieldBuilder() {
+          if (buildFailTimeBuilder_ == null) {
+            buildFailTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
+                    getBuildFailTime(),
+                    getParentForChildren(),
+                    isClean());
+            buildFailTime_ = null;
+          }
+          return buildFailTimeBuilder_;
+        }
+
+        private java.lang.Object errorMessage_ = "";
+        /**
+         * <code>string error_message = 2;</code>
+         * @return The errorMessage.
+         */
+        public java.lang.String getErrorMessage() {
+          java.lang.Object ref = errorMessage_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            errorMessage_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string error_message = 2;</code>
+         * @return The bytes for errorMessage.
+         */
+        public com.google.protobuf.ByteString
+            getErrorMessageBytes() {
+          java.lang.Object ref = errorMessage_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            errorMessage_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string error_message = 2;</code>
+         * @param value The errorMessage to set.
+         * @return This builder for chaining.
+         */
+        public Builder setErrorMessage(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          errorMessage_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string error_message = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearErrorMessage() {
+          errorMessage_ = getDefaultInstance().getErrorMessage();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string error_message = 2;</code>
+         * @param value The bytes for errorMessage to set.
+         * @return This builder for chaining.
+         */
+        public Builder setErrorMessageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          errorMessage_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState.BuildFailed)
+      }
+
+      // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState.BuildFailed)
+      private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed();
+      }
+
+      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<BuildFailed>
+          PARSER = new com.google.protobuf.AbstractParser<BuildFailed>() {
+        @java.lang.Override
+        public BuildFailed parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<BuildFailed> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<BuildFailed> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int stateCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object state_;
+    public enum StateCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      BUILD_STARTED(5),
+      BUILD_SUCCEEDED(6),
+      BUILD_FAILED(7),
+      STATE_NOT_SET(0);
+      private final int value;
+      private StateCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static StateCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static StateCase forNumber(int value) {
+        switch (value) {
+          case 5: return BUILD_STARTED;
+          case 6: return BUILD_SUCCEEDED;
+          case 7: return BUILD_FAILED;
+          case 0: return STATE_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public StateCase
+    getStateCase() {
+      return StateCase.forNumber(
+          stateCase_);
+    }
+
+    public static final int UNIQUE_RUN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uniqueRunId_ = "";
+    /**
+     * <pre>
+     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * </pre>
+     *
+     * <code>string unique_run_id = 1;</code>
+     * @return The uniqueRunId.
+     */
+    @java.lang.Override
+    public java.lang.String getUniqueRunId() {
+      java.lang.Object ref = uniqueRunId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uniqueRunId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * </pre>
+     *
+     * <code>string unique_run_id = 1;</code>
+     * @return The bytes for uniqueRunId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUniqueRunIdBytes() {
+      java.lang.Object ref = uniqueRunId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uniqueRunId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BUILD_START_TIME_FIELD_NUMBER = 2;
+    private com.google.protobuf.Timestamp buildStartTime_;
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     * @return Whether the buildStartTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasBuildStartTime() {
+      return buildStartTime_ != null;
+    }
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     * @return The buildStartTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Timestamp getBuildStartTime() {
+      return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
+    }
+    /**
+     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder() {
+      return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
+    }
+
+    public static final int INPUT_HASHES_FIELD_NUMBER = 3;
+    private com.giyeok.bibix.BibixIdProto.InputHashes inputHashes_;
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     * @return Whether the inputHashes field is set.
+     */
+    @java.lang.Override
+    public boolean hasInputHashes() {
+      return inputHashes_ != null;
+    }
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     * @return The inputHashes.
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes() {
+      return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
+    }
+    /**
+     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder() {
+      return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
+    }
+
+    public static final int INPUT_HASH_STRING_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString inputHashString_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes input_hash_string = 4;</code>
+     * @return The inputHashString.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getInputHashString() {
+      return inputHashString_;
+    }
+
+    public static final int BUILD_STARTED_FIELD_NUMBER = 5;
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     * @return Whether the buildStarted field is set.
+     */
+    @java.lang.Override
+    public boolean hasBuildStarted() {
+      return stateCase_ == 5;
+    }
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     * @return The buildStarted.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Empty getBuildStarted() {
+      if (stateCase_ == 5) {
+         return (com.google.protobuf.Empty) state_;
+      }
+      return com.google.protobuf.Empty.getDefaultInstance();
+    }
+    /**
+     * <code>.google.protobuf.Empty build_started = 5;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder() {
+      if (stateCase_ == 5) {
+         return (com.google.protobuf.Empty) state_;
+      }
+      return com.google.protobuf.Empty.getDefaultInstance();
+    }
+
+    public static final int BUILD_SUCCEEDED_FIELD_NUMBER = 6;
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     * @return Whether the buildSucceeded field is set.
+     */
+    @java.lang.Override
+    public boolean hasBuildSucceeded() {
+      return stateCase_ == 6;
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     * @return The buildSucceeded.
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded() {
+      if (stateCase_ == 6) {
+         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
+      }
+      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder() {
+      if (stateCase_ == 6) {
+         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
+      }
+      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+    }
+
+    public static final int BUILD_FAILED_FIELD_NUMBER = 7;
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     * @return Whether the buildFailed field is set.
+     */
+    @java.lang.Override
+    public boolean hasBuildFailed() {
+      return stateCase_ == 7;
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     * @return The buildFailed.
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed() {
+      if (stateCase_ == 7) {
+         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
+      }
+      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder() {
+      if (stateCase_ == 7) {
+         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
+      }
+      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uniqueRunId_);
+      }
+      if (buildStartTime_ != null) {
+        output.writeMessage(2, getBuildStartTime());
+      }
+      if (inputHashes_ != null) {
+        output.writeMessage(3, getInputHashes());
+      }
+      if (!inputHashString_.isEmpty()) {
+        output.writeBytes(4, inputHashString_);
+      }
+      if (stateCase_ == 5) {
+        output.writeMessage(5, (com.google.protobuf.Empty) state_);
+      }
+      if (stateCase_ == 6) {
+        output.writeMessage(6, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_);
+      }
+      if (stateCase_ == 7) {
+        output.writeMessage(7, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uniqueRunId_);
+      }
+      if (buildStartTime_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getBuildStartTime());
+      }
+      if (inputHashes_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getInputHashes());
+      }
+      if (!inputHashString_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, inputHashString_);
+      }
+      if (stateCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.google.protobuf.Empty) state_);
+      }
+      if (stateCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_);
+      }
+      if (stateCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.TargetState other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState) obj;
+
+      if (!getUniqueRunId()
+          .equals(other.getUniqueRunId())) return false;
+      if (hasBuildStartTime() != other.hasBuildStartTime()) return false;
+      if (hasBuildStartTime()) {
+        if (!getBuildStartTime()
+            .equals(other.getBuildStartTime())) return false;
+      }
+      if (hasInputHashes() != other.hasInputHashes()) return false;
+      if (hasInputHashes()) {
+        if (!getInputHashes()
+            .equals(other.getInputHashes())) return false;
+      }
+      if (!getInputHashString()
+          .equals(other.getInputHashString())) return false;
+      if (!getStateCase().equals(other.getStateCase())) return false;
+      switch (stateCase_) {
+        case 5:
+          if (!getBuildStarted()
+              .equals(other.getBuildStarted())) return false;
+          break;
+        case 6:
+          if (!getBuildSucceeded()
+              .equals(other.getBuildSucceeded())) return false;
+          break;
+        case 7:
+          if (!getBuildFailed()
+              .equals(other.getBuildFailed())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + UNIQUE_RUN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getUniqueRunId().hashCode();
+      if (hasBuildStartTime()) {
+        hash = (37 * hash) + BUILD_START_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getBuildStartTime().hashCode();
+      }
+      if (hasInputHashes()) {
+        hash = (37 * hash) + INPUT_HASHES_FIELD_NUMBER;
+        hash = (53 * hash) + getInputHashes().hashCode();
+      }
+      hash = (37 * hash) + INPUT_HASH_STRING_FIELD_NUMBER;
+      hash = (53 * hash) + getInputHashString().hashCode();
+      switch (stateCase_) {
+        case 5:
+          hash = (37 * hash) + BUILD_STARTED_FIELD_NUMBER;
+          hash = (53 * hash) + getBuildStarted().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + BUILD_SUCCEEDED_FIELD_NUMBER;
+          hash = (53 * hash) + getBuildSucceeded().hashCode();
+          break;
+        case 7:
+          hash = (37 * hash) + BUILD_FAILED_FIELD_NUMBER;
+          hash = (53 * hash) + getBuildFailed().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.TargetState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState)
+        com.giyeok.bibix.repo.BibixRepoProto.TargetStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.TargetState.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        uniqueRunId_ = "";
+        buildStartTime_ = null;
+        if (buildStartTimeBuilder_ != null) {
+          buildStartTimeBuilder_.dispose();
+          buildStartTimeBuilder_ = null;
+        }
+        inputHashes_ = null;
+        if (inputHashesBuilder_ != null) {
+          inputHashesBuilder_.dispose();
+          inputHashesBuilder_ = null;
+        }
+        inputHashString_ = com.google.protobuf.ByteString.EMPTY;
+        if (buildStartedBuilder_ != null) {
+          buildStartedBuilder_.clear();
+        }
+        if (buildSucceededBuilder_ != null) {
+          buildSucceededBuilder_.clear();
+        }
+        if (buildFailedBuilder_ != null) {
+          buildFailedBuilder_.clear();
+        }
+        stateCase_ = 0;
+        state_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TargetState.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState build() {
+        com.giyeok.bibix.repo.BibixRepoProto.TargetState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.TargetState result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.uniqueRunId_ = uniqueRunId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.buildStartTime_ = buildStartTimeBuilder_ == null
+              ? buildStartTime_
+              : buildStartTimeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.inputHashes_ = inputHashesBuilder_ == null
+              ? inputHashes_
+              : inputHashesBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.inputHashString_ = inputHashString_;
+        }
+      }
+
+      private void buildPartialOneofs(com.giyeok.bibix.repo.BibixRepoProto.TargetState result) {
+        result.stateCase_ = stateCase_;
+        result.state_ = this.state_;
+        if (stateCase_ == 5 &&
+            buildStartedBuilder_ != null) {
+          result.state_ = buildStartedBuilder_.build();
+        }
+        if (stateCase_ == 6 &&
+            buildSucceededBuilder_ != null) {
+          result.state_ = buildSucceededBuilder_.build();
+        }
+        if (stateCase_ == 7 &&
+            buildFailedBuilder_ != null) {
+          result.state_ = buildFailedBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.getDefaultInstance()) return this;
+        if (!other.getUniqueRunId().isEmpty()) {
+          uniqueRunId_ = other.uniqueRunId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasBuildStartTime()) {
+          mergeBuildStartTime(other.getBuildStartTime());
+        }
+        if (other.hasInputHashes()) {
+          mergeInputHashes(other.getInputHashes());
+        }
+        if (other.getInputHashString() != com.google.protobuf.ByteString.EMPTY) {
+          setInputHashString(other.getInputHashString());
+        }
+        switch (other.getStateCase()) {
+          case BUILD_STARTED: {
+            mergeBuildStarted(other.getBuildStarted());
+            break;
+          }
+          case BUILD_SUCCEEDED: {
+            mergeBuildSucceeded(other.getBuildSucceeded());
+            break;
+          }
+          case BUILD_FAILED: {
+            mergeBuildFailed(other.getBuildFailed());
+            break;
+          }
+          case STATE_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                uniqueRunId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getBuildStartTimeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getInputHashesFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                inputHashString_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getBuildStartedFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                stateCase_ = 5;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getBuildSucceededFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                stateCase_ = 6;
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getBuildFailedFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                stateCase_ = 7;
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int stateCase_ = 0;
+      private java.lang.Object state_;
+      public StateCase
+          getStateCase() {
+        return StateCase.forNumber(
+            stateCase_);
+      }
+
+      public Builder clearState() {
+        stateCase_ = 0;
+        state_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private java.lang.Object uniqueRunId_ = "";
+      /**
+       * <pre>
+       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * </pre>
+       *
+       * <code>string unique_run_id = 1;</code>
+       * @return The uniqueRunId.
+       */
+      public java.lang.String getUniqueRunId() {
+        java.lang.Object ref = uniqueRunId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uniqueRunId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * </pre>
+       *
+       * <code>string unique_run_id = 1;</code>
+       * @return The bytes for uniqueRunId.
+       */
+      public com.google.protobuf.ByteString
+          getUniqueRunIdBytes() {
+        java.lang.Object ref = uniqueRunId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uniqueRunId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * </pre>
+       *
+       * <code>string unique_run_id = 1;</code>
+       * @param value The uniqueRunId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUniqueRunId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uniqueRunId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * </pre>
+       *
+       * <code>string unique_run_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUniqueRunId() {
+        uniqueRunId_ = getDefaultInstance().getUniqueRunId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * </pre>
+       *
+       * <code>string unique_run_id = 1;</code>
+       * @param value The bytes for uniqueRunId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUniqueRunIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uniqueRunId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Timestamp buildStartTime_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildStartTimeBuilder_;
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       * @return Whether the buildStartTime field is set.
+       */
+      public boolean hasBuildStartTime() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       * @return The buildStartTime.
+       */
+      public com.google.protobuf.Timestamp getBuildStartTime() {
+        if (buildStartTimeBuilder_ == null) {
+          return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
+        } else {
+          return buildStartTimeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public Builder setBuildStartTime(com.google.protobuf.Timestamp value) {
+        if (buildStartTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          buildStartTime_ = value;
+        } else {
+          buildStartTimeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public Builder setBuildStartTime(
+          com.google.protobuf.Timestamp.Builder builderForValue) {
+        if (buildStartTimeBuilder_ == null) {
+          buildStartTime_ = builderForValue.build();
+        } else {
+          buildStartTimeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public Builder mergeBuildStartTime(com.google.protobuf.Timestamp value) {
+        if (buildStartTimeBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            buildStartTime_ != null &&
+            buildStartTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
+            getBuildStartTimeBuilder().mergeFrom(value);
+          } else {
+            buildStartTime_ = value;
+          }
+        } else {
+          buildStartTimeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public Builder clearBuildStartTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        buildStartTime_ = null;
+        if (buildStartTimeBuilder_ != null) {
+          buildStartTimeBuilder_.dispose();
+          buildStartTimeBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public com.google.protobuf.Timestamp.Builder getBuildStartTimeBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getBuildStartTimeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      public com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder() {
+        if (buildStartTimeBuilder_ != null) {
+          return buildStartTimeBuilder_.getMessageOrBuilder();
+        } else {
+          return buildStartTime_ == null ?
+              com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
+        }
+      }
+      /**
+       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
+          getBuildStartTimeFieldBuilder() {
+        if (buildStartTimeBuilder_ == null) {
+          buildStartTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
+                  getBuildStartTime(),
+                  getParentForChildren(),
+                  isClean());
+          buildStartTime_ = null;
+        }
+        return buildStartTimeBuilder_;
+      }
+
+      private com.giyeok.bibix.BibixIdProto.InputHashes inputHashes_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder> inputHashesBuilder_;
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * @return Whether the inputHashes field is set.
+       */
+      public boolean hasInputHashes() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * @return The inputHashes.
+       */
+      public com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes() {
+        if (inputHashesBuilder_ == null) {
+          return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
+        } else {
+          return inputHashesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public Builder setInputHashes(com.giyeok.bibix.BibixIdProto.InputHashes value) {
+        if (inputHashesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inputHashes_ = value;
+        } else {
+          inputHashesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public Builder setInputHashes(
+          com.giyeok.bibix.BibixIdProto.InputHashes.Builder builderForValue) {
+        if (inputHashesBuilder_ == null) {
+          inputHashes_ = builderForValue.build();
+        } else {
+          inputHashesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public Builder mergeInputHashes(com.giyeok.bibix.BibixIdProto.InputHashes value) {
+        if (inputHashesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            inputHashes_ != null &&
+            inputHashes_ != com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance()) {
+            getInputHashesBuilder().mergeFrom(value);
+          } else {
+            inputHashes_ = value;
+          }
+        } else {
+          inputHashesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public Builder clearInputHashes() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        inputHashes_ = null;
+        if (inputHashesBuilder_ != null) {
+          inputHashesBuilder_.dispose();
+          inputHashesBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.InputHashes.Builder getInputHashesBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getInputHashesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      public com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder() {
+        if (inputHashesBuilder_ != null) {
+          return inputHashesBuilder_.getMessageOrBuilder();
+        } else {
+          return inputHashes_ == null ?
+              com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder> 
+          getInputHashesFieldBuilder() {
+        if (inputHashesBuilder_ == null) {
+          inputHashesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder>(
+                  getInputHashes(),
+                  getParentForChildren(),
+                  isClean());
+          inputHashes_ = null;
+        }
+        return inputHashesBuilder_;
+      }
+
+      private com.google.protobuf.ByteString inputHashString_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes input_hash_string = 4;</code>
+       * @return The inputHashString.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getInputHashString() {
+        return inputHashString_;
+      }
+      /**
+       * <code>bytes input_hash_string = 4;</code>
+       * @param value The inputHashString to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInputHashString(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        inputHashString_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes input_hash_string = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInputHashString() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        inputHashString_ = getDefaultInstance().getInputHashString();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder> buildStartedBuilder_;
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       * @return Whether the buildStarted field is set.
+       */
+      @java.lang.Override
+      public boolean hasBuildStarted() {
+        return stateCase_ == 5;
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       * @return The buildStarted.
+       */
+      @java.lang.Override
+      public com.google.protobuf.Empty getBuildStarted() {
+        if (buildStartedBuilder_ == null) {
+          if (stateCase_ == 5) {
+            return (com.google.protobuf.Empty) state_;
+          }
+          return com.google.protobuf.Empty.getDefaultInstance();
+        } else {
+          if (stateCase_ == 5) {
+            return buildStartedBuilder_.getMessage();
+          }
+          return com.google.protobuf.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      public Builder setBuildStarted(com.google.protobuf.Empty value) {
+        if (buildStartedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          state_ = value;
+          onChanged();
+        } else {
+          buildStartedBuilder_.setMessage(value);
+        }
+        stateCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      public Builder setBuildStarted(
+          com.google.protobuf.Empty.Builder builderForValue) {
+        if (buildStartedBuilder_ == null) {
+          state_ = builderForValue.build();
+          onChanged();
+        } else {
+          buildStartedBuilder_.setMessage(builderForValue.build());
+        }
+        stateCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      public Builder mergeBuildStarted(com.google.protobuf.Empty value) {
+        if (buildStartedBuilder_ == null) {
+          if (stateCase_ == 5 &&
+              state_ != com.google.protobuf.Empty.getDefaultInstance()) {
+            state_ = com.google.protobuf.Empty.newBuilder((com.google.protobuf.Empty) state_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            state_ = value;
+          }
+          onChanged();
+        } else {
+          if (stateCase_ == 5) {
+            buildStartedBuilder_.mergeFrom(value);
+          } else {
+            buildStartedBuilder_.setMessage(value);
+          }
+        }
+        stateCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      public Builder clearBuildStarted() {
+        if (buildStartedBuilder_ == null) {
+          if (stateCase_ == 5) {
+            stateCase_ = 0;
+            state_ = null;
+            onChanged();
+          }
+        } else {
+          if (stateCase_ == 5) {
+            stateCase_ = 0;
+            state_ = null;
+          }
+          buildStartedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      public com.google.protobuf.Empty.Builder getBuildStartedBuilder() {
+        return getBuildStartedFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      @java.lang.Override
+      public com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder() {
+        if ((stateCase_ == 5) && (buildStartedBuilder_ != null)) {
+          return buildStartedBuilder_.getMessageOrBuilder();
+        } else {
+          if (stateCase_ == 5) {
+            return (com.google.protobuf.Empty) state_;
+          }
+          return com.google.protobuf.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.google.protobuf.Empty build_started = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder> 
+          getBuildStartedFieldBuilder() {
+        if (buildStartedBuilder_ == null) {
+          if (!(stateCase_ == 5)) {
+            state_ = com.google.protobuf.Empty.getDefaultInstance();
+          }
+          buildStartedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder>(
+                  (com.google.protobuf.Empty) state_,
+                  getParentForChildren(),
+                  isClean());
+          state_ = null;
+        }
+        stateCase_ = 5;
+        onChanged();
+        return buildStartedBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder> buildSucceededBuilder_;
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       * @return Whether the buildSucceeded field is set.
+       */
+      @java.lang.Override
+      public boolean hasBuildSucceeded() {
+        return stateCase_ == 6;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       * @return The buildSucceeded.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded() {
+        if (buildSucceededBuilder_ == null) {
+          if (stateCase_ == 6) {
+            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+        } else {
+          if (stateCase_ == 6) {
+            return buildSucceededBuilder_.getMessage();
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      public Builder setBuildSucceeded(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded value) {
+        if (buildSucceededBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          state_ = value;
+          onChanged();
+        } else {
+          buildSucceededBuilder_.setMessage(value);
+        }
+        stateCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      public Builder setBuildSucceeded(
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder builderForValue) {
+        if (buildSucceededBuilder_ == null) {
+          state_ = builderForValue.build();
+          onChanged();
+        } else {
+          buildSucceededBuilder_.setMessage(builderForValue.build());
+        }
+        stateCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      public Builder mergeBuildSucceeded(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded value) {
+        if (buildSucceededBuilder_ == null) {
+          if (stateCase_ == 6 &&
+              state_ != com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance()) {
+            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.newBuilder((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            state_ = value;
+          }
+          onChanged();
+        } else {
+          if (stateCase_ == 6) {
+            buildSucceededBuilder_.mergeFrom(value);
+          } else {
+            buildSucceededBuilder_.setMessage(value);
+          }
+        }
+        stateCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      public Builder clearBuildSucceeded() {
+        if (buildSucceededBuilder_ == null) {
+          if (stateCase_ == 6) {
+            stateCase_ = 0;
+            state_ = null;
+            onChanged();
+          }
+        } else {
+          if (stateCase_ == 6) {
+            stateCase_ = 0;
+            state_ = null;
+          }
+          buildSucceededBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder getBuildSucceededBuilder() {
+        return getBuildSucceededFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder() {
+        if ((stateCase_ == 6) && (buildSucceededBuilder_ != null)) {
+          return buildSucceededBuilder_.getMessageOrBuilder();
+        } else {
+          if (stateCase_ == 6) {
+            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder> 
+          getBuildSucceededFieldBuilder() {
+        if (buildSucceededBuilder_ == null) {
+          if (!(stateCase_ == 6)) {
+            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+          }
+          buildSucceededBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder>(
+                  (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_,
+                  getParentForChildren(),
+                  isClean());
+          state_ = null;
+        }
+        stateCase_ = 6;
+        onChanged();
+        return buildSucceededBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder> buildFailedBuilder_;
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * @return Whether the buildFailed field is set.
+       */
+      @java.lang.Override
+      public boolean hasBuildFailed() {
+        return stateCase_ == 7;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * @return The buildFailed.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed() {
+        if (buildFailedBuilder_ == null) {
+          if (stateCase_ == 7) {
+            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+        } else {
+          if (stateCase_ == 7) {
+            return buildFailedBuilder_.getMessage();
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      public Builder setBuildFailed(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed value) {
+        if (buildFailedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          state_ = value;
+          onChanged();
+        } else {
+          buildFailedBuilder_.setMessage(value);
+        }
+        stateCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      public Builder setBuildFailed(
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder builderForValue) {
+        if (buildFailedBuilder_ == null) {
+          state_ = builderForValue.build();
+          onChanged();
+        } else {
+          buildFailedBuilder_.setMessage(builderForValue.build());
+        }
+        stateCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      public Builder mergeBuildFailed(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed value) {
+        if (buildFailedBuilder_ == null) {
+          if (stateCase_ == 7 &&
+              state_ != com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance()) {
+            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.newBuilder((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            state_ = value;
+          }
+          onChanged();
+        } else {
+          if (stateCase_ == 7) {
+            buildFailedBuilder_.mergeFrom(value);
+          } else {
+            buildFailedBuilder_.setMessage(value);
+          }
+        }
+        stateCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      public Builder clearBuildFailed() {
+        if (buildFailedBuilder_ == null) {
+          if (stateCase_ == 7) {
+            stateCase_ = 0;
+            state_ = null;
+            onChanged();
+          }
+        } else {
+          if (stateCase_ == 7) {
+            stateCase_ = 0;
+            state_ = null;
+          }
+          buildFailedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder getBuildFailedBuilder() {
+        return getBuildFailedFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder() {
+        if ((stateCase_ == 7) && (buildFailedBuilder_ != null)) {
+          return buildFailedBuilder_.getMessageOrBuilder();
+        } else {
+          if (stateCase_ == 7) {
+            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
+          }
+          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder> 
+          getBuildFailedFieldBuilder() {
+        if (buildFailedBuilder_ == null) {
+          if (!(stateCase_ == 7)) {
+            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+          }
+          buildFailedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder>(
+                  (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_,
+                  getParentForChildren(),
+                  isClean());
+          state_ = null;
+        }
+        stateCase_ = 7;
+        onChanged();
+        return buildFailedBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TargetState>
+        PARSER = new com.google.protobuf.AbstractParser<TargetState>() {
+      @java.lang.Override
+      public TargetState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TargetState> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TargetState> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TargetBuildStatsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetBuildStats)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     * @return Whether the bodyDuration field is set.
+     */
+    boolean hasBodyDuration();
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     * @return The bodyDuration.
+     */
+    com.google.protobuf.Duration getBodyDuration();
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     */
+    com.google.protobuf.DurationOrBuilder getBodyDurationOrBuilder();
+
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     * @return Whether the criticalPathDuration field is set.
+     */
+    boolean hasCriticalPathDuration();
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     * @return The criticalPathDuration.
+     */
+    com.google.protobuf.Duration getCriticalPathDuration();
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     */
+    com.google.protobuf.DurationOrBuilder getCriticalPathDurationOrBuilder();
+  }
+  /**
+   * Protobuf type {@code com.giyeok.bibix.repo.TargetBuildStats}
+   */
+  public static final class TargetBuildStats extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetBuildStats)
+      TargetBuildStatsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TargetBuildStats.newBuilder() to construct.
+    private TargetBuildStats(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TargetBuildStats() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TargetBuildStats();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetBuildStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.class, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.Builder.class);
+    }
+
+    public static final int BODY_DURATION_FIELD_NUMBER = 1;
+    private com.google.protobuf.Duration bodyDuration_;
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     * @return Whether the bodyDuration field is set.
+     */
+    @java.lang.Override
+    public boolean hasBodyDuration() {
+      return bodyDuration_ != null;
+    }
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     * @return The bodyDuration.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Duration getBodyDuration() {
+      return bodyDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : bodyDuration_;
+    }
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration body_duration = 1;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.DurationOrBuilder getBodyDurationOrBuilder() {
+      return bodyDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : bodyDuration_;
+    }
+
+    public static final int CRITICAL_PATH_DURATION_FIELD_NUMBER = 2;
+    private com.google.protobuf.Duration criticalPathDuration_;
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     * @return Whether the criticalPathDuration field is set.
+     */
+    @java.lang.Override
+    public boolean hasCriticalPathDuration() {
+      return criticalPathDuration_ != null;
+    }
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     * @return The criticalPathDuration.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Duration getCriticalPathDuration() {
+      return criticalPathDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : criticalPathDuration_;
+    }
+    /**
+     * <pre>
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * </pre>
+     *
+     * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.DurationOrBuilder getCriticalPathDurationOrBuilder() {
+      return criticalPathDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : criticalPathDuration_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (bodyDuration_ != null) {
+        output.writeMessage(1, getBodyDuration());
+      }
+      if (criticalPathDuration_ != null) {
+        output.writeMessage(2, getCriticalPathDuration());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (bodyDuration_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getBodyDuration());
+      }
+      if (criticalPathDuration_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getCriticalPathDuration());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats other = (com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats) obj;
+
+      if (hasBodyDuration() != other.hasBodyDuration()) return false;
+      if (hasBodyDuration()) {
+        if (!getBodyDuration()
+            .equals(other.getBodyDuration())) return false;
+      }
+      if (hasCriticalPathDuration() != other.hasCriticalPathDuration()) return false;
+      if (hasCriticalPathDuration()) {
+        if (!getCriticalPathDuration()
+            .equals(other.getCriticalPathDuration())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBodyDuration()) {
+        hash = (37 * hash) + BODY_DURATION_FIELD_NUMBER;
+        hash = (53 * hash) + getBodyDuration().hashCode();
+      }
+      if (hasCriticalPathDuration()) {
+        hash = (37 * hash) + CRITICAL_PATH_DURATION_FIELD_NUMBER;
+        hash = (53 * hash) + getCriticalPathDuration().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.TargetBuildStats}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetBuildStats)
+        com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStatsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetBuildStats_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.class, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        bodyDuration_ = null;
+        if (bodyDurationBuilder_ != null) {
+          bodyDurationBuilder_.dispose();
+          bodyDurationBuilder_ = null;
+        }
+        criticalPathDuration_ = null;
+        if (criticalPathDurationBuilder_ != null) {
+          criticalPathDurationBuilder_.dispose();
+          criticalPathDurationBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats build() {
+        com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats result = new com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.bodyDuration_ = bodyDurationBuilder_ == null
+              ? bodyDuration_
+              : bodyDurationBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.criticalPathDuration_ = criticalPathDurationBuilder_ == null
+              ? criticalPathDuration_
+              : criticalPathDurationBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.getDefaultInstance()) return this;
+        if (other.hasBodyDuration()) {
+          mergeBodyDuration(other.getBodyDuration());
+        }
+        if (other.hasCriticalPathDuration()) {
+          mergeCriticalPathDuration(other.getCriticalPathDuration());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getBodyDurationFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getCriticalPathDurationFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Duration bodyDuration_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder> bodyDurationBuilder_;
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       * @return Whether the bodyDuration field is set.
+       */
+      public boolean hasBodyDuration() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       * @return The bodyDuration.
+       */
+      public com.google.protobuf.Duration getBodyDuration() {
+        if (bodyDurationBuilder_ == null) {
+          return bodyDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : bodyDuration_;
+        } else {
+          return bodyDurationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public Builder setBodyDuration(com.google.protobuf.Duration value) {
+        if (bodyDurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bodyDuration_ = value;
+        } else {
+          bodyDurationBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public Builder setBodyDuration(
+          com.google.protobuf.Duration.Builder builderForValue) {
+        if (bodyDurationBuilder_ == null) {
+          bodyDuration_ = builderForValue.build();
+        } else {
+          bodyDurationBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public Builder mergeBodyDuration(com.google.protobuf.Duration value) {
+        if (bodyDurationBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            bodyDuration_ != null &&
+            bodyDuration_ != com.google.protobuf.Duration.getDefaultInstance()) {
+            getBodyDurationBuilder().mergeFrom(value);
+          } else {
+            bodyDuration_ = value;
+          }
+        } else {
+          bodyDurationBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public Builder clearBodyDuration() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        bodyDuration_ = null;
+        if (bodyDurationBuilder_ != null) {
+          bodyDurationBuilder_.dispose();
+          bodyDurationBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public com.google.protobuf.Duration.Builder getBodyDurationBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBodyDurationFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      public com.google.protobuf.DurationOrBuilder getBodyDurationOrBuilder() {
+        if (bodyDurationBuilder_ != null) {
+          return bodyDurationBuilder_.getMessageOrBuilder();
+        } else {
+          return bodyDuration_ == null ?
+              com.google.protobuf.Duration.getDefaultInstance() : bodyDuration_;
+        }
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration body_duration = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder> 
+          getBodyDurationFieldBuilder() {
+        if (bodyDurationBuilder_ == null) {
+          bodyDurationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder>(
+                  getBodyDuration(),
+                  getParentForChildren(),
+                  isClean());
+          bodyDuration_ = null;
+        }
+        return bodyDurationBuilder_;
+      }
+
+      private com.google.protobuf.Duration criticalPathDuration_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder> criticalPathDurationBuilder_;
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       * @return Whether the criticalPathDuration field is set.
+       */
+      public boolean hasCriticalPathDuration() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       * @return The criticalPathDuration.
+       */
+      public com.google.protobuf.Duration getCriticalPathDuration() {
+        if (criticalPathDurationBuilder_ == null) {
+          return criticalPathDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : criticalPathDuration_;
+        } else {
+          return criticalPathDurationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public Builder setCriticalPathDuration(com.google.protobuf.Duration value) {
+        if (criticalPathDurationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          criticalPathDuration_ = value;
+        } else {
+          criticalPathDurationBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public Builder setCriticalPathDuration(
+          com.google.protobuf.Duration.Builder builderForValue) {
+        if (criticalPathDurationBuilder_ == null) {
+          criticalPathDuration_ = builderForValue.build();
+        } else {
+          criticalPathDurationBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public Builder mergeCriticalPathDuration(com.google.protobuf.Duration value) {
+        if (criticalPathDurationBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            criticalPathDuration_ != null &&
+            criticalPathDuration_ != com.google.protobuf.Duration.getDefaultInstance()) {
+            getCriticalPathDurationBuilder().mergeFrom(value);
+          } else {
+            criticalPathDuration_ = value;
+          }
+        } else {
+          criticalPathDurationBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public Builder clearCriticalPathDuration() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        criticalPathDuration_ = null;
+        if (criticalPathDurationBuilder_ != null) {
+          criticalPathDurationBuilder_.dispose();
+          criticalPathDurationBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public com.google.protobuf.Duration.Builder getCriticalPathDurationBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getCriticalPathDurationFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      public com.google.protobuf.DurationOrBuilder getCriticalPathDurationOrBuilder() {
+        if (criticalPathDurationBuilder_ != null) {
+          return criticalPathDurationBuilder_.getMessageOrBuilder();
+        } else {
+          return criticalPathDuration_ == null ?
+              com.google.protobuf.Duration.getDefaultInstance() : criticalPathDuration_;
+        }
+      }
+      /**
+       * <pre>
+       * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+       * </pre>
+       *
+       * <code>.google.protobuf.Duration critical_path_duration = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder> 
+          getCriticalPathDurationFieldBuilder() {
+        if (criticalPathDurationBuilder_ == null) {
+          criticalPathDurationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Duration, com.google.protobuf.Duration.Builder, com.google.protobuf.DurationOrBuilder>(
+                  getCriticalPathDuration(),
+                  getParentForChildren(),
+                  isClean());
+          criticalPathDuration_ = null;
+        }
+        return criticalPathDurationBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetBuildStats)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetBuildStats)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TargetBuildStats>
+        PARSER = new com.google.protobuf.AbstractParser<TargetBuildStats>() {
+      @java.lang.Override
+      public TargetBuildStats parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TargetBuildStats> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TargetBuildStats> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ExecutionProfileOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.ExecutionProfile)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string unique_run_id = 1;</code>
+     * @return The uniqueRunId.
+     */
+    java.lang.String getUniqueRunId();
+    /**
+     * <code>string unique_run_id = 1;</code>
+     * @return The bytes for uniqueRunId.
+     */
+    com.google.protobuf.ByteString
+        getUniqueRunIdBytes();
+
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     * @return Whether the startTime field is set.
+     */
+    boolean hasStartTime();
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     * @return The startTime.
+     */
+    com.google.protobuf.Timestamp getStartTime();
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     */
+    com.google.protobuf.TimestampOrBuilder getStartTimeOrBuilder();
+
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @return A list containing the threads.
+     */
+    java.util.List<java.lang.String>
+        getThreadsList();
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @return The count of threads.
+     */
+    int getThreadsCount();
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @param index The index of the element to return.
+     * @return The threads at the given index.
+     */
+    java.lang.String getThreads(int index);
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the threads at the given index.
+     */
+    com.google.protobuf.ByteString
+        getThreadsBytes(int index);
+
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> 
+        getTasksList();
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getTasks(int index);
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    int getTasksCount();
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder getTasksOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * 빌드 한 번의 실행 기록. bbxbuild/profiles/&lt;unique_run_id&gt;.pb에 저장된다
+   * </pre>
+   *
+   * Protobuf type {@code com.giyeok.bibix.repo.ExecutionProfile}
+   */
+  public static final class ExecutionProfile extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.ExecutionProfile)
+      ExecutionProfileOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ExecutionProfile.newBuilder() to construct.
+    private ExecutionProfile(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ExecutionProfile() {
+      uniqueRunId_ = "";
+      threads_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ExecutionProfile();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_ExecutionProfile_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.class, com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.Builder.class);
+    }
+
+    public static final int UNIQUE_RUN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uniqueRunId_ = "";
+    /**
+     * <code>string unique_run_id = 1;</code>
+     * @return The uniqueRunId.
+     */
+    @java.lang.Override
+    public java.lang.String getUniqueRunId() {
+      java.lang.Object ref = uniqueRunId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uniqueRunId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string unique_run_id = 1;</code>
+     * @return The bytes for uniqueRunId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUniqueRunIdBytes() {
+      java.lang.Object ref = uniqueRunId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uniqueRunId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int START_TIME_FIELD_NUMBER = 2;
+    private com.google.protobuf.Timestamp startTime_;
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     * @return Whether the startTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasStartTime() {
+      return startTime_ != null;
+    }
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     * @return The startTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Timestamp getStartTime() {
+      return startTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : startTime_;
+    }
+    /**
+     * <code>.google.protobuf.Timestamp start_time = 2;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.TimestampOrBuilder getStartTimeOrBuilder() {
+      return startTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : startTime_;
+    }
+
+    public static final int THREADS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList threads_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @return A list containing the threads.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getThreadsList() {
+      return threads_;
+    }
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @return The count of threads.
+     */
+    public int getThreadsCount() {
+      return threads_.size();
+    }
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @param index The index of the element to return.
+     * @return The threads at the given index.
+     */
+    public java.lang.String getThreads(int index) {
+      return threads_.get(index);
+    }
+    /**
+     * <pre>
+     * TaskProfile.thread는 이 목록의 index
+     * </pre>
+     *
+     * <code>repeated string threads = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the threads at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getThreadsBytes(int index) {
+      return threads_.getByteString(index);
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> tasks_;
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    @java.lang.Override
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uniqueRunId_);
+      }
+      if (startTime_ != null) {
+        output.writeMessage(2, getStartTime());
+      }
+      for (int i = 0; i < threads_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, threads_.getRaw(i));
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(4, tasks_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uniqueRunId_);
+      }
+      if (startTime_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getStartTime());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < threads_.size(); i++) {
+          dataSize += computeStringSizeNoTag(threads_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getThreadsList().size();
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, tasks_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile other = (com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile) obj;
+
+      if (!getUniqueRunId()
+          .equals(other.getUniqueRunId())) return false;
+      if (hasStartTime() != other.hasStartTime()) return false;
+      if (hasStartTime()) {
+        if (!getStartTime()
+            .equals(other.getStartTime())) return false;
+      }
+      if (!getThreadsList()
+          .equals(other.getThreadsList())) return false;
+      if (!getTasksList()
+          .equals(other.getTasksList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + UNIQUE_RUN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getUniqueRunId().hashCode();
+      if (hasStartTime()) {
+        hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getStartTime().hashCode();
+      }
+      if (getThreadsCount() > 0) {
+        hash = (37 * hash) + THREADS_FIELD_NUMBER;
+        hash = (53 * hash) + getThreadsList().hashCode();
+      }
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 빌드 한 번의 실행 기록. bbxbuild/profiles/&lt;unique_run_id&gt;.pb에 저장된다
+     * </pre>
+     *
+     * Protobuf type {@code com.giyeok.bibix.repo.ExecutionProfile}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.ExecutionProfile)
+        com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfileOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_ExecutionProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.class, com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        uniqueRunId_ = "";
+        startTime_ = null;
+        if (startTimeBuilder_ != null) {
+          startTimeBuilder_.dispose();
+          startTimeBuilder_ = null;
+        }
+        threads_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+        } else {
+          tasks_ = null;
+          tasksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile build() {
+        com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile result = new com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile result) {
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.uniqueRunId_ = uniqueRunId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.startTime_ = startTimeBuilder_ == null
+              ? startTime_
+              : startTimeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          threads_.makeImmutable();
+          result.threads_ = threads_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.getDefaultInstance()) return this;
+        if (!other.getUniqueRunId().isEmpty()) {
+          uniqueRunId_ = other.uniqueRunId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasStartTime()) {
+          mergeStartTime(other.getStartTime());
+        }
+        if (!other.threads_.isEmpty()) {
+          if (threads_.isEmpty()) {
+            threads_ = other.threads_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureThreadsIsMutable();
+            threads_.addAll(other.threads_);
+          }
+          onChanged();
+        }
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000008);
             } else {
-              buildEndTime_ = value;
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
             }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                uniqueRunId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getStartTimeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureThreadsIsMutable();
+                threads_.add(s);
+                break;
+              } // case 26
+              case 34: {
+                com.giyeok.bibix.repo.BibixRepoProto.TaskProfile m =
+                    input.readMessage(
+                        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.parser(),
+                        extensionRegistry);
+                if (tasksBuilder_ == null) {
+                  ensureTasksIsMutable();
+                  tasks_.add(m);
+                } else {
+                  tasksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object uniqueRunId_ = "";
+      /**
+       * <code>string unique_run_id = 1;</code>
+       * @return The uniqueRunId.
+       */
+      public java.lang.String getUniqueRunId() {
+        java.lang.Object ref = uniqueRunId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uniqueRunId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string unique_run_id = 1;</code>
+       * @return The bytes for uniqueRunId.
+       */
+      public com.google.protobuf.ByteString
+          getUniqueRunIdBytes() {
+        java.lang.Object ref = uniqueRunId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uniqueRunId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string unique_run_id = 1;</code>
+       * @param value The uniqueRunId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUniqueRunId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uniqueRunId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string unique_run_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUniqueRunId() {
+        uniqueRunId_ = getDefaultInstance().getUniqueRunId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string unique_run_id = 1;</code>
+       * @param value The bytes for uniqueRunId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUniqueRunIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uniqueRunId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Timestamp startTime_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> startTimeBuilder_;
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       * @return Whether the startTime field is set.
+       */
+      public boolean hasStartTime() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       * @return The startTime.
+       */
+      public com.google.protobuf.Timestamp getStartTime() {
+        if (startTimeBuilder_ == null) {
+          return startTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : startTime_;
+        } else {
+          return startTimeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public Builder setStartTime(com.google.protobuf.Timestamp value) {
+        if (startTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          startTime_ = value;
+        } else {
+          startTimeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public Builder setStartTime(
+          com.google.protobuf.Timestamp.Builder builderForValue) {
+        if (startTimeBuilder_ == null) {
+          startTime_ = builderForValue.build();
+        } else {
+          startTimeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public Builder mergeStartTime(com.google.protobuf.Timestamp value) {
+        if (startTimeBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            startTime_ != null &&
+            startTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
+            getStartTimeBuilder().mergeFrom(value);
           } else {
-            buildEndTimeBuilder_.mergeFrom(value);
+            startTime_ = value;
+          }
+        } else {
+          startTimeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public Builder clearStartTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startTime_ = null;
+        if (startTimeBuilder_ != null) {
+          startTimeBuilder_.dispose();
+          startTimeBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public com.google.protobuf.Timestamp.Builder getStartTimeBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getStartTimeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      public com.google.protobuf.TimestampOrBuilder getStartTimeOrBuilder() {
+        if (startTimeBuilder_ != null) {
+          return startTimeBuilder_.getMessageOrBuilder();
+        } else {
+          return startTime_ == null ?
+              com.google.protobuf.Timestamp.getDefaultInstance() : startTime_;
+        }
+      }
+      /**
+       * <code>.google.protobuf.Timestamp start_time = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
+          getStartTimeFieldBuilder() {
+        if (startTimeBuilder_ == null) {
+          startTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
+                  getStartTime(),
+                  getParentForChildren(),
+                  isClean());
+          startTime_ = null;
+        }
+        return startTimeBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList threads_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureThreadsIsMutable() {
+        if (!threads_.isModifiable()) {
+          threads_ = new com.google.protobuf.LazyStringArrayList(threads_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @return A list containing the threads.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getThreadsList() {
+        threads_.makeImmutable();
+        return threads_;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @return The count of threads.
+       */
+      public int getThreadsCount() {
+        return threads_.size();
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param index The index of the element to return.
+       * @return The threads at the given index.
+       */
+      public java.lang.String getThreads(int index) {
+        return threads_.get(index);
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the threads at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getThreadsBytes(int index) {
+        return threads_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The threads to set.
+       * @return This builder for chaining.
+       */
+      public Builder setThreads(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureThreadsIsMutable();
+        threads_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param value The threads to add.
+       * @return This builder for chaining.
+       */
+      public Builder addThreads(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureThreadsIsMutable();
+        threads_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param values The threads to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllThreads(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureThreadsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, threads_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearThreads() {
+        threads_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * TaskProfile.thread는 이 목록의 index
+       * </pre>
+       *
+       * <code>repeated string threads = 3;</code>
+       * @param value The bytes of the threads to add.
+       * @return This builder for chaining.
+       */
+      public Builder addThreadsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureThreadsIsMutable();
+        threads_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          tasks_ = new java.util.ArrayList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile>(tasks_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder, com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder> tasksBuilder_;
+
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder setTasks(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          bitField0_ |= 0x00000001;
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder setTasks(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder addTasks(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder addTasks(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder addTasks(
+          com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder addTasks(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends com.giyeok.bibix.repo.BibixRepoProto.TaskProfile> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
           onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;</code>
+       */
+      public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder, com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder, com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.ExecutionProfile)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.ExecutionProfile)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ExecutionProfile>
+        PARSER = new com.google.protobuf.AbstractParser<ExecutionProfile>() {
+      @java.lang.Override
+      public ExecutionProfile parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ExecutionProfile> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ExecutionProfile> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskProfileOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TaskProfile)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+     * @return The enum numeric value on the wire for kind.
+     */
+    int getKindValue();
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+     * @return The kind.
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind getKind();
+
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string target_id = 3;</code>
+     * @return The targetId.
+     */
+    java.lang.String getTargetId();
+    /**
+     * <code>string target_id = 3;</code>
+     * @return The bytes for targetId.
+     */
+    com.google.protobuf.ByteString
+        getTargetIdBytes();
+
+    /**
+     * <pre>
+     * 빌드 시작 시점부터의 시간
+     * </pre>
+     *
+     * <code>int64 start_micros = 4;</code>
+     * @return The startMicros.
+     */
+    long getStartMicros();
+
+    /**
+     * <code>int64 end_micros = 5;</code>
+     * @return The endMicros.
+     */
+    long getEndMicros();
+
+    /**
+     * <code>int32 thread = 6;</code>
+     * @return The thread.
+     */
+    int getThread();
+
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+     * @return The enum numeric value on the wire for cache.
+     */
+    int getCacheValue();
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+     * @return The cache.
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult getCache();
+
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+     * @return The enum numeric value on the wire for reuse.
+     */
+    int getReuseValue();
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+     * @return The reuse.
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource getReuse();
+
+    /**
+     * <pre>
+     * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+     * </pre>
+     *
+     * <code>int64 wait_micros = 9;</code>
+     * @return The waitMicros.
+     */
+    long getWaitMicros();
+
+    /**
+     * <code>bool failed = 10;</code>
+     * @return The failed.
+     */
+    boolean getFailed();
+  }
+  /**
+   * Protobuf type {@code com.giyeok.bibix.repo.TaskProfile}
+   */
+  public static final class TaskProfile extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TaskProfile)
+      TaskProfileOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskProfile.newBuilder() to construct.
+    private TaskProfile(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskProfile() {
+      kind_ = 0;
+      name_ = "";
+      targetId_ = "";
+      cache_ = 0;
+      reuse_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TaskProfile();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TaskProfile_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.class, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code com.giyeok.bibix.repo.TaskProfile.Kind}
+     */
+    public enum Kind
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <pre>
+       * task를 요청해서 최종 결과를 얻을 때까지
+       * </pre>
+       *
+       * <code>TASK = 0;</code>
+       */
+      TASK(0),
+      /**
+       * <pre>
+       * LongRunning body의 실행
+       * </pre>
+       *
+       * <code>BODY = 1;</code>
+       */
+      BODY(1),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <pre>
+       * task를 요청해서 최종 결과를 얻을 때까지
+       * </pre>
+       *
+       * <code>TASK = 0;</code>
+       */
+      public static final int TASK_VALUE = 0;
+      /**
+       * <pre>
+       * LongRunning body의 실행
+       * </pre>
+       *
+       * <code>BODY = 1;</code>
+       */
+      public static final int BODY_VALUE = 1;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Kind valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static Kind forNumber(int value) {
+        switch (value) {
+          case 0: return TASK;
+          case 1: return BODY;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Kind>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Kind> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Kind>() {
+              public Kind findValueByNumber(int number) {
+                return Kind.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Kind[] VALUES = values();
+
+      public static Kind valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Kind(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:com.giyeok.bibix.repo.TaskProfile.Kind)
+    }
+
+    /**
+     * Protobuf enum {@code com.giyeok.bibix.repo.TaskProfile.CacheResult}
+     */
+    public enum CacheResult
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>NOT_CACHED = 0;</code>
+       */
+      NOT_CACHED(0),
+      /**
+       * <code>MISS = 1;</code>
+       */
+      MISS(1),
+      /**
+       * <code>HIT = 2;</code>
+       */
+      HIT(2),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>NOT_CACHED = 0;</code>
+       */
+      public static final int NOT_CACHED_VALUE = 0;
+      /**
+       * <code>MISS = 1;</code>
+       */
+      public static final int MISS_VALUE = 1;
+      /**
+       * <code>HIT = 2;</code>
+       */
+      public static final int HIT_VALUE = 2;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static CacheResult valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static CacheResult forNumber(int value) {
+        switch (value) {
+          case 0: return NOT_CACHED;
+          case 1: return MISS;
+          case 2: return HIT;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<CacheResult>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          CacheResult> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<CacheResult>() {
+              public CacheResult findValueByNumber(int number) {
+                return CacheResult.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDescriptor().getEnumTypes().get(1);
+      }
+
+      private static final CacheResult[] VALUES = values();
+
+      public static CacheResult valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private CacheResult(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:com.giyeok.bibix.repo.TaskProfile.CacheResult)
+    }
+
+    /**
+     * Protobuf enum {@code com.giyeok.bibix.repo.TaskProfile.ReuseSource}
+     */
+    public enum ReuseSource
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>NOT_REUSED = 0;</code>
+       */
+      NOT_REUSED(0),
+      /**
+       * <pre>
+       * 같은 run에서 이미 빌드된 target
+       * </pre>
+       *
+       * <code>SAME_RUN = 1;</code>
+       */
+      SAME_RUN(1),
+      /**
+       * <pre>
+       * 이전 run에서 빌드된 target
+       * </pre>
+       *
+       * <code>PREVIOUS_RUN = 2;</code>
+       */
+      PREVIOUS_RUN(2),
+      /**
+       * <pre>
+       * 같은 run에서 빌드 중인 target의 결과를 기다려서 사용(DuplicateTargetResult)
+       * </pre>
+       *
+       * <code>DUPLICATE_TARGET = 3;</code>
+       */
+      DUPLICATE_TARGET(3),
+      /**
+       * <pre>
+       * remote cache에서 받아온 결과
+       * </pre>
+       *
+       * <code>REMOTE_CACHE = 4;</code>
+       */
+      REMOTE_CACHE(4),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>NOT_REUSED = 0;</code>
+       */
+      public static final int NOT_REUSED_VALUE = 0;
+      /**
+       * <pre>
+       * 같은 run에서 이미 빌드된 target
+       * </pre>
+       *
+       * <code>SAME_RUN = 1;</code>
+       */
+      public static final int SAME_RUN_VALUE = 1;
+      /**
+       * <pre>
+       * 이전 run에서 빌드된 target
+       * </pre>
+       *
+       * <code>PREVIOUS_RUN = 2;</code>
+       */
+      public static final int PREVIOUS_RUN_VALUE = 2;
+      /**
+       * <pre>
+       * 같은 run에서 빌드 중인 target의 결과를 기다려서 사용(DuplicateTargetResult)
+       * </pre>
+       *
+       * <code>DUPLICATE_TARGET = 3;</code>
+       */
+      public static final int DUPLICATE_TARGET_VALUE = 3;
+      /**
+       * <pre>
+       * remote cache에서 받아온 결과
+       * </pre>
+       *
+       * <code>REMOTE_CACHE = 4;</code>
+       */
+      public static final int REMOTE_CACHE_VALUE = 4;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ReuseSource valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static ReuseSource forNumber(int value) {
+        switch (value) {
+          case 0: return NOT_REUSED;
+          case 1: return SAME_RUN;
+          case 2: return PREVIOUS_RUN;
+          case 3: return DUPLICATE_TARGET;
+          case 4: return REMOTE_CACHE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<ReuseSource>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          ReuseSource> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<ReuseSource>() {
+              public ReuseSource findValueByNumber(int number) {
+                return ReuseSource.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDescriptor().getEnumTypes().get(2);
+      }
+
+      private static final ReuseSource[] VALUES = values();
+
+      public static ReuseSource valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private ReuseSource(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:com.giyeok.bibix.repo.TaskProfile.ReuseSource)
+    }
+
+    public static final int KIND_FIELD_NUMBER = 1;
+    private int kind_ = 0;
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+     * @return The enum numeric value on the wire for kind.
+     */
+    @java.lang.Override public int getKindValue() {
+      return kind_;
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+     * @return The kind.
+     */
+    @java.lang.Override public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind getKind() {
+      com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.forNumber(kind_);
+      return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.UNRECOGNIZED : result;
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_ID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object targetId_ = "";
+    /**
+     * <code>string target_id = 3;</code>
+     * @return The targetId.
+     */
+    @java.lang.Override
+    public java.lang.String getTargetId() {
+      java.lang.Object ref = targetId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        targetId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string target_id = 3;</code>
+     * @return The bytes for targetId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetIdBytes() {
+      java.lang.Object ref = targetId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        targetId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int START_MICROS_FIELD_NUMBER = 4;
+    private long startMicros_ = 0L;
+    /**
+     * <pre>
+     * 빌드 시작 시점부터의 시간
+     * </pre>
+     *
+     * <code>int64 start_micros = 4;</code>
+     * @return The startMicros.
+     */
+    @java.lang.Override
+    public long getStartMicros() {
+      return startMicros_;
+    }
+
+    public static final int END_MICROS_FIELD_NUMBER = 5;
+    private long endMicros_ = 0L;
+    /**
+     * <code>int64 end_micros = 5;</code>
+     * @return The endMicros.
+     */
+    @java.lang.Override
+    public long getEndMicros() {
+      return endMicros_;
+    }
+
+    public static final int THREAD_FIELD_NUMBER = 6;
+    private int thread_ = 0;
+    /**
+     * <code>int32 thread = 6;</code>
+     * @return The thread.
+     */
+    @java.lang.Override
+    public int getThread() {
+      return thread_;
+    }
+
+    public static final int CACHE_FIELD_NUMBER = 7;
+    private int cache_ = 0;
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+     * @return The enum numeric value on the wire for cache.
+     */
+    @java.lang.Override public int getCacheValue() {
+      return cache_;
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+     * @return The cache.
+     */
+    @java.lang.Override public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult getCache() {
+      com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.forNumber(cache_);
+      return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.UNRECOGNIZED : result;
+    }
+
+    public static final int REUSE_FIELD_NUMBER = 8;
+    private int reuse_ = 0;
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+     * @return The enum numeric value on the wire for reuse.
+     */
+    @java.lang.Override public int getReuseValue() {
+      return reuse_;
+    }
+    /**
+     * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+     * @return The reuse.
+     */
+    @java.lang.Override public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource getReuse() {
+      com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.forNumber(reuse_);
+      return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.UNRECOGNIZED : result;
+    }
+
+    public static final int WAIT_MICROS_FIELD_NUMBER = 9;
+    private long waitMicros_ = 0L;
+    /**
+     * <pre>
+     * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+     * </pre>
+     *
+     * <code>int64 wait_micros = 9;</code>
+     * @return The waitMicros.
+     */
+    @java.lang.Override
+    public long getWaitMicros() {
+      return waitMicros_;
+    }
+
+    public static final int FAILED_FIELD_NUMBER = 10;
+    private boolean failed_ = false;
+    /**
+     * <code>bool failed = 10;</code>
+     * @return The failed.
+     */
+    @java.lang.Override
+    public boolean getFailed() {
+      return failed_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (kind_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.TASK.getNumber()) {
+        output.writeEnum(1, kind_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(targetId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, targetId_);
+      }
+      if (startMicros_ != 0L) {
+        output.writeInt64(4, startMicros_);
+      }
+      if (endMicros_ != 0L) {
+        output.writeInt64(5, endMicros_);
+      }
+      if (thread_ != 0) {
+        output.writeInt32(6, thread_);
+      }
+      if (cache_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.NOT_CACHED.getNumber()) {
+        output.writeEnum(7, cache_);
+      }
+      if (reuse_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.NOT_REUSED.getNumber()) {
+        output.writeEnum(8, reuse_);
+      }
+      if (waitMicros_ != 0L) {
+        output.writeInt64(9, waitMicros_);
+      }
+      if (failed_ != false) {
+        output.writeBool(10, failed_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (kind_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.TASK.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, kind_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(targetId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, targetId_);
+      }
+      if (startMicros_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, startMicros_);
+      }
+      if (endMicros_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, endMicros_);
+      }
+      if (thread_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, thread_);
+      }
+      if (cache_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.NOT_CACHED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, cache_);
+      }
+      if (reuse_ != com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.NOT_REUSED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(8, reuse_);
+      }
+      if (waitMicros_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, waitMicros_);
+      }
+      if (failed_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, failed_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TaskProfile)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.TaskProfile other = (com.giyeok.bibix.repo.BibixRepoProto.TaskProfile) obj;
+
+      if (kind_ != other.kind_) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getTargetId()
+          .equals(other.getTargetId())) return false;
+      if (getStartMicros()
+          != other.getStartMicros()) return false;
+      if (getEndMicros()
+          != other.getEndMicros()) return false;
+      if (getThread()
+          != other.getThread()) return false;
+      if (cache_ != other.cache_) return false;
+      if (reuse_ != other.reuse_) return false;
+      if (getWaitMicros()
+          != other.getWaitMicros()) return false;
+      if (getFailed()
+          != other.getFailed()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KIND_FIELD_NUMBER;
+      hash = (53 * hash) + kind_;
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetId().hashCode();
+      hash = (37 * hash) + START_MICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStartMicros());
+      hash = (37 * hash) + END_MICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEndMicros());
+      hash = (37 * hash) + THREAD_FIELD_NUMBER;
+      hash = (53 * hash) + getThread();
+      hash = (37 * hash) + CACHE_FIELD_NUMBER;
+      hash = (53 * hash) + cache_;
+      hash = (37 * hash) + REUSE_FIELD_NUMBER;
+      hash = (53 * hash) + reuse_;
+      hash = (37 * hash) + WAIT_MICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getWaitMicros());
+      hash = (37 * hash) + FAILED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFailed());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.TaskProfile}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TaskProfile)
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfileOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TaskProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.class, com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        kind_ = 0;
+        name_ = "";
+        targetId_ = "";
+        startMicros_ = 0L;
+        endMicros_ = 0L;
+        thread_ = 0;
+        cache_ = 0;
+        reuse_ = 0;
+        waitMicros_ = 0L;
+        failed_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile build() {
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile result = new com.giyeok.bibix.repo.BibixRepoProto.TaskProfile(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.kind_ = kind_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.targetId_ = targetId_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.startMicros_ = startMicros_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.endMicros_ = endMicros_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.thread_ = thread_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.cache_ = cache_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.reuse_ = reuse_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.waitMicros_ = waitMicros_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.failed_ = failed_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TaskProfile) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TaskProfile)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        public Builder clearBuildEndTime() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          buildEndTime_ = null;
-          if (buildEndTimeBuilder_ != null) {
-            buildEndTimeBuilder_.dispose();
-            buildEndTimeBuilder_ = null;
-          }
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.getDefaultInstance()) return this;
+        if (other.kind_ != 0) {
+          setKindValue(other.getKindValue());
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
           onChanged();
-          return this;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        public com.google.protobuf.Timestamp.Builder getBuildEndTimeBuilder() {
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return getBuildEndTimeFieldBuilder().getBuilder();
+        if (!other.getTargetId().isEmpty()) {
+          targetId_ = other.targetId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getStartMicros() != 0L) {
+          setStartMicros(other.getStartMicros());
+        }
+        if (other.getEndMicros() != 0L) {
+          setEndMicros(other.getEndMicros());
+        }
+        if (other.getThread() != 0) {
+          setThread(other.getThread());
+        }
+        if (other.cache_ != 0) {
+          setCacheValue(other.getCacheValue());
+        }
+        if (other.reuse_ != 0) {
+          setReuseValue(other.getReuseValue());
+        }
+        if (other.getWaitMicros() != 0L) {
+          setWaitMicros(other.getWaitMicros());
+        }
+        if (other.getFailed() != false) {
+          setFailed(other.getFailed());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                kind_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                targetId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                startMicros_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                endMicros_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                thread_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                cache_ = input.readEnum();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                reuse_ = input.readEnum();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                waitMicros_ = input.readInt64();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 80: {
+                failed_ = input.readBool();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int kind_ = 0;
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+       * @return The enum numeric value on the wire for kind.
+       */
+      @java.lang.Override public int getKindValue() {
+        return kind_;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+       * @param value The enum numeric value on the wire for kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKindValue(int value) {
+        kind_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+       * @return The kind.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind getKind() {
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.forNumber(kind_);
+        return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+       * @param value The kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKind(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        kind_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKind() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        kind_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object targetId_ = "";
+      /**
+       * <code>string target_id = 3;</code>
+       * @return The targetId.
+       */
+      public java.lang.String getTargetId() {
+        java.lang.Object ref = targetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          targetId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string target_id = 3;</code>
+       * @return The bytes for targetId.
+       */
+      public com.google.protobuf.ByteString
+          getTargetIdBytes() {
+        java.lang.Object ref = targetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          targetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        public com.google.protobuf.TimestampOrBuilder getBuildEndTimeOrBuilder() {
-          if (buildEndTimeBuilder_ != null) {
-            return buildEndTimeBuilder_.getMessageOrBuilder();
-          } else {
-            return buildEndTime_ == null ?
-                com.google.protobuf.Timestamp.getDefaultInstance() : buildEndTime_;
-          }
+      }
+      /**
+       * <code>string target_id = 3;</code>
+       * @param value The targetId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        targetId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTargetId() {
+        targetId_ = getDefaultInstance().getTargetId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target_id = 3;</code>
+       * @param value The bytes for targetId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        targetId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long startMicros_ ;
+      /**
+       * <pre>
+       * 빌드 시작 시점부터의 시간
+       * </pre>
+       *
+       * <code>int64 start_micros = 4;</code>
+       * @return The startMicros.
+       */
+      @java.lang.Override
+      public long getStartMicros() {
+        return startMicros_;
+      }
+      /**
+       * <pre>
+       * 빌드 시작 시점부터의 시간
+       * </pre>
+       *
+       * <code>int64 start_micros = 4;</code>
+       * @param value The startMicros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartMicros(long value) {
+
+        startMicros_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 빌드 시작 시점부터의 시간
+       * </pre>
+       *
+       * <code>int64 start_micros = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartMicros() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        startMicros_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long endMicros_ ;
+      /**
+       * <code>int64 end_micros = 5;</code>
+       * @return The endMicros.
+       */
+      @java.lang.Override
+      public long getEndMicros() {
+        return endMicros_;
+      }
+      /**
+       * <code>int64 end_micros = 5;</code>
+       * @param value The endMicros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndMicros(long value) {
+
+        endMicros_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 end_micros = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndMicros() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        endMicros_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int thread_ ;
+      /**
+       * <code>int32 thread = 6;</code>
+       * @return The thread.
+       */
+      @java.lang.Override
+      public int getThread() {
+        return thread_;
+      }
+      /**
+       * <code>int32 thread = 6;</code>
+       * @param value The thread to set.
+       * @return This builder for chaining.
+       */
+      public Builder setThread(int value) {
+
+        thread_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 thread = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearThread() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        thread_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int cache_ = 0;
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+       * @return The enum numeric value on the wire for cache.
+       */
+      @java.lang.Override public int getCacheValue() {
+        return cache_;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+       * @param value The enum numeric value on the wire for cache to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCacheValue(int value) {
+        cache_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+       * @return The cache.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult getCache() {
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.forNumber(cache_);
+        return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+       * @param value The cache to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCache(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_end_time = 1;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
-            getBuildEndTimeFieldBuilder() {
-          if (buildEndTimeBuilder_ == null) {
-            buildEndTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-                com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
-                    getBuildEndTime(),
-                    getParentForChildren(),
-                    isClean());
-            buildEndTime_ = null;
-          }
-          return buildEndTimeBuilder_;
+        bitField0_ |= 0x00000040;
+        cache_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCache() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        cache_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int reuse_ = 0;
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+       * @return The enum numeric value on the wire for reuse.
+       */
+      @java.lang.Override public int getReuseValue() {
+        return reuse_;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+       * @param value The enum numeric value on the wire for reuse to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReuseValue(int value) {
+        reuse_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+       * @return The reuse.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource getReuse() {
+        com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource result = com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.forNumber(reuse_);
+        return result == null ? com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+       * @param value The reuse to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReuse(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000080;
+        reuse_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReuse() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        reuse_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long waitMicros_ ;
+      /**
+       * <pre>
+       * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+       * </pre>
+       *
+       * <code>int64 wait_micros = 9;</code>
+       * @return The waitMicros.
+       */
+      @java.lang.Override
+      public long getWaitMicros() {
+        return waitMicros_;
+      }
+      /**
+       * <pre>
+       * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+       * </pre>
+       *
+       * <code>int64 wait_micros = 9;</code>
+       * @param value The waitMicros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWaitMicros(long value) {
+
+        waitMicros_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+       * </pre>
+       *
+       * <code>int64 wait_micros = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWaitMicros() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        waitMicros_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean failed_ ;
+      /**
+       * <code>bool failed = 10;</code>
+       * @return The failed.
+       */
+      @java.lang.Override
+      public boolean getFailed() {
+        return failed_;
+      }
+      /**
+       * <code>bool failed = 10;</code>
+       * @param value The failed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFailed(boolean value) {
+
+        failed_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool failed = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFailed() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        failed_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TaskProfile)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TaskProfile)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.TaskProfile DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TaskProfile();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskProfile>
+        PARSER = new com.google.protobuf.AbstractParser<TaskProfile>() {
+      @java.lang.Override
+      public TaskProfile parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
         }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskProfile> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskProfile> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.TaskProfile getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RemoteCacheEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.RemoteCacheEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     * @return Whether the resultValue field is set.
+     */
+    boolean hasResultValue();
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     * @return The resultValue.
+     */
+    com.giyeok.bibix.BibixValueProto.BibixValue getResultValue();
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     */
+    com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder();
+
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> 
+        getFilesList();
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getFiles(int index);
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    int getFilesCount();
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder getFilesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * remote cache에 저장되는 target 결과 하나. /v1/entries/&lt;remote cache key&gt;에 저장된다
+   * </pre>
+   *
+   * Protobuf type {@code com.giyeok.bibix.repo.RemoteCacheEntry}
+   */
+  public static final class RemoteCacheEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.RemoteCacheEntry)
+      RemoteCacheEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RemoteCacheEntry.newBuilder() to construct.
+    private RemoteCacheEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RemoteCacheEntry() {
+      files_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RemoteCacheEntry();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.class, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.Builder.class);
+    }
+
+    public static final int RESULT_VALUE_FIELD_NUMBER = 1;
+    private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     * @return Whether the resultValue field is set.
+     */
+    @java.lang.Override
+    public boolean hasResultValue() {
+      return resultValue_ != null;
+    }
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     * @return The resultValue.
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
+      return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+    }
+    /**
+     * <pre>
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
+      return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+    }
+
+    public static final int FILES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> files_;
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> getFilesList() {
+      return files_;
+    }
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    @java.lang.Override
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <pre>
+     * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+     * </pre>
+     *
+     * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+     */
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (resultValue_ != null) {
+        output.writeMessage(1, getResultValue());
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(2, files_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (resultValue_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getResultValue());
+      }
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, files_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry other = (com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry) obj;
+
+      if (hasResultValue() != other.hasResultValue()) return false;
+      if (hasResultValue()) {
+        if (!getResultValue()
+            .equals(other.getResultValue())) return false;
+      }
+      if (!getFilesList()
+          .equals(other.getFilesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasResultValue()) {
+        hash = (37 * hash) + RESULT_VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getResultValue().hashCode();
+      }
+      if (getFilesCount() > 0) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + getFilesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
 
-        private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> resultValueBuilder_;
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         * @return Whether the resultValue field is set.
-         */
-        public boolean hasResultValue() {
-          return ((bitField0_ & 0x00000002) != 0);
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         * @return The resultValue.
-         */
-        public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
-          if (resultValueBuilder_ == null) {
-            return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
-          } else {
-            return resultValueBuilder_.getMessage();
-          }
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public Builder setResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
-          if (resultValueBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            resultValue_ = value;
-          } else {
-            resultValueBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000002;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public Builder setResultValue(
-            com.giyeok.bibix.BibixValueProto.BibixValue.Builder builderForValue) {
-          if (resultValueBuilder_ == null) {
-            resultValue_ = builderForValue.build();
-          } else {
-            resultValueBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000002;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public Builder mergeResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
-          if (resultValueBuilder_ == null) {
-            if (((bitField0_ & 0x00000002) != 0) &&
-              resultValue_ != null &&
-              resultValue_ != com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance()) {
-              getResultValueBuilder().mergeFrom(value);
-            } else {
-              resultValue_ = value;
-            }
-          } else {
-            resultValueBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000002;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public Builder clearResultValue() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          resultValue_ = null;
-          if (resultValueBuilder_ != null) {
-            resultValueBuilder_.dispose();
-            resultValueBuilder_ = null;
-          }
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public com.giyeok.bibix.BibixValueProto.BibixValue.Builder getResultValueBuilder() {
-          bitField0_ |= 0x00000002;
-          onChanged();
-          return getResultValueFieldBuilder().getBuilder();
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
-          if (resultValueBuilder_ != null) {
-            return resultValueBuilder_.getMessageOrBuilder();
-          } else {
-            return resultValue_ == null ?
-                com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
-          }
-        }
-        /**
-         * <code>.com.giyeok.bibix.BibixValue result_value = 2;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> 
-            getResultValueFieldBuilder() {
-          if (resultValueBuilder_ == null) {
-            resultValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-                com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder>(
-                    getResultValue(),
-                    getParentForChildren(),
-                    isClean());
-            resultValue_ = null;
-          }
-          return resultValueBuilder_;
-        }
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
 
-        private com.google.protobuf.ByteString objectId_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <pre>
-         * object id는 뭐지 근데..?
-         * </pre>
-         *
-         * <code>optional bytes object_id = 3;</code>
-         * @return Whether the objectId field is set.
-         */
-        @java.lang.Override
-        public boolean hasObjectId() {
-          return ((bitField0_ & 0x00000004) != 0);
-        }
-        /**
-         * <pre>
-         * object id는 뭐지 근데..?
-         * </pre>
-         *
-         * <code>optional bytes object_id = 3;</code>
-         * @return The objectId.
-         */
-        @java.lang.Override
-        public com.google.protobuf.ByteString getObjectId() {
-          return objectId_;
-        }
-        /**
-         * <pre>
-         * object id는 뭐지 근데..?
-         * </pre>
-         *
-         * <code>optional bytes object_id = 3;</code>
-         * @param value The objectId to set.
-         * @return This builder for chaining.
-         */
-        public Builder setObjectId(com.google.protobuf.ByteString value) {
-          if (value == null) { throw new NullPointerException(); }
-          objectId_ = value;
-          bitField0_ |= 0x00000004;
-          onChanged();
-          return this;
-        }
-        /**
-         * <pre>
-         * object id는 뭐지 근데..?
-         * </pre>
-         *
-         * <code>optional bytes object_id = 3;</code>
-         * @return This builder for chaining.
-         */
-        public Builder clearObjectId() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          objectId_ = getDefaultInstance().getObjectId();
-          onChanged();
-          return this;
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * remote cache에 저장되는 target 결과 하나. /v1/entries/&lt;remote cache key&gt;에 저장된다
+     * </pre>
+     *
+     * Protobuf type {@code com.giyeok.bibix.repo.RemoteCacheEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.RemoteCacheEntry)
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.class, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.Builder.class);
+      }
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        resultValue_ = null;
+        if (resultValueBuilder_ != null) {
+          resultValueBuilder_.dispose();
+          resultValueBuilder_ = null;
         }
-        @java.lang.Override
-        public final Builder setUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.setUnknownFields(unknownFields);
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+        } else {
+          files_ = null;
+          filesBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
 
-        @java.lang.Override
-        public final Builder mergeUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.mergeUnknownFields(unknownFields);
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry build() {
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry result = new com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
 
-        // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
+      private void buildPartialRepeatedFields(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry result) {
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
       }
 
-      // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState.BuildSucceeded)
-      private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded DEFAULT_INSTANCE;
-      static {
-        DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded();
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.resultValue_ = resultValueBuilder_ == null
+              ? resultValue_
+              : resultValueBuilder_.build();
+        }
       }
 
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstance() {
-        return DEFAULT_INSTANCE;
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
 
-      private static final com.google.protobuf.Parser<BuildSucceeded>
-          PARSER = new com.google.protobuf.AbstractParser<BuildSucceeded>() {
-        @java.lang.Override
-        public BuildSucceeded parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          Builder builder = newBuilder();
-          try {
-            builder.mergeFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            throw e.setUnfinishedMessage(builder.buildPartial());
-          } catch (com.google.protobuf.UninitializedMessageException e) {
-            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-          } catch (java.io.IOException e) {
-            throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                .setUnfinishedMessage(builder.buildPartial());
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.getDefaultInstance()) return this;
+        if (other.hasResultValue()) {
+          mergeResultValue(other.getResultValue());
+        }
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
           }
-          return builder.buildPartial();
         }
-      };
-
-      public static com.google.protobuf.Parser<BuildSucceeded> parser() {
-        return PARSER;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<BuildSucceeded> getParserForType() {
-        return PARSER;
+      public final boolean isInitialized() {
+        return true;
       }
 
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getDefaultInstanceForType() {
-        return DEFAULT_INSTANCE;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getResultValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile m =
+                    input.readMessage(
+                        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.parser(),
+                        extensionRegistry);
+                if (filesBuilder_ == null) {
+                  ensureFilesIsMutable();
+                  files_.add(m);
+                } else {
+                  filesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.giyeok.bibix.BibixValueProto.BibixValue resultValue_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> resultValueBuilder_;
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       * @return Whether the resultValue field is set.
+       */
+      public boolean hasResultValue() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       * @return The resultValue.
+       */
+      public com.giyeok.bibix.BibixValueProto.BibixValue getResultValue() {
+        if (resultValueBuilder_ == null) {
+          return resultValue_ == null ? com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+        } else {
+          return resultValueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public Builder setResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
+        if (resultValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resultValue_ = value;
+        } else {
+          resultValueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public Builder setResultValue(
+          com.giyeok.bibix.BibixValueProto.BibixValue.Builder builderForValue) {
+        if (resultValueBuilder_ == null) {
+          resultValue_ = builderForValue.build();
+        } else {
+          resultValueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public Builder mergeResultValue(com.giyeok.bibix.BibixValueProto.BibixValue value) {
+        if (resultValueBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            resultValue_ != null &&
+            resultValue_ != com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance()) {
+            getResultValueBuilder().mergeFrom(value);
+          } else {
+            resultValue_ = value;
+          }
+        } else {
+          resultValueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public Builder clearResultValue() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        resultValue_ = null;
+        if (resultValueBuilder_ != null) {
+          resultValueBuilder_.dispose();
+          resultValueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public com.giyeok.bibix.BibixValueProto.BibixValue.Builder getResultValueBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getResultValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      public com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder getResultValueOrBuilder() {
+        if (resultValueBuilder_ != null) {
+          return resultValueBuilder_.getMessageOrBuilder();
+        } else {
+          return resultValue_ == null ?
+              com.giyeok.bibix.BibixValueProto.BibixValue.getDefaultInstance() : resultValue_;
+        }
+      }
+      /**
+       * <pre>
+       * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+       * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.BibixValue result_value = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder> 
+          getResultValueFieldBuilder() {
+        if (resultValueBuilder_ == null) {
+          resultValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.giyeok.bibix.BibixValueProto.BibixValue, com.giyeok.bibix.BibixValueProto.BibixValue.Builder, com.giyeok.bibix.BibixValueProto.BibixValueOrBuilder>(
+                  getResultValue(),
+                  getParentForChildren(),
+                  isClean());
+          resultValue_ = null;
+        }
+        return resultValueBuilder_;
+      }
+
+      private java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          files_ = new java.util.ArrayList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile>(files_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
-    }
-
-    public interface BuildFailedOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.TargetState.BuildFailed)
-        com.google.protobuf.MessageOrBuilder {
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder> filesBuilder_;
 
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-       * @return Whether the buildFailTime field is set.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      boolean hasBuildFailTime();
+      public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-       * @return The buildFailTime.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      com.google.protobuf.Timestamp getBuildFailTime();
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder();
-
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
       /**
-       * <code>string error_message = 2;</code>
-       * @return The errorMessage.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      java.lang.String getErrorMessage();
+      public Builder setFiles(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
       /**
-       * <code>string error_message = 2;</code>
-       * @return The bytes for errorMessage.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      com.google.protobuf.ByteString
-          getErrorMessageBytes();
-    }
-    /**
-     * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildFailed}
-     */
-    public static final class BuildFailed extends
-        com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.TargetState.BuildFailed)
-        BuildFailedOrBuilder {
-    private static final long serialVersionUID = 0L;
-      // Use BuildFailed.newBuilder() to construct.
-      private BuildFailed(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-        super(builder);
-      }
-      private BuildFailed() {
-        errorMessage_ = "";
-      }
-
-      @java.lang.Override
-      @SuppressWarnings({"unused"})
-      protected java.lang.Object newInstance(
-          UnusedPrivateParameter unused) {
-        return new BuildFailed();
-      }
-
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder.class);
+      public Builder setFiles(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      public static final int BUILD_FAIL_TIME_FIELD_NUMBER = 1;
-      private com.google.protobuf.Timestamp buildFailTime_;
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-       * @return Whether the buildFailTime field is set.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      @java.lang.Override
-      public boolean hasBuildFailTime() {
-        return buildFailTime_ != null;
+      public Builder addFiles(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
       }
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-       * @return The buildFailTime.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      @java.lang.Override
-      public com.google.protobuf.Timestamp getBuildFailTime() {
-        return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+      public Builder addFiles(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      @java.lang.Override
-      public com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder() {
-        return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
+      public Builder addFiles(
+          com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
-
-      public static final int ERROR_MESSAGE_FIELD_NUMBER = 2;
-      @SuppressWarnings("serial")
-      private volatile java.lang.Object errorMessage_ = "";
       /**
-       * <code>string error_message = 2;</code>
-       * @return The errorMessage.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      @java.lang.Override
-      public java.lang.String getErrorMessage() {
-        java.lang.Object ref = errorMessage_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
+      public Builder addFiles(
+          int index, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          errorMessage_ = s;
-          return s;
+          filesBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>string error_message = 2;</code>
-       * @return The bytes for errorMessage.
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
        */
-      @java.lang.Override
-      public com.google.protobuf.ByteString
-          getErrorMessageBytes() {
-        java.lang.Object ref = errorMessage_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          errorMessage_ = b;
-          return b;
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, files_);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          filesBuilder_.addAllMessages(values);
         }
+        return this;
       }
-
-      private byte memoizedIsInitialized = -1;
-      @java.lang.Override
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
-      }
-
-      @java.lang.Override
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (buildFailTime_ != null) {
-          output.writeMessage(1, getBuildFailTime());
-        }
-        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
-          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, errorMessage_);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
         }
-        getUnknownFields().writeTo(output);
+        return this;
       }
-
-      @java.lang.Override
-      public int getSerializedSize() {
-        int size = memoizedSize;
-        if (size != -1) return size;
-
-        size = 0;
-        if (buildFailTime_ != null) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, getBuildFailTime());
-        }
-        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
-          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, errorMessage_);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSize = size;
-        return size;
+        return this;
       }
-
-      @java.lang.Override
-      public boolean equals(final java.lang.Object obj) {
-        if (obj == this) {
-         return true;
-        }
-        if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed)) {
-          return super.equals(obj);
-        }
-        com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) obj;
-
-        if (hasBuildFailTime() != other.hasBuildFailTime()) return false;
-        if (hasBuildFailTime()) {
-          if (!getBuildFailTime()
-              .equals(other.getBuildFailTime())) return false;
-        }
-        if (!getErrorMessage()
-            .equals(other.getErrorMessage())) return false;
-        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-        return true;
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
       }
-
-      @java.lang.Override
-      public int hashCode() {
-        if (memoizedHashCode != 0) {
-          return memoizedHashCode;
-        }
-        int hash = 41;
-        hash = (19 * hash) + getDescriptor().hashCode();
-        if (hasBuildFailTime()) {
-          hash = (37 * hash) + BUILD_FAIL_TIME_FIELD_NUMBER;
-          hash = (53 * hash) + getBuildFailTime().hashCode();
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
         }
-        hash = (37 * hash) + ERROR_MESSAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getErrorMessage().hashCode();
-        hash = (29 * hash) + getUnknownFields().hashCode();
-        memoizedHashCode = hash;
-        return hash;
       }
-
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          java.nio.ByteBuffer data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public java.util.List<? extends com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          java.nio.ByteBuffer data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.getDefaultInstance());
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.getDefaultInstance());
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      /**
+       * <pre>
+       * object 폴더의 파일들. 내용은 /v1/blobs/&lt;sha256&gt;에 저장된다
+       * </pre>
+       *
+       * <code>repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;</code>
+       */
+      public java.util.List<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          java.io.InputStream input,
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.RemoteCacheEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.RemoteCacheEntry)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RemoteCacheEntry>
+        PARSER = new com.google.protobuf.AbstractParser<RemoteCacheEntry>() {
+      @java.lang.Override
+      public RemoteCacheEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input);
+    };
+
+    public static com.google.protobuf.Parser<RemoteCacheEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RemoteCacheEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RemoteCacheFileOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.RemoteCacheFile)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    java.lang.String getPath();
+    /**
+     * <pre>
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>bytes sha256 = 2;</code>
+     * @return The sha256.
+     */
+    com.google.protobuf.ByteString getSha256();
+
+    /**
+     * <code>int64 size = 3;</code>
+     * @return The size.
+     */
+    long getSize();
+
+    /**
+     * <code>bool executable = 4;</code>
+     * @return The executable.
+     */
+    boolean getExecutable();
+  }
+  /**
+   * Protobuf type {@code com.giyeok.bibix.repo.RemoteCacheFile}
+   */
+  public static final class RemoteCacheFile extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.RemoteCacheFile)
+      RemoteCacheFileOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RemoteCacheFile.newBuilder() to construct.
+    private RemoteCacheFile(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RemoteCacheFile() {
+      path_ = "";
+      sha256_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RemoteCacheFile();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheFile_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.class, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder.class);
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object path_ = "";
+    /**
+     * <pre>
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    @java.lang.Override
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    /**
+     * <pre>
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
+    }
+
+    public static final int SHA256_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString sha256_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes sha256 = 2;</code>
+     * @return The sha256.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getSha256() {
+      return sha256_;
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 3;
+    private long size_ = 0L;
+    /**
+     * <code>int64 size = 3;</code>
+     * @return The size.
+     */
+    @java.lang.Override
+    public long getSize() {
+      return size_;
+    }
+
+    public static final int EXECUTABLE_FIELD_NUMBER = 4;
+    private boolean executable_ = false;
+    /**
+     * <code>bool executable = 4;</code>
+     * @return The executable.
+     */
+    @java.lang.Override
+    public boolean getExecutable() {
+      return executable_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(path_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
       }
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
+      if (!sha256_.isEmpty()) {
+        output.writeBytes(2, sha256_);
       }
+      if (size_ != 0L) {
+        output.writeInt64(3, size_);
+      }
+      if (executable_ != false) {
+        output.writeBool(4, executable_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-      @java.lang.Override
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder() {
-        return DEFAULT_INSTANCE.toBuilder();
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(path_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
       }
-      public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed prototype) {
-        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      if (!sha256_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, sha256_);
       }
-      @java.lang.Override
-      public Builder toBuilder() {
-        return this == DEFAULT_INSTANCE
-            ? new Builder() : new Builder().mergeFrom(this);
+      if (size_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, size_);
       }
-
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+      if (executable_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, executable_);
       }
-      /**
-       * Protobuf type {@code com.giyeok.bibix.repo.TargetState.BuildFailed}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState.BuildFailed)
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
-        }
-
-        @java.lang.Override
-        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder.class);
-        }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
 
-        // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.newBuilder()
-        private Builder() {
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile)) {
+        return super.equals(obj);
+      }
+      com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile other = (com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile) obj;
 
-        }
+      if (!getPath()
+          .equals(other.getPath())) return false;
+      if (!getSha256()
+          .equals(other.getSha256())) return false;
+      if (getSize()
+          != other.getSize()) return false;
+      if (getExecutable()
+          != other.getExecutable()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-          super(parent);
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + SHA256_FIELD_NUMBER;
+      hash = (53 * hash) + getSha256().hashCode();
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSize());
+      hash = (37 * hash) + EXECUTABLE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getExecutable());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
 
-        }
-        @java.lang.Override
-        public Builder clear() {
-          super.clear();
-          bitField0_ = 0;
-          buildFailTime_ = null;
-          if (buildFailTimeBuilder_ != null) {
-            buildFailTimeBuilder_.dispose();
-            buildFailTimeBuilder_ = null;
-          }
-          errorMessage_ = "";
-          return this;
-        }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
 
-        @java.lang.Override
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor;
-        }
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstanceForType() {
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
-        }
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.RemoteCacheFile}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.RemoteCacheFile)
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFileOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor;
+      }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed build() {
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheFile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.class, com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder.class);
+      }
 
-        @java.lang.Override
-        public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed buildPartial() {
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed(this);
-          if (bitField0_ != 0) { buildPartial0(result); }
-          onBuilt();
-          return result;
-        }
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.newBuilder()
+      private Builder() {
 
-        private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed result) {
-          int from_bitField0_ = bitField0_;
-          if (((from_bitField0_ & 0x00000001) != 0)) {
-            result.buildFailTime_ = buildFailTimeBuilder_ == null
-                ? buildFailTime_
-                : buildFailTimeBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000002) != 0)) {
-            result.errorMessage_ = errorMessage_;
-          }
-        }
+      }
 
-        @java.lang.Override
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) {
-            return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
 
-        public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed other) {
-          if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance()) return this;
-          if (other.hasBuildFailTime()) {
-            mergeBuildFailTime(other.getBuildFailTime());
-          }
-          if (!other.getErrorMessage().isEmpty()) {
-            errorMessage_ = other.errorMessage_;
-            bitField0_ |= 0x00000002;
-            onChanged();
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          onChanged();
-          return this;
-        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        path_ = "";
+        sha256_ = com.google.protobuf.ByteString.EMPTY;
+        size_ = 0L;
+        executable_ = false;
+        return this;
+      }
 
-        @java.lang.Override
-        public final boolean isInitialized() {
-          return true;
-        }
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor;
+      }
 
-        @java.lang.Override
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          if (extensionRegistry == null) {
-            throw new java.lang.NullPointerException();
-          }
-          try {
-            boolean done = false;
-            while (!done) {
-              int tag = input.readTag();
-              switch (tag) {
-                case 0:
-                  done = true;
-                  break;
-                case 10: {
-                  input.readMessage(
-                      getBuildFailTimeFieldBuilder().getBuilder(),
-                      extensionRegistry);
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 10
-                case 18: {
-                  errorMessage_ = input.readStringRequireUtf8();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 18
-                default: {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
-              } // switch (tag)
-            } // while (!done)
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            throw e.unwrapIOException();
-          } finally {
-            onChanged();
-          } // finally
-          return this;
-        }
-        private int bitField0_;
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.getDefaultInstance();
+      }
 
-        private com.google.protobuf.Timestamp buildFailTime_;
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildFailTimeBuilder_;
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         * @return Whether the buildFailTime field is set.
-         */
-        public boolean hasBuildFailTime() {
-          return ((bitField0_ & 0x00000001) != 0);
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         * @return The buildFailTime.
-         */
-        public com.google.protobuf.Timestamp getBuildFailTime() {
-          if (buildFailTimeBuilder_ == null) {
-            return buildFailTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
-          } else {
-            return buildFailTimeBuilder_.getMessage();
-          }
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public Builder setBuildFailTime(com.google.protobuf.Timestamp value) {
-          if (buildFailTimeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            buildFailTime_ = value;
-          } else {
-            buildFailTimeBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public Builder setBuildFailTime(
-            com.google.protobuf.Timestamp.Builder builderForValue) {
-          if (buildFailTimeBuilder_ == null) {
-            buildFailTime_ = builderForValue.build();
-          } else {
-            buildFailTimeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public Builder mergeBuildFailTime(com.google.protobuf.Timestamp value) {
-          if (buildFailTimeBuilder_ == null) {
-            if (((bitField0_ & 0x00000001) != 0) &&
-              buildFailTime_ != null &&
-              buildFailTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
-              getBuildFailTimeBuilder().mergeFrom(value);
-            } else {
-              buildFailTime_ = value;
-            }
-          } else {
-            buildFailTimeBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return this;
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile build() {
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public Builder clearBuildFailTime() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          buildFailTime_ = null;
-          if (buildFailTimeBuilder_ != null) {
-            buildFailTimeBuilder_.dispose();
-            buildFailTimeBuilder_ = null;
-          }
-          onChanged();
-          return this;
+        return result;
+      }
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile result = new com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.path_ = path_;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public com.google.protobuf.Timestamp.Builder getBuildFailTimeBuilder() {
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return getBuildFailTimeFieldBuilder().getBuilder();
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sha256_ = sha256_;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        public com.google.protobuf.TimestampOrBuilder getBuildFailTimeOrBuilder() {
-          if (buildFailTimeBuilder_ != null) {
-            return buildFailTimeBuilder_.getMessageOrBuilder();
-          } else {
-            return buildFailTime_ == null ?
-                com.google.protobuf.Timestamp.getDefaultInstance() : buildFailTime_;
-          }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.size_ = size_;
         }
-        /**
-         * <code>.google.protobuf.Timestamp build_fail_time = 1;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilderV3<
-            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
-            getBuildFailTimeFieldBuilder() {
-          if (buildFailTimeBuilder_ == null) {
-            buildFailTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-                com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
-                    getBuildFailTime(),
-                    getParentForChildren(),
-                    isClean());
-            buildFailTime_ = null;
-          }
-          return buildFailTimeBuilder_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.executable_ = executable_;
         }
+      }
 
-        private java.lang.Object errorMessage_ = "";
-        /**
-         * <code>string error_message = 2;</code>
-         * @return The errorMessage.
-         */
-        public java.lang.String getErrorMessage() {
-          java.lang.Object ref = errorMessage_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            errorMessage_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>string error_message = 2;</code>
-         * @return The bytes for errorMessage.
-         */
-        public com.google.protobuf.ByteString
-            getErrorMessageBytes() {
-          java.lang.Object ref = errorMessage_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            errorMessage_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
-        }
-        /**
-         * <code>string error_message = 2;</code>
-         * @param value The errorMessage to set.
-         * @return This builder for chaining.
-         */
-        public Builder setErrorMessage(
-            java.lang.String value) {
-          if (value == null) { throw new NullPointerException(); }
-          errorMessage_ = value;
-          bitField0_ |= 0x00000002;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>string error_message = 2;</code>
-         * @return This builder for chaining.
-         */
-        public Builder clearErrorMessage() {
-          errorMessage_ = getDefaultInstance().getErrorMessage();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
-        /**
-         * <code>string error_message = 2;</code>
-         * @param value The bytes for errorMessage to set.
-         * @return This builder for chaining.
-         */
-        public Builder setErrorMessageBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) { throw new NullPointerException(); }
-          checkByteStringIsUtf8(value);
-          errorMessage_ = value;
-          bitField0_ |= 0x00000002;
+      }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
+          bitField0_ |= 0x00000001;
           onChanged();
-          return this;
         }
-        @java.lang.Override
-        public final Builder setUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.setUnknownFields(unknownFields);
+        if (other.getSha256() != com.google.protobuf.ByteString.EMPTY) {
+          setSha256(other.getSha256());
         }
-
-        @java.lang.Override
-        public final Builder mergeUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.mergeUnknownFields(unknownFields);
+        if (other.getSize() != 0L) {
+          setSize(other.getSize());
         }
-
-
-        // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState.BuildFailed)
+        if (other.getExecutable() != false) {
+          setExecutable(other.getExecutable());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState.BuildFailed)
-      private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed DEFAULT_INSTANCE;
-      static {
-        DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed();
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
 
-      public static com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstance() {
-        return DEFAULT_INSTANCE;
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                path_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                sha256_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                size_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                executable_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
       }
+      private int bitField0_;
 
-      private static final com.google.protobuf.Parser<BuildFailed>
-          PARSER = new com.google.protobuf.AbstractParser<BuildFailed>() {
-        @java.lang.Override
-        public BuildFailed parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          Builder builder = newBuilder();
-          try {
-            builder.mergeFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            throw e.setUnfinishedMessage(builder.buildPartial());
-          } catch (com.google.protobuf.UninitializedMessageException e) {
-            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-          } catch (java.io.IOException e) {
-            throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                .setUnfinishedMessage(builder.buildPartial());
-          }
-          return builder.buildPartial();
+      private java.lang.Object path_ = "";
+      /**
+       * <pre>
+       * object 폴더 기준의 상대 경로. '/'로 구분한다
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-      };
-
-      public static com.google.protobuf.Parser<BuildFailed> parser() {
-        return PARSER;
+      }
+      /**
+       * <pre>
+       * object 폴더 기준의 상대 경로. '/'로 구분한다
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       * @return The bytes for path.
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * object 폴더 기준의 상대 경로. '/'로 구분한다
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       * @param value The path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * object 폴더 기준의 상대 경로. '/'로 구분한다
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPath() {
+        path_ = getDefaultInstance().getPath();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * object 폴더 기준의 상대 경로. '/'로 구분한다
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       * @param value The bytes for path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
 
+      private com.google.protobuf.ByteString sha256_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes sha256 = 2;</code>
+       * @return The sha256.
+       */
       @java.lang.Override
-      public com.google.protobuf.Parser<BuildFailed> getParserForType() {
-        return PARSER;
+      public com.google.protobuf.ByteString getSha256() {
+        return sha256_;
+      }
+      /**
+       * <code>bytes sha256 = 2;</code>
+       * @param value The sha256 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSha256(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        sha256_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes sha256 = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSha256() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sha256_ = getDefaultInstance().getSha256();
+        onChanged();
+        return this;
       }
 
+      private long size_ ;
+      /**
+       * <code>int64 size = 3;</code>
+       * @return The size.
+       */
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getDefaultInstanceForType() {
-        return DEFAULT_INSTANCE;
+      public long getSize() {
+        return size_;
       }
+      /**
+       * <code>int64 size = 3;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(long value) {
 
-    }
+        size_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 size = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
 
-    private int stateCase_ = 0;
-    @SuppressWarnings("serial")
-    private java.lang.Object state_;
-    public enum StateCase
-        implements com.google.protobuf.Internal.EnumLite,
-            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
-      BUILD_STARTED(5),
-      BUILD_SUCCEEDED(6),
-      BUILD_FAILED(7),
-      STATE_NOT_SET(0);
-      private final int value;
-      private StateCase(int value) {
-        this.value = value;
+      private boolean executable_ ;
+      /**
+       * <code>bool executable = 4;</code>
+       * @return The executable.
+       */
+      @java.lang.Override
+      public boolean getExecutable() {
+        return executable_;
       }
       /**
-       * @param value The number of the enum to look for.
-       * @return The enum associated with the given number.
-       * @deprecated Use {@link #forNumber(int)} instead.
+       * <code>bool executable = 4;</code>
+       * @param value The executable to set.
+       * @return This builder for chaining.
        */
-      @java.lang.Deprecated
-      public static StateCase valueOf(int value) {
-        return forNumber(value);
+      public Builder setExecutable(boolean value) {
+
+        executable_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool executable = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearExecutable() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        executable_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
 
-      public static StateCase forNumber(int value) {
-        switch (value) {
-          case 5: return BUILD_STARTED;
-          case 6: return BUILD_SUCCEEDED;
-          case 7: return BUILD_FAILED;
-          case 0: return STATE_NOT_SET;
-          default: return null;
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.RemoteCacheFile)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.RemoteCacheFile)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RemoteCacheFile>
+        PARSER = new com.google.protobuf.AbstractParser<RemoteCacheFile>() {
+      @java.lang.Override
+      public RemoteCacheFile parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
         }
-      }
-      public int getNumber() {
-        return this.value;
+        return builder.buildPartial();
       }
     };
 
-    public StateCase
-    getStateCase() {
-      return StateCase.forNumber(
-          stateCase_);
+    public static com.google.protobuf.Parser<RemoteCacheFile> parser() {
+      return PARSER;
     }
 
-    public static final int UNIQUE_RUN_ID_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object uniqueRunId_ = "";
+    @java.lang.Override
+    public com.google.protobuf.Parser<RemoteCacheFile> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FileHashCacheDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.FileHashCacheData)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
      * <pre>
-     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
      * </pre>
      *
-     * <code>string unique_run_id = 1;</code>
-     * @return The uniqueRunId.
+     * <code>string algorithm = 1;</code>
+     * @return The algorithm.
      */
-    @java.lang.Override
-    public java.lang.String getUniqueRunId() {
-      java.lang.Object ref = uniqueRunId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        uniqueRunId_ = s;
-        return s;
-      }
-    }
+    java.lang.String getAlgorithm();
     /**
      * <pre>
-     * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
      * </pre>
      *
-     * <code>string unique_run_id = 1;</code>
-     * @return The bytes for uniqueRunId.
+     * <code>string algorithm = 1;</code>
+     * @return The bytes for algorithm.
      */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getUniqueRunIdBytes() {
-      java.lang.Object ref = uniqueRunId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        uniqueRunId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
+    com.google.protobuf.ByteString
+        getAlgorithmBytes();
 
-    public static final int BUILD_START_TIME_FIELD_NUMBER = 2;
-    private com.google.protobuf.Timestamp buildStartTime_;
     /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-     * @return Whether the buildStartTime field is set.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
-    @java.lang.Override
-    public boolean hasBuildStartTime() {
-      return buildStartTime_ != null;
-    }
+    int getFilesCount();
     /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-     * @return The buildStartTime.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
-    @java.lang.Override
-    public com.google.protobuf.Timestamp getBuildStartTime() {
-      return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
-    }
+    boolean containsFiles(
+        java.lang.String key);
     /**
-     * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+     * Use {@link #getFilesMap()} instead.
      */
-    @java.lang.Override
-    public com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder() {
-      return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
-    }
-
-    public static final int INPUT_HASHES_FIELD_NUMBER = 3;
-    private com.giyeok.bibix.BibixIdProto.InputHashes inputHashes_;
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+    getFiles();
     /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-     * @return Whether the inputHashes field is set.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
-    @java.lang.Override
-    public boolean hasInputHashes() {
-      return inputHashes_ != null;
-    }
+    java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+    getFilesMap();
     /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-     * @return The inputHashes.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
-    @java.lang.Override
-    public com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes() {
-      return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
-    }
+    /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash defaultValue);
     /**
-     * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
-    @java.lang.Override
-    public com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder() {
-      return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
+    com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * 이전 run들에서 계산한 입력 파일들의 해시. bbxbuild/filehashes.pb에 저장된다
+   * </pre>
+   *
+   * Protobuf type {@code com.giyeok.bibix.repo.FileHashCacheData}
+   */
+  public static final class FileHashCacheData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.FileHashCacheData)
+      FileHashCacheDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FileHashCacheData.newBuilder() to construct.
+    private FileHashCacheData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FileHashCacheData() {
+      algorithm_ = "";
     }
 
-    public static final int INPUT_HASH_STRING_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString inputHashString_ = com.google.protobuf.ByteString.EMPTY;
-    /**
-     * <code>bytes input_hash_string = 4;</code>
-     * @return The inputHashString.
-     */
     @java.lang.Override
-    public com.google.protobuf.ByteString getInputHashString() {
-      return inputHashString_;
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new FileHashCacheData();
     }
 
-    public static final int BUILD_STARTED_FIELD_NUMBER = 5;
-    /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
-     * @return Whether the buildStarted field is set.
-     */
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
     @java.lang.Override
-    public boolean hasBuildStarted() {
-      return stateCase_ == 5;
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetFiles();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.class, com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.Builder.class);
     }
+
+    public static final int ALGORITHM_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object algorithm_ = "";
     /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
-     * @return The buildStarted.
+     * <pre>
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
+     * </pre>
+     *
+     * <code>string algorithm = 1;</code>
+     * @return The algorithm.
      */
     @java.lang.Override
-    public com.google.protobuf.Empty getBuildStarted() {
-      if (stateCase_ == 5) {
-         return (com.google.protobuf.Empty) state_;
+    public java.lang.String getAlgorithm() {
+      java.lang.Object ref = algorithm_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        algorithm_ = s;
+        return s;
       }
-      return com.google.protobuf.Empty.getDefaultInstance();
     }
     /**
-     * <code>.google.protobuf.Empty build_started = 5;</code>
+     * <pre>
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
+     * </pre>
+     *
+     * <code>string algorithm = 1;</code>
+     * @return The bytes for algorithm.
      */
     @java.lang.Override
-    public com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder() {
-      if (stateCase_ == 5) {
-         return (com.google.protobuf.Empty) state_;
+    public com.google.protobuf.ByteString
+        getAlgorithmBytes() {
+      java.lang.Object ref = algorithm_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        algorithm_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return com.google.protobuf.Empty.getDefaultInstance();
     }
 
-    public static final int BUILD_SUCCEEDED_FIELD_NUMBER = 6;
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-     * @return Whether the buildSucceeded field is set.
-     */
-    @java.lang.Override
-    public boolean hasBuildSucceeded() {
-      return stateCase_ == 6;
+    public static final int FILES_FIELD_NUMBER = 2;
+    private static final class FilesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>newDefaultInstance(
+                  com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> files_;
+    private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+    internalGetFiles() {
+      if (files_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            FilesDefaultEntryHolder.defaultEntry);
+      }
+      return files_;
+    }
+    public int getFilesCount() {
+      return internalGetFiles().getMap().size();
     }
     /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-     * @return The buildSucceeded.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
     @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded() {
-      if (stateCase_ == 6) {
-         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
-      }
-      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+    public boolean containsFiles(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetFiles().getMap().containsKey(key);
     }
     /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+     * Use {@link #getFilesMap()} instead.
      */
     @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder() {
-      if (stateCase_ == 6) {
-         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
-      }
-      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> getFiles() {
+      return getFilesMap();
     }
-
-    public static final int BUILD_FAILED_FIELD_NUMBER = 7;
-    /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-     * @return Whether the buildFailed field is set.
+    /**
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
     @java.lang.Override
-    public boolean hasBuildFailed() {
-      return stateCase_ == 7;
+    public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> getFilesMap() {
+      return internalGetFiles().getMap();
     }
     /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-     * @return The buildFailed.
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
     @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed() {
-      if (stateCase_ == 7) {
-         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
-      }
-      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+    public /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> map =
+          internalGetFiles().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
     }
     /**
-     * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+     * <pre>
+     * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * </pre>
+     *
+     * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
      */
     @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder() {
-      if (stateCase_ == 7) {
-         return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
+    public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> map =
+          internalGetFiles().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
       }
-      return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
+      return map.get(key);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3547,27 +12235,15 @@ java.lang.String defaultValue) {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uniqueRunId_);
-      }
-      if (buildStartTime_ != null) {
-        output.writeMessage(2, getBuildStartTime());
-      }
-      if (inputHashes_ != null) {
-        output.writeMessage(3, getInputHashes());
-      }
-      if (!inputHashString_.isEmpty()) {
-        output.writeBytes(4, inputHashString_);
-      }
-      if (stateCase_ == 5) {
-        output.writeMessage(5, (com.google.protobuf.Empty) state_);
-      }
-      if (stateCase_ == 6) {
-        output.writeMessage(6, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_);
-      }
-      if (stateCase_ == 7) {
-        output.writeMessage(7, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(algorithm_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, algorithm_);
       }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetFiles(),
+          FilesDefaultEntryHolder.defaultEntry,
+          2);
       getUnknownFields().writeTo(output);
     }
 
@@ -3577,32 +12253,18 @@ java.lang.String defaultValue) {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uniqueRunId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uniqueRunId_);
-      }
-      if (buildStartTime_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getBuildStartTime());
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(algorithm_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, algorithm_);
       }
-      if (inputHashes_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getInputHashes());
-      }
-      if (!inputHashString_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, inputHashString_);
-      }
-      if (stateCase_ == 5) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, (com.google.protobuf.Empty) state_);
-      }
-      if (stateCase_ == 6) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_);
-      }
-      if (stateCase_ == 7) {
+      for (java.util.Map.Entry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> entry
+           : internalGetFiles().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+        files__ = FilesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_);
+            .computeMessageSize(2, files__);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -3614,42 +12276,15 @@ java.lang.String defaultValue) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState)) {
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData)) {
         return super.equals(obj);
       }
-      com.giyeok.bibix.repo.BibixRepoProto.TargetState other = (com.giyeok.bibix.repo.BibixRepoProto.TargetState) obj;
+      com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData other = (com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData) obj;
 
-      if (!getUniqueRunId()
-          .equals(other.getUniqueRunId())) return false;
-      if (hasBuildStartTime() != other.hasBuildStartTime()) return false;
-      if (hasBuildStartTime()) {
-        if (!getBuildStartTime()
-            .equals(other.getBuildStartTime())) return false;
-      }
-      if (hasInputHashes() != other.hasInputHashes()) return false;
-      if (hasInputHashes()) {
-        if (!getInputHashes()
-            .equals(other.getInputHashes())) return false;
-      }
-      if (!getInputHashString()
-          .equals(other.getInputHashString())) return false;
-      if (!getStateCase().equals(other.getStateCase())) return false;
-      switch (stateCase_) {
-        case 5:
-          if (!getBuildStarted()
-              .equals(other.getBuildStarted())) return false;
-          break;
-        case 6:
-          if (!getBuildSucceeded()
-              .equals(other.getBuildSucceeded())) return false;
-          break;
-        case 7:
-          if (!getBuildFailed()
-              .equals(other.getBuildFailed())) return false;
-          break;
-        case 0:
-        default:
-      }
+      if (!getAlgorithm()
+          .equals(other.getAlgorithm())) return false;
+      if (!internalGetFiles().equals(
+          other.internalGetFiles())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3661,102 +12296,80 @@ java.lang.String defaultValue) {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + UNIQUE_RUN_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getUniqueRunId().hashCode();
-      if (hasBuildStartTime()) {
-        hash = (37 * hash) + BUILD_START_TIME_FIELD_NUMBER;
-        hash = (53 * hash) + getBuildStartTime().hashCode();
-      }
-      if (hasInputHashes()) {
-        hash = (37 * hash) + INPUT_HASHES_FIELD_NUMBER;
-        hash = (53 * hash) + getInputHashes().hashCode();
-      }
-      hash = (37 * hash) + INPUT_HASH_STRING_FIELD_NUMBER;
-      hash = (53 * hash) + getInputHashString().hashCode();
-      switch (stateCase_) {
-        case 5:
-          hash = (37 * hash) + BUILD_STARTED_FIELD_NUMBER;
-          hash = (53 * hash) + getBuildStarted().hashCode();
-          break;
-        case 6:
-          hash = (37 * hash) + BUILD_SUCCEEDED_FIELD_NUMBER;
-          hash = (53 * hash) + getBuildSucceeded().hashCode();
-          break;
-        case 7:
-          hash = (37 * hash) + BUILD_FAILED_FIELD_NUMBER;
-          hash = (53 * hash) + getBuildFailed().hashCode();
-          break;
-        case 0:
-        default:
+      hash = (37 * hash) + ALGORITHM_FIELD_NUMBER;
+      hash = (53 * hash) + getAlgorithm().hashCode();
+      if (!internalGetFiles().getMap().isEmpty()) {
+        hash = (37 * hash) + FILES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetFiles().hashCode();
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(byte[] data)
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(java.io.InputStream input)
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseDelimitedFrom(java.io.InputStream input)
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseDelimitedFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState parseFrom(
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3769,7 +12382,7 @@ java.lang.String defaultValue) {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.TargetState prototype) {
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3785,26 +12398,52 @@ java.lang.String defaultValue) {
       return builder;
     }
     /**
-     * Protobuf type {@code com.giyeok.bibix.repo.TargetState}
+     * <pre>
+     * 이전 run들에서 계산한 입력 파일들의 해시. bbxbuild/filehashes.pb에 저장된다
+     * </pre>
+     *
+     * Protobuf type {@code com.giyeok.bibix.repo.FileHashCacheData}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.TargetState)
-        com.giyeok.bibix.repo.BibixRepoProto.TargetStateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.FileHashCacheData)
+        com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheDataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor;
       }
 
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetFiles();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetMutableFiles();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_fieldAccessorTable
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.giyeok.bibix.repo.BibixRepoProto.TargetState.class, com.giyeok.bibix.repo.BibixRepoProto.TargetState.Builder.class);
+                com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.class, com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.Builder.class);
       }
 
-      // Construct using com.giyeok.bibix.repo.BibixRepoProto.TargetState.newBuilder()
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.newBuilder()
       private Builder() {
 
       }
@@ -3818,141 +12457,70 @@ java.lang.String defaultValue) {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        uniqueRunId_ = "";
-        buildStartTime_ = null;
-        if (buildStartTimeBuilder_ != null) {
-          buildStartTimeBuilder_.dispose();
-          buildStartTimeBuilder_ = null;
-        }
-        inputHashes_ = null;
-        if (inputHashesBuilder_ != null) {
-          inputHashesBuilder_.dispose();
-          inputHashesBuilder_ = null;
-        }
-        inputHashString_ = com.google.protobuf.ByteString.EMPTY;
-        if (buildStartedBuilder_ != null) {
-          buildStartedBuilder_.clear();
-        }
-        if (buildSucceededBuilder_ != null) {
-          buildSucceededBuilder_.clear();
-        }
-        if (buildFailedBuilder_ != null) {
-          buildFailedBuilder_.clear();
-        }
-        stateCase_ = 0;
-        state_ = null;
+        algorithm_ = "";
+        internalGetMutableFiles().clear();
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor;
       }
 
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstanceForType() {
-        return com.giyeok.bibix.repo.BibixRepoProto.TargetState.getDefaultInstance();
+      public com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState build() {
-        com.giyeok.bibix.repo.BibixRepoProto.TargetState result = buildPartial();
+      public com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData build() {
+        com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
-
-      @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState buildPartial() {
-        com.giyeok.bibix.repo.BibixRepoProto.TargetState result = new com.giyeok.bibix.repo.BibixRepoProto.TargetState(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        buildPartialOneofs(result);
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.TargetState result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.uniqueRunId_ = uniqueRunId_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.buildStartTime_ = buildStartTimeBuilder_ == null
-              ? buildStartTime_
-              : buildStartTimeBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.inputHashes_ = inputHashesBuilder_ == null
-              ? inputHashes_
-              : inputHashesBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.inputHashString_ = inputHashString_;
-        }
-      }
-
-      private void buildPartialOneofs(com.giyeok.bibix.repo.BibixRepoProto.TargetState result) {
-        result.stateCase_ = stateCase_;
-        result.state_ = this.state_;
-        if (stateCase_ == 5 &&
-            buildStartedBuilder_ != null) {
-          result.state_ = buildStartedBuilder_.build();
-        }
-        if (stateCase_ == 6 &&
-            buildSucceededBuilder_ != null) {
-          result.state_ = buildSucceededBuilder_.build();
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData result = new com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.algorithm_ = algorithm_;
         }
-        if (stateCase_ == 7 &&
-            buildFailedBuilder_ != null) {
-          result.state_ = buildFailedBuilder_.build();
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.files_ = internalGetFiles();
+          result.files_.makeImmutable();
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.TargetState) {
-          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.TargetState)other);
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.TargetState other) {
-        if (other == com.giyeok.bibix.repo.BibixRepoProto.TargetState.getDefaultInstance()) return this;
-        if (!other.getUniqueRunId().isEmpty()) {
-          uniqueRunId_ = other.uniqueRunId_;
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.getDefaultInstance()) return this;
+        if (!other.getAlgorithm().isEmpty()) {
+          algorithm_ = other.algorithm_;
           bitField0_ |= 0x00000001;
           onChanged();
         }
-        if (other.hasBuildStartTime()) {
-          mergeBuildStartTime(other.getBuildStartTime());
-        }
-        if (other.hasInputHashes()) {
-          mergeInputHashes(other.getInputHashes());
-        }
-        if (other.getInputHashString() != com.google.protobuf.ByteString.EMPTY) {
-          setInputHashString(other.getInputHashString());
-        }
-        switch (other.getStateCase()) {
-          case BUILD_STARTED: {
-            mergeBuildStarted(other.getBuildStarted());
-            break;
-          }
-          case BUILD_SUCCEEDED: {
-            mergeBuildSucceeded(other.getBuildSucceeded());
-            break;
-          }
-          case BUILD_FAILED: {
-            mergeBuildFailed(other.getBuildFailed());
-            break;
-          }
-          case STATE_NOT_SET: {
-            break;
-          }
-        }
+        internalGetMutableFiles().mergeFrom(
+            other.internalGetFiles());
+        bitField0_ |= 0x00000002;
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -3980,50 +12548,19 @@ java.lang.String defaultValue) {
                 done = true;
                 break;
               case 10: {
-                uniqueRunId_ = input.readStringRequireUtf8();
+                algorithm_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
               case 18: {
-                input.readMessage(
-                    getBuildStartTimeFieldBuilder().getBuilder(),
-                    extensionRegistry);
+                com.google.protobuf.MapEntry<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+                files__ = input.readMessage(
+                    FilesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableFiles().getMutableMap().put(
+                    files__.getKey(), files__.getValue());
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
-              case 26: {
-                input.readMessage(
-                    getInputHashesFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 34: {
-                inputHashString_ = input.readBytes();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 34
-              case 42: {
-                input.readMessage(
-                    getBuildStartedFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                stateCase_ = 5;
-                break;
-              } // case 42
-              case 50: {
-                input.readMessage(
-                    getBuildSucceededFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                stateCase_ = 6;
-                break;
-              } // case 50
-              case 58: {
-                input.readMessage(
-                    getBuildFailedFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                stateCase_ = 7;
-                break;
-              } // case 58
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4039,39 +12576,24 @@ java.lang.String defaultValue) {
         } // finally
         return this;
       }
-      private int stateCase_ = 0;
-      private java.lang.Object state_;
-      public StateCase
-          getStateCase() {
-        return StateCase.forNumber(
-            stateCase_);
-      }
-
-      public Builder clearState() {
-        stateCase_ = 0;
-        state_ = null;
-        onChanged();
-        return this;
-      }
-
       private int bitField0_;
 
-      private java.lang.Object uniqueRunId_ = "";
+      private java.lang.Object algorithm_ = "";
       /**
        * <pre>
-       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
        * </pre>
        *
-       * <code>string unique_run_id = 1;</code>
-       * @return The uniqueRunId.
+       * <code>string algorithm = 1;</code>
+       * @return The algorithm.
        */
-      public java.lang.String getUniqueRunId() {
-        java.lang.Object ref = uniqueRunId_;
+      public java.lang.String getAlgorithm() {
+        java.lang.Object ref = algorithm_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          uniqueRunId_ = s;
+          algorithm_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -4079,20 +12601,20 @@ java.lang.String defaultValue) {
       }
       /**
        * <pre>
-       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
        * </pre>
        *
-       * <code>string unique_run_id = 1;</code>
-       * @return The bytes for uniqueRunId.
+       * <code>string algorithm = 1;</code>
+       * @return The bytes for algorithm.
        */
       public com.google.protobuf.ByteString
-          getUniqueRunIdBytes() {
-        java.lang.Object ref = uniqueRunId_;
+          getAlgorithmBytes() {
+        java.lang.Object ref = algorithm_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          uniqueRunId_ = b;
+          algorithm_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -4100,748 +12622,980 @@ java.lang.String defaultValue) {
       }
       /**
        * <pre>
-       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
        * </pre>
        *
-       * <code>string unique_run_id = 1;</code>
-       * @param value The uniqueRunId to set.
+       * <code>string algorithm = 1;</code>
+       * @param value The algorithm to set.
        * @return This builder for chaining.
        */
-      public Builder setUniqueRunId(
+      public Builder setAlgorithm(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        uniqueRunId_ = value;
+        algorithm_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
        * </pre>
        *
-       * <code>string unique_run_id = 1;</code>
+       * <code>string algorithm = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearUniqueRunId() {
-        uniqueRunId_ = getDefaultInstance().getUniqueRunId();
+      public Builder clearAlgorithm() {
+        algorithm_ = getDefaultInstance().getAlgorithm();
         bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * unique_run_id는 빌드가 실행될 때마다 랜덤하게 발급되는 고유 ID
+       * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
        * </pre>
        *
-       * <code>string unique_run_id = 1;</code>
-       * @param value The bytes for uniqueRunId to set.
+       * <code>string algorithm = 1;</code>
+       * @param value The bytes for algorithm to set.
        * @return This builder for chaining.
        */
-      public Builder setUniqueRunIdBytes(
+      public Builder setAlgorithmBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        uniqueRunId_ = value;
+        algorithm_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.Timestamp buildStartTime_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> buildStartTimeBuilder_;
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       * @return Whether the buildStartTime field is set.
-       */
-      public boolean hasBuildStartTime() {
-        return ((bitField0_ & 0x00000002) != 0);
-      }
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       * @return The buildStartTime.
-       */
-      public com.google.protobuf.Timestamp getBuildStartTime() {
-        if (buildStartTimeBuilder_ == null) {
-          return buildStartTime_ == null ? com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
-        } else {
-          return buildStartTimeBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       */
-      public Builder setBuildStartTime(com.google.protobuf.Timestamp value) {
-        if (buildStartTimeBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          buildStartTime_ = value;
-        } else {
-          buildStartTimeBuilder_.setMessage(value);
+      private com.google.protobuf.MapField<
+          java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> files_;
+      private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+          internalGetFiles() {
+        if (files_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              FilesDefaultEntryHolder.defaultEntry);
         }
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
+        return files_;
       }
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       */
-      public Builder setBuildStartTime(
-          com.google.protobuf.Timestamp.Builder builderForValue) {
-        if (buildStartTimeBuilder_ == null) {
-          buildStartTime_ = builderForValue.build();
-        } else {
-          buildStartTimeBuilder_.setMessage(builderForValue.build());
+      private com.google.protobuf.MapField<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+          internalGetMutableFiles() {
+        if (files_ == null) {
+          files_ = com.google.protobuf.MapField.newMapField(
+              FilesDefaultEntryHolder.defaultEntry);
         }
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       */
-      public Builder mergeBuildStartTime(com.google.protobuf.Timestamp value) {
-        if (buildStartTimeBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) != 0) &&
-            buildStartTime_ != null &&
-            buildStartTime_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
-            getBuildStartTimeBuilder().mergeFrom(value);
-          } else {
-            buildStartTime_ = value;
-          }
-        } else {
-          buildStartTimeBuilder_.mergeFrom(value);
+        if (!files_.isMutable()) {
+          files_ = files_.copy();
         }
         bitField0_ |= 0x00000002;
         onChanged();
-        return this;
+        return files_;
       }
-      /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
-       */
-      public Builder clearBuildStartTime() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        buildStartTime_ = null;
-        if (buildStartTimeBuilder_ != null) {
-          buildStartTimeBuilder_.dispose();
-          buildStartTimeBuilder_ = null;
-        }
-        onChanged();
-        return this;
+      public int getFilesCount() {
+        return internalGetFiles().getMap().size();
       }
       /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public com.google.protobuf.Timestamp.Builder getBuildStartTimeBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getBuildStartTimeFieldBuilder().getBuilder();
+      @java.lang.Override
+      public boolean containsFiles(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetFiles().getMap().containsKey(key);
       }
       /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       * Use {@link #getFilesMap()} instead.
        */
-      public com.google.protobuf.TimestampOrBuilder getBuildStartTimeOrBuilder() {
-        if (buildStartTimeBuilder_ != null) {
-          return buildStartTimeBuilder_.getMessageOrBuilder();
-        } else {
-          return buildStartTime_ == null ?
-              com.google.protobuf.Timestamp.getDefaultInstance() : buildStartTime_;
-        }
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> getFiles() {
+        return getFilesMap();
       }
       /**
-       * <code>.google.protobuf.Timestamp build_start_time = 2;</code>
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder> 
-          getBuildStartTimeFieldBuilder() {
-        if (buildStartTimeBuilder_ == null) {
-          buildStartTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder, com.google.protobuf.TimestampOrBuilder>(
-                  getBuildStartTime(),
-                  getParentForChildren(),
-                  isClean());
-          buildStartTime_ = null;
-        }
-        return buildStartTimeBuilder_;
+      @java.lang.Override
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> getFilesMap() {
+        return internalGetFiles().getMap();
       }
-
-      private com.giyeok.bibix.BibixIdProto.InputHashes inputHashes_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder> inputHashesBuilder_;
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-       * @return Whether the inputHashes field is set.
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public boolean hasInputHashes() {
-        return ((bitField0_ & 0x00000004) != 0);
+      @java.lang.Override
+      public /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrDefault(
+          java.lang.String key,
+          /* nullable */
+com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> map =
+            internalGetFiles().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
       }
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-       * @return The inputHashes.
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public com.giyeok.bibix.BibixIdProto.InputHashes getInputHashes() {
-        if (inputHashesBuilder_ == null) {
-          return inputHashes_ == null ? com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
-        } else {
-          return inputHashesBuilder_.getMessage();
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getFilesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> map =
+            internalGetFiles().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
         }
+        return map.get(key);
       }
-      /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-       */
-      public Builder setInputHashes(com.giyeok.bibix.BibixIdProto.InputHashes value) {
-        if (inputHashesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          inputHashes_ = value;
-        } else {
-          inputHashesBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000004;
-        onChanged();
+      public Builder clearFiles() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        internalGetMutableFiles().getMutableMap()
+            .clear();
         return this;
       }
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public Builder setInputHashes(
-          com.giyeok.bibix.BibixIdProto.InputHashes.Builder builderForValue) {
-        if (inputHashesBuilder_ == null) {
-          inputHashes_ = builderForValue.build();
-        } else {
-          inputHashesBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000004;
-        onChanged();
+      public Builder removeFiles(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableFiles().getMutableMap()
+            .remove(key);
         return this;
       }
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * Use alternate mutation accessors instead.
        */
-      public Builder mergeInputHashes(com.giyeok.bibix.BibixIdProto.InputHashes value) {
-        if (inputHashesBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) != 0) &&
-            inputHashes_ != null &&
-            inputHashes_ != com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance()) {
-            getInputHashesBuilder().mergeFrom(value);
-          } else {
-            inputHashes_ = value;
-          }
-        } else {
-          inputHashesBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>
+          getMutableFiles() {
+        bitField0_ |= 0x00000002;
+        return internalGetMutableFiles().getMutableMap();
       }
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public Builder clearInputHashes() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        inputHashes_ = null;
-        if (inputHashesBuilder_ != null) {
-          inputHashesBuilder_.dispose();
-          inputHashesBuilder_ = null;
-        }
-        onChanged();
+      public Builder putFiles(
+          java.lang.String key,
+          com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableFiles().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
+       * <pre>
+       * absolute path -&gt; 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+       * </pre>
+       *
+       * <code>map&lt;string, .com.giyeok.bibix.repo.CachedFileHash&gt; files = 2;</code>
        */
-      public com.giyeok.bibix.BibixIdProto.InputHashes.Builder getInputHashesBuilder() {
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return getInputHashesFieldBuilder().getBuilder();
+      public Builder putAllFiles(
+          java.util.Map<java.lang.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash> values) {
+        internalGetMutableFiles().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.FileHashCacheData)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.FileHashCacheData)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData();
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FileHashCacheData>
+        PARSER = new com.google.protobuf.AbstractParser<FileHashCacheData>() {
+      @java.lang.Override
+      public FileHashCacheData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FileHashCacheData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FileHashCacheData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CachedFileHashOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.repo.CachedFileHash)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 size = 1;</code>
+     * @return The size.
+     */
+    long getSize();
+
+    /**
+     * <code>int64 last_modified_nanos = 2;</code>
+     * @return The lastModifiedNanos.
+     */
+    long getLastModifiedNanos();
+
+    /**
+     * <pre>
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * </pre>
+     *
+     * <code>string file_key = 3;</code>
+     * @return The fileKey.
+     */
+    java.lang.String getFileKey();
+    /**
+     * <pre>
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * </pre>
+     *
+     * <code>string file_key = 3;</code>
+     * @return The bytes for fileKey.
+     */
+    com.google.protobuf.ByteString
+        getFileKeyBytes();
+
+    /**
+     * <code>bytes content_hash = 4;</code>
+     * @return The contentHash.
+     */
+    com.google.protobuf.ByteString getContentHash();
+  }
+  /**
+   * Protobuf type {@code com.giyeok.bibix.repo.CachedFileHash}
+   */
+  public static final class CachedFileHash extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.giyeok.bibix.repo.CachedFileHash)
+      CachedFileHashOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CachedFileHash.newBuilder() to construct.
+    private CachedFileHash(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CachedFileHash() {
+      fileKey_ = "";
+      contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CachedFileHash();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_CachedFileHash_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.class, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.Builder.class);
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 1;
+    private long size_ = 0L;
+    /**
+     * <code>int64 size = 1;</code>
+     * @return The size.
+     */
+    @java.lang.Override
+    public long getSize() {
+      return size_;
+    }
+
+    public static final int LAST_MODIFIED_NANOS_FIELD_NUMBER = 2;
+    private long lastModifiedNanos_ = 0L;
+    /**
+     * <code>int64 last_modified_nanos = 2;</code>
+     * @return The lastModifiedNanos.
+     */
+    @java.lang.Override
+    public long getLastModifiedNanos() {
+      return lastModifiedNanos_;
+    }
+
+    public static final int FILE_KEY_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fileKey_ = "";
+    /**
+     * <pre>
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * </pre>
+     *
+     * <code>string file_key = 3;</code>
+     * @return The fileKey.
+     */
+    @java.lang.Override
+    public java.lang.String getFileKey() {
+      java.lang.Object ref = fileKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fileKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * </pre>
+     *
+     * <code>string file_key = 3;</code>
+     * @return The bytes for fileKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFileKeyBytes() {
+      java.lang.Object ref = fileKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONTENT_HASH_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes content_hash = 4;</code>
+     * @return The contentHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContentHash() {
+      return contentHash_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (size_ != 0L) {
+        output.writeInt64(1, size_);
       }
-      /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-       */
-      public com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder getInputHashesOrBuilder() {
-        if (inputHashesBuilder_ != null) {
-          return inputHashesBuilder_.getMessageOrBuilder();
-        } else {
-          return inputHashes_ == null ?
-              com.giyeok.bibix.BibixIdProto.InputHashes.getDefaultInstance() : inputHashes_;
-        }
+      if (lastModifiedNanos_ != 0L) {
+        output.writeInt64(2, lastModifiedNanos_);
       }
-      /**
-       * <code>.com.giyeok.bibix.InputHashes input_hashes = 3;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder> 
-          getInputHashesFieldBuilder() {
-        if (inputHashesBuilder_ == null) {
-          inputHashesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.giyeok.bibix.BibixIdProto.InputHashes, com.giyeok.bibix.BibixIdProto.InputHashes.Builder, com.giyeok.bibix.BibixIdProto.InputHashesOrBuilder>(
-                  getInputHashes(),
-                  getParentForChildren(),
-                  isClean());
-          inputHashes_ = null;
-        }
-        return inputHashesBuilder_;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(fileKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, fileKey_);
       }
+      if (!contentHash_.isEmpty()) {
+        output.writeBytes(4, contentHash_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-      private com.google.protobuf.ByteString inputHashString_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes input_hash_string = 4;</code>
-       * @return The inputHashString.
-       */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getInputHashString() {
-        return inputHashString_;
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (size_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, size_);
       }
-      /**
-       * <code>bytes input_hash_string = 4;</code>
-       * @param value The inputHashString to set.
-       * @return This builder for chaining.
-       */
-      public Builder setInputHashString(com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        inputHashString_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
+      if (lastModifiedNanos_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, lastModifiedNanos_);
       }
-      /**
-       * <code>bytes input_hash_string = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearInputHashString() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        inputHashString_ = getDefaultInstance().getInputHashString();
-        onChanged();
-        return this;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(fileKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, fileKey_);
+      }
+      if (!contentHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, contentHash_);
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
 
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder> buildStartedBuilder_;
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       * @return Whether the buildStarted field is set.
-       */
-      @java.lang.Override
-      public boolean hasBuildStarted() {
-        return stateCase_ == 5;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       * @return The buildStarted.
-       */
-      @java.lang.Override
-      public com.google.protobuf.Empty getBuildStarted() {
-        if (buildStartedBuilder_ == null) {
-          if (stateCase_ == 5) {
-            return (com.google.protobuf.Empty) state_;
-          }
-          return com.google.protobuf.Empty.getDefaultInstance();
-        } else {
-          if (stateCase_ == 5) {
-            return buildStartedBuilder_.getMessage();
-          }
-          return com.google.protobuf.Empty.getDefaultInstance();
-        }
+      if (!(obj instanceof com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash)) {
+        return super.equals(obj);
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      public Builder setBuildStarted(com.google.protobuf.Empty value) {
-        if (buildStartedBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          state_ = value;
-          onChanged();
-        } else {
-          buildStartedBuilder_.setMessage(value);
-        }
-        stateCase_ = 5;
-        return this;
+      com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash other = (com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash) obj;
+
+      if (getSize()
+          != other.getSize()) return false;
+      if (getLastModifiedNanos()
+          != other.getLastModifiedNanos()) return false;
+      if (!getFileKey()
+          .equals(other.getFileKey())) return false;
+      if (!getContentHash()
+          .equals(other.getContentHash())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      public Builder setBuildStarted(
-          com.google.protobuf.Empty.Builder builderForValue) {
-        if (buildStartedBuilder_ == null) {
-          state_ = builderForValue.build();
-          onChanged();
-        } else {
-          buildStartedBuilder_.setMessage(builderForValue.build());
-        }
-        stateCase_ = 5;
-        return this;
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSize());
+      hash = (37 * hash) + LAST_MODIFIED_NANOS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLastModifiedNanos());
+      hash = (37 * hash) + FILE_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getFileKey().hashCode();
+      hash = (37 * hash) + CONTENT_HASH_FIELD_NUMBER;
+      hash = (53 * hash) + getContentHash().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.giyeok.bibix.repo.CachedFileHash}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.giyeok.bibix.repo.CachedFileHash)
+        com.giyeok.bibix.repo.BibixRepoProto.CachedFileHashOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor;
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      public Builder mergeBuildStarted(com.google.protobuf.Empty value) {
-        if (buildStartedBuilder_ == null) {
-          if (stateCase_ == 5 &&
-              state_ != com.google.protobuf.Empty.getDefaultInstance()) {
-            state_ = com.google.protobuf.Empty.newBuilder((com.google.protobuf.Empty) state_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            state_ = value;
-          }
-          onChanged();
-        } else {
-          if (stateCase_ == 5) {
-            buildStartedBuilder_.mergeFrom(value);
-          } else {
-            buildStartedBuilder_.setMessage(value);
-          }
-        }
-        stateCase_ = 5;
-        return this;
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_CachedFileHash_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.class, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.Builder.class);
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      public Builder clearBuildStarted() {
-        if (buildStartedBuilder_ == null) {
-          if (stateCase_ == 5) {
-            stateCase_ = 0;
-            state_ = null;
-            onChanged();
-          }
-        } else {
-          if (stateCase_ == 5) {
-            stateCase_ = 0;
-            state_ = null;
-          }
-          buildStartedBuilder_.clear();
-        }
-        return this;
+
+      // Construct using com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.newBuilder()
+      private Builder() {
+
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      public com.google.protobuf.Empty.Builder getBuildStartedBuilder() {
-        return getBuildStartedFieldBuilder().getBuilder();
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
       @java.lang.Override
-      public com.google.protobuf.EmptyOrBuilder getBuildStartedOrBuilder() {
-        if ((stateCase_ == 5) && (buildStartedBuilder_ != null)) {
-          return buildStartedBuilder_.getMessageOrBuilder();
-        } else {
-          if (stateCase_ == 5) {
-            return (com.google.protobuf.Empty) state_;
-          }
-          return com.google.protobuf.Empty.getDefaultInstance();
-        }
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        size_ = 0L;
+        lastModifiedNanos_ = 0L;
+        fileKey_ = "";
+        contentHash_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
       }
-      /**
-       * <code>.google.protobuf.Empty build_started = 5;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder> 
-          getBuildStartedFieldBuilder() {
-        if (buildStartedBuilder_ == null) {
-          if (!(stateCase_ == 5)) {
-            state_ = com.google.protobuf.Empty.getDefaultInstance();
-          }
-          buildStartedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.google.protobuf.Empty, com.google.protobuf.Empty.Builder, com.google.protobuf.EmptyOrBuilder>(
-                  (com.google.protobuf.Empty) state_,
-                  getParentForChildren(),
-                  isClean());
-          state_ = null;
-        }
-        stateCase_ = 5;
-        onChanged();
-        return buildStartedBuilder_;
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor;
       }
 
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder> buildSucceededBuilder_;
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       * @return Whether the buildSucceeded field is set.
-       */
       @java.lang.Override
-      public boolean hasBuildSucceeded() {
-        return stateCase_ == 6;
+      public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getDefaultInstanceForType() {
+        return com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.getDefaultInstance();
       }
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       * @return The buildSucceeded.
-       */
+
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded getBuildSucceeded() {
-        if (buildSucceededBuilder_ == null) {
-          if (stateCase_ == 6) {
-            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
-        } else {
-          if (stateCase_ == 6) {
-            return buildSucceededBuilder_.getMessage();
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
+      public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash build() {
+        com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       */
-      public Builder setBuildSucceeded(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded value) {
-        if (buildSucceededBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          state_ = value;
-          onChanged();
-        } else {
-          buildSucceededBuilder_.setMessage(value);
+
+      @java.lang.Override
+      public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash buildPartial() {
+        com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash result = new com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.size_ = size_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.lastModifiedNanos_ = lastModifiedNanos_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.fileKey_ = fileKey_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.contentHash_ = contentHash_;
         }
-        stateCase_ = 6;
-        return this;
       }
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       */
-      public Builder setBuildSucceeded(
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder builderForValue) {
-        if (buildSucceededBuilder_ == null) {
-          state_ = builderForValue.build();
-          onChanged();
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash) {
+          return mergeFrom((com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash)other);
         } else {
-          buildSucceededBuilder_.setMessage(builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        stateCase_ = 6;
-        return this;
       }
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       */
-      public Builder mergeBuildSucceeded(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded value) {
-        if (buildSucceededBuilder_ == null) {
-          if (stateCase_ == 6 &&
-              state_ != com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance()) {
-            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.newBuilder((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            state_ = value;
-          }
+
+      public Builder mergeFrom(com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash other) {
+        if (other == com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.getDefaultInstance()) return this;
+        if (other.getSize() != 0L) {
+          setSize(other.getSize());
+        }
+        if (other.getLastModifiedNanos() != 0L) {
+          setLastModifiedNanos(other.getLastModifiedNanos());
+        }
+        if (!other.getFileKey().isEmpty()) {
+          fileKey_ = other.fileKey_;
+          bitField0_ |= 0x00000004;
           onChanged();
-        } else {
-          if (stateCase_ == 6) {
-            buildSucceededBuilder_.mergeFrom(value);
-          } else {
-            buildSucceededBuilder_.setMessage(value);
-          }
         }
-        stateCase_ = 6;
+        if (other.getContentHash() != com.google.protobuf.ByteString.EMPTY) {
+          setContentHash(other.getContentHash());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
         return this;
       }
-      /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
-       */
-      public Builder clearBuildSucceeded() {
-        if (buildSucceededBuilder_ == null) {
-          if (stateCase_ == 6) {
-            stateCase_ = 0;
-            state_ = null;
-            onChanged();
-          }
-        } else {
-          if (stateCase_ == 6) {
-            stateCase_ = 0;
-            state_ = null;
-          }
-          buildSucceededBuilder_.clear();
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
         }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                size_ = input.readInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                lastModifiedNanos_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                fileKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                contentHash_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
         return this;
       }
+      private int bitField0_;
+
+      private long size_ ;
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       * <code>int64 size = 1;</code>
+       * @return The size.
        */
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder getBuildSucceededBuilder() {
-        return getBuildSucceededFieldBuilder().getBuilder();
+      @java.lang.Override
+      public long getSize() {
+        return size_;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       * <code>int64 size = 1;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder getBuildSucceededOrBuilder() {
-        if ((stateCase_ == 6) && (buildSucceededBuilder_ != null)) {
-          return buildSucceededBuilder_.getMessageOrBuilder();
-        } else {
-          if (stateCase_ == 6) {
-            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_;
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
-        }
+      public Builder setSize(long value) {
+
+        size_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildSucceeded build_succeeded = 6;</code>
+       * <code>int64 size = 1;</code>
+       * @return This builder for chaining.
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder> 
-          getBuildSucceededFieldBuilder() {
-        if (buildSucceededBuilder_ == null) {
-          if (!(stateCase_ == 6)) {
-            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.getDefaultInstance();
-          }
-          buildSucceededBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceededOrBuilder>(
-                  (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildSucceeded) state_,
-                  getParentForChildren(),
-                  isClean());
-          state_ = null;
-        }
-        stateCase_ = 6;
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        size_ = 0L;
         onChanged();
-        return buildSucceededBuilder_;
+        return this;
       }
 
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder> buildFailedBuilder_;
+      private long lastModifiedNanos_ ;
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-       * @return Whether the buildFailed field is set.
+       * <code>int64 last_modified_nanos = 2;</code>
+       * @return The lastModifiedNanos.
        */
       @java.lang.Override
-      public boolean hasBuildFailed() {
-        return stateCase_ == 7;
+      public long getLastModifiedNanos() {
+        return lastModifiedNanos_;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
-       * @return The buildFailed.
+       * <code>int64 last_modified_nanos = 2;</code>
+       * @param value The lastModifiedNanos to set.
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed getBuildFailed() {
-        if (buildFailedBuilder_ == null) {
-          if (stateCase_ == 7) {
-            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
-        } else {
-          if (stateCase_ == 7) {
-            return buildFailedBuilder_.getMessage();
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
-        }
+      public Builder setLastModifiedNanos(long value) {
+
+        lastModifiedNanos_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <code>int64 last_modified_nanos = 2;</code>
+       * @return This builder for chaining.
        */
-      public Builder setBuildFailed(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed value) {
-        if (buildFailedBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          state_ = value;
-          onChanged();
-        } else {
-          buildFailedBuilder_.setMessage(value);
-        }
-        stateCase_ = 7;
+      public Builder clearLastModifiedNanos() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lastModifiedNanos_ = 0L;
+        onChanged();
         return this;
       }
+
+      private java.lang.Object fileKey_ = "";
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <pre>
+       * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+       * </pre>
+       *
+       * <code>string file_key = 3;</code>
+       * @return The fileKey.
        */
-      public Builder setBuildFailed(
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder builderForValue) {
-        if (buildFailedBuilder_ == null) {
-          state_ = builderForValue.build();
-          onChanged();
+      public java.lang.String getFileKey() {
+        java.lang.Object ref = fileKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fileKey_ = s;
+          return s;
         } else {
-          buildFailedBuilder_.setMessage(builderForValue.build());
+          return (java.lang.String) ref;
         }
-        stateCase_ = 7;
-        return this;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <pre>
+       * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+       * </pre>
+       *
+       * <code>string file_key = 3;</code>
+       * @return The bytes for fileKey.
        */
-      public Builder mergeBuildFailed(com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed value) {
-        if (buildFailedBuilder_ == null) {
-          if (stateCase_ == 7 &&
-              state_ != com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance()) {
-            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.newBuilder((com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            state_ = value;
-          }
-          onChanged();
+      public com.google.protobuf.ByteString
+          getFileKeyBytes() {
+        java.lang.Object ref = fileKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileKey_ = b;
+          return b;
         } else {
-          if (stateCase_ == 7) {
-            buildFailedBuilder_.mergeFrom(value);
-          } else {
-            buildFailedBuilder_.setMessage(value);
-          }
+          return (com.google.protobuf.ByteString) ref;
         }
-        stateCase_ = 7;
+      }
+      /**
+       * <pre>
+       * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+       * </pre>
+       *
+       * <code>string file_key = 3;</code>
+       * @param value The fileKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fileKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
         return this;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <pre>
+       * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+       * </pre>
+       *
+       * <code>string file_key = 3;</code>
+       * @return This builder for chaining.
        */
-      public Builder clearBuildFailed() {
-        if (buildFailedBuilder_ == null) {
-          if (stateCase_ == 7) {
-            stateCase_ = 0;
-            state_ = null;
-            onChanged();
-          }
-        } else {
-          if (stateCase_ == 7) {
-            stateCase_ = 0;
-            state_ = null;
-          }
-          buildFailedBuilder_.clear();
-        }
+      public Builder clearFileKey() {
+        fileKey_ = getDefaultInstance().getFileKey();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
         return this;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <pre>
+       * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+       * </pre>
+       *
+       * <code>string file_key = 3;</code>
+       * @param value The bytes for fileKey to set.
+       * @return This builder for chaining.
        */
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder getBuildFailedBuilder() {
-        return getBuildFailedFieldBuilder().getBuilder();
+      public Builder setFileKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fileKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
       }
+
+      private com.google.protobuf.ByteString contentHash_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <code>bytes content_hash = 4;</code>
+       * @return The contentHash.
        */
       @java.lang.Override
-      public com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder getBuildFailedOrBuilder() {
-        if ((stateCase_ == 7) && (buildFailedBuilder_ != null)) {
-          return buildFailedBuilder_.getMessageOrBuilder();
-        } else {
-          if (stateCase_ == 7) {
-            return (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_;
-          }
-          return com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
-        }
+      public com.google.protobuf.ByteString getContentHash() {
+        return contentHash_;
       }
       /**
-       * <code>.com.giyeok.bibix.repo.TargetState.BuildFailed build_failed = 7;</code>
+       * <code>bytes content_hash = 4;</code>
+       * @param value The contentHash to set.
+       * @return This builder for chaining.
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder> 
-          getBuildFailedFieldBuilder() {
-        if (buildFailedBuilder_ == null) {
-          if (!(stateCase_ == 7)) {
-            state_ = com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.getDefaultInstance();
-          }
-          buildFailedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed.Builder, com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailedOrBuilder>(
-                  (com.giyeok.bibix.repo.BibixRepoProto.TargetState.BuildFailed) state_,
-                  getParentForChildren(),
-                  isClean());
-          state_ = null;
-        }
-        stateCase_ = 7;
+      public Builder setContentHash(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        contentHash_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
-        return buildFailedBuilder_;
+        return this;
+      }
+      /**
+       * <code>bytes content_hash = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentHash() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        contentHash_ = getDefaultInstance().getContentHash();
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -4856,23 +13610,23 @@ java.lang.String defaultValue) {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.TargetState)
+      // @@protoc_insertion_point(builder_scope:com.giyeok.bibix.repo.CachedFileHash)
     }
 
-    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.TargetState)
-    private static final com.giyeok.bibix.repo.BibixRepoProto.TargetState DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.giyeok.bibix.repo.CachedFileHash)
+    private static final com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.TargetState();
+      DEFAULT_INSTANCE = new com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash();
     }
 
-    public static com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstance() {
+    public static com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<TargetState>
-        PARSER = new com.google.protobuf.AbstractParser<TargetState>() {
+    private static final com.google.protobuf.Parser<CachedFileHash>
+        PARSER = new com.google.protobuf.AbstractParser<CachedFileHash>() {
       @java.lang.Override
-      public TargetState parsePartialFrom(
+      public CachedFileHash parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4891,17 +13645,17 @@ java.lang.String defaultValue) {
       }
     };
 
-    public static com.google.protobuf.Parser<TargetState> parser() {
+    public static com.google.protobuf.Parser<CachedFileHash> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<TargetState> getParserForType() {
+    public com.google.protobuf.Parser<CachedFileHash> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.giyeok.bibix.repo.BibixRepoProto.TargetState getDefaultInstanceForType() {
+    public com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9332,6 +18086,16 @@ java.lang.String defaultValue) {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_giyeok_bibix_repo_BibixRepoData_OutputNamesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_giyeok_bibix_repo_TargetState_descriptor;
   private static final 
@@ -9347,6 +18111,46 @@ java.lang.String defaultValue) {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_TargetBuildStats_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_ExecutionProfile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_TaskProfile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_RemoteCacheFile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_FileHashCacheData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_giyeok_bibix_repo_CachedFileHash_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_giyeok_bibix_repo_BibixTargetLogs_descriptor;
   private static final 
@@ -9377,57 +18181,102 @@ java.lang.String defaultValue) {
   static {
     java.lang.String[] descriptorData = {
       "\n\nrepo.proto\022\025com.giyeok.bibix.repo\032\tids" +
-      ".proto\032\014values.proto\032\033google/protobuf/em" +
-      "pty.proto\032\037google/protobuf/timestamp.pro" +
-      "to\"\335\003\n\rBibixRepoData\022N\n\016target_id_data\030\001" +
-      " \003(\01326.com.giyeok.bibix.repo.BibixRepoDa" +
-      "ta.TargetIdDataEntry\022M\n\rtarget_states\030\002 " +
-      "\003(\01326.com.giyeok.bibix.repo.BibixRepoDat" +
-      "a.TargetStatesEntry\022K\n\014output_names\030\003 \003(" +
-      "\01325.com.giyeok.bibix.repo.BibixRepoData." +
-      "OutputNamesEntry\032S\n\021TargetIdDataEntry\022\013\n" +
-      "\003key\030\001 \001(\t\022-\n\005value\030\002 \001(\0132\036.com.giyeok.b" +
-      "ibix.TargetIdData:\0028\001\032W\n\021TargetStatesEnt" +
-      "ry\022\013\n\003key\030\001 \001(\t\0221\n\005value\030\002 \001(\0132\".com.giy" +
-      "eok.bibix.repo.TargetState:\0028\001\0322\n\020Output" +
-      "NamesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\002" +
-      "8\001\"\366\004\n\013TargetState\022\025\n\runique_run_id\030\001 \001(" +
-      "\t\0224\n\020build_start_time\030\002 \001(\0132\032.google.pro" +
-      "tobuf.Timestamp\0223\n\014input_hashes\030\003 \001(\0132\035." +
-      "com.giyeok.bibix.InputHashes\022\031\n\021input_ha" +
-      "sh_string\030\004 \001(\014\022/\n\rbuild_started\030\005 \001(\0132\026" +
-      ".google.protobuf.EmptyH\000\022L\n\017build_succee" +
-      "ded\030\006 \001(\01321.com.giyeok.bibix.repo.Target" +
-      "State.BuildSucceededH\000\022F\n\014build_failed\030\007" +
-      " \001(\0132..com.giyeok.bibix.repo.TargetState" +
-      ".BuildFailedH\000\032\236\001\n\016BuildSucceeded\0222\n\016bui" +
-      "ld_end_time\030\001 \001(\0132\032.google.protobuf.Time" +
-      "stamp\0222\n\014result_value\030\002 \001(\0132\034.com.giyeok" +
-      ".bibix.BibixValue\022\026\n\tobject_id\030\003 \001(\014H\000\210\001" +
-      "\001B\014\n\n_object_id\032Y\n\013BuildFailed\0223\n\017build_" +
-      "fail_time\030\001 \001(\0132\032.google.protobuf.Timest" +
-      "amp\022\025\n\rerror_message\030\002 \001(\tB\007\n\005state\"\201\001\n\017" +
-      "BibixTargetLogs\0226\n\013target_logs\030\001 \003(\0132!.c" +
-      "om.giyeok.bibix.repo.TargetLogs\0226\n\013actio" +
-      "n_logs\030\002 \003(\0132!.com.giyeok.bibix.repo.Act" +
-      "ionLogs\"g\n\nTargetLogs\022\025\n\runique_run_id\030\001" +
-      " \001(\t\022\021\n\ttarget_id\030\002 \001(\t\022/\n\006blocks\030\003 \003(\0132" +
-      "\037.com.giyeok.bibix.repo.LogBlock\"\231\001\n\nAct" +
-      "ionLogs\022\025\n\runique_run_id\030\001 \001(\t\022\022\n\nprojec" +
-      "t_id\030\002 \001(\005\022\032\n\022import_instance_id\030\003 \001(\005\022\023" +
-      "\n\013action_name\030\004 \001(\t\022/\n\006blocks\030\005 \003(\0132\037.co" +
-      "m.giyeok.bibix.repo.LogBlock\"u\n\010LogBlock" +
-      "\022.\n\005level\030\001 \001(\0162\037.com.giyeok.bibix.repo." +
-      "LogLevel\022(\n\004time\030\002 \001(\0132\032.google.protobuf" +
-      ".Timestamp\022\017\n\007message\030\003 \001(\t*=\n\010LogLevel\022" +
-      "\017\n\013UNSPECIFIED\020\000\022\013\n\007VERBOSE\020\001\022\010\n\004INFO\020\010\022" +
-      "\t\n\005ERROR\020\017B\020B\016BibixRepoProtob\006proto3"
+      ".proto\032\014values.proto\032\036google/protobuf/du" +
+      "ration.proto\032\033google/protobuf/empty.prot" +
+      "o\032\037google/protobuf/timestamp.proto\"\335\006\n\rB" +
+      "ibixRepoData\022N\n\016target_id_data\030\001 \003(\01326.c" +
+      "om.giyeok.bibix.repo.BibixRepoData.Targe" +
+      "tIdDataEntry\022M\n\rtarget_states\030\002 \003(\01326.co" +
+      "m.giyeok.bibix.repo.BibixRepoData.Target" +
+      "StatesEntry\022K\n\014output_names\030\003 \003(\01325.com." +
+      "giyeok.bibix.repo.BibixRepoData.OutputNa" +
+      "mesEntry\022V\n\022target_build_stats\030\004 \003(\0132:.c" +
+      "om.giyeok.bibix.repo.BibixRepoData.Targe" +
+      "tBuildStatsEntry\022V\n\022target_last_access\030\005" +
+      " \003(\0132:.com.giyeok.bibix.repo.BibixRepoDa" +
+      "ta.TargetLastAccessEntry\022\027\n\017removed_targ" +
+      "ets\030\006 \003(\t\032S\n\021TargetIdDataEntry\022\013\n\003key\030\001 " +
+      "\001(\t\022-\n\005value\030\002 \001(\0132\036.com.giyeok.bibix.Ta" +
+      "rgetIdData:\0028\001\032W\n\021TargetStatesEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\0221\n\005value\030\002 \001(\0132\".com.giyeok.bib" +
+      "ix.repo.TargetState:\0028\001\0322\n\020OutputNamesEn" +
+      "try\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\032`\n\025T" +
+      "argetBuildStatsEntry\022\013\n\003key\030\001 \001(\t\0226\n\005val" +
+      "ue\030\002 \001(\0132\'.com.giyeok.bibix.repo.TargetB" +
+      "uildStats:\0028\001\032S\n\025TargetLastAccessEntry\022\013" +
+      "\n\003key\030\001 \001(\t\022)\n\005value\030\002 \001(\0132\032.google.prot" +
+      "obuf.Timestamp:\0028\001\"\215\005\n\013TargetState\022\025\n\run" +
+      "ique_run_id\030\001 \001(\t\0224\n\020build_start_time\030\002 " +
+      "\001(\0132\032.google.protobuf.Timestamp\0223\n\014input" +
+      "_hashes\030\003 \001(\0132\035.com.giyeok.bibix.InputHa" +
+      "shes\022\031\n\021input_hash_string\030\004 \001(\014\022/\n\rbuild" +
+      "_started\030\005 \001(\0132\026.google.protobuf.EmptyH\000" +
+      "\022L\n\017build_succeeded\030\006 \001(\01321.com.giyeok.b" +
+      "ibix.repo.TargetState.BuildSucceededH\000\022F" +
+      "\n\014build_failed\030\007 \001(\0132..com.giyeok.bibix." +
+      "repo.TargetState.BuildFailedH\000\032\265\001\n\016Build" +
+      "Succeeded\0222\n\016build_end_time\030\001 \001(\0132\032.goog" +
+      "le.protobuf.Timestamp\0222\n\014result_value\030\002 " +
+      "\001(\0132\034.com.giyeok.bibix.BibixValue\022\026\n\tobj" +
+      "ect_id\030\003 \001(\014H\000\210\001\001\022\025\n\routput_digest\030\004 \001(\014" +
+      "B\014\n\n_object_id\032Y\n\013BuildFailed\0223\n\017build_f" +
+      "ail_time\030\001 \001(\0132\032.google.protobuf.Timesta" +
+      "mp\022\025\n\rerror_message\030\002 \001(\tB\007\n\005state\"\177\n\020Ta" +
+      "rgetBuildStats\0220\n\rbody_duration\030\001 \001(\0132\031." +
+      "google.protobuf.Duration\0229\n\026critical_pat" +
+      "h_duration\030\002 \001(\0132\031.google.protobuf.Durat" +
+      "ion\"\235\001\n\020ExecutionProfile\022\025\n\runique_run_i" +
+      "d\030\001 \001(\t\022.\n\nstart_time\030\002 \001(\0132\032.google.pro" +
+      "tobuf.Timestamp\022\017\n\007threads\030\003 \003(\t\0221\n\005task" +
+      "s\030\004 \003(\0132\".com.giyeok.bibix.repo.TaskProf" +
+      "ile\"\367\003\n\013TaskProfile\0225\n\004kind\030\001 \001(\0162\'.com." +
+      "giyeok.bibix.repo.TaskProfile.Kind\022\014\n\004na" +
+      "me\030\002 \001(\t\022\021\n\ttarget_id\030\003 \001(\t\022\024\n\014start_mic" +
+      "ros\030\004 \001(\003\022\022\n\nend_micros\030\005 \001(\003\022\016\n\006thread\030" +
+      "\006 \001(\005\022=\n\005cache\030\007 \001(\0162..com.giyeok.bibix." +
+      "repo.TaskProfile.CacheResult\022=\n\005reuse\030\010 " +
+      "\001(\0162..com.giyeok.bibix.repo.TaskProfile." +
+      "ReuseSource\022\023\n\013wait_micros\030\t \001(\003\022\016\n\006fail" +
+      "ed\030\n \001(\010\"\032\n\004Kind\022\010\n\004TASK\020\000\022\010\n\004BODY\020\001\"0\n\013" +
+      "CacheResult\022\016\n\nNOT_CACHED\020\000\022\010\n\004MISS\020\001\022\007\n" +
+      "\003HIT\020\002\"e\n\013ReuseSource\022\016\n\nNOT_REUSED\020\000\022\014\n" +
+      "\010SAME_RUN\020\001\022\020\n\014PREVIOUS_RUN\020\002\022\024\n\020DUPLICA" +
+      "TE_TARGET\020\003\022\020\n\014REMOTE_CACHE\020\004\"}\n\020RemoteC" +
+      "acheEntry\0222\n\014result_value\030\001 \001(\0132\034.com.gi" +
+      "yeok.bibix.BibixValue\0225\n\005files\030\002 \003(\0132&.c" +
+      "om.giyeok.bibix.repo.RemoteCacheFile\"Q\n\017" +
+      "RemoteCacheFile\022\014\n\004path\030\001 \001(\t\022\016\n\006sha256\030" +
+      "\002 \001(\014\022\014\n\004size\030\003 \001(\003\022\022\n\nexecutable\030\004 \001(\010\"" +
+      "\277\001\n\021FileHashCacheData\022\021\n\talgorithm\030\001 \001(\t" +
+      "\022B\n\005files\030\002 \003(\01323.com.giyeok.bibix.repo." +
+      "FileHashCacheData.FilesEntry\032S\n\nFilesEnt" +
+      "ry\022\013\n\003key\030\001 \001(\t\0224\n\005value\030\002 \001(\0132%.com.giy" +
+      "eok.bibix.repo.CachedFileHash:\0028\001\"c\n\016Cac" +
+      "hedFileHash\022\014\n\004size\030\001 \001(\003\022\033\n\023last_modifi" +
+      "ed_nanos\030\002 \001(\003\022\020\n\010file_key\030\003 \001(\t\022\024\n\014cont" +
+      "ent_hash\030\004 \001(\014\"\201\001\n\017BibixTargetLogs\0226\n\013ta" +
+      "rget_logs\030\001 \003(\0132!.com.giyeok.bibix.repo." +
+      "TargetLogs\0226\n\013action_logs\030\002 \003(\0132!.com.gi" +
+      "yeok.bibix.repo.ActionLogs\"g\n\nTargetLogs" +
+      "\022\025\n\runique_run_id\030\001 \001(\t\022\021\n\ttarget_id\030\002 \001" +
+      "(\t\022/\n\006blocks\030\003 \003(\0132\037.com.giyeok.bibix.re" +
+      "po.LogBlock\"\231\001\n\nActionLogs\022\025\n\runique_run" +
+      "_id\030\001 \001(\t\022\022\n\nproject_id\030\002 \001(\005\022\032\n\022import_" +
+      "instance_id\030\003 \001(\005\022\023\n\013action_name\030\004 \001(\t\022/" +
+      "\n\006blocks\030\005 \003(\0132\037.com.giyeok.bibix.repo.L" +
+      "ogBlock\"u\n\010LogBlock\022.\n\005level\030\001 \001(\0162\037.com" +
+      ".giyeok.bibix.repo.LogLevel\022(\n\004time\030\002 \001(" +
+      "\0132\032.google.protobuf.Timestamp\022\017\n\007message" +
+      "\030\003 \001(\t*=\n\010LogLevel\022\017\n\013UNSPECIFIED\020\000\022\013\n\007V" +
+      "ERBOSE\020\001\022\010\n\004INFO\020\010\022\t\n\005ERROR\020\017B\020B\016BibixRe" +
+      "poProtob\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           com.giyeok.bibix.BibixIdProto.getDescriptor(),
           com.giyeok.bibix.BibixValueProto.getDescriptor(),
+          com.google.protobuf.DurationProto.getDescriptor(),
           com.google.protobuf.EmptyProto.getDescriptor(),
           com.google.protobuf.TimestampProto.getDescriptor(),
         });
@@ -9436,7 +18285,7 @@ java.lang.String defaultValue) {
     internal_static_com_giyeok_bibix_repo_BibixRepoData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_BibixRepoData_descriptor,
-        new java.lang.String[] { "TargetIdData", "TargetStates", "OutputNames", });
+        new java.lang.String[] { "TargetIdData", "TargetStates", "OutputNames", "TargetBuildStats", "TargetLastAccess", "RemovedTargets", });
     internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetIdDataEntry_descriptor =
       internal_static_com_giyeok_bibix_repo_BibixRepoData_descriptor.getNestedTypes().get(0);
     internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetIdDataEntry_fieldAccessorTable = new
@@ -9455,6 +18304,18 @@ java.lang.String defaultValue) {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_BibixRepoData_OutputNamesEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_descriptor =
+      internal_static_com_giyeok_bibix_repo_BibixRepoData_descriptor.getNestedTypes().get(3);
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetBuildStatsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_descriptor =
+      internal_static_com_giyeok_bibix_repo_BibixRepoData_descriptor.getNestedTypes().get(4);
+    internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_BibixRepoData_TargetLastAccessEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
     internal_static_com_giyeok_bibix_repo_TargetState_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_giyeok_bibix_repo_TargetState_fieldAccessorTable = new
@@ -9466,39 +18327,88 @@ java.lang.String defaultValue) {
     internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_TargetState_BuildSucceeded_descriptor,
-        new java.lang.String[] { "BuildEndTime", "ResultValue", "ObjectId", "ObjectId", });
+        new java.lang.String[] { "BuildEndTime", "ResultValue", "ObjectId", "OutputDigest", "ObjectId", });
     internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor =
       internal_static_com_giyeok_bibix_repo_TargetState_descriptor.getNestedTypes().get(1);
     internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_TargetState_BuildFailed_descriptor,
         new java.lang.String[] { "BuildFailTime", "ErrorMessage", });
-    internal_static_com_giyeok_bibix_repo_BibixTargetLogs_descriptor =
+    internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_com_giyeok_bibix_repo_TargetBuildStats_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_TargetBuildStats_descriptor,
+        new java.lang.String[] { "BodyDuration", "CriticalPathDuration", });
+    internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_com_giyeok_bibix_repo_ExecutionProfile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_ExecutionProfile_descriptor,
+        new java.lang.String[] { "UniqueRunId", "StartTime", "Threads", "Tasks", });
+    internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_com_giyeok_bibix_repo_TaskProfile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_TaskProfile_descriptor,
+        new java.lang.String[] { "Kind", "Name", "TargetId", "StartMicros", "EndMicros", "Thread", "Cache", "Reuse", "WaitMicros", "Failed", });
+    internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_RemoteCacheEntry_descriptor,
+        new java.lang.String[] { "ResultValue", "Files", });
+    internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_com_giyeok_bibix_repo_RemoteCacheFile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_RemoteCacheFile_descriptor,
+        new java.lang.String[] { "Path", "Sha256", "Size", "Executable", });
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor,
+        new java.lang.String[] { "Algorithm", "Files", });
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_descriptor =
+      internal_static_com_giyeok_bibix_repo_FileHashCacheData_descriptor.getNestedTypes().get(0);
+    internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_FileHashCacheData_FilesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_com_giyeok_bibix_repo_CachedFileHash_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_giyeok_bibix_repo_CachedFileHash_descriptor,
+        new java.lang.String[] { "Size", "LastModifiedNanos", "FileKey", "ContentHash", });
+    internal_static_com_giyeok_bibix_repo_BibixTargetLogs_descriptor =
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_giyeok_bibix_repo_BibixTargetLogs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_BibixTargetLogs_descriptor,
         new java.lang.String[] { "TargetLogs", "ActionLogs", });
     internal_static_com_giyeok_bibix_repo_TargetLogs_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_com_giyeok_bibix_repo_TargetLogs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_TargetLogs_descriptor,
         new java.lang.String[] { "UniqueRunId", "TargetId", "Blocks", });
     internal_static_com_giyeok_bibix_repo_ActionLogs_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_giyeok_bibix_repo_ActionLogs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_ActionLogs_descriptor,
         new java.lang.String[] { "UniqueRunId", "ProjectId", "ImportInstanceId", "ActionName", "Blocks", });
     internal_static_com_giyeok_bibix_repo_LogBlock_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_com_giyeok_bibix_repo_LogBlock_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_repo_LogBlock_descriptor,
         new java.lang.String[] { "Level", "Time", "Message", });
     com.giyeok.bibix.BibixIdProto.getDescriptor();
     com.giyeok.bibix.BibixValueProto.getDescriptor();
+    com.google.protobuf.DurationProto.getDescriptor();
     com.google.protobuf.EmptyProto.getDescriptor();
     com.google.protobuf.TimestampProto.getDescriptor();
   }
@@ -14,6 +14,147 @@ public final class RunConfigProto {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * Protobuf enum {@code com.giyeok.bibix.runner.RepoLogFsync}
+   */
+  public enum RepoLogFsync
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * 백그라운드 스레드가 모아서 쓴 기록들을 쓸 때마다 fsync한다
+     * </pre>
+     *
+     * <code>FSYNC_EVERY_BATCH = 0;</code>
+     */
+    FSYNC_EVERY_BATCH(0),
+    /**
+     * <pre>
+     * 마지막 fsync로부터 1초 이상 지났을 때만 fsync한다
+     * </pre>
+     *
+     * <code>FSYNC_PERIODIC = 1;</code>
+     */
+    FSYNC_PERIODIC(1),
+    /**
+     * <pre>
+     * fsync하지 않는다. 프로세스가 죽는 것은 괜찮지만 OS가 죽으면 기록이 사라질 수 있다
+     * </pre>
+     *
+     * <code>FSYNC_NONE = 2;</code>
+     */
+    FSYNC_NONE(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * 백그라운드 스레드가 모아서 쓴 기록들을 쓸 때마다 fsync한다
+     * </pre>
+     *
+     * <code>FSYNC_EVERY_BATCH = 0;</code>
+     */
+    public static final int FSYNC_EVERY_BATCH_VALUE = 0;
+    /**
+     * <pre>
+     * 마지막 fsync로부터 1초 이상 지났을 때만 fsync한다
+     * </pre>
+     *
+     * <code>FSYNC_PERIODIC = 1;</code>
+     */
+    public static final int FSYNC_PERIODIC_VALUE = 1;
+    /**
+     * <pre>
+     * fsync하지 않는다. 프로세스가 죽는 것은 괜찮지만 OS가 죽으면 기록이 사라질 수 있다
+     * </pre>
+     *
+     * <code>FSYNC_NONE = 2;</code>
+     */
+    public static final int FSYNC_NONE_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static RepoLogFsync valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static RepoLogFsync forNumber(int value) {
+      switch (value) {
+        case 0: return FSYNC_EVERY_BATCH;
+        case 1: return FSYNC_PERIODIC;
+        case 2: return FSYNC_NONE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<RepoLogFsync>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        RepoLogFsync> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<RepoLogFsync>() {
+            public RepoLogFsync findValueByNumber(int number) {
+              return RepoLogFsync.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.giyeok.bibix.runner.RunConfigProto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final RepoLogFsync[] VALUES = values();
+
+    public static RepoLogFsync valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private RepoLogFsync(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:com.giyeok.bibix.runner.RepoLogFsync)
+  }
+
   public interface RunConfigOrBuilder extends
       // @@protoc_insertion_point(interface_extends:com.giyeok.bibix.runner.RunConfig)
       com.google.protobuf.MessageOrBuilder {
@@ -49,6 +190,152 @@ public final class RunConfigProto {
      * <code>.google.protobuf.Duration target_result_reuse_duration = 3;</code>
      */
     com.google.protobuf.DurationOrBuilder getTargetResultReuseDurationOrBuilder();
+
+    /**
+     * <pre>
+     * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+     * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+     * </pre>
+     *
+     * <code>bool use_virtual_threads = 4;</code>
+     * @return The useVirtualThreads.
+     */
+    boolean getUseVirtualThreads();
+
+    /**
+     * <pre>
+     * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+     * </pre>
+     *
+     * <code>int32 cpu_permits = 5;</code>
+     * @return The cpuPermits.
+     */
+    int getCpuPermits();
+
+    /**
+     * <pre>
+     * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+     * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+     * </pre>
+     *
+     * <code>bool skip_task_rel_tracking = 6;</code>
+     * @return The skipTaskRelTracking.
+     */
+    boolean getSkipTaskRelTracking();
+
+    /**
+     * <pre>
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+     * @return The enum numeric value on the wire for repoLogFsync.
+     */
+    int getRepoLogFsyncValue();
+    /**
+     * <pre>
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+     * @return The repoLogFsync.
+     */
+    com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync getRepoLogFsync();
+
+    /**
+     * <pre>
+     * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+     * </pre>
+     *
+     * <code>int64 objects_size_budget = 8;</code>
+     * @return The objectsSizeBudget.
+     */
+    long getObjectsSizeBudget();
+
+    /**
+     * <pre>
+     * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+     * </pre>
+     *
+     * <code>bool auto_gc = 9;</code>
+     * @return The autoGc.
+     */
+    boolean getAutoGc();
+
+    /**
+     * <pre>
+     * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+     * bbxbuild/objects/&lt;target id&gt; 밑에는 hardlink를 둔다
+     * </pre>
+     *
+     * <code>bool content_addressed_objects = 10;</code>
+     * @return The contentAddressedObjects.
+     */
+    boolean getContentAddressedObjects();
+
+    /**
+     * <pre>
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * </pre>
+     *
+     * <code>string remote_cache_url = 11;</code>
+     * @return The remoteCacheUrl.
+     */
+    java.lang.String getRemoteCacheUrl();
+    /**
+     * <pre>
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * </pre>
+     *
+     * <code>string remote_cache_url = 11;</code>
+     * @return The bytes for remoteCacheUrl.
+     */
+    com.google.protobuf.ByteString
+        getRemoteCacheUrlBytes();
+
+    /**
+     * <pre>
+     * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+     * </pre>
+     *
+     * <code>bool remote_cache_upload = 12;</code>
+     * @return The remoteCacheUpload.
+     */
+    boolean getRemoteCacheUpload();
+
+    /**
+     * <pre>
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * </pre>
+     *
+     * <code>string shared_root_directory = 13;</code>
+     * @return The sharedRootDirectory.
+     */
+    java.lang.String getSharedRootDirectory();
+    /**
+     * <pre>
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * </pre>
+     *
+     * <code>string shared_root_directory = 13;</code>
+     * @return The bytes for sharedRootDirectory.
+     */
+    com.google.protobuf.ByteString
+        getSharedRootDirectoryBytes();
+
+    /**
+     * <pre>
+     * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+     * </pre>
+     *
+     * <code>int64 shared_size_budget = 14;</code>
+     * @return The sharedSizeBudget.
+     */
+    long getSharedSizeBudget();
   }
   /**
    * Protobuf type {@code com.giyeok.bibix.runner.RunConfig}
@@ -64,6 +351,9 @@ public final class RunConfigProto {
     }
     private RunConfig() {
       minLogLevel_ = 0;
+      repoLogFsync_ = 0;
+      remoteCacheUrl_ = "";
+      sharedRootDirectory_ = "";
     }
 
     @java.lang.Override
@@ -141,6 +431,253 @@ public final class RunConfigProto {
       return targetResultReuseDuration_ == null ? com.google.protobuf.Duration.getDefaultInstance() : targetResultReuseDuration_;
     }
 
+    public static final int USE_VIRTUAL_THREADS_FIELD_NUMBER = 4;
+    private boolean useVirtualThreads_ = false;
+    /**
+     * <pre>
+     * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+     * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+     * </pre>
+     *
+     * <code>bool use_virtual_threads = 4;</code>
+     * @return The useVirtualThreads.
+     */
+    @java.lang.Override
+    public boolean getUseVirtualThreads() {
+      return useVirtualThreads_;
+    }
+
+    public static final int CPU_PERMITS_FIELD_NUMBER = 5;
+    private int cpuPermits_ = 0;
+    /**
+     * <pre>
+     * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+     * </pre>
+     *
+     * <code>int32 cpu_permits = 5;</code>
+     * @return The cpuPermits.
+     */
+    @java.lang.Override
+    public int getCpuPermits() {
+      return cpuPermits_;
+    }
+
+    public static final int SKIP_TASK_REL_TRACKING_FIELD_NUMBER = 6;
+    private boolean skipTaskRelTracking_ = false;
+    /**
+     * <pre>
+     * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+     * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+     * </pre>
+     *
+     * <code>bool skip_task_rel_tracking = 6;</code>
+     * @return The skipTaskRelTracking.
+     */
+    @java.lang.Override
+    public boolean getSkipTaskRelTracking() {
+      return skipTaskRelTracking_;
+    }
+
+    public static final int REPO_LOG_FSYNC_FIELD_NUMBER = 7;
+    private int repoLogFsync_ = 0;
+    /**
+     * <pre>
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+     * @return The enum numeric value on the wire for repoLogFsync.
+     */
+    @java.lang.Override public int getRepoLogFsyncValue() {
+      return repoLogFsync_;
+    }
+    /**
+     * <pre>
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * </pre>
+     *
+     * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+     * @return The repoLogFsync.
+     */
+    @java.lang.Override public com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync getRepoLogFsync() {
+      com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync result = com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.forNumber(repoLogFsync_);
+      return result == null ? com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.UNRECOGNIZED : result;
+    }
+
+    public static final int OBJECTS_SIZE_BUDGET_FIELD_NUMBER = 8;
+    private long objectsSizeBudget_ = 0L;
+    /**
+     * <pre>
+     * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+     * </pre>
+     *
+     * <code>int64 objects_size_budget = 8;</code>
+     * @return The objectsSizeBudget.
+     */
+    @java.lang.Override
+    public long getObjectsSizeBudget() {
+      return objectsSizeBudget_;
+    }
+
+    public static final int AUTO_GC_FIELD_NUMBER = 9;
+    private boolean autoGc_ = false;
+    /**
+     * <pre>
+     * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+     * </pre>
+     *
+     * <code>bool auto_gc = 9;</code>
+     * @return The autoGc.
+     */
+    @java.lang.Override
+    public boolean getAutoGc() {
+      return autoGc_;
+    }
+
+    public static final int CONTENT_ADDRESSED_OBJECTS_FIELD_NUMBER = 10;
+    private boolean contentAddressedObjects_ = false;
+    /**
+     * <pre>
+     * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+     * bbxbuild/objects/&lt;target id&gt; 밑에는 hardlink를 둔다
+     * </pre>
+     *
+     * <code>bool content_addressed_objects = 10;</code>
+     * @return The contentAddressedObjects.
+     */
+    @java.lang.Override
+    public boolean getContentAddressedObjects() {
+      return contentAddressedObjects_;
+    }
+
+    public static final int REMOTE_CACHE_URL_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object remoteCacheUrl_ = "";
+    /**
+     * <pre>
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * </pre>
+     *
+     * <code>string remote_cache_url = 11;</code>
+     * @return The remoteCacheUrl.
+     */
+    @java.lang.Override
+    public java.lang.String getRemoteCacheUrl() {
+      java.lang.Object ref = remoteCacheUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        remoteCacheUrl_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * </pre>
+     *
+     * <code>string remote_cache_url = 11;</code>
+     * @return The bytes for remoteCacheUrl.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRemoteCacheUrlBytes() {
+      java.lang.Object ref = remoteCacheUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        remoteCacheUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REMOTE_CACHE_UPLOAD_FIELD_NUMBER = 12;
+    private boolean remoteCacheUpload_ = false;
+    /**
+     * <pre>
+     * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+     * </pre>
+     *
+     * <code>bool remote_cache_upload = 12;</code>
+     * @return The remoteCacheUpload.
+     */
+    @java.lang.Override
+    public boolean getRemoteCacheUpload() {
+      return remoteCacheUpload_;
+    }
+
+    public static final int SHARED_ROOT_DIRECTORY_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sharedRootDirectory_ = "";
+    /**
+     * <pre>
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * </pre>
+     *
+     * <code>string shared_root_directory = 13;</code>
+     * @return The sharedRootDirectory.
+     */
+    @java.lang.Override
+    public java.lang.String getSharedRootDirectory() {
+      java.lang.Object ref = sharedRootDirectory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sharedRootDirectory_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * </pre>
+     *
+     * <code>string shared_root_directory = 13;</code>
+     * @return The bytes for sharedRootDirectory.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSharedRootDirectoryBytes() {
+      java.lang.Object ref = sharedRootDirectory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sharedRootDirectory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SHARED_SIZE_BUDGET_FIELD_NUMBER = 14;
+    private long sharedSizeBudget_ = 0L;
+    /**
+     * <pre>
+     * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+     * </pre>
+     *
+     * <code>int64 shared_size_budget = 14;</code>
+     * @return The sharedSizeBudget.
+     */
+    @java.lang.Override
+    public long getSharedSizeBudget() {
+      return sharedSizeBudget_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -164,6 +701,39 @@ public final class RunConfigProto {
       if (targetResultReuseDuration_ != null) {
         output.writeMessage(3, getTargetResultReuseDuration());
       }
+      if (useVirtualThreads_ != false) {
+        output.writeBool(4, useVirtualThreads_);
+      }
+      if (cpuPermits_ != 0) {
+        output.writeInt32(5, cpuPermits_);
+      }
+      if (skipTaskRelTracking_ != false) {
+        output.writeBool(6, skipTaskRelTracking_);
+      }
+      if (repoLogFsync_ != com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.FSYNC_EVERY_BATCH.getNumber()) {
+        output.writeEnum(7, repoLogFsync_);
+      }
+      if (objectsSizeBudget_ != 0L) {
+        output.writeInt64(8, objectsSizeBudget_);
+      }
+      if (autoGc_ != false) {
+        output.writeBool(9, autoGc_);
+      }
+      if (contentAddressedObjects_ != false) {
+        output.writeBool(10, contentAddressedObjects_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(remoteCacheUrl_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, remoteCacheUrl_);
+      }
+      if (remoteCacheUpload_ != false) {
+        output.writeBool(12, remoteCacheUpload_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sharedRootDirectory_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 13, sharedRootDirectory_);
+      }
+      if (sharedSizeBudget_ != 0L) {
+        output.writeInt64(14, sharedSizeBudget_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -185,6 +755,48 @@ public final class RunConfigProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, getTargetResultReuseDuration());
       }
+      if (useVirtualThreads_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, useVirtualThreads_);
+      }
+      if (cpuPermits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, cpuPermits_);
+      }
+      if (skipTaskRelTracking_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, skipTaskRelTracking_);
+      }
+      if (repoLogFsync_ != com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.FSYNC_EVERY_BATCH.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, repoLogFsync_);
+      }
+      if (objectsSizeBudget_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, objectsSizeBudget_);
+      }
+      if (autoGc_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, autoGc_);
+      }
+      if (contentAddressedObjects_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, contentAddressedObjects_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(remoteCacheUrl_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, remoteCacheUrl_);
+      }
+      if (remoteCacheUpload_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(12, remoteCacheUpload_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sharedRootDirectory_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, sharedRootDirectory_);
+      }
+      if (sharedSizeBudget_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(14, sharedSizeBudget_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -208,6 +820,27 @@ public final class RunConfigProto {
         if (!getTargetResultReuseDuration()
             .equals(other.getTargetResultReuseDuration())) return false;
       }
+      if (getUseVirtualThreads()
+          != other.getUseVirtualThreads()) return false;
+      if (getCpuPermits()
+          != other.getCpuPermits()) return false;
+      if (getSkipTaskRelTracking()
+          != other.getSkipTaskRelTracking()) return false;
+      if (repoLogFsync_ != other.repoLogFsync_) return false;
+      if (getObjectsSizeBudget()
+          != other.getObjectsSizeBudget()) return false;
+      if (getAutoGc()
+          != other.getAutoGc()) return false;
+      if (getContentAddressedObjects()
+          != other.getContentAddressedObjects()) return false;
+      if (!getRemoteCacheUrl()
+          .equals(other.getRemoteCacheUrl())) return false;
+      if (getRemoteCacheUpload()
+          != other.getRemoteCacheUpload()) return false;
+      if (!getSharedRootDirectory()
+          .equals(other.getSharedRootDirectory())) return false;
+      if (getSharedSizeBudget()
+          != other.getSharedSizeBudget()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -227,6 +860,35 @@ public final class RunConfigProto {
         hash = (37 * hash) + TARGET_RESULT_REUSE_DURATION_FIELD_NUMBER;
         hash = (53 * hash) + getTargetResultReuseDuration().hashCode();
       }
+      hash = (37 * hash) + USE_VIRTUAL_THREADS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getUseVirtualThreads());
+      hash = (37 * hash) + CPU_PERMITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCpuPermits();
+      hash = (37 * hash) + SKIP_TASK_REL_TRACKING_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSkipTaskRelTracking());
+      hash = (37 * hash) + REPO_LOG_FSYNC_FIELD_NUMBER;
+      hash = (53 * hash) + repoLogFsync_;
+      hash = (37 * hash) + OBJECTS_SIZE_BUDGET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getObjectsSizeBudget());
+      hash = (37 * hash) + AUTO_GC_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getAutoGc());
+      hash = (37 * hash) + CONTENT_ADDRESSED_OBJECTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getContentAddressedObjects());
+      hash = (37 * hash) + REMOTE_CACHE_URL_FIELD_NUMBER;
+      hash = (53 * hash) + getRemoteCacheUrl().hashCode();
+      hash = (37 * hash) + REMOTE_CACHE_UPLOAD_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRemoteCacheUpload());
+      hash = (37 * hash) + SHARED_ROOT_DIRECTORY_FIELD_NUMBER;
+      hash = (53 * hash) + getSharedRootDirectory().hashCode();
+      hash = (37 * hash) + SHARED_SIZE_BUDGET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSharedSizeBudget());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -363,6 +1025,17 @@ public final class RunConfigProto {
           targetResultReuseDurationBuilder_.dispose();
           targetResultReuseDurationBuilder_ = null;
         }
+        useVirtualThreads_ = false;
+        cpuPermits_ = 0;
+        skipTaskRelTracking_ = false;
+        repoLogFsync_ = 0;
+        objectsSizeBudget_ = 0L;
+        autoGc_ = false;
+        contentAddressedObjects_ = false;
+        remoteCacheUrl_ = "";
+        remoteCacheUpload_ = false;
+        sharedRootDirectory_ = "";
+        sharedSizeBudget_ = 0L;
         return this;
       }
 
@@ -407,6 +1080,39 @@ public final class RunConfigProto {
               ? targetResultReuseDuration_
               : targetResultReuseDurationBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.useVirtualThreads_ = useVirtualThreads_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.cpuPermits_ = cpuPermits_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.skipTaskRelTracking_ = skipTaskRelTracking_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.repoLogFsync_ = repoLogFsync_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.objectsSizeBudget_ = objectsSizeBudget_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.autoGc_ = autoGc_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.contentAddressedObjects_ = contentAddressedObjects_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.remoteCacheUrl_ = remoteCacheUrl_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.remoteCacheUpload_ = remoteCacheUpload_;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.sharedRootDirectory_ = sharedRootDirectory_;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.sharedSizeBudget_ = sharedSizeBudget_;
+        }
       }
 
       @java.lang.Override
@@ -430,6 +1136,43 @@ public final class RunConfigProto {
         if (other.hasTargetResultReuseDuration()) {
           mergeTargetResultReuseDuration(other.getTargetResultReuseDuration());
         }
+        if (other.getUseVirtualThreads() != false) {
+          setUseVirtualThreads(other.getUseVirtualThreads());
+        }
+        if (other.getCpuPermits() != 0) {
+          setCpuPermits(other.getCpuPermits());
+        }
+        if (other.getSkipTaskRelTracking() != false) {
+          setSkipTaskRelTracking(other.getSkipTaskRelTracking());
+        }
+        if (other.repoLogFsync_ != 0) {
+          setRepoLogFsyncValue(other.getRepoLogFsyncValue());
+        }
+        if (other.getObjectsSizeBudget() != 0L) {
+          setObjectsSizeBudget(other.getObjectsSizeBudget());
+        }
+        if (other.getAutoGc() != false) {
+          setAutoGc(other.getAutoGc());
+        }
+        if (other.getContentAddressedObjects() != false) {
+          setContentAddressedObjects(other.getContentAddressedObjects());
+        }
+        if (!other.getRemoteCacheUrl().isEmpty()) {
+          remoteCacheUrl_ = other.remoteCacheUrl_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        if (other.getRemoteCacheUpload() != false) {
+          setRemoteCacheUpload(other.getRemoteCacheUpload());
+        }
+        if (!other.getSharedRootDirectory().isEmpty()) {
+          sharedRootDirectory_ = other.sharedRootDirectory_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (other.getSharedSizeBudget() != 0L) {
+          setSharedSizeBudget(other.getSharedSizeBudget());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -473,6 +1216,61 @@ public final class RunConfigProto {
                 bitField0_ |= 0x00000004;
                 break;
               } // case 26
+              case 32: {
+                useVirtualThreads_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                cpuPermits_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                skipTaskRelTracking_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                repoLogFsync_ = input.readEnum();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                objectsSizeBudget_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                autoGc_ = input.readBool();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 80: {
+                contentAddressedObjects_ = input.readBool();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 90: {
+                remoteCacheUrl_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 96: {
+                remoteCacheUpload_ = input.readBool();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 96
+              case 106: {
+                sharedRootDirectory_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 112: {
+                sharedSizeBudget_ = input.readInt64();
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 112
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -693,6 +1491,635 @@ public final class RunConfigProto {
         }
         return targetResultReuseDurationBuilder_;
       }
+
+      private boolean useVirtualThreads_ ;
+      /**
+       * <pre>
+       * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+       * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+       * </pre>
+       *
+       * <code>bool use_virtual_threads = 4;</code>
+       * @return The useVirtualThreads.
+       */
+      @java.lang.Override
+      public boolean getUseVirtualThreads() {
+        return useVirtualThreads_;
+      }
+      /**
+       * <pre>
+       * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+       * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+       * </pre>
+       *
+       * <code>bool use_virtual_threads = 4;</code>
+       * @param value The useVirtualThreads to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUseVirtualThreads(boolean value) {
+
+        useVirtualThreads_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+       * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+       * </pre>
+       *
+       * <code>bool use_virtual_threads = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUseVirtualThreads() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        useVirtualThreads_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int cpuPermits_ ;
+      /**
+       * <pre>
+       * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+       * </pre>
+       *
+       * <code>int32 cpu_permits = 5;</code>
+       * @return The cpuPermits.
+       */
+      @java.lang.Override
+      public int getCpuPermits() {
+        return cpuPermits_;
+      }
+      /**
+       * <pre>
+       * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+       * </pre>
+       *
+       * <code>int32 cpu_permits = 5;</code>
+       * @param value The cpuPermits to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCpuPermits(int value) {
+
+        cpuPermits_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+       * </pre>
+       *
+       * <code>int32 cpu_permits = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCpuPermits() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        cpuPermits_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean skipTaskRelTracking_ ;
+      /**
+       * <pre>
+       * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+       * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+       * </pre>
+       *
+       * <code>bool skip_task_rel_tracking = 6;</code>
+       * @return The skipTaskRelTracking.
+       */
+      @java.lang.Override
+      public boolean getSkipTaskRelTracking() {
+        return skipTaskRelTracking_;
+      }
+      /**
+       * <pre>
+       * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+       * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+       * </pre>
+       *
+       * <code>bool skip_task_rel_tracking = 6;</code>
+       * @param value The skipTaskRelTracking to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSkipTaskRelTracking(boolean value) {
+
+        skipTaskRelTracking_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+       * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+       * </pre>
+       *
+       * <code>bool skip_task_rel_tracking = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSkipTaskRelTracking() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        skipTaskRelTracking_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int repoLogFsync_ = 0;
+      /**
+       * <pre>
+       * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+       * @return The enum numeric value on the wire for repoLogFsync.
+       */
+      @java.lang.Override public int getRepoLogFsyncValue() {
+        return repoLogFsync_;
+      }
+      /**
+       * <pre>
+       * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+       * @param value The enum numeric value on the wire for repoLogFsync to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRepoLogFsyncValue(int value) {
+        repoLogFsync_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+       * @return The repoLogFsync.
+       */
+      @java.lang.Override
+      public com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync getRepoLogFsync() {
+        com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync result = com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.forNumber(repoLogFsync_);
+        return result == null ? com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+       * @param value The repoLogFsync to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRepoLogFsync(com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        repoLogFsync_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+       * </pre>
+       *
+       * <code>.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRepoLogFsync() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        repoLogFsync_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long objectsSizeBudget_ ;
+      /**
+       * <pre>
+       * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 objects_size_budget = 8;</code>
+       * @return The objectsSizeBudget.
+       */
+      @java.lang.Override
+      public long getObjectsSizeBudget() {
+        return objectsSizeBudget_;
+      }
+      /**
+       * <pre>
+       * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 objects_size_budget = 8;</code>
+       * @param value The objectsSizeBudget to set.
+       * @return This builder for chaining.
+       */
+      public Builder setObjectsSizeBudget(long value) {
+
+        objectsSizeBudget_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 objects_size_budget = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearObjectsSizeBudget() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        objectsSizeBudget_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean autoGc_ ;
+      /**
+       * <pre>
+       * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+       * </pre>
+       *
+       * <code>bool auto_gc = 9;</code>
+       * @return The autoGc.
+       */
+      @java.lang.Override
+      public boolean getAutoGc() {
+        return autoGc_;
+      }
+      /**
+       * <pre>
+       * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+       * </pre>
+       *
+       * <code>bool auto_gc = 9;</code>
+       * @param value The autoGc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAutoGc(boolean value) {
+
+        autoGc_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+       * </pre>
+       *
+       * <code>bool auto_gc = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAutoGc() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        autoGc_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean contentAddressedObjects_ ;
+      /**
+       * <pre>
+       * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+       * bbxbuild/objects/&lt;target id&gt; 밑에는 hardlink를 둔다
+       * </pre>
+       *
+       * <code>bool content_addressed_objects = 10;</code>
+       * @return The contentAddressedObjects.
+       */
+      @java.lang.Override
+      public boolean getContentAddressedObjects() {
+        return contentAddressedObjects_;
+      }
+      /**
+       * <pre>
+       * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+       * bbxbuild/objects/&lt;target id&gt; 밑에는 hardlink를 둔다
+       * </pre>
+       *
+       * <code>bool content_addressed_objects = 10;</code>
+       * @param value The contentAddressedObjects to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentAddressedObjects(boolean value) {
+
+        contentAddressedObjects_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+       * bbxbuild/objects/&lt;target id&gt; 밑에는 hardlink를 둔다
+       * </pre>
+       *
+       * <code>bool content_addressed_objects = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContentAddressedObjects() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        contentAddressedObjects_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object remoteCacheUrl_ = "";
+      /**
+       * <pre>
+       * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+       * </pre>
+       *
+       * <code>string remote_cache_url = 11;</code>
+       * @return The remoteCacheUrl.
+       */
+      public java.lang.String getRemoteCacheUrl() {
+        java.lang.Object ref = remoteCacheUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          remoteCacheUrl_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+       * </pre>
+       *
+       * <code>string remote_cache_url = 11;</code>
+       * @return The bytes for remoteCacheUrl.
+       */
+      public com.google.protobuf.ByteString
+          getRemoteCacheUrlBytes() {
+        java.lang.Object ref = remoteCacheUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          remoteCacheUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+       * </pre>
+       *
+       * <code>string remote_cache_url = 11;</code>
+       * @param value The remoteCacheUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoteCacheUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        remoteCacheUrl_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+       * </pre>
+       *
+       * <code>string remote_cache_url = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoteCacheUrl() {
+        remoteCacheUrl_ = getDefaultInstance().getRemoteCacheUrl();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+       * </pre>
+       *
+       * <code>string remote_cache_url = 11;</code>
+       * @param value The bytes for remoteCacheUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoteCacheUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        remoteCacheUrl_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+
+      private boolean remoteCacheUpload_ ;
+      /**
+       * <pre>
+       * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+       * </pre>
+       *
+       * <code>bool remote_cache_upload = 12;</code>
+       * @return The remoteCacheUpload.
+       */
+      @java.lang.Override
+      public boolean getRemoteCacheUpload() {
+        return remoteCacheUpload_;
+      }
+      /**
+       * <pre>
+       * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+       * </pre>
+       *
+       * <code>bool remote_cache_upload = 12;</code>
+       * @param value The remoteCacheUpload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoteCacheUpload(boolean value) {
+
+        remoteCacheUpload_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+       * </pre>
+       *
+       * <code>bool remote_cache_upload = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoteCacheUpload() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        remoteCacheUpload_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sharedRootDirectory_ = "";
+      /**
+       * <pre>
+       * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+       * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+       * </pre>
+       *
+       * <code>string shared_root_directory = 13;</code>
+       * @return The sharedRootDirectory.
+       */
+      public java.lang.String getSharedRootDirectory() {
+        java.lang.Object ref = sharedRootDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sharedRootDirectory_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+       * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+       * </pre>
+       *
+       * <code>string shared_root_directory = 13;</code>
+       * @return The bytes for sharedRootDirectory.
+       */
+      public com.google.protobuf.ByteString
+          getSharedRootDirectoryBytes() {
+        java.lang.Object ref = sharedRootDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sharedRootDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+       * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+       * </pre>
+       *
+       * <code>string shared_root_directory = 13;</code>
+       * @param value The sharedRootDirectory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSharedRootDirectory(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sharedRootDirectory_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+       * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+       * </pre>
+       *
+       * <code>string shared_root_directory = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSharedRootDirectory() {
+        sharedRootDirectory_ = getDefaultInstance().getSharedRootDirectory();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+       * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+       * </pre>
+       *
+       * <code>string shared_root_directory = 13;</code>
+       * @param value The bytes for sharedRootDirectory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSharedRootDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sharedRootDirectory_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private long sharedSizeBudget_ ;
+      /**
+       * <pre>
+       * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 shared_size_budget = 14;</code>
+       * @return The sharedSizeBudget.
+       */
+      @java.lang.Override
+      public long getSharedSizeBudget() {
+        return sharedSizeBudget_;
+      }
+      /**
+       * <pre>
+       * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 shared_size_budget = 14;</code>
+       * @param value The sharedSizeBudget to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSharedSizeBudget(long value) {
+
+        sharedSizeBudget_ = value;
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+       * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+       * </pre>
+       *
+       * <code>int64 shared_size_budget = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSharedSizeBudget() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        sharedSizeBudget_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -773,11 +2200,22 @@ public final class RunConfigProto {
     java.lang.String[] descriptorData = {
       "\n\020run_config.proto\022\027com.giyeok.bibix.run" +
       "ner\032\nrepo.proto\032\036google/protobuf/duratio" +
-      "n.proto\"\231\001\n\tRunConfig\022\023\n\013max_threads\030\001 \001" +
+      "n.proto\"\355\003\n\tRunConfig\022\023\n\013max_threads\030\001 \001" +
       "(\005\0226\n\rmin_log_level\030\002 \001(\0162\037.com.giyeok.b" +
       "ibix.repo.LogLevel\022?\n\034target_result_reus" +
       "e_duration\030\003 \001(\0132\031.google.protobuf.Durat" +
-      "ionB\020B\016RunConfigProtob\006proto3"
+      "ion\022\033\n\023use_virtual_threads\030\004 \001(\010\022\023\n\013cpu_" +
+      "permits\030\005 \001(\005\022\036\n\026skip_task_rel_tracking\030" +
+      "\006 \001(\010\022=\n\016repo_log_fsync\030\007 \001(\0162%.com.giye" +
+      "ok.bibix.runner.RepoLogFsync\022\033\n\023objects_" +
+      "size_budget\030\010 \001(\003\022\017\n\007auto_gc\030\t \001(\010\022!\n\031co" +
+      "ntent_addressed_objects\030\n \001(\010\022\030\n\020remote_" +
+      "cache_url\030\013 \001(\t\022\033\n\023remote_cache_upload\030\014" +
+      " \001(\010\022\035\n\025shared_root_directory\030\r \001(\t\022\032\n\022s" +
+      "hared_size_budget\030\016 \001(\003*I\n\014RepoLogFsync\022" +
+      "\025\n\021FSYNC_EVERY_BATCH\020\000\022\022\n\016FSYNC_PERIODIC" +
+      "\020\001\022\016\n\nFSYNC_NONE\020\002B\020B\016RunConfigProtob\006pr" +
+      "oto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -790,7 +2228,7 @@ public final class RunConfigProto {
     internal_static_com_giyeok_bibix_runner_RunConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_giyeok_bibix_runner_RunConfig_descriptor,
-        new java.lang.String[] { "MaxThreads", "MinLogLevel", "TargetResultReuseDuration", });
+        new java.lang.String[] { "MaxThreads", "MinLogLevel", "TargetResultReuseDuration", "UseVirtualThreads", "CpuPermits", "SkipTaskRelTracking", "RepoLogFsync", "ObjectsSizeBudget", "AutoGc", "ContentAddressedObjects", "RemoteCacheUrl", "RemoteCacheUpload", "SharedRootDirectory", "SharedSizeBudget", });
     com.giyeok.bibix.repo.BibixRepoProto.getDescriptor();
     com.google.protobuf.DurationProto.getDescriptor();
   }
@@ -191,6 +191,33 @@ public object DirectoryHashKt {
       _builder.clearFiles()
     }
 
+
+    /**
+     * ```
+     * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+     * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+     * ```
+     *
+     * `bytes digest = 4;`
+     */
+    public var digest: com.google.protobuf.ByteString
+      @JvmName("getDigest")
+      get() = _builder.getDigest()
+      @JvmName("setDigest")
+      set(value) {
+        _builder.setDigest(value)
+      }
+    /**
+     * ```
+     * 하위 항목들의 이름과 해시로 계산한 Merkle digest.
+     * digest가 있으면 directories와 files는 비어있다. 하위 항목들의 노드는 저장하지 않고 이 root digest만 남긴다
+     * ```
+     *
+     * `bytes digest = 4;`
+     */
+    public fun clearDigest() {
+      _builder.clearDigest()
+    }
   }
 }
 @kotlin.jvm.JvmSynthetic
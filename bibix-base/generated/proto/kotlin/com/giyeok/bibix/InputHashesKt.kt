@@ -240,7 +240,107 @@ public object InputHashesKt {
     @kotlin.jvm.JvmName("clearNonExistent")
     public fun com.google.protobuf.kotlin.DslList<kotlin.String, NonExistentProxy>.clear() {
       _builder.clearNonExistent()
-    }}
+    }
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class TargetOutputsProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     */
+     public val targetOutputs: com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>
+      @kotlin.jvm.JvmSynthetic
+      get() = com.google.protobuf.kotlin.DslList(
+        _builder.getTargetOutputsList()
+      )
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     * @param value The targetOutputs to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addTargetOutputs")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.add(value: com.giyeok.bibix.BibixIdProto.TargetOutputHash) {
+      _builder.addTargetOutputs(value)
+    }
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     * @param value The targetOutputs to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignTargetOutputs")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.plusAssign(value: com.giyeok.bibix.BibixIdProto.TargetOutputHash) {
+      add(value)
+    }
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     * @param values The targetOutputs to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addAllTargetOutputs")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.addAll(values: kotlin.collections.Iterable<com.giyeok.bibix.BibixIdProto.TargetOutputHash>) {
+      _builder.addAllTargetOutputs(values)
+    }
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     * @param values The targetOutputs to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignAllTargetOutputs")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.plusAssign(values: kotlin.collections.Iterable<com.giyeok.bibix.BibixIdProto.TargetOutputHash>) {
+      addAll(values)
+    }
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     * @param index The index to set the value at.
+     * @param value The targetOutputs to set.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("setTargetOutputs")
+    public operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.set(index: kotlin.Int, value: com.giyeok.bibix.BibixIdProto.TargetOutputHash) {
+      _builder.setTargetOutputs(index, value)
+    }
+    /**
+     * ```
+     * 다른 target의 object 폴더 밑의 경로들은 내용을 해시하는 대신 그 target의 output digest를 사용한다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.TargetOutputHash target_outputs = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("clearTargetOutputs")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.BibixIdProto.TargetOutputHash, TargetOutputsProxy>.clear() {
+      _builder.clearTargetOutputs()
+    }
+
+  }
 }
 @kotlin.jvm.JvmSynthetic
 @com.google.errorprone.annotations.CheckReturnValue
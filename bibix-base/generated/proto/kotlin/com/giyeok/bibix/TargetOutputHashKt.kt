@@ -0,0 +1,91 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: ids.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix;
+
+@kotlin.jvm.JvmName("-initializetargetOutputHash")
+public inline fun targetOutputHash(block: com.giyeok.bibix.TargetOutputHashKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.BibixIdProto.TargetOutputHash =
+  com.giyeok.bibix.TargetOutputHashKt.Dsl._create(com.giyeok.bibix.BibixIdProto.TargetOutputHash.newBuilder()).apply { block() }._build()
+/**
+ * ```
+ * 다른 target이 만든 파일이나 폴더. output_digest는 파일의 수정 시각을 포함하지 않으므로
+ * 그 target이 다시 빌드되어도 같은 내용을 만들었으면 값이 바뀌지 않는다
+ * ```
+ *
+ * Protobuf type `com.giyeok.bibix.TargetOutputHash`
+ */
+public object TargetOutputHashKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.BibixIdProto.TargetOutputHash.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.BibixIdProto.TargetOutputHash = _builder.build()
+
+    /**
+     * `string path = 1;`
+     */
+    public var path: kotlin.String
+      @JvmName("getPath")
+      get() = _builder.getPath()
+      @JvmName("setPath")
+      set(value) {
+        _builder.setPath(value)
+      }
+    /**
+     * `string path = 1;`
+     */
+    public fun clearPath() {
+      _builder.clearPath()
+    }
+
+    /**
+     * `string target_id = 2;`
+     */
+    public var targetId: kotlin.String
+      @JvmName("getTargetId")
+      get() = _builder.getTargetId()
+      @JvmName("setTargetId")
+      set(value) {
+        _builder.setTargetId(value)
+      }
+    /**
+     * `string target_id = 2;`
+     */
+    public fun clearTargetId() {
+      _builder.clearTargetId()
+    }
+
+    /**
+     * `bytes output_digest = 3;`
+     */
+    public var outputDigest: com.google.protobuf.ByteString
+      @JvmName("getOutputDigest")
+      get() = _builder.getOutputDigest()
+      @JvmName("setOutputDigest")
+      set(value) {
+        _builder.setOutputDigest(value)
+      }
+    /**
+     * `bytes output_digest = 3;`
+     */
+    public fun clearOutputDigest() {
+      _builder.clearOutputDigest()
+    }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.BibixIdProto.TargetOutputHash.copy(block: com.giyeok.bibix.TargetOutputHashKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.BibixIdProto.TargetOutputHash =
+  com.giyeok.bibix.TargetOutputHashKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
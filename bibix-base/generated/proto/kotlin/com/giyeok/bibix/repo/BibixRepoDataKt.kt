@@ -262,7 +262,275 @@ public object BibixRepoDataKt {
       .clear() {
          _builder.clearOutputNames()
        }
-  }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class TargetBuildStatsProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+     public val targetBuildStats: com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      @kotlin.jvm.JvmSynthetic
+      @JvmName("getTargetBuildStatsMap")
+      get() = com.google.protobuf.kotlin.DslMap(
+        _builder.getTargetBuildStatsMap()
+      )
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+    @JvmName("putTargetBuildStats")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      .put(key: kotlin.String, value: com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats) {
+         _builder.putTargetBuildStats(key, value)
+       }
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("setTargetBuildStats")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      .set(key: kotlin.String, value: com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats) {
+         put(key, value)
+       }
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("removeTargetBuildStats")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      .remove(key: kotlin.String) {
+         _builder.removeTargetBuildStats(key)
+       }
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("putAllTargetBuildStats")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      .putAll(map: kotlin.collections.Map<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats>) {
+         _builder.putAllTargetBuildStats(map)
+       }
+    /**
+     * ```
+     * target id hex -> 이전 빌드에서 측정한 통계. 빌드 스케줄링에 사용
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.TargetBuildStats> target_build_stats = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("clearTargetBuildStats")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats, TargetBuildStatsProxy>
+      .clear() {
+         _builder.clearTargetBuildStats()
+       }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class TargetLastAccessProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+     public val targetLastAccess: com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      @kotlin.jvm.JvmSynthetic
+      @JvmName("getTargetLastAccessMap")
+      get() = com.google.protobuf.kotlin.DslMap(
+        _builder.getTargetLastAccessMap()
+      )
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+    @JvmName("putTargetLastAccess")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      .put(key: kotlin.String, value: com.google.protobuf.Timestamp) {
+         _builder.putTargetLastAccess(key, value)
+       }
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("setTargetLastAccess")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      .set(key: kotlin.String, value: com.google.protobuf.Timestamp) {
+         put(key, value)
+       }
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("removeTargetLastAccess")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      .remove(key: kotlin.String) {
+         _builder.removeTargetLastAccess(key)
+       }
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("putAllTargetLastAccess")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      .putAll(map: kotlin.collections.Map<kotlin.String, com.google.protobuf.Timestamp>) {
+         _builder.putAllTargetLastAccess(map)
+       }
+    /**
+     * ```
+     * target id hex -> 이 target이 마지막으로 실행되거나 재사용된 시각. objects GC에 사용
+     * ```
+     *
+     * `map<string, .google.protobuf.Timestamp> target_last_access = 5;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("clearTargetLastAccess")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.google.protobuf.Timestamp, TargetLastAccessProxy>
+      .clear() {
+         _builder.clearTargetLastAccess()
+       }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class RemovedTargetsProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @return A list containing the removedTargets.
+     */
+    public val removedTargets: com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>
+      @kotlin.jvm.JvmSynthetic
+      get() = com.google.protobuf.kotlin.DslList(
+        _builder.getRemovedTargetsList()
+      )
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @param value The removedTargets to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addRemovedTargets")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.add(value: kotlin.String) {
+      _builder.addRemovedTargets(value)
+    }
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @param value The removedTargets to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignRemovedTargets")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.plusAssign(value: kotlin.String) {
+      add(value)
+    }
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @param values The removedTargets to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addAllRemovedTargets")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.addAll(values: kotlin.collections.Iterable<kotlin.String>) {
+      _builder.addAllRemovedTargets(values)
+    }
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @param values The removedTargets to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignAllRemovedTargets")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.plusAssign(values: kotlin.collections.Iterable<kotlin.String>) {
+      addAll(values)
+    }
+    /**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     * @param index The index to set the value at.
+     * @param value The removedTargets to set.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("setRemovedTargets")
+    public operator fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.set(index: kotlin.Int, value: kotlin.String) {
+      _builder.setRemovedTargets(index, value)
+    }/**
+     * ```
+     * repo log 기록에서만 사용. GC로 삭제된 target id hex들 - 이 target들의 항목은 snapshot에서 빠진다
+     * ```
+     *
+     * `repeated string removed_targets = 6;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("clearRemovedTargets")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, RemovedTargetsProxy>.clear() {
+      _builder.clearRemovedTargets()
+    }}
 }
 @kotlin.jvm.JvmSynthetic
 @com.google.errorprone.annotations.CheckReturnValue
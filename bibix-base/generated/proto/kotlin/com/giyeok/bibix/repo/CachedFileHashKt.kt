@@ -0,0 +1,111 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializecachedFileHash")
+public inline fun cachedFileHash(block: com.giyeok.bibix.repo.CachedFileHashKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash =
+  com.giyeok.bibix.repo.CachedFileHashKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.newBuilder()).apply { block() }._build()
+/**
+ * Protobuf type `com.giyeok.bibix.repo.CachedFileHash`
+ */
+public object CachedFileHashKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash = _builder.build()
+
+    /**
+     * `int64 size = 1;`
+     */
+    public var size: kotlin.Long
+      @JvmName("getSize")
+      get() = _builder.getSize()
+      @JvmName("setSize")
+      set(value) {
+        _builder.setSize(value)
+      }
+    /**
+     * `int64 size = 1;`
+     */
+    public fun clearSize() {
+      _builder.clearSize()
+    }
+
+    /**
+     * `int64 last_modified_nanos = 2;`
+     */
+    public var lastModifiedNanos: kotlin.Long
+      @JvmName("getLastModifiedNanos")
+      get() = _builder.getLastModifiedNanos()
+      @JvmName("setLastModifiedNanos")
+      set(value) {
+        _builder.setLastModifiedNanos(value)
+      }
+    /**
+     * `int64 last_modified_nanos = 2;`
+     */
+    public fun clearLastModifiedNanos() {
+      _builder.clearLastModifiedNanos()
+    }
+
+    /**
+     * ```
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * ```
+     *
+     * `string file_key = 3;`
+     */
+    public var fileKey: kotlin.String
+      @JvmName("getFileKey")
+      get() = _builder.getFileKey()
+      @JvmName("setFileKey")
+      set(value) {
+        _builder.setFileKey(value)
+      }
+    /**
+     * ```
+     * BasicFileAttributes.fileKey(unix에선 device와 inode). 지원하지 않는 파일 시스템에선 빈 문자열
+     * ```
+     *
+     * `string file_key = 3;`
+     */
+    public fun clearFileKey() {
+      _builder.clearFileKey()
+    }
+
+    /**
+     * `bytes content_hash = 4;`
+     */
+    public var contentHash: com.google.protobuf.ByteString
+      @JvmName("getContentHash")
+      get() = _builder.getContentHash()
+      @JvmName("setContentHash")
+      set(value) {
+        _builder.setContentHash(value)
+      }
+    /**
+     * `bytes content_hash = 4;`
+     */
+    public fun clearContentHash() {
+      _builder.clearContentHash()
+    }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash.copy(block: com.giyeok.bibix.repo.CachedFileHashKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash =
+  com.giyeok.bibix.repo.CachedFileHashKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
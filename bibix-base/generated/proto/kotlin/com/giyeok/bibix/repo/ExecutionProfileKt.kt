@@ -0,0 +1,253 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializeexecutionProfile")
+public inline fun executionProfile(block: com.giyeok.bibix.repo.ExecutionProfileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile =
+  com.giyeok.bibix.repo.ExecutionProfileKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.newBuilder()).apply { block() }._build()
+/**
+ * ```
+ * 빌드 한 번의 실행 기록. bbxbuild/profiles/<unique_run_id>.pb에 저장된다
+ * ```
+ *
+ * Protobuf type `com.giyeok.bibix.repo.ExecutionProfile`
+ */
+public object ExecutionProfileKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile = _builder.build()
+
+    /**
+     * `string unique_run_id = 1;`
+     */
+    public var uniqueRunId: kotlin.String
+      @JvmName("getUniqueRunId")
+      get() = _builder.getUniqueRunId()
+      @JvmName("setUniqueRunId")
+      set(value) {
+        _builder.setUniqueRunId(value)
+      }
+    /**
+     * `string unique_run_id = 1;`
+     */
+    public fun clearUniqueRunId() {
+      _builder.clearUniqueRunId()
+    }
+
+    /**
+     * `.google.protobuf.Timestamp start_time = 2;`
+     */
+    public var startTime: com.google.protobuf.Timestamp
+      @JvmName("getStartTime")
+      get() = _builder.getStartTime()
+      @JvmName("setStartTime")
+      set(value) {
+        _builder.setStartTime(value)
+      }
+    /**
+     * `.google.protobuf.Timestamp start_time = 2;`
+     */
+    public fun clearStartTime() {
+      _builder.clearStartTime()
+    }
+    /**
+     * `.google.protobuf.Timestamp start_time = 2;`
+     * @return Whether the startTime field is set.
+     */
+    public fun hasStartTime(): kotlin.Boolean {
+      return _builder.hasStartTime()
+    }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class ThreadsProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @return A list containing the threads.
+     */
+    public val threads: com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>
+      @kotlin.jvm.JvmSynthetic
+      get() = com.google.protobuf.kotlin.DslList(
+        _builder.getThreadsList()
+      )
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @param value The threads to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addThreads")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.add(value: kotlin.String) {
+      _builder.addThreads(value)
+    }
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @param value The threads to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignThreads")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.plusAssign(value: kotlin.String) {
+      add(value)
+    }
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @param values The threads to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addAllThreads")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.addAll(values: kotlin.collections.Iterable<kotlin.String>) {
+      _builder.addAllThreads(values)
+    }
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @param values The threads to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignAllThreads")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.plusAssign(values: kotlin.collections.Iterable<kotlin.String>) {
+      addAll(values)
+    }
+    /**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     * @param index The index to set the value at.
+     * @param value The threads to set.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("setThreads")
+    public operator fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.set(index: kotlin.Int, value: kotlin.String) {
+      _builder.setThreads(index, value)
+    }/**
+     * ```
+     * TaskProfile.thread는 이 목록의 index
+     * ```
+     *
+     * `repeated string threads = 3;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("clearThreads")
+    public fun com.google.protobuf.kotlin.DslList<kotlin.String, ThreadsProxy>.clear() {
+      _builder.clearThreads()
+    }
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class TasksProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     */
+     public val tasks: com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>
+      @kotlin.jvm.JvmSynthetic
+      get() = com.google.protobuf.kotlin.DslList(
+        _builder.getTasksList()
+      )
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     * @param value The tasks to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addTasks")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.add(value: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile) {
+      _builder.addTasks(value)
+    }
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     * @param value The tasks to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignTasks")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.plusAssign(value: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile) {
+      add(value)
+    }
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     * @param values The tasks to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addAllTasks")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.addAll(values: kotlin.collections.Iterable<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile>) {
+      _builder.addAllTasks(values)
+    }
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     * @param values The tasks to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignAllTasks")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.plusAssign(values: kotlin.collections.Iterable<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile>) {
+      addAll(values)
+    }
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     * @param index The index to set the value at.
+     * @param value The tasks to set.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("setTasks")
+    public operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.set(index: kotlin.Int, value: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile) {
+      _builder.setTasks(index, value)
+    }
+    /**
+     * `repeated .com.giyeok.bibix.repo.TaskProfile tasks = 4;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("clearTasks")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.TaskProfile, TasksProxy>.clear() {
+      _builder.clearTasks()
+    }
+
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile.copy(block: com.giyeok.bibix.repo.ExecutionProfileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile =
+  com.giyeok.bibix.repo.ExecutionProfileKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
+public val com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfileOrBuilder.startTimeOrNull: com.google.protobuf.Timestamp?
+  get() = if (hasStartTime()) getStartTime() else null
+
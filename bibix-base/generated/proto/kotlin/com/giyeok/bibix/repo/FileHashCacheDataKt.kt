@@ -0,0 +1,149 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializefileHashCacheData")
+public inline fun fileHashCacheData(block: com.giyeok.bibix.repo.FileHashCacheDataKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData =
+  com.giyeok.bibix.repo.FileHashCacheDataKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.newBuilder()).apply { block() }._build()
+/**
+ * ```
+ * 이전 run들에서 계산한 입력 파일들의 해시. bbxbuild/filehashes.pb에 저장된다
+ * ```
+ *
+ * Protobuf type `com.giyeok.bibix.repo.FileHashCacheData`
+ */
+public object FileHashCacheDataKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData = _builder.build()
+
+    /**
+     * ```
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
+     * ```
+     *
+     * `string algorithm = 1;`
+     */
+    public var algorithm: kotlin.String
+      @JvmName("getAlgorithm")
+      get() = _builder.getAlgorithm()
+      @JvmName("setAlgorithm")
+      set(value) {
+        _builder.setAlgorithm(value)
+      }
+    /**
+     * ```
+     * 해시 알고리즘이 바뀌면 캐시를 사용하지 않는다
+     * ```
+     *
+     * `string algorithm = 1;`
+     */
+    public fun clearAlgorithm() {
+      _builder.clearAlgorithm()
+    }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class FilesProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+     public val files: com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      @kotlin.jvm.JvmSynthetic
+      @JvmName("getFilesMap")
+      get() = com.google.protobuf.kotlin.DslMap(
+        _builder.getFilesMap()
+      )
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+    @JvmName("putFiles")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      .put(key: kotlin.String, value: com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash) {
+         _builder.putFiles(key, value)
+       }
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("setFiles")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      .set(key: kotlin.String, value: com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash) {
+         put(key, value)
+       }
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("removeFiles")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      .remove(key: kotlin.String) {
+         _builder.removeFiles(key)
+       }
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("putAllFiles")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      .putAll(map: kotlin.collections.Map<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash>) {
+         _builder.putAllFiles(map)
+       }
+    /**
+     * ```
+     * absolute path -> 마지막으로 해시를 계산했을 때의 파일 정보와 해시
+     * ```
+     *
+     * `map<string, .com.giyeok.bibix.repo.CachedFileHash> files = 2;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @JvmName("clearFiles")
+    public fun com.google.protobuf.kotlin.DslMap<kotlin.String, com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash, FilesProxy>
+      .clear() {
+         _builder.clearFiles()
+       }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData.copy(block: com.giyeok.bibix.repo.FileHashCacheDataKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData =
+  com.giyeok.bibix.repo.FileHashCacheDataKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
@@ -0,0 +1,181 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializeremoteCacheEntry")
+public inline fun remoteCacheEntry(block: com.giyeok.bibix.repo.RemoteCacheEntryKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry =
+  com.giyeok.bibix.repo.RemoteCacheEntryKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.newBuilder()).apply { block() }._build()
+/**
+ * ```
+ * remote cache에 저장되는 target 결과 하나. /v1/entries/<remote cache key>에 저장된다
+ * ```
+ *
+ * Protobuf type `com.giyeok.bibix.repo.RemoteCacheEntry`
+ */
+public object RemoteCacheEntryKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry = _builder.build()
+
+    /**
+     * ```
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * ```
+     *
+     * `.com.giyeok.bibix.BibixValue result_value = 1;`
+     */
+    public var resultValue: com.giyeok.bibix.BibixValueProto.BibixValue
+      @JvmName("getResultValue")
+      get() = _builder.getResultValue()
+      @JvmName("setResultValue")
+      set(value) {
+        _builder.setResultValue(value)
+      }
+    /**
+     * ```
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * ```
+     *
+     * `.com.giyeok.bibix.BibixValue result_value = 1;`
+     */
+    public fun clearResultValue() {
+      _builder.clearResultValue()
+    }
+    /**
+     * ```
+     * 결과 값에 들어있는 경로들 중 object 폴더, shared 폴더, bbxbuild 폴더, 프로젝트 폴더 밑의 경로는
+     * ${OBJECT}, ${SHARED}, ${BBXBUILD}, ${PROJECT}로 시작하는 상대 경로로 바꿔서 저장한다
+     * ```
+     *
+     * `.com.giyeok.bibix.BibixValue result_value = 1;`
+     * @return Whether the resultValue field is set.
+     */
+    public fun hasResultValue(): kotlin.Boolean {
+      return _builder.hasResultValue()
+    }
+
+    /**
+     * An uninstantiable, behaviorless type to represent the field in
+     * generics.
+     */
+    @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+    public class FilesProxy private constructor() : com.google.protobuf.kotlin.DslProxy()
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     */
+     public val files: com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>
+      @kotlin.jvm.JvmSynthetic
+      get() = com.google.protobuf.kotlin.DslList(
+        _builder.getFilesList()
+      )
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     * @param value The files to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addFiles")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.add(value: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile) {
+      _builder.addFiles(value)
+    }
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     * @param value The files to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignFiles")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.plusAssign(value: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile) {
+      add(value)
+    }
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     * @param values The files to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("addAllFiles")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.addAll(values: kotlin.collections.Iterable<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile>) {
+      _builder.addAllFiles(values)
+    }
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     * @param values The files to add.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("plusAssignAllFiles")
+    @Suppress("NOTHING_TO_INLINE")
+    public inline operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.plusAssign(values: kotlin.collections.Iterable<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile>) {
+      addAll(values)
+    }
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     * @param index The index to set the value at.
+     * @param value The files to set.
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("setFiles")
+    public operator fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.set(index: kotlin.Int, value: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile) {
+      _builder.setFiles(index, value)
+    }
+    /**
+     * ```
+     * object 폴더의 파일들. 내용은 /v1/blobs/<sha256>에 저장된다
+     * ```
+     *
+     * `repeated .com.giyeok.bibix.repo.RemoteCacheFile files = 2;`
+     */
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.jvm.JvmName("clearFiles")
+    public fun com.google.protobuf.kotlin.DslList<com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile, FilesProxy>.clear() {
+      _builder.clearFiles()
+    }
+
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry.copy(block: com.giyeok.bibix.repo.RemoteCacheEntryKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry =
+  com.giyeok.bibix.repo.RemoteCacheEntryKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
+public val com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntryOrBuilder.resultValueOrNull: com.giyeok.bibix.BibixValueProto.BibixValue?
+  get() = if (hasResultValue()) getResultValue() else null
+
@@ -0,0 +1,111 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializeremoteCacheFile")
+public inline fun remoteCacheFile(block: com.giyeok.bibix.repo.RemoteCacheFileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile =
+  com.giyeok.bibix.repo.RemoteCacheFileKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.newBuilder()).apply { block() }._build()
+/**
+ * Protobuf type `com.giyeok.bibix.repo.RemoteCacheFile`
+ */
+public object RemoteCacheFileKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile = _builder.build()
+
+    /**
+     * ```
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * ```
+     *
+     * `string path = 1;`
+     */
+    public var path: kotlin.String
+      @JvmName("getPath")
+      get() = _builder.getPath()
+      @JvmName("setPath")
+      set(value) {
+        _builder.setPath(value)
+      }
+    /**
+     * ```
+     * object 폴더 기준의 상대 경로. '/'로 구분한다
+     * ```
+     *
+     * `string path = 1;`
+     */
+    public fun clearPath() {
+      _builder.clearPath()
+    }
+
+    /**
+     * `bytes sha256 = 2;`
+     */
+    public var sha256: com.google.protobuf.ByteString
+      @JvmName("getSha256")
+      get() = _builder.getSha256()
+      @JvmName("setSha256")
+      set(value) {
+        _builder.setSha256(value)
+      }
+    /**
+     * `bytes sha256 = 2;`
+     */
+    public fun clearSha256() {
+      _builder.clearSha256()
+    }
+
+    /**
+     * `int64 size = 3;`
+     */
+    public var size: kotlin.Long
+      @JvmName("getSize")
+      get() = _builder.getSize()
+      @JvmName("setSize")
+      set(value) {
+        _builder.setSize(value)
+      }
+    /**
+     * `int64 size = 3;`
+     */
+    public fun clearSize() {
+      _builder.clearSize()
+    }
+
+    /**
+     * `bool executable = 4;`
+     */
+    public var executable: kotlin.Boolean
+      @JvmName("getExecutable")
+      get() = _builder.getExecutable()
+      @JvmName("setExecutable")
+      set(value) {
+        _builder.setExecutable(value)
+      }
+    /**
+     * `bool executable = 4;`
+     */
+    public fun clearExecutable() {
+      _builder.clearExecutable()
+    }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile.copy(block: com.giyeok.bibix.repo.RemoteCacheFileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheFile =
+  com.giyeok.bibix.repo.RemoteCacheFileKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
@@ -0,0 +1,113 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializetargetBuildStats")
+public inline fun targetBuildStats(block: com.giyeok.bibix.repo.TargetBuildStatsKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats =
+  com.giyeok.bibix.repo.TargetBuildStatsKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.newBuilder()).apply { block() }._build()
+/**
+ * Protobuf type `com.giyeok.bibix.repo.TargetBuildStats`
+ */
+public object TargetBuildStatsKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats = _builder.build()
+
+    /**
+     * ```
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * ```
+     *
+     * `.google.protobuf.Duration body_duration = 1;`
+     */
+    public var bodyDuration: com.google.protobuf.Duration
+      @JvmName("getBodyDuration")
+      get() = _builder.getBodyDuration()
+      @JvmName("setBodyDuration")
+      set(value) {
+        _builder.setBodyDuration(value)
+      }
+    /**
+     * ```
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * ```
+     *
+     * `.google.protobuf.Duration body_duration = 1;`
+     */
+    public fun clearBodyDuration() {
+      _builder.clearBodyDuration()
+    }
+    /**
+     * ```
+     * 마지막 빌드에서 이 target의 build rule body들을 실행하는 데 걸린 시간
+     * ```
+     *
+     * `.google.protobuf.Duration body_duration = 1;`
+     * @return Whether the bodyDuration field is set.
+     */
+    public fun hasBodyDuration(): kotlin.Boolean {
+      return _builder.hasBodyDuration()
+    }
+
+    /**
+     * ```
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * ```
+     *
+     * `.google.protobuf.Duration critical_path_duration = 2;`
+     */
+    public var criticalPathDuration: com.google.protobuf.Duration
+      @JvmName("getCriticalPathDuration")
+      get() = _builder.getCriticalPathDuration()
+      @JvmName("setCriticalPathDuration")
+      set(value) {
+        _builder.setCriticalPathDuration(value)
+      }
+    /**
+     * ```
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * ```
+     *
+     * `.google.protobuf.Duration critical_path_duration = 2;`
+     */
+    public fun clearCriticalPathDuration() {
+      _builder.clearCriticalPathDuration()
+    }
+    /**
+     * ```
+     * 마지막 빌드에서 이 target부터 이 target을 필요로 하는 target들을 따라 root까지 가는 가장 긴 경로의 body 실행 시간 합
+     * ```
+     *
+     * `.google.protobuf.Duration critical_path_duration = 2;`
+     * @return Whether the criticalPathDuration field is set.
+     */
+    public fun hasCriticalPathDuration(): kotlin.Boolean {
+      return _builder.hasCriticalPathDuration()
+    }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats.copy(block: com.giyeok.bibix.repo.TargetBuildStatsKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats =
+  com.giyeok.bibix.repo.TargetBuildStatsKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
+public val com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStatsOrBuilder.bodyDurationOrNull: com.google.protobuf.Duration?
+  get() = if (hasBodyDuration()) getBodyDuration() else null
+
+public val com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStatsOrBuilder.criticalPathDurationOrNull: com.google.protobuf.Duration?
+  get() = if (hasCriticalPathDuration()) getCriticalPathDuration() else null
+
@@ -301,6 +301,31 @@ public object TargetStateKt {
       public fun hasObjectId(): kotlin.Boolean {
         return _builder.hasObjectId()
       }
+
+      /**
+       * ```
+       * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+       * ```
+       *
+       * `bytes output_digest = 4;`
+       */
+      public var outputDigest: com.google.protobuf.ByteString
+        @JvmName("getOutputDigest")
+        get() = _builder.getOutputDigest()
+        @JvmName("setOutputDigest")
+        set(value) {
+          _builder.setOutputDigest(value)
+        }
+      /**
+       * ```
+       * result_value와 object 폴더 안의 파일들의 상대 경로와 내용으로 계산한 digest
+       * ```
+       *
+       * `bytes output_digest = 4;`
+       */
+      public fun clearOutputDigest() {
+        _builder.clearOutputDigest()
+      }
     }
   }
   @kotlin.jvm.JvmName("-initializebuildFailed")
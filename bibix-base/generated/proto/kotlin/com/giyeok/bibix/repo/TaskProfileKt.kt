@@ -0,0 +1,242 @@
+// Generated by the protocol buffer compiler. DO NOT EDIT!
+// source: repo.proto
+
+// Generated files should ignore deprecation warnings
+@file:Suppress("DEPRECATION")
+package com.giyeok.bibix.repo;
+
+@kotlin.jvm.JvmName("-initializetaskProfile")
+public inline fun taskProfile(block: com.giyeok.bibix.repo.TaskProfileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.TaskProfile =
+  com.giyeok.bibix.repo.TaskProfileKt.Dsl._create(com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.newBuilder()).apply { block() }._build()
+/**
+ * Protobuf type `com.giyeok.bibix.repo.TaskProfile`
+ */
+public object TaskProfileKt {
+  @kotlin.OptIn(com.google.protobuf.kotlin.OnlyForUseByGeneratedProtoCode::class)
+  @com.google.protobuf.kotlin.ProtoDslMarker
+  public class Dsl private constructor(
+    private val _builder: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder
+  ) {
+    public companion object {
+      @kotlin.jvm.JvmSynthetic
+      @kotlin.PublishedApi
+      internal fun _create(builder: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Builder): Dsl = Dsl(builder)
+    }
+
+    @kotlin.jvm.JvmSynthetic
+    @kotlin.PublishedApi
+    internal fun _build(): com.giyeok.bibix.repo.BibixRepoProto.TaskProfile = _builder.build()
+
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;`
+     */
+    public var kind: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.Kind
+      @JvmName("getKind")
+      get() = _builder.getKind()
+      @JvmName("setKind")
+      set(value) {
+        _builder.setKind(value)
+      }
+    public var kindValue: kotlin.Int
+      @JvmName("getKindValue")
+      get() = _builder.getKindValue()
+      @JvmName("setKindValue")
+      set(value) {
+        _builder.setKindValue(value)
+      }
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.Kind kind = 1;`
+     */
+    public fun clearKind() {
+      _builder.clearKind()
+    }
+
+    /**
+     * `string name = 2;`
+     */
+    public var name: kotlin.String
+      @JvmName("getName")
+      get() = _builder.getName()
+      @JvmName("setName")
+      set(value) {
+        _builder.setName(value)
+      }
+    /**
+     * `string name = 2;`
+     */
+    public fun clearName() {
+      _builder.clearName()
+    }
+
+    /**
+     * `string target_id = 3;`
+     */
+    public var targetId: kotlin.String
+      @JvmName("getTargetId")
+      get() = _builder.getTargetId()
+      @JvmName("setTargetId")
+      set(value) {
+        _builder.setTargetId(value)
+      }
+    /**
+     * `string target_id = 3;`
+     */
+    public fun clearTargetId() {
+      _builder.clearTargetId()
+    }
+
+    /**
+     * ```
+     * 빌드 시작 시점부터의 시간
+     * ```
+     *
+     * `int64 start_micros = 4;`
+     */
+    public var startMicros: kotlin.Long
+      @JvmName("getStartMicros")
+      get() = _builder.getStartMicros()
+      @JvmName("setStartMicros")
+      set(value) {
+        _builder.setStartMicros(value)
+      }
+    /**
+     * ```
+     * 빌드 시작 시점부터의 시간
+     * ```
+     *
+     * `int64 start_micros = 4;`
+     */
+    public fun clearStartMicros() {
+      _builder.clearStartMicros()
+    }
+
+    /**
+     * `int64 end_micros = 5;`
+     */
+    public var endMicros: kotlin.Long
+      @JvmName("getEndMicros")
+      get() = _builder.getEndMicros()
+      @JvmName("setEndMicros")
+      set(value) {
+        _builder.setEndMicros(value)
+      }
+    /**
+     * `int64 end_micros = 5;`
+     */
+    public fun clearEndMicros() {
+      _builder.clearEndMicros()
+    }
+
+    /**
+     * `int32 thread = 6;`
+     */
+    public var thread: kotlin.Int
+      @JvmName("getThread")
+      get() = _builder.getThread()
+      @JvmName("setThread")
+      set(value) {
+        _builder.setThread(value)
+      }
+    /**
+     * `int32 thread = 6;`
+     */
+    public fun clearThread() {
+      _builder.clearThread()
+    }
+
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;`
+     */
+    public var cache: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.CacheResult
+      @JvmName("getCache")
+      get() = _builder.getCache()
+      @JvmName("setCache")
+      set(value) {
+        _builder.setCache(value)
+      }
+    public var cacheValue: kotlin.Int
+      @JvmName("getCacheValue")
+      get() = _builder.getCacheValue()
+      @JvmName("setCacheValue")
+      set(value) {
+        _builder.setCacheValue(value)
+      }
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.CacheResult cache = 7;`
+     */
+    public fun clearCache() {
+      _builder.clearCache()
+    }
+
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;`
+     */
+    public var reuse: com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.ReuseSource
+      @JvmName("getReuse")
+      get() = _builder.getReuse()
+      @JvmName("setReuse")
+      set(value) {
+        _builder.setReuse(value)
+      }
+    public var reuseValue: kotlin.Int
+      @JvmName("getReuseValue")
+      get() = _builder.getReuseValue()
+      @JvmName("setReuseValue")
+      set(value) {
+        _builder.setReuseValue(value)
+      }
+    /**
+     * `.com.giyeok.bibix.repo.TaskProfile.ReuseSource reuse = 8;`
+     */
+    public fun clearReuse() {
+      _builder.clearReuse()
+    }
+
+    /**
+     * ```
+     * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+     * ```
+     *
+     * `int64 wait_micros = 9;`
+     */
+    public var waitMicros: kotlin.Long
+      @JvmName("getWaitMicros")
+      get() = _builder.getWaitMicros()
+      @JvmName("setWaitMicros")
+      set(value) {
+        _builder.setWaitMicros(value)
+      }
+    /**
+     * ```
+     * body를 실행할 스레드를 기다린 시간이나, 다른 곳에서 계산 중인 결과를 기다린 시간
+     * ```
+     *
+     * `int64 wait_micros = 9;`
+     */
+    public fun clearWaitMicros() {
+      _builder.clearWaitMicros()
+    }
+
+    /**
+     * `bool failed = 10;`
+     */
+    public var failed: kotlin.Boolean
+      @JvmName("getFailed")
+      get() = _builder.getFailed()
+      @JvmName("setFailed")
+      set(value) {
+        _builder.setFailed(value)
+      }
+    /**
+     * `bool failed = 10;`
+     */
+    public fun clearFailed() {
+      _builder.clearFailed()
+    }
+  }
+}
+@kotlin.jvm.JvmSynthetic
+@com.google.errorprone.annotations.CheckReturnValue
+public inline fun com.giyeok.bibix.repo.BibixRepoProto.TaskProfile.copy(block: com.giyeok.bibix.repo.TaskProfileKt.Dsl.() -> kotlin.Unit): com.giyeok.bibix.repo.BibixRepoProto.TaskProfile =
+  com.giyeok.bibix.repo.TaskProfileKt.Dsl._create(this.toBuilder()).apply { block() }._build()
+
@@ -91,6 +91,300 @@ public object RunConfigKt {
     public fun hasTargetResultReuseDuration(): kotlin.Boolean {
       return _builder.hasTargetResultReuseDuration()
     }
+
+    /**
+     * ```
+     * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+     * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+     * ```
+     *
+     * `bool use_virtual_threads = 4;`
+     */
+    public var useVirtualThreads: kotlin.Boolean
+      @JvmName("getUseVirtualThreads")
+      get() = _builder.getUseVirtualThreads()
+      @JvmName("setUseVirtualThreads")
+      set(value) {
+        _builder.setUseVirtualThreads(value)
+      }
+    /**
+     * ```
+     * true이면 build rule의 body들을 platform thread pool 대신 virtual thread에서 실행한다.
+     * IoBound가 아닌 body들은 cpu_permits개 중 하나의 permit을 얻은 뒤에 실행된다
+     * ```
+     *
+     * `bool use_virtual_threads = 4;`
+     */
+    public fun clearUseVirtualThreads() {
+      _builder.clearUseVirtualThreads()
+    }
+
+    /**
+     * ```
+     * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+     * ```
+     *
+     * `int32 cpu_permits = 5;`
+     */
+    public var cpuPermits: kotlin.Int
+      @JvmName("getCpuPermits")
+      get() = _builder.getCpuPermits()
+      @JvmName("setCpuPermits")
+      set(value) {
+        _builder.setCpuPermits(value)
+      }
+    /**
+     * ```
+     * use_virtual_threads일 때 동시에 실행될 수 있는 CPU 작업의 수. 0 이하이면 max_threads를 사용한다
+     * ```
+     *
+     * `int32 cpu_permits = 5;`
+     */
+    public fun clearCpuPermits() {
+      _builder.clearCpuPermits()
+    }
+
+    /**
+     * ```
+     * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+     * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+     * ```
+     *
+     * `bool skip_task_rel_tracking = 6;`
+     */
+    public var skipTaskRelTracking: kotlin.Boolean
+      @JvmName("getSkipTaskRelTracking")
+      get() = _builder.getSkipTaskRelTracking()
+      @JvmName("setSkipTaskRelTracking")
+      set(value) {
+        _builder.setSkipTaskRelTracking(value)
+      }
+    /**
+     * ```
+     * true이면 빌드 중에 task 사이의 관계를 기록하지 않는다. 정의들 사이의 싸이클은 빌드 전에 검사되지만,
+     * plugin이 동적으로 만드는 싸이클은 감지되지 않고, critical path도 body 실행 시간만으로 계산된다
+     * ```
+     *
+     * `bool skip_task_rel_tracking = 6;`
+     */
+    public fun clearSkipTaskRelTracking() {
+      _builder.clearSkipTaskRelTracking()
+    }
+
+    /**
+     * ```
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * ```
+     *
+     * `.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;`
+     */
+    public var repoLogFsync: com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync
+      @JvmName("getRepoLogFsync")
+      get() = _builder.getRepoLogFsync()
+      @JvmName("setRepoLogFsync")
+      set(value) {
+        _builder.setRepoLogFsync(value)
+      }
+    public var repoLogFsyncValue: kotlin.Int
+      @JvmName("getRepoLogFsyncValue")
+      get() = _builder.getRepoLogFsyncValue()
+      @JvmName("setRepoLogFsyncValue")
+      set(value) {
+        _builder.setRepoLogFsyncValue(value)
+      }
+    /**
+     * ```
+     * bbxbuild/repo.log에 기록을 쓴 뒤에 언제 fsync할지
+     * ```
+     *
+     * `.com.giyeok.bibix.runner.RepoLogFsync repo_log_fsync = 7;`
+     */
+    public fun clearRepoLogFsync() {
+      _builder.clearRepoLogFsync()
+    }
+
+    /**
+     * ```
+     * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+     * ```
+     *
+     * `int64 objects_size_budget = 8;`
+     */
+    public var objectsSizeBudget: kotlin.Long
+      @JvmName("getObjectsSizeBudget")
+      get() = _builder.getObjectsSizeBudget()
+      @JvmName("setObjectsSizeBudget")
+      set(value) {
+        _builder.setObjectsSizeBudget(value)
+      }
+    /**
+     * ```
+     * bbxbuild/objects 폴더의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하면 output name에서 참조되지 않는 object들을 오래 전에 사용된 것부터 이 크기 이하가 될 때까지 지운다
+     * ```
+     *
+     * `int64 objects_size_budget = 8;`
+     */
+    public fun clearObjectsSizeBudget() {
+      _builder.clearObjectsSizeBudget()
+    }
+
+    /**
+     * ```
+     * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+     * ```
+     *
+     * `bool auto_gc = 9;`
+     */
+    public var autoGc: kotlin.Boolean
+      @JvmName("getAutoGc")
+      get() = _builder.getAutoGc()
+      @JvmName("setAutoGc")
+      set(value) {
+        _builder.setAutoGc(value)
+      }
+    /**
+     * ```
+     * true이면 빌드가 끝날 때마다 objects_size_budget에 맞춰서 GC한다
+     * ```
+     *
+     * `bool auto_gc = 9;`
+     */
+    public fun clearAutoGc() {
+      _builder.clearAutoGc()
+    }
+
+    /**
+     * ```
+     * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+     * bbxbuild/objects/<target id> 밑에는 hardlink를 둔다
+     * ```
+     *
+     * `bool content_addressed_objects = 10;`
+     */
+    public var contentAddressedObjects: kotlin.Boolean
+      @JvmName("getContentAddressedObjects")
+      get() = _builder.getContentAddressedObjects()
+      @JvmName("setContentAddressedObjects")
+      set(value) {
+        _builder.setContentAddressedObjects(value)
+      }
+    /**
+     * ```
+     * true이면 target이 만든 파일들을 bbxbuild/cas에 내용의 digest로 한 번만 저장하고,
+     * bbxbuild/objects/<target id> 밑에는 hardlink를 둔다
+     * ```
+     *
+     * `bool content_addressed_objects = 10;`
+     */
+    public fun clearContentAddressedObjects() {
+      _builder.clearContentAddressedObjects()
+    }
+
+    /**
+     * ```
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * ```
+     *
+     * `string remote_cache_url = 11;`
+     */
+    public var remoteCacheUrl: kotlin.String
+      @JvmName("getRemoteCacheUrl")
+      get() = _builder.getRemoteCacheUrl()
+      @JvmName("setRemoteCacheUrl")
+      set(value) {
+        _builder.setRemoteCacheUrl(value)
+      }
+    /**
+     * ```
+     * 비어있지 않으면 로컬에서 재사용할 수 없는 target의 결과를 이 주소의 remote cache에서 찾는다. 예: http://localhost:8711
+     * ```
+     *
+     * `string remote_cache_url = 11;`
+     */
+    public fun clearRemoteCacheUrl() {
+      _builder.clearRemoteCacheUrl()
+    }
+
+    /**
+     * ```
+     * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+     * ```
+     *
+     * `bool remote_cache_upload = 12;`
+     */
+    public var remoteCacheUpload: kotlin.Boolean
+      @JvmName("getRemoteCacheUpload")
+      get() = _builder.getRemoteCacheUpload()
+      @JvmName("setRemoteCacheUpload")
+      set(value) {
+        _builder.setRemoteCacheUpload(value)
+      }
+    /**
+     * ```
+     * true이면 빌드에 성공한 target의 결과를 remote cache에 올린다
+     * ```
+     *
+     * `bool remote_cache_upload = 12;`
+     */
+    public fun clearRemoteCacheUpload() {
+      _builder.clearRemoteCacheUpload()
+    }
+
+    /**
+     * ```
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * ```
+     *
+     * `string shared_root_directory = 13;`
+     */
+    public var sharedRootDirectory: kotlin.String
+      @JvmName("getSharedRootDirectory")
+      get() = _builder.getSharedRootDirectory()
+      @JvmName("setSharedRootDirectory")
+      set(value) {
+        _builder.setSharedRootDirectory(value)
+      }
+    /**
+     * ```
+     * maven 저장소나 git plugin의 clone처럼 여러 프로젝트가 같이 쓸 수 있는 shared directory들을 둘 폴더. 예: ~/.cache/bibix
+     * 비어있으면 BIBIX_SHARED_ROOT 환경 변수를 사용하고, 그것도 없으면 bbxbuild/shared를 사용한다
+     * ```
+     *
+     * `string shared_root_directory = 13;`
+     */
+    public fun clearSharedRootDirectory() {
+      _builder.clearSharedRootDirectory()
+    }
+
+    /**
+     * ```
+     * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+     * ```
+     *
+     * `int64 shared_size_budget = 14;`
+     */
+    public var sharedSizeBudget: kotlin.Long
+      @JvmName("getSharedSizeBudget")
+      get() = _builder.getSharedSizeBudget()
+      @JvmName("setSharedSizeBudget")
+      set(value) {
+        _builder.setSharedSizeBudget(value)
+      }
+    /**
+     * ```
+     * shared root의 크기 제한(바이트). 0 이하이면 제한하지 않는다.
+     * `bibix gc`를 실행하거나 auto_gc가 켜져 있으면 오래 사용되지 않은 entry부터 이 크기 이하가 될 때까지 지운다
+     * ```
+     *
+     * `int64 shared_size_budget = 14;`
+     */
+    public fun clearSharedSizeBudget() {
+      _builder.clearSharedSizeBudget()
+    }
   }
 }
 @kotlin.jvm.JvmSynthetic
@@ -1,8 +1,13 @@
 package com.giyeok.bibix.base
 
+import com.google.protobuf.ByteString
 import java.nio.file.Path
 
 sealed class BibixValue {
+  // structuralDigest()의 결과. 값은 immutable하므로 여러 스레드에서 동시에 계산해도 같은 값이 된다
+  @Volatile
+  internal var memoizedDigest: ByteString? = null
+
   inline fun <reified T> nullOr(): T? =
     if (this == NoneValue) null else this as T
 }
@@ -36,6 +36,11 @@ sealed class BuildRuleReturn {
     @JvmStatic
     fun withDirectoryLock(directory: Path, withLock: () -> BuildRuleReturn) =
       WithDirectoryLock(directory, withLock)
+
+    // 폴더를 읽기만 하는 경우. 다른 shared lock과는 동시에 실행될 수 있다
+    @JvmStatic
+    fun withSharedDirectoryLock(directory: Path, withLock: () -> BuildRuleReturn) =
+      WithDirectoryLock(directory, withLock, shared = true)
   }
 
   data class ValueReturn(val value: BibixValue) : BuildRuleReturn()
@@ -59,6 +64,7 @@ sealed class BuildRuleReturn {
   data class WithDirectoryLock(
     val directory: Path,
     val withLock: () -> BuildRuleReturn,
+    val shared: Boolean = false,
   ) : BuildRuleReturn()
 }
 
@@ -0,0 +1,8 @@
+package com.giyeok.bibix.base
+
+// build rule이나 action의 구현 메소드가 주로 네트워크, 외부 프로세스 등을 기다리는 경우 붙인다.
+// RunConfig에서 virtual thread를 사용하도록 설정되어 있으면 이 메소드와 이어서 실행되는 작업들은
+// CPU permit을 기다리지 않고 바로 virtual thread에서 실행된다
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class IoBound
@@ -0,0 +1,170 @@
+package com.giyeok.bibix.base
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.UnsafeByteOperations
+import java.nio.ByteBuffer
+import java.security.MessageDigest
+import kotlin.io.path.absolutePathString
+
+// BibixValue의 구조적인 digest(SHA-1). 같은 값은 같은 digest를 갖고, SetValue의 digest는 원소들의 순서와 상관 없다.
+// composite 값들은 자식들의 digest로 자신의 digest를 계산해서 값 안에 기억해두므로,
+// 같은 값 인스턴스가 여러 target의 인자로 쓰여도 digest는 한 번만 계산한다
+fun BibixValue.structuralDigest(): ByteString {
+  memoizedDigest?.let { return it }
+  val digest = computeDigest(this)
+  memoizedDigest = digest
+  return digest
+}
+
+private val valueDigests = ThreadLocal.withInitial { MessageDigest.getInstance("SHA-1") }
+
+private class DigestWriter(val digest: MessageDigest) {
+  private val intBuffer = ByteBuffer.allocate(4)
+
+  fun tag(tag: Char) {
+    digest.update(tag.code.toByte())
+  }
+
+  fun int(value: Int) {
+    intBuffer.clear()
+    intBuffer.putInt(value)
+    digest.update(intBuffer.array())
+  }
+
+  fun string(value: String) {
+    val bytes = value.toByteArray(Charsets.UTF_8)
+    int(bytes.size)
+    digest.update(bytes)
+  }
+
+  fun child(value: ByteString) {
+    digest.update(value.asReadOnlyByteBuffer())
+  }
+
+  fun children(values: List<ByteString>) {
+    int(values.size)
+    values.forEach { child(it) }
+  }
+}
+
+private val byteStringComparator = ByteString.unsignedLexicographicalComparator()
+
+private fun computeDigest(value: BibixValue): ByteString {
+  // 자식들의 digest를 먼저 계산해야 thread local digest를 중첩해서 사용하지 않는다
+  val children: List<ByteString> = when (value) {
+    is CollectionValue -> value.values.map { it.structuralDigest() }
+    is TupleValue -> value.values.map { it.structuralDigest() }
+    is NamedTupleValue -> value.pairs.map { it.second.structuralDigest() }
+    is ClassInstanceValue ->
+      value.fieldValues.entries.sortedBy { it.key }.map { it.value.structuralDigest() }
+
+    is NClassInstanceValue ->
+      value.fieldValues.entries.sortedBy { it.key }.map { it.value.structuralDigest() }
+
+    else -> listOf()
+  }
+
+  val digest = valueDigests.get()
+  digest.reset()
+  val writer = DigestWriter(digest)
+  when (value) {
+    is BooleanValue -> {
+      writer.tag('b')
+      writer.int(if (value.value) 1 else 0)
+    }
+
+    is StringValue -> {
+      writer.tag('s')
+      writer.string(value.value)
+    }
+
+    is PathValue -> {
+      writer.tag('p')
+      writer.string(value.path.absolutePathString())
+    }
+
+    is FileValue -> {
+      writer.tag('f')
+      writer.string(value.file.absolutePathString())
+    }
+
+    is DirectoryValue -> {
+      writer.tag('d')
+      writer.string(value.directory.absolutePathString())
+    }
+
+    is EnumValue -> {
+      writer.tag('e')
+      writer.string("${value.packageName}:${value.enumName}")
+      writer.string(value.value)
+    }
+
+    is ListValue -> {
+      writer.tag('l')
+      writer.children(children)
+    }
+
+    is SetValue -> {
+      writer.tag('S')
+      writer.children(children.sortedWith(byteStringComparator))
+    }
+
+    is TupleValue -> {
+      writer.tag('t')
+      writer.children(children)
+    }
+
+    is NamedTupleValue -> {
+      writer.tag('n')
+      writer.int(value.pairs.size)
+      value.pairs.zip(children).forEach { (pair, child) ->
+        writer.string(pair.first)
+        writer.child(child)
+      }
+    }
+
+    is ClassInstanceValue -> {
+      writer.tag('c')
+      writer.string("${value.packageName}:${value.className}")
+      writer.int(value.fieldValues.size)
+      value.fieldValues.keys.sorted().zip(children).forEach { (name, child) ->
+        writer.string(name)
+        writer.child(child)
+      }
+    }
+
+    is NClassInstanceValue -> {
+      writer.tag('N')
+      writer.string(value.nameTokens.joinToString("."))
+      writer.int(value.fieldValues.size)
+      value.fieldValues.keys.sorted().zip(children).forEach { (name, child) ->
+        writer.string(name)
+        writer.child(child)
+      }
+    }
+
+    NoneValue -> writer.tag('0')
+
+    is BuildRuleDefValue -> {
+      writer.tag('B')
+      writer.string(value.name.toString())
+      writer.string(value.implClassName)
+      writer.string(value.implMethodName)
+      writer.string(value.params.toString())
+    }
+
+    is ActionRuleDefValue -> {
+      writer.tag('A')
+      writer.string(value.name.toString())
+      writer.string(value.implClassName)
+      writer.string(value.implMethodName)
+      writer.string(value.params.toString())
+    }
+
+    is TypeValue -> {
+      writer.tag('T')
+      writer.string(value.toString())
+    }
+  }
+  return UnsafeByteOperations.unsafeWrap(digest.digest())
+}
@@ -55,6 +55,8 @@ class BlockingBuildGraphRunner(val runner: BuildGraphRunner) {
         handleResult(buildTask, funcResult)
       }
 
+      is BuildTaskResult.BuildingTarget -> handleResult(buildTask, result.build())
+
       else -> throw AssertionError()
     }
 }
@@ -14,10 +14,14 @@ import com.giyeok.bibix.plugins.jvm.jvmPlugin
 import com.giyeok.bibix.plugins.maven.mavenPlugin
 import com.giyeok.bibix.plugins.prelude.preludePlugin
 import com.giyeok.bibix.repo.BibixRepo
+import com.giyeok.bibix.repo.FileHashAlgorithm
 import org.apache.tools.ant.Task
 import org.codehaus.plexus.classworlds.ClassWorld
+import java.io.Closeable
 import java.lang.StringBuilder
 import java.nio.file.FileSystems
+import java.nio.file.Path
+import kotlin.io.path.writeText
 
 class BuildFrontend(
   val mainProjectLocation: BibixProjectLocation,
@@ -29,7 +33,12 @@ class BuildFrontend(
   classPkgRunner: ClassPkgRunner = ClassPkgRunner(ClassWorld()),
   val taskInterceptor: ((BuildTask) -> BuildTaskResult?)? = null,
   val debuggingMode: Boolean = false,
-) {
+  val failureMode: FailureMode = FailureMode.KeepGoing,
+  // 빌드가 끝난 뒤에 빌드 통계를 출력할 곳들
+  val metricsReporters: List<MetricsReporter> = listOf(),
+  // 입력 파일들이 바뀌었는지 확인할 때 사용할 해시 알고리즘
+  val fileHashAlgorithm: FileHashAlgorithm = FileHashAlgorithm.MURMUR3_128,
+) : Closeable {
   companion object {
     val defaultPreloadedPlugins = mapOf(
       "bibix" to bibixPlugin,
@@ -55,17 +64,35 @@ class BuildFrontend(
     fileSystem = FileSystems.getDefault(),
     repo = repo,
     classPkgRunner = classPkgRunner,
-    taskInterceptor = taskInterceptor
+    taskInterceptor = taskInterceptor,
+    fileHashAlgorithm = fileHashAlgorithm,
   )
 
   val jobExecutorTracker = ExecutorTracker(getMaxThreads())
 
+  private val virtualThreadRunner = if (repo.runConfig.useVirtualThreads) {
+    VirtualThreadBodyRunner(getCpuPermits())
+  } else {
+    null
+  }
+
   val parallelRunner = ParallelGraphRunner(
     runner = buildGraphRunner,
     executor = jobExecutorTracker.executor,
-    jobExecutorTracker = jobExecutorTracker
+    jobExecutorTracker = jobExecutorTracker,
+    scheduler = CriticalPathScheduler(repo),
+    virtualThreadRunner = virtualThreadRunner,
+    trackTaskRelations = !repo.runConfig.skipTaskRelTracking,
+    failureMode = failureMode,
   )
 
+  // 빌드에 사용한 스레드들을 멈추고 repo를 닫는다
+  override fun close() {
+    jobExecutorTracker.executor.shutdown()
+    virtualThreadRunner?.shutdown()
+    repo.close()
+  }
+
   private fun getMaxThreads(): Int {
     val maxThreads = repo.runConfig.maxThreads
     if (maxThreads <= 0) {
@@ -74,6 +101,14 @@ class BuildFrontend(
     return maxThreads
   }
 
+  private fun getCpuPermits(): Int {
+    val cpuPermits = repo.runConfig.cpuPermits
+    if (cpuPermits <= 0) {
+      return getMaxThreads()
+    }
+    return cpuPermits
+  }
+
   private fun getOsValue(): OS {
     val os = System.getProperty("os.name").lowercase()
     return when {
@@ -101,7 +136,7 @@ class BuildFrontend(
       name.toString() to EvalTarget(1, 0, name)
     }
     val actions = mainBuildGraph.actions.keys.associate { name ->
-      name.toString() to ExecAction(1, 0, name, 0)
+      name.toString() to ExecAction(1, 0, name, ValueStore.EMPTY_MAP_ID)
     }
 
     targets + actions
@@ -185,6 +220,20 @@ class BuildFrontend(
     }.toMap()
   }
 
+  // 이번 빌드의 실행 기록을 bbxbuild/profiles에 저장하고, chromeTraceFile이 주어지면 Chrome trace 형식으로도 저장한다
+  fun saveExecutionProfile(chromeTraceFile: Path? = null) {
+    val profile = buildGraphRunner.profiler.toProto(repo.uniqueRunId)
+    repo.saveExecutionProfile(profile)
+    chromeTraceFile?.writeText(profile.toChromeTraceJson())
+  }
+
+  fun reportMetrics() {
+    if (metricsReporters.isNotEmpty()) {
+      val snapshot = repo.metrics.snapshot()
+      metricsReporters.forEach { it.report(snapshot) }
+    }
+  }
+
   private fun BuildTask.name(): String = when (this) {
     is EvalTarget -> this.name.toString()
     is ExecAction -> this.actionName.toString()
@@ -2,7 +2,15 @@ package com.giyeok.bibix.frontend.cli
 
 import com.giyeok.bibix.frontend.BuildFrontend
 import com.giyeok.bibix.graph.BibixProjectLocation
+import com.giyeok.bibix.graph.runner.ConsoleMetricsReporter
+import com.giyeok.bibix.graph.runner.FailureMode
 import com.giyeok.bibix.graph.runner.FailureOr
+import com.giyeok.bibix.graph.runner.JsonFileMetricsReporter
+import com.giyeok.bibix.repo.BibixRepo
+import com.giyeok.bibix.repo.FileHashAlgorithm
+import com.giyeok.bibix.repo.ObjectsGarbageCollector
+import com.giyeok.bibix.repo.SharedDirectoryGarbageCollector
+import com.giyeok.bibix.repo.TargetLogWriter
 import kotlinx.coroutines.runBlocking
 import java.nio.file.Paths
 import java.time.Duration
@@ -19,15 +27,80 @@ object BibixCli {
     val (buildArgs, names) = bibixArgs.partition { it.startsWith('-') }
     val actionArgs = if (splitterIdx < 0) listOf() else args.drop(splitterIdx)
 
+    // --render-logs=<path>이면 빌드하지 않고 bbxbuild/logs에 저장된 로그 파일을 읽을 수 있는 형태로 출력한다
+    buildArgs.lastOrNull { it.startsWith("--render-logs=") }?.let {
+      val writer = System.out.bufferedWriter()
+      TargetLogWriter.render(Paths.get(it.removePrefix("--render-logs=")), writer)
+      writer.flush()
+      exitProcess(0)
+    }
+
+    // `bibix gc [--budget=<bytes>] [--shared-budget=<bytes>]`이면 빌드하지 않고
+    // bbxbuild/objects와 shared root에서 오래 사용하지 않은 object와 entry들을 지운다
+    if (names.firstOrNull() == "gc") {
+      // repo를 닫아야 repo.log가 compact되고 repo lock이 풀린다
+      BibixRepo.load(Paths.get("")).use { repo ->
+        val budget = buildArgs.lastOrNull { it.startsWith("--budget=") }
+          ?.removePrefix("--budget=")?.toLong()
+          ?: repo.runConfig.objectsSizeBudget
+        val sharedBudget = buildArgs.lastOrNull { it.startsWith("--shared-budget=") }
+          ?.removePrefix("--shared-budget=")?.toLong()
+          ?: repo.runConfig.sharedSizeBudget
+        check(budget > 0 || sharedBudget > 0) {
+          "Size budget must be given by --budget=<bytes>, --shared-budget=<bytes>, or objects_size_budget/shared_size_budget in bbxbuild/config.pbsuf"
+        }
+        if (budget > 0) {
+          val result = ObjectsGarbageCollector(repo).collect(budget)
+          println("Evicted ${result.evictedTargets.size} objects (${result.evictedBytes} bytes), ${result.remainingBytes} bytes remaining")
+        }
+        if (sharedBudget > 0) {
+          val result =
+            SharedDirectoryGarbageCollector(repo.sharedRootDirectory, repo.directoryLocker, repo.metrics)
+              .collect(sharedBudget)
+          println("Evicted ${result.evictedEntries.size} shared entries (${result.evictedBytes} bytes), ${result.remainingBytes} bytes remaining")
+        }
+      }
+      exitProcess(0)
+    }
+
     val buildArgsMap = mapOf<String, String>()
 
     val useDebuggingMode = buildArgs.contains("--debug")
 
+    // --fail-fast이면 실패한 target이 생기는 즉시 나머지 빌드를 취소한다. 기본값은 --keep-going
+    check(!(buildArgs.contains("--fail-fast") && buildArgs.contains("--keep-going"))) {
+      "--fail-fast and --keep-going cannot be used together"
+    }
+    val failureMode =
+      if (buildArgs.contains("--fail-fast")) FailureMode.FailFast else FailureMode.KeepGoing
+
+    // --trace-out=<path>이면 이번 빌드의 실행 기록을 Chrome trace 형식으로 저장한다
+    val traceOut = buildArgs.lastOrNull { it.startsWith("--trace-out=") }
+      ?.let { Paths.get(it.removePrefix("--trace-out=")) }
+
+    // --metrics이면 빌드 통계를 출력하고, --metrics-out=<path>이면 JSON 파일로 저장한다
+    val metricsReporters = buildList {
+      if (buildArgs.contains("--metrics")) {
+        add(ConsoleMetricsReporter())
+      }
+      buildArgs.lastOrNull { it.startsWith("--metrics-out=") }?.let {
+        add(JsonFileMetricsReporter(Paths.get(it.removePrefix("--metrics-out="))))
+      }
+    }
+
+    // --file-hash=<murmur3_128|sha1|sha256>로 입력 파일의 해시 알고리즘을 바꿀 수 있다
+    val fileHashAlgorithm = buildArgs.lastOrNull { it.startsWith("--file-hash=") }
+      ?.let { FileHashAlgorithm.valueOf(it.removePrefix("--file-hash=").uppercase()) }
+      ?: FileHashAlgorithm.MURMUR3_128
+
     val buildFrontend = BuildFrontend(
       mainProjectLocation = BibixProjectLocation(Paths.get("")),
       buildArgsMap = buildArgsMap,
       actionArgs = actionArgs,
-      debuggingMode = useDebuggingMode
+      debuggingMode = useDebuggingMode,
+      failureMode = failureMode,
+      metricsReporters = metricsReporters,
+      fileHashAlgorithm = fileHashAlgorithm,
     )
 
     check(names.isNotEmpty()) {
@@ -39,6 +112,8 @@ object BibixCli {
       try {
         buildFrontend.runBuildOrFailure(names)
       } finally {
+        buildFrontend.saveExecutionProfile(traceOut)
+        buildFrontend.buildGraphRunner.fileHashStore.savePersistentCache()
         buildFrontend.repo.shutdown()
       }
     }
@@ -48,7 +123,11 @@ object BibixCli {
     failed.sortedBy { it.key }.forEach { (name, failure) ->
       println("$name:")
       check(failure is FailureOr.Failure<*>)
-      failure.error.printStackTrace()
+      if (failure.error is FailureOr.Cancelled) {
+        println("  cancelled")
+      } else {
+        failure.error.printStackTrace()
+      }
     }
     succeeded.sortedBy { it.key }.forEach { (name, result) ->
       check(result is FailureOr.Result<*>)
@@ -58,6 +137,8 @@ object BibixCli {
       println("Failed: ${failed.map { it.key }.sorted()}")
     }
 
+    buildFrontend.reportMetrics()
+
     val endTime = Instant.now()
     println("Build finished in ${Duration.between(startTime, endTime)}")
 
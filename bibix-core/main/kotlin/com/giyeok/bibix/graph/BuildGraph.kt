@@ -61,10 +61,17 @@ class BuildGraph(
 
       builder.checkNoDuplicateNames()
 
-      return builder.build()
+      val graph = builder.build()
+      // 같은 스크립트 안의 정의들 사이의 싸이클은 빌드를 시작하기 전에 찾아낸다
+      graph.definitionGraph.findCycle()?.let { cycle ->
+        throw DefinitionCycleException(cycle.map { it.toString() })
+      }
+      return graph
     }
   }
 
+  val definitionGraph: DefinitionGraph by lazy { DefinitionGraph.from(this) }
+
   fun findName(name: BibixName): BuildGraphEntity? {
     val target = targets[name]
     if (target != null) {
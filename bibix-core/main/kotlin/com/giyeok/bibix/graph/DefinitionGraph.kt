@@ -0,0 +1,183 @@
+package com.giyeok.bibix.graph
+
+// 스크립트의 정의(target, var, build rule, action rule, import)들 사이의 의존 관계.
+// target의 값을 계산하려면 그 식에서 참조하는 다른 정의들을 먼저 계산해야 하므로,
+// 이 관계에 싸이클이 있으면 빌드를 시작하기 전에 실패로 처리할 수 있다.
+// data class의 cast 식처럼 값에 따라 다른 정의를 참조할 수 있는 것들은 포함하지 않는다
+class DefinitionGraph(
+  // 이 스크립트의 정의 이름들
+  val definitions: Set<BibixName>,
+  // 정의 이름 -> 같은 스크립트 안에서 의존하는 정의 이름들
+  val localDeps: Map<BibixName, Set<BibixName>>,
+  // 정의 이름 -> 의존하는 import된 이름들. import 이름과 import된 스크립트 안에서의 이름의 pair
+  val importedDeps: Map<BibixName, Set<Pair<BibixName, BibixName>>>,
+) {
+  companion object {
+    fun from(graph: BuildGraph): DefinitionGraph = DefinitionGraphBuilder(graph).build()
+  }
+
+  // name이 가리키는 정의. 정의의 멤버를 가리키는 이름이면 가장 긴 prefix에 해당하는 정의를 반환한다
+  fun definitionOf(name: BibixName): BibixName? =
+    (name.tokens.size downTo 1).asSequence()
+      .map { BibixName(name.tokens.take(it)) }
+      .firstOrNull { it in definitions }
+
+  // localDeps에 싸이클이 있으면 싸이클을 이루는 정의 이름들을 반환한다.
+  // 반환되는 목록은 같은 이름으로 시작하고 끝나며, 각 이름은 다음 이름에 의존한다
+  fun findCycle(): List<BibixName>? {
+    val finished = mutableSetOf<BibixName>()
+    val onPath = mutableListOf<BibixName>()
+    val onPathSet = mutableSetOf<BibixName>()
+
+    fun visit(name: BibixName): List<BibixName>? {
+      if (name in onPathSet) {
+        return onPath.drop(onPath.indexOf(name)) + name
+      }
+      if (!finished.add(name)) {
+        return null
+      }
+      onPath.add(name)
+      onPathSet.add(name)
+      localDeps[name]?.forEach { dep ->
+        visit(dep)?.let { return it }
+      }
+      onPath.removeLast()
+      onPathSet.remove(name)
+      return null
+    }
+
+    localDeps.keys.forEach { name ->
+      visit(name)?.let { return it }
+    }
+    return null
+  }
+}
+
+data class DefinitionCycleException(val cycle: List<String>):
+  Exception("Cyclic definitions: ${cycle.joinToString(" -> ")}")
+
+private class DefinitionGraphBuilder(val graph: BuildGraph) {
+  private val exprChildren = graph.exprGraph.edges.groupBy({ it.start }, { it.end })
+  private val exprTypes = graph.exprTypeEdges.groupBy({ it.start }, { it.end })
+  private val typeChildren = graph.typeGraph.edges.groupBy({ it.start }, { it.end })
+
+  private val localDeps = mutableMapOf<BibixName, MutableSet<BibixName>>()
+  private val importedDeps = mutableMapOf<BibixName, MutableSet<Pair<BibixName, BibixName>>>()
+
+  private fun addLocal(def: BibixName, dep: BibixName) {
+    localDeps.getOrPut(def) { mutableSetOf() }.add(dep)
+  }
+
+  private fun addImported(def: BibixName, importName: BibixName, name: BibixName) {
+    // import된 이름을 쓰려면 import 자체도 먼저 계산되어야 한다
+    addLocal(def, importName)
+    importedDeps.getOrPut(def) { mutableSetOf() }.add(Pair(importName, name))
+  }
+
+  private fun addCallee(def: BibixName, callee: Callee) {
+    when (callee) {
+      is Callee.LocalBuildRule -> addLocal(def, callee.name)
+      is Callee.LocalActionRule -> addLocal(def, callee.name)
+      is Callee.ImportedCallee -> addLocal(def, callee.importName)
+      is Callee.ImportedMemberCallee ->
+        addImported(def, callee.importName, BibixName(callee.memberNames))
+
+      is Callee.LocalDataClass, is Callee.LocalAction, is Callee.PreludeMember -> {}
+    }
+  }
+
+  private fun addExpr(def: BibixName, root: ExprNodeId) {
+    val visited = mutableSetOf<ExprNodeId>()
+    val visitedTypes = mutableSetOf<TypeNodeId>()
+    val stack = ArrayDeque(listOf(root))
+    val typeStack = ArrayDeque<TypeNodeId>()
+    while (stack.isNotEmpty()) {
+      val exprNodeId = stack.removeLast()
+      if (!visited.add(exprNodeId)) {
+        continue
+      }
+      when (val node = graph.exprGraph.nodes[exprNodeId]) {
+        is LocalTargetRef -> addLocal(def, node.name)
+        is LocalVarRef -> addLocal(def, node.name)
+        is LocalBuildRuleRef -> addLocal(def, node.name)
+        is LocalActionRuleRef -> addLocal(def, node.name)
+        is ImportedExpr -> addImported(def, node.import, node.name)
+        is CallExprNode -> addCallee(def, node.callee)
+        else -> {}
+      }
+      exprChildren[exprNodeId]?.let { stack.addAll(it) }
+      exprTypes[exprNodeId]?.let { typeStack.addAll(it) }
+    }
+    while (typeStack.isNotEmpty()) {
+      val typeNodeId = typeStack.removeLast()
+      if (!visitedTypes.add(typeNodeId)) {
+        continue
+      }
+      addType(def, typeNodeId)
+      typeChildren[typeNodeId]?.let { typeStack.addAll(it) }
+    }
+  }
+
+  private fun addType(def: BibixName, typeNodeId: TypeNodeId) {
+    val node = graph.typeGraph.nodes[typeNodeId]
+    if (node is ImportedType) {
+      addImported(def, node.import, node.name)
+    }
+  }
+
+  private fun addTypeTree(def: BibixName, root: TypeNodeId) {
+    val visited = mutableSetOf<TypeNodeId>()
+    val stack = ArrayDeque(listOf(root))
+    while (stack.isNotEmpty()) {
+      val typeNodeId = stack.removeLast()
+      if (visited.add(typeNodeId)) {
+        addType(def, typeNodeId)
+        typeChildren[typeNodeId]?.let { stack.addAll(it) }
+      }
+    }
+  }
+
+  private fun addImportSource(def: BibixName, source: ImportSource) {
+    when (source) {
+      is ImportSource.Expr -> addExpr(def, source.exprNodeId)
+      is ImportSource.AnotherImport -> addLocal(def, source.importName)
+      is ImportSource.PreloadedPlugin -> {}
+    }
+  }
+
+  fun build(): DefinitionGraph {
+    graph.targets.forEach { (name, exprNodeId) ->
+      addExpr(name, exprNodeId)
+    }
+    graph.vars.forEach { (name, varDef) ->
+      varDef.defaultValue?.let { addExpr(name, it) }
+      (varDef.type as? VarDef.VarType.TypeNode)?.let { addTypeTree(name, it.typeNode) }
+    }
+    graph.buildRules.forEach { (name, buildRule) ->
+      buildRule.implTarget?.let { addExpr(name, it) }
+      buildRule.paramDefaultValues.values.forEach { addExpr(name, it) }
+      buildRule.params.values.forEach { addTypeTree(name, it) }
+      addTypeTree(name, buildRule.returnType)
+    }
+    graph.actionRules.forEach { (name, actionRule) ->
+      actionRule.implTarget?.let { addExpr(name, it) }
+      actionRule.paramDefaultValues.values.forEach { addExpr(name, it) }
+      actionRule.params.values.forEach { addTypeTree(name, it) }
+    }
+    graph.importAlls.forEach { (name, importAll) ->
+      addImportSource(name, importAll.source)
+    }
+    graph.importFroms.forEach { (name, importFrom) ->
+      addImportSource(name, importFrom.source)
+    }
+
+    val definitions = graph.targets.keys + graph.vars.keys + graph.buildRules.keys +
+      graph.actionRules.keys + graph.importAlls.keys + graph.importFroms.keys
+    // data class나 action처럼 관계를 따지지 않는 정의들은 제외
+    return DefinitionGraph(
+      definitions,
+      localDeps.mapValues { (_, deps) -> deps.filter { it in definitions }.toSet() },
+      importedDeps,
+    )
+  }
+}
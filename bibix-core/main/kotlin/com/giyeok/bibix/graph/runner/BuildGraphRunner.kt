@@ -8,15 +8,19 @@ import com.giyeok.bibix.plugins.PluginInstanceProvider
 import com.giyeok.bibix.plugins.PreloadedPlugin
 import com.giyeok.bibix.plugins.jvm.ClassPkg
 import com.giyeok.bibix.repo.BibixRepo
-import com.google.common.collect.BiMap
-import com.google.common.collect.HashBiMap
+import com.giyeok.bibix.repo.FileContentHasher
+import com.giyeok.bibix.repo.FileHashAlgorithm
+import com.giyeok.bibix.repo.FileHashCache
 import com.google.common.collect.ImmutableBiMap
 import java.nio.file.FileSystem
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentMap
 
 class BuildGraphRunner(
   val multiGraph: MultiBuildGraph,
   // project id -> import instance id -> {var name -> var expr node id}
-  val importInstances: MutableMap<Int, BiMap<Int, Map<BibixName, GlobalExprNodeId>>>,
+  // 여러 스레드에서 동시에 접근하므로 project별 map은 immutable하게 두고 compute로 교체한다
+  val importInstances: ConcurrentMap<Int, ImmutableBiMap<Int, Map<BibixName, GlobalExprNodeId>>>,
   val preloadedPluginIds: ImmutableBiMap<String, Int>,
   val preloadedPluginInstanceProviders: Map<Int, PluginInstanceProvider>,
   val preludeNames: Set<String>,
@@ -25,7 +29,11 @@ class BuildGraphRunner(
   val repo: BibixRepo,
   val classPkgRunner: ClassPkgRunner,
   val fileHashStore: FileHashStore,
-  val taskInterceptor: ((BuildTask) -> BuildTaskResult?)? = null
+  val taskInterceptor: ((BuildTask) -> BuildTaskResult?)? = null,
+  // BuildTask에 들어가는 BibixValue들은 valueStore에 등록하고 id만 사용한다
+  val valueStore: ValueStore = ValueStore(),
+  // 이번 빌드의 실행 기록
+  val profiler: ExecutionProfiler = ExecutionProfiler(),
 ) {
   companion object {
     fun create(
@@ -36,7 +44,8 @@ class BuildGraphRunner(
       fileSystem: FileSystem,
       repo: BibixRepo,
       classPkgRunner: ClassPkgRunner,
-      taskInterceptor: ((BuildTask) -> BuildTaskResult?)? = null
+      taskInterceptor: ((BuildTask) -> BuildTaskResult?)? = null,
+      fileHashAlgorithm: FileHashAlgorithm = FileHashAlgorithm.MURMUR3_128,
     ): BuildGraphRunner {
       val preludeNames = NameLookupTable.fromDefs(preludePlugin.defs).names.keys
 
@@ -83,7 +92,7 @@ class BuildGraphRunner(
 
       return BuildGraphRunner(
         multiGraph = multiGraph,
-        importInstances = HashBiMap.create(),
+        importInstances = ConcurrentHashMap(),
         preloadedPluginIds = ImmutableBiMap.copyOf(preloadedPluginIds),
         preloadedPluginInstanceProviders = preloadedPluginInstanceProviders,
         preludeNames = preludeNames,
@@ -91,7 +100,12 @@ class BuildGraphRunner(
         fileSystem = fileSystem,
         repo = repo,
         classPkgRunner = classPkgRunner,
-        fileHashStore = FileHashStore(),
+        fileHashStore = FileHashStore(
+          repo.metrics,
+          FileContentHasher(fileHashAlgorithm),
+          FileHashCache.load(repo.bbxbuildDirectory.resolve("filehashes.pb"), fileHashAlgorithm),
+          targetOutputDigests = repo::targetOutputOf,
+        ),
         taskInterceptor = taskInterceptor,
       )
     }
@@ -163,7 +177,7 @@ class BuildGraphRunner(
           buildGraphRunner = this,
           projectId = buildTask.projectId,
           importInstanceId = buildTask.importInstanceId,
-          localLets = buildTask.localVars,
+          localLets = valueStore.valueMapOf(buildTask.localVarsId),
           thisValue = buildTask.thisValue,
         )
         evaluator.evaluateExpr(buildTask.exprNodeId)
@@ -267,7 +281,7 @@ class BuildGraphRunner(
 
       is TypeCastValue -> {
         ValueCaster(this, buildTask.valueProjectId)
-          .castValue(buildTask.value, buildTask.type)
+          .castValue(valueStore.valueOf(buildTask.valueId), buildTask.type)
       }
 
       is FinalizeBuildRuleReturnValue -> {
@@ -418,15 +432,21 @@ class BuildGraphRunner(
       }
 
       is NewImportInstance -> {
-        val instances = importInstances.getOrPut(buildTask.projectId) { HashBiMap.create() }
-        val existing = instances.inverse()[buildTask.redefs]
-        if (existing != null) {
-          BuildTaskResult.ImportInstanceResult(buildTask.projectId, existing)
-        } else {
-          val newImportInstanceId = (instances.keys.maxOrNull() ?: 0) + 1
-          instances[newImportInstanceId] = buildTask.redefs
-          BuildTaskResult.ImportInstanceResult(buildTask.projectId, newImportInstanceId)
+        var importInstanceId = 0
+        importInstances.compute(buildTask.projectId) { _, instances ->
+          val existing = instances?.inverse()?.get(buildTask.redefs)
+          if (existing != null) {
+            importInstanceId = existing
+            instances
+          } else {
+            importInstanceId = (instances?.keys?.maxOrNull() ?: 0) + 1
+            ImmutableBiMap.builder<Int, Map<BibixName, GlobalExprNodeId>>()
+              .putAll(instances ?: mapOf())
+              .put(importInstanceId, buildTask.redefs)
+              .build()
+          }
         }
+        BuildTaskResult.ImportInstanceResult(buildTask.projectId, importInstanceId)
       }
 
       is EvalDataClass -> {
@@ -577,7 +597,7 @@ class BuildGraphRunner(
                 projectId,
                 nextStmt.exprNodeId,
                 importInstanceId,
-                letLocals,
+                valueStore.idOf(letLocals),
                 null
               )
             ) { evalResult ->
@@ -592,7 +612,7 @@ class BuildGraphRunner(
 
           is ActionDef.CallStmt ->
             BuildTaskResult.WithResult(
-              ExecActionCallExpr(projectId, importInstanceId, nextStmt, letLocals)
+              ExecActionCallExpr(projectId, importInstanceId, nextStmt, valueStore.idOf(letLocals))
             ) { execResult ->
               check(execResult is BuildTaskResult.ActionRuleDoneResult)
               if (stmtIdx + 1 == stmts.size) {
@@ -612,7 +632,7 @@ class BuildGraphRunner(
       buildTask.projectId,
       exprNodeId,
       buildTask.importInstanceId,
-      buildTask.letLocals,
+      buildTask.letLocalsId,
       null
     )
 
@@ -631,7 +651,7 @@ class BuildGraphRunner(
           // TODO callStmt에 string list 파라메터 하나는 들어갈 수 있도록(args)
           check(callStmt.posArgs.isEmpty() && namedParams.isEmpty())
           BuildTaskResult.WithResult(
-            ExecAction(callee.projectId, callee.importInstanceId, callee.actionName, 0)
+            ExecAction(callee.projectId, callee.importInstanceId, callee.actionName, ValueStore.EMPTY_MAP_ID)
           ) { it }
         }
 
@@ -647,6 +667,7 @@ class BuildGraphRunner(
             }
 
           organizeParams(
+            valueStore,
             buildTask.projectId,
             callee.paramTypes,
             callee.actionRuleDef.def.params.requiredParamNames(),
@@ -661,19 +682,22 @@ class BuildGraphRunner(
 
             val actionContext = ActionContext(buildEnv, args, progressLogger)
 
-            val runner = BuildRuleRunner(
-              repo,
-              buildTask.projectId,
-              buildTask.importInstanceId,
-              BuildRuleDefContext.from(callee)
-            ) { it }
-
             val implInstance = getImplInstance(callee.impl, buildTask.projectId, classPkgRunner)
 
             val implMethod =
               implInstance::class.java.getMethod(callee.implMethodName, ActionContext::class.java)
             implMethod.trySetAccessible()
 
+            val runner = BuildRuleRunner(
+              repo,
+              valueStore,
+              buildTask.projectId,
+              buildTask.importInstanceId,
+              BuildRuleDefContext.from(callee),
+              null,
+              implMethod.isAnnotationPresent(IoBound::class.java),
+            ) { it }
+
             val result = implMethod.invoke(implInstance, actionContext)
             runner.handleActionReturn(result)
           }
@@ -725,7 +749,7 @@ class BuildGraphRunner(
       // implTarget을 ClassPkg로 변환
       BuildTaskResult.WithResult(
         TypeCastValue(
-          implTargetResult.value,
+          valueStore.idOf(implTargetResult.value),
           DataClassType("com.giyeok.bibix.plugins.jvm", "ClassPkg"),
           projectId,
         )
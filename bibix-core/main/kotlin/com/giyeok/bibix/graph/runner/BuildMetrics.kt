@@ -0,0 +1,147 @@
+package com.giyeok.bibix.graph.runner
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.LongAdder
+
+// 빌드 중의 통계. 여러 스레드에서 자주 갱신되므로 lock 없이 LongAdder와 atomic 값들만 사용하고,
+// 출력은 빌드가 끝난 뒤에 snapshot을 만들어서 MetricsReporter에 넘긴다
+class BuildMetrics {
+  class Counter {
+    private val adder = LongAdder()
+
+    fun increment() {
+      adder.increment()
+    }
+
+    fun add(value: Long) {
+      adder.add(value)
+    }
+
+    fun get(): Long = adder.sum()
+  }
+
+  // 값의 분포를 2의 거듭제곱 단위 bucket으로 센다. bucket i에는 [2^(i-1), 2^i) 범위의 값이 들어간다
+  class Histogram {
+    private val buckets = AtomicLongArray(64)
+    private val count = LongAdder()
+    private val sum = LongAdder()
+    private val max = AtomicLong()
+
+    fun record(value: Long) {
+      val v = maxOf(value, 0L)
+      buckets.incrementAndGet(64 - java.lang.Long.numberOfLeadingZeros(v))
+      count.increment()
+      sum.add(v)
+      max.accumulateAndGet(v, ::maxOf)
+    }
+
+    fun snapshot(): HistogramSnapshot {
+      val bucketCounts = LongArray(64) { buckets.get(it) }
+      val total = bucketCounts.sum()
+
+      // bucket의 상한으로 근사한다
+      fun percentile(p: Double): Long {
+        if (total == 0L) {
+          return 0L
+        }
+        val threshold = maxOf((total * p).toLong(), 1L)
+        var acc = 0L
+        bucketCounts.forEachIndexed { idx, bucketCount ->
+          acc += bucketCount
+          if (acc >= threshold) {
+            return if (idx == 0) 0L else minOf((1L shl idx) - 1, max.get())
+          }
+        }
+        return max.get()
+      }
+
+      return HistogramSnapshot(
+        count = count.sum(),
+        sum = sum.sum(),
+        max = max.get(),
+        p50 = percentile(0.5),
+        p90 = percentile(0.9),
+        p99 = percentile(0.99),
+      )
+    }
+  }
+
+  private val counters = ConcurrentHashMap<String, Counter>()
+  private val histograms = ConcurrentHashMap<String, Histogram>()
+
+  fun counter(name: String): Counter =
+    counters[name] ?: counters.computeIfAbsent(name) { Counter() }
+
+  fun histogram(name: String): Histogram =
+    histograms[name] ?: histograms.computeIfAbsent(name) { Histogram() }
+
+  val cacheHits = counter("cache.hits")
+  val cacheMisses = counter("cache.misses")
+  val bodyDurations = histogram("bodies.duration_ms")
+  val bodyWaits = histogram("bodies.wait_ms")
+  // body가 시작되기를 기다리고 있는 body의 수. body가 큐에 들어갈 때마다 그 시점의 값을 기록한다
+  val bodyQueueDepth = histogram("bodies.queue_depth")
+  val repoSaves = counter("repo.saves")
+  val repoLogRecords = counter("repo.log_records")
+  val logRecords = counter("logs.records")
+  val gcEvictedObjects = counter("gc.evicted_objects")
+  val gcEvictedBytes = counter("gc.evicted_bytes")
+  val sharedGcEvictedEntries = counter("gc.shared_evicted_entries")
+  val sharedGcEvictedBytes = counter("gc.shared_evicted_bytes")
+  val casDeduplicatedBytes = counter("cas.deduplicated_bytes")
+  val remoteCacheHits = counter("remote_cache.hits")
+  val remoteCacheMisses = counter("remote_cache.misses")
+  val remoteCacheFailures = counter("remote_cache.failures")
+  val remoteCacheUploads = counter("remote_cache.uploads")
+  val remoteCacheSkippedUploads = counter("remote_cache.skipped_uploads")
+  val hashBytesRead = counter("hash.bytes_read")
+  val targetOutputDigestsUsed = counter("hash.target_output_digests")
+
+  private val queuedBodies = AtomicInteger()
+
+  fun taskStarted(task: BuildTask) {
+    counter("tasks.${task.javaClass.simpleName}").increment()
+  }
+
+  fun bodyQueued() {
+    bodyQueueDepth.record(queuedBodies.incrementAndGet().toLong())
+  }
+
+  fun bodyStarted(waitMillis: Long) {
+    queuedBodies.decrementAndGet()
+    bodyWaits.record(waitMillis)
+  }
+
+  fun bodyDequeued() {
+    queuedBodies.decrementAndGet()
+  }
+
+  fun snapshot(): MetricsSnapshot = MetricsSnapshot(
+    counters.mapValues { (_, counter) -> counter.get() }.toSortedMap(),
+    histograms.mapValues { (_, histogram) -> histogram.snapshot() }.toSortedMap(),
+  )
+}
+
+data class HistogramSnapshot(
+  val count: Long,
+  val sum: Long,
+  val max: Long,
+  val p50: Long,
+  val p90: Long,
+  val p99: Long,
+)
+
+data class MetricsSnapshot(
+  val counters: Map<String, Long>,
+  val histograms: Map<String, HistogramSnapshot>,
+) {
+  val cacheHitRatio: Double?
+    get() {
+      val hits = counters["cache.hits"] ?: 0L
+      val total = hits + (counters["cache.misses"] ?: 0L)
+      return if (total == 0L) null else hits.toDouble() / total
+    }
+}
@@ -6,7 +6,9 @@ import com.giyeok.bibix.base.*
 import com.giyeok.bibix.graph.BibixName
 import com.giyeok.bibix.repo.BibixRepo
 import com.giyeok.bibix.repo.BibixRepoProto
+import com.giyeok.bibix.repo.BibixRepoProto.TaskProfile
 import com.giyeok.bibix.repo.hashString
+import com.giyeok.bibix.repo.targetIdOf
 import com.giyeok.bibix.utils.toBibix
 import com.giyeok.bibix.utils.toHexString
 import com.giyeok.bibix.utils.toInstant
@@ -24,6 +26,7 @@ fun organizeParamsAndRunBuildRule(
   block: (BuildTaskResult.FinalResult) -> BuildTaskResult
 ): BuildTaskResult {
   return organizeParams(
+    buildGraphRunner.valueStore,
     callerProjectId,
     buildRule.paramTypes,
     buildRule.buildRuleDef.def.params.requiredParamNames(),
@@ -36,13 +39,21 @@ fun organizeParamsAndRunBuildRule(
     val implInstance =
       getImplInstance(buildRule.impl, callerProjectId, buildGraphRunner.classPkgRunner)
 
+    val implMethod =
+      implInstance::class.java.getMethod(buildRule.implMethodName, BuildContext::class.java)
+    implMethod.trySetAccessible()
+    val ioBound = implMethod.isAnnotationPresent(IoBound::class.java)
+
     withBuildContext(buildGraphRunner, callerProjectId, buildRule, args) { buildContext ->
       // TODO target이 실패한 경우에 repo에 업데이트
       val runner = BuildRuleRunner(
         buildGraphRunner.repo,
+        buildGraphRunner.valueStore,
         callerProjectId,
         callerImportInstanceId,
-        BuildRuleDefContext.from(buildRule)
+        BuildRuleDefContext.from(buildRule),
+        buildContext.targetId,
+        ioBound,
       ) { result ->
         val finalResult = if (result is BuildTaskResult.ResultWithValue) {
           BuildTaskResult.ValueOfTargetResult(result.value, buildContext.targetId)
@@ -53,13 +64,11 @@ fun organizeParamsAndRunBuildRule(
       }
 
 
-      val implMethod =
-        implInstance::class.java.getMethod(buildRule.implMethodName, BuildContext::class.java)
-      implMethod.trySetAccessible()
-
       BuildTaskResult.LongRunning(
         body = { implMethod.invoke(implInstance, buildContext) },
         after = { runner.handleBuildReturn(it) },
+        targetId = buildContext.targetId,
+        ioBound = ioBound,
       )
     }
   }
@@ -73,38 +82,43 @@ fun withBuildContext(
   noReuse: Boolean = false,
   block: (BuildContext) -> BuildTaskResult
 ): BuildTaskResult {
-  val argsMap = argsMapFrom(args)
-  val targetIdData = targetIdData {
-    // target id에 caller측에 대한 정보가 들어갈 필요가 있나?
-    //  - target의 일반적 의미상으론 필요가 없는게 맞는 것 같음
-    //  - 하지만 BuildContext에 caller에 대한 정보(caller의 디렉토리 등)가 들어있기 때문에
-    //    보수적으로 보면 caller에 대한 정보가 target id에도 반영되는 것이 맞을듯 함
-    this.sourceId = sourceIdFrom(buildGraphRunner, callerProjectId)
-    this.buildRule = buildRuleData {
-      this.buildRuleSourceId = sourceIdFrom(buildGraphRunner, buildRule.projectId)
-      when (buildRule.impl) {
-        is BuildTaskResult.BuildRuleImpl.NativeImpl ->
-          this.nativeImpl = empty { }
-
-        is BuildTaskResult.BuildRuleImpl.NonNativeImpl -> {
-          this.bibixValueHash = buildRuleImplValueHash {
-            val implValueProto = buildRule.impl.classPkg.toBibix().toProto()
-            this.implValue = implValueProto
-            // impl value에 들어있는 file/direcotry 값들의 해시도 포함
-            this.implValueFilesHash =
-              buildGraphRunner.fileHashStore.extractInputHashes(implValueProto)
-          }
+  // target id에 caller측에 대한 정보가 들어갈 필요가 있나?
+  //  - target의 일반적 의미상으론 필요가 없는게 맞는 것 같음
+  //  - 하지만 BuildContext에 caller에 대한 정보(caller의 디렉토리 등)가 들어있기 때문에
+  //    보수적으로 보면 caller에 대한 정보가 target id에도 반영되는 것이 맞을듯 함
+  val sourceId = sourceIdFrom(buildGraphRunner, callerProjectId)
+  val buildRuleData = buildRuleData {
+    this.buildRuleSourceId = sourceIdFrom(buildGraphRunner, buildRule.projectId)
+    when (buildRule.impl) {
+      is BuildTaskResult.BuildRuleImpl.NativeImpl ->
+        this.nativeImpl = empty { }
+
+      is BuildTaskResult.BuildRuleImpl.NonNativeImpl -> {
+        this.bibixValueHash = buildRuleImplValueHash {
+          val implValueProto = buildRule.impl.classPkg.toBibix().toProto()
+          this.implValue = implValueProto
+          // impl value에 들어있는 file/direcotry 값들의 해시도 포함
+          this.implValueFilesHash =
+            buildGraphRunner.fileHashStore.extractInputHashes(implValueProto)
         }
       }
-      this.buildRuleClassName = buildRule.buildRuleDef.implClassName
-      this.buildRuleMethodName = buildRule.buildRuleDef.implMethodName
     }
-    this.argsMap = argsMap
+    this.buildRuleClassName = buildRule.buildRuleDef.implClassName
+    this.buildRuleMethodName = buildRule.buildRuleDef.implMethodName
   }
-  val targetId = targetIdData.hashString()
+  // target id는 인자 값들의 structural digest로 계산하고, 인자 값 전체를 proto로 바꾸는 일은
+  // repo에 새로 기록하거나 build rule을 실행해야 할 때만 한다
+  val targetId = targetIdOf(sourceId, buildRuleData, args)
   val targetIdHex = targetId.toHexString()
+  val targetIdData by lazy {
+    targetIdData {
+      this.sourceId = sourceId
+      this.buildRule = buildRuleData
+      this.argsMap = argsMapFrom(args)
+    }
+  }
 
-  val inputHashes = buildGraphRunner.fileHashStore.extractInputHashes(argsMap)
+  val inputHashes = buildGraphRunner.fileHashStore.extractInputHashes(args)
   val inputHashString = inputHashes.hashString()
 
   val repo = buildGraphRunner.repo
@@ -112,11 +126,13 @@ fun withBuildContext(
   val noReuseModifier = buildRule.buildRuleDef.def.mods.contains(BibixAst.BuildRuleMod.NoReuse)
 
   val (reuse, prevState) =
-    repo.targetStarted(targetIdHex, targetIdData, inputHashes, inputHashString) { prevState ->
+    repo.targetStarted(targetIdHex, { targetIdData }, inputHashes, inputHashString) { prevState ->
       if (noReuse || noReuseModifier) null else {
-        val prevTargetIdData = repo.getTargetIdData(targetIdHex)
-        // 혹시나 불일치하는 경우가 생기지 않는지 확인
-        check(prevTargetIdData == targetIdData)
+        if (repo.debuggingMode) {
+          val prevTargetIdData = repo.getTargetIdData(targetIdHex)
+          // 혹시나 불일치하는 경우가 생기지 않는지 확인
+          check(prevTargetIdData == targetIdData)
+        }
 
         when (prevState.stateCase) {
           BibixRepoProto.TargetState.StateCase.BUILD_STARTED -> {
@@ -139,6 +155,15 @@ fun withBuildContext(
       }
     }
   if (reuse != null) {
+    if (reuse is BuildTaskResult.ValueOfTargetResult) {
+      // DuplicateTargetResult는 ParallelGraphRunner에서 결과를 기다린 시간과 함께 기록한다
+      val reuseSource = if (prevState?.uniqueRunId == repo.uniqueRunId) {
+        TaskProfile.ReuseSource.SAME_RUN
+      } else {
+        TaskProfile.ReuseSource.PREVIOUS_RUN
+      }
+      buildGraphRunner.profiler.targetReused("${buildRule.name}()", targetIdHex, reuseSource)
+    }
     return reuse
   }
 
@@ -178,7 +203,46 @@ fun withBuildContext(
     progressLogger = repo.progressLoggerFor(targetIdHex),
     repo = repo
   )
-  return block(buildContext)
+
+  val fetchRemote = !noReuse && !noReuseModifier && repo.remoteCache != null
+  // remote cache를 사용하면 이전 결과의 업로드가 끝날 때까지 기다려야 하므로 prepareObjectDirectory를 거친다
+  if (repo.contentStore == null && repo.remoteCache == null) {
+    return BuildTaskResult.BuildingTarget(targetIdHex) { block(buildContext) }
+  }
+  // remote cache에서 받아오거나 content store와 공유하던 파일을 분리하는 일은 네트워크와 파일 IO를 하므로
+  // continuation 스레드에서 하지 않고 LongRunning body에서 한다
+  return BuildTaskResult.BuildingTarget(targetIdHex) {
+    BuildTaskResult.LongRunning(
+      body = {
+        val remoteResult = if (!fetchRemote) null else {
+          repo.fetchFromRemoteCache(
+            targetIdHex,
+            targetIdData,
+            inputHashes,
+            buildGraphRunner.fileHashStore::contentHashOf
+          )
+        }
+        if (remoteResult == null) {
+          repo.prepareObjectDirectory(targetIdHex)
+        }
+        remoteResult ?: Unit
+      },
+      after = { remoteResult ->
+        if (remoteResult is BibixValue) {
+          buildGraphRunner.profiler.targetReused(
+            "${buildRule.name}()",
+            targetIdHex,
+            TaskProfile.ReuseSource.REMOTE_CACHE
+          )
+          BuildTaskResult.ValueOfTargetResult(remoteResult, targetIdHex)
+        } else {
+          block(buildContext)
+        }
+      },
+      targetId = targetIdHex,
+      ioBound = true,
+    )
+  }
 }
 
 private fun sourceIdFrom(
@@ -215,10 +279,15 @@ private fun sourceIdFrom(
 
 class BuildRuleRunner(
   val repo: BibixRepo,
+  val valueStore: ValueStore,
   val callerProjectId: Int,
   val callerImportInstanceId: Int,
   // build rule이 정의된 위치
   val buildRuleDefCtx: BuildRuleDefContext,
+  // action인 경우엔 null
+  val targetId: String?,
+  // build rule이나 action의 구현 메소드에 IoBound가 붙어 있으면 이어서 실행되는 body들도 ioBound로 취급
+  val ioBound: Boolean,
   val whenDoneBlock: (BuildTaskResult.FinalResult) -> BuildTaskResult
 ) {
   fun handleBuildReturn(result: Any?): BuildTaskResult = when (result) {
@@ -274,7 +343,7 @@ class BuildRuleRunner(
           BibixName(result.ruleName),
           callerProjectId,
           callerImportInstanceId,
-          finalizedParams
+          valueStore.idOf(finalizedParams)
         )
       ) { evalResult ->
         check(evalResult is BuildTaskResult.ResultWithValue)
@@ -283,7 +352,9 @@ class BuildRuleRunner(
           after = {
             check(it is BuildRuleReturn)
             afterThen(it)
-          }
+          },
+          targetId = targetId,
+          ioBound = ioBound,
         )
       }
     }
@@ -328,7 +399,9 @@ class BuildRuleRunner(
         after = {
           check(it is BuildRuleReturn)
           afterThen(it)
-        }
+        },
+        targetId = targetId,
+        ioBound = ioBound,
       )
     }
   }
@@ -337,21 +410,22 @@ class BuildRuleRunner(
     result: BuildRuleReturn.WithDirectoryLock,
     afterThen: (BuildRuleReturn) -> BuildTaskResult
   ): BuildTaskResult {
-    // TODO lock result.directory
-    //  지금은 동일 프로세스 내에서만 락을 잡는데.. 제대로 잡는 방법을 찾아보자
-    //  build rule에 synchronized 기능 구현하면 별로 필요 없을 지도..
+    // lock 파일을 사용하므로 같은 shared directory를 쓰는 다른 bibix 프로세스와도 동기화된다
     val directoryLocker = repo.directoryLocker
     return BuildTaskResult.LongRunning(
       preCondition = {
-        directoryLocker.acquireLock(result.directory)
+        directoryLocker.acquireLock(result.directory, result.shared)
       },
       body = { result.withLock() },
       postCondition = {
-        directoryLocker.releaseLock(result.directory)
+        directoryLocker.releaseLock(result.directory, result.shared)
       },
       after = {
         check(it is BuildRuleReturn)
         afterThen(it)
-      })
+      },
+      targetId = targetId,
+      ioBound = ioBound,
+    )
   }
 }
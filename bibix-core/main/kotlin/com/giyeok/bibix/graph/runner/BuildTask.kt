@@ -9,8 +9,8 @@ import com.giyeok.bibix.plugins.jvm.ClassPkg
 sealed class BuildTask
 sealed class CacheableBuildTask: BuildTask()
 
-// TODO BuildTask들은 ParallelGraphRunner에서 해시/동일성 비교가 계속 이루어지므로 가볍게 만들기
-//  - 특히 BibixValue는 runner 같은 곳에 등록하고 ID만 사용하도록 하거나 하는 식으로 변경할 것
+// BuildTask들은 ParallelGraphRunner에서 해시/동일성 비교가 계속 이루어지므로,
+// BibixValue는 BuildGraphRunner.valueStore에 등록하고 id만 갖고 있도록 한다
 
 data class EvalTarget(
   val projectId: Int,
@@ -36,14 +36,14 @@ data class ExecActionCallExpr(
   val projectId: Int,
   val importInstanceId: Int,
   val callStmt: ActionDef.CallStmt,
-  val letLocals: Map<String, BibixValue>,
+  val letLocalsId: Int,
 ): BuildTask()
 
 data class EvalExpr(
   val projectId: Int,
   val exprNodeId: ExprNodeId,
   val importInstanceId: Int,
-  val localVars: Map<String, BibixValue>,
+  val localVarsId: Int,
   val thisValue: ClassInstanceValue?,
 ): BuildTask() {
   constructor(
@@ -51,11 +51,11 @@ data class EvalExpr(
     exprNodeId: ExprNodeId,
     importInstanceId: Int,
     thisValue: ClassInstanceValue?,
-  ): this(projectId, exprNodeId, importInstanceId, mapOf(), thisValue)
+  ): this(projectId, exprNodeId, importInstanceId, ValueStore.EMPTY_MAP_ID, thisValue)
 }
 
 data class TypeCastValue(
-  val value: BibixValue,
+  val valueId: Int,
   val type: BibixType,
   // valueProjectId는 value가 string일 때 path로 변경할 때 base directory를 판별하는 데 사용된다
   val valueProjectId: Int,
@@ -109,7 +109,7 @@ data class EvalCallExpr(
   val ruleName: BibixName,
   val projectId: Int,
   val importInstanceId: Int,
-  val params: Map<String, BibixValue>
+  val paramsId: Int
 ): CacheableBuildTask()
 
 data class EvalCallee(
@@ -302,8 +302,16 @@ sealed class BuildTaskResult {
     val preCondition: suspend () -> Unit = {},
     val body: () -> Any,
     val postCondition: suspend () -> Unit = {},
-    val after: suspend (Any) -> BuildTaskResult
+    val after: suspend (Any) -> BuildTaskResult,
+    // body가 어떤 target을 빌드하기 위한 것인지. 스케줄링 우선순위를 정하는 데 사용
+    val targetId: String? = null,
+    // body가 CPU보다는 네트워크, 외부 프로세스 등을 주로 기다리는지 여부
+    val ioBound: Boolean = false,
   ): BuildTaskResult()
 
   data class DuplicateTargetResult(val targetId: String): BuildTaskResult()
+
+  // 이번 실행에서 처음 빌드를 시작한 target. build가 반환한 결과를 이어서 처리하다가 실패하면
+  // 같은 target의 DuplicateTargetResult들에도 그 실패를 전달한다
+  class BuildingTarget(val targetId: String, val build: () -> BuildTaskResult): BuildTaskResult()
 }
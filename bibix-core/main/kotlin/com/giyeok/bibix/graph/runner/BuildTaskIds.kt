@@ -0,0 +1,24 @@
+package com.giyeok.bibix.graph.runner
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+// BuildTask마다 0부터 순서대로 int id를 발급한다.
+// ParallelGraphRunner의 캐시와 TaskRelManager는 BuildTask 대신 이 id를 key로 사용해서
+// task의 hashCode/equals가 여러번 계산되지 않도록 한다
+class BuildTaskIds {
+  private val idCounter = AtomicInteger(0)
+  private val ids = ConcurrentHashMap<BuildTask, Int>()
+  private val tasks = ConcurrentHashMap<Int, BuildTask>()
+
+  fun idOf(task: BuildTask): Int =
+    ids[task] ?: ids.computeIfAbsent(task) {
+      val newId = idCounter.getAndIncrement()
+      tasks[newId] = task
+      newId
+    }
+
+  fun taskOf(id: Int): BuildTask = tasks.getValue(id)
+
+  val size: Int get() = idCounter.get()
+}
@@ -23,16 +23,19 @@ open class ClassPkgRunner(private val classWorld: ClassWorld) {
 
   private fun getPluginImplInstance(cps: List<Path>, className: String): Any {
     val cpsSet = cps.map { it.absolute() }.toSet()
-    val cached = realmCache[cpsSet]
-    val realm = if (cached != null) cached else {
-      realmIdCounter += 1
-      val newRealm = baseRealm.createChildRealm("bibix-realm-$realmIdCounter")
+    // getPluginImplInstance는 여러 스레드에서 동시에 호출될 수 있다
+    val realm = synchronized(this) {
+      val cached = realmCache[cpsSet]
+      if (cached != null) cached else {
+        realmIdCounter += 1
+        val newRealm = baseRealm.createChildRealm("bibix-realm-$realmIdCounter")
 
-      cps.forEach {
-        newRealm.addURL(it.absolute().toUri().toURL())
+        cps.forEach {
+          newRealm.addURL(it.absolute().toUri().toURL())
+        }
+        realmCache[cpsSet] = newRealm
+        newRealm
       }
-      realmCache[cpsSet] = newRealm
-      newRealm
     }
     val cls = realm.loadClass(className)
     return cls.getDeclaredConstructor().newInstance()
@@ -1,72 +1,39 @@
 package com.giyeok.bibix.graph.runner
 
-import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicReferenceArray
 
+// 각 executor 스레드에서 지금 어떤 task의 body를 실행하고 있는지 추적한다.
+// body가 시작/끝날 때마다 호출되므로 lock을 잡거나 출력하지 않고 스레드별 slot만 갱신한다.
+// 빌드 통계는 BuildMetrics에서 모은다
 class ExecutorTracker(threadCount: Int) {
   private val threadIdLocal = ThreadLocal<Int>()
-  private val threads = mutableListOf<Thread>()
-  private val threadTasks = mutableListOf<BuildTask?>()
-  private val taskThreadId = mutableMapOf<BuildTask, Int>()
-
-  val executor = Executors.newFixedThreadPool(threadCount) { runnable ->
-    val thread = synchronized(this) {
-      val threadId = threads.size
-      val thread = Thread {
-        threadIdLocal.set(threadId)
-        runnable.run()
-      }
-      threads.add(thread)
-      threadTasks.add(null)
-      thread
+  private val threadTasks = AtomicReferenceArray<BuildTask?>(threadCount)
+  private var threadsCount = 0
+
+  val executor = PriorityThreadPoolExecutor(threadCount) { runnable ->
+    // 죽은 스레드를 대신하는 스레드는 빈 slot을 다시 사용하지 않고 추적하지 않는다
+    val threadId = synchronized(this) { threadsCount++ }
+    Thread {
+      threadIdLocal.set(threadId)
+      runnable.run()
     }
-    thread
   }
 
+  // virtual thread 등 executor 밖의 스레드에서 호출되면 무시한다
   fun notifyJobStartedFor(task: BuildTask) {
-    val threadId = threadIdLocal.get()
-    synchronized(this) {
-      threadTasks[threadId] = task
-      taskThreadId[task] = threadId
-    }
-    printStatus()
+    val threadId = currentThreadId() ?: return
+    threadTasks.set(threadId, task)
   }
 
   fun notifyJobFinished(task: BuildTask) {
-    val threadId = threadIdLocal.get()
-    synchronized(this) {
-      val threadIdByThread = taskThreadId.remove(task)
-      if (threadIdByThread == threadId) {
-        threadTasks[threadId] = null
-      } else {
-        // 이런 상황이 일반적으론 생기면 안 되는데 미묘한 타이밍 문제로 생길 수도 있을 듯..
-      }
-    }
-    printStatus()
-  }
-
-  fun notifySuspendJobStartedFor(task: BuildTask) {
-    val threadId = threadIdLocal.get()
-    synchronized(this) {
-      threadTasks[threadId] = task
-      taskThreadId[task] = threadId
-    }
-    printStatus()
+    val threadId = currentThreadId() ?: return
+    threadTasks.compareAndSet(threadId, task, null)
   }
 
-  fun notifySuspendJobFinished(task: BuildTask) {
-    synchronized(this) {
-      val startedThreadId = checkNotNull(taskThreadId.remove(task))
-      if (threadTasks[startedThreadId] != task) {
-        threadTasks[startedThreadId] = null
-      }
-    }
-    printStatus()
-  }
+  private fun currentThreadId(): Int? =
+    threadIdLocal.get()?.takeIf { it < threadTasks.length() }
 
-  fun printStatus() = synchronized(this) {
-    threadTasks.forEachIndexed { index, buildTask ->
-      println("$index: ${buildTask.toString().take(100)}")
-    }
-    println()
-  }
+  // 스레드별로 실행중인 task. 실행중인 task가 없는 스레드는 null
+  fun runningTasks(): List<BuildTask?> =
+    (0 until threadTasks.length()).map { threadTasks.get(it) }
 }
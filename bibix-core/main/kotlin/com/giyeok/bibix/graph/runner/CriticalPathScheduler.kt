@@ -0,0 +1,93 @@
+package com.giyeok.bibix.graph.runner
+
+import com.giyeok.bibix.repo.BibixRepo
+import com.giyeok.bibix.repo.BibixRepoProto.TargetBuildStats
+import com.giyeok.bibix.repo.targetBuildStats
+import com.google.protobuf.util.Durations
+import java.util.concurrent.ConcurrentHashMap
+
+// 이전 빌드에서 기록된 target별 통계를 이용해서 LongRunning body들의 실행 우선순위를 정한다.
+// 이 target이 끝나야 시작할 수 있는 작업들의 chain(critical path)이 긴 것부터 실행해야 전체 빌드 시간이 짧아진다.
+// 빌드가 끝나면 이번 빌드에서 측정한 시간과 task 관계로 각 target의 critical path를 다시 계산해서 repo에 저장한다
+class CriticalPathScheduler(private val repo: BibixRepo) {
+  private val history: Map<String, TargetBuildStats> = repo.getAllTargetBuildStats()
+
+  // 기록이 없는 target은 기록이 있는 target들의 평균을 사용한다
+  private val defaultPriority: Long =
+    history.values.map { Durations.toMillis(it.criticalPathDuration) }.average()
+      .let { if (it.isNaN()) 0L else it.toLong() }
+
+  // target id -> 이번 빌드에서 body 실행에 걸린 시간(millis)
+  private val bodyDurations = ConcurrentHashMap<String, Long>()
+
+  // notable task id -> 그 task를 위해 실행된 body들의 target id
+  private val notableTaskTargets = ConcurrentHashMap<Int, MutableSet<String>>()
+
+  fun priorityOf(targetId: String?): Long {
+    val stats = targetId?.let { history[it] } ?: return defaultPriority
+    return Durations.toMillis(stats.criticalPathDuration)
+  }
+
+  fun bodyFinished(
+    taskRels: TaskRelManager,
+    task: BuildTask,
+    targetId: String?,
+    durationMillis: Long
+  ) {
+    if (targetId == null) {
+      return
+    }
+    bodyDurations.merge(targetId, durationMillis, Long::plus)
+    taskRels.notableOwnersOf(task).forEach { owner ->
+      notableTaskTargets.computeIfAbsent(owner) { ConcurrentHashMap.newKeySet() }.add(targetId)
+    }
+  }
+
+  fun runFinished(taskRels: TaskRelManager) {
+    if (bodyDurations.isEmpty()) {
+      return
+    }
+
+    // child -> parents. parent는 child의 결과를 기다리는 task
+    val dependents = mutableMapOf<Int, MutableSet<Int>>()
+    taskRels.notableRelations().forEach { (parent, children) ->
+      children.forEach { child ->
+        dependents.getOrPut(child) { mutableSetOf() }.add(parent)
+      }
+    }
+    val ownDurations = notableTaskTargets.mapValues { (_, targetIds) ->
+      targetIds.sumOf { bodyDurations[it] ?: 0L }
+    }
+
+    // task부터 root까지 가는 경로 중 body 실행 시간 합이 가장 긴 것
+    val tails = mutableMapOf<Int, Long>()
+    fun tailOf(task: Int): Long {
+      val memo = tails[task]
+      if (memo != null) {
+        return memo
+      }
+      // 싸이클이 있으면 빌드가 실패했을 것이지만 혹시 모르니 무한 재귀 방지
+      tails[task] = 0L
+      val parentsTail = dependents[task]?.maxOfOrNull { tailOf(it) } ?: 0L
+      val tail = (ownDurations[task] ?: 0L) + parentsTail
+      tails[task] = tail
+      return tail
+    }
+
+    val criticalPaths = mutableMapOf<String, Long>()
+    notableTaskTargets.forEach { (task, targetIds) ->
+      val tail = tailOf(task)
+      targetIds.forEach { targetId ->
+        criticalPaths[targetId] = maxOf(criticalPaths[targetId] ?: 0L, tail)
+      }
+    }
+
+    repo.putTargetBuildStats(bodyDurations.mapValues { (targetId, bodyDuration) ->
+      targetBuildStats {
+        this.bodyDuration = Durations.fromMillis(bodyDuration)
+        this.criticalPathDuration =
+          Durations.fromMillis(maxOf(criticalPaths[targetId] ?: 0L, bodyDuration))
+      }
+    })
+  }
+}
@@ -0,0 +1,151 @@
+package com.giyeok.bibix.graph.runner
+
+import com.giyeok.bibix.repo.BibixRepoProto.ExecutionProfile
+import com.giyeok.bibix.repo.BibixRepoProto.TaskProfile
+import com.giyeok.bibix.repo.executionProfile
+import com.giyeok.bibix.repo.taskProfile
+import com.giyeok.bibix.repo.toProto
+import com.giyeok.bibix.utils.jsonString
+import java.time.Instant
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+
+// 빌드 실행 기록. task별로 시작/끝 시각, 실행된 스레드, 캐시 hit 여부, 재사용 여부, 기다린 시간을 모은다.
+// 여러 스레드에서 동시에 기록하므로 lock 없이 큐에 쌓아두고, 빌드가 끝난 뒤에 ExecutionProfile로 만든다
+class ExecutionProfiler {
+  private val startTime = Instant.now()
+  private val startNanos = System.nanoTime()
+
+  private val entries = ConcurrentLinkedQueue<TaskProfile>()
+
+  // 스레드 이름 -> threads에서의 index
+  private val threadIds = ConcurrentHashMap<String, Int>()
+  private val threads = CopyOnWriteArrayList<String>()
+
+  fun nowMicros(): Long = (System.nanoTime() - startNanos) / 1000
+
+  private fun currentThreadId(): Int {
+    val thread = Thread.currentThread()
+    // virtual thread는 이름이 없다
+    val threadName = if (thread.isVirtual) "virtual-${thread.threadId()}" else thread.name
+    return threadIds[threadName] ?: threadIds.computeIfAbsent(threadName) {
+      synchronized(threads) {
+        threads.add(threadName)
+        threads.size - 1
+      }
+    }
+  }
+
+  // 지금 스레드에서 끝난 task를 기록한다
+  fun record(
+    kind: TaskProfile.Kind,
+    task: BuildTask,
+    targetId: String?,
+    startMicros: Long,
+    cache: TaskProfile.CacheResult = TaskProfile.CacheResult.NOT_CACHED,
+    reuse: TaskProfile.ReuseSource = TaskProfile.ReuseSource.NOT_REUSED,
+    waitMicros: Long = 0,
+    failed: Boolean = false,
+  ) {
+    add(kind, profileNameOf(task), targetId, startMicros, cache, reuse, waitMicros, failed)
+  }
+
+  // 이전에 빌드된 target의 결과를 재사용한 경우
+  fun targetReused(name: String, targetId: String, reuse: TaskProfile.ReuseSource) {
+    add(
+      TaskProfile.Kind.TASK,
+      name,
+      targetId,
+      nowMicros(),
+      TaskProfile.CacheResult.NOT_CACHED,
+      reuse,
+      0,
+      false
+    )
+  }
+
+  private fun add(
+    kind: TaskProfile.Kind,
+    name: String,
+    targetId: String?,
+    startMicros: Long,
+    cache: TaskProfile.CacheResult,
+    reuse: TaskProfile.ReuseSource,
+    waitMicros: Long,
+    failed: Boolean,
+  ) {
+    val endMicros = nowMicros()
+    val thread = currentThreadId()
+    entries.add(taskProfile {
+      this.kind = kind
+      this.name = name
+      if (targetId != null) {
+        this.targetId = targetId
+      }
+      this.startMicros = startMicros
+      this.endMicros = endMicros
+      this.thread = thread
+      this.cache = cache
+      this.reuse = reuse
+      this.waitMicros = waitMicros
+      this.failed = failed
+    })
+  }
+
+  fun toProto(uniqueRunId: String): ExecutionProfile {
+    val tasks = entries.sortedBy { it.startMicros }
+    return executionProfile {
+      this.uniqueRunId = uniqueRunId
+      this.startTime = this@ExecutionProfiler.startTime.toProto()
+      this.threads.addAll(this@ExecutionProfiler.threads)
+      this.tasks.addAll(tasks)
+    }
+  }
+
+  private fun profileNameOf(task: BuildTask): String = when (task) {
+    is EvalTarget -> task.name.toString()
+    is ExecAction -> task.actionName.toString()
+    is EvalCallExpr -> "${task.ruleName}()"
+    else -> task.javaClass.simpleName
+  }
+}
+
+// Perfetto나 chrome://tracing에서 열 수 있는 Chrome trace event 형식의 JSON으로 변환한다.
+// 스레드마다 한 줄씩 표시되므로 스레드가 놀고 있던 구간을 볼 수 있다
+fun ExecutionProfile.toChromeTraceJson(): String {
+  val events = mutableListOf<String>()
+  threadsList.forEachIndexed { idx, threadName ->
+    events.add("""{"name":"thread_name","ph":"M","pid":1,"tid":$idx,"args":{"name":${jsonString(threadName)}}}""")
+  }
+  tasksList.forEach { task ->
+    val args = mutableListOf<String>()
+    if (task.targetId.isNotEmpty()) {
+      args.add(""""target_id":${jsonString(task.targetId)}""")
+    }
+    if (task.cache != TaskProfile.CacheResult.NOT_CACHED) {
+      args.add(""""cache":"${task.cache}"""")
+    }
+    if (task.reuse != TaskProfile.ReuseSource.NOT_REUSED) {
+      args.add(""""reuse":"${task.reuse}"""")
+    }
+    if (task.waitMicros > 0) {
+      args.add(""""wait_us":${task.waitMicros}""")
+    }
+    if (task.failed) {
+      args.add(""""failed":true""")
+    }
+    val category = if (task.kind == TaskProfile.Kind.BODY) "body" else "task"
+    val common =
+      """"name":${jsonString(task.name)},"cat":"$category","pid":1,"tid":${task.thread},"ts":${task.startMicros}"""
+    val duration = task.endMicros - task.startMicros
+    events.add(
+      if (duration > 0) {
+        """{$common,"ph":"X","dur":$duration,"args":{${args.joinToString(",")}}}"""
+      } else {
+        """{$common,"ph":"i","s":"t","args":{${args.joinToString(",")}}}"""
+      }
+    )
+  }
+  return events.joinToString(",\n", "{\"traceEvents\":[\n", "\n]}\n")
+}
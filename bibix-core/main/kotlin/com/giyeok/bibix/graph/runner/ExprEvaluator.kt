@@ -6,6 +6,7 @@ import com.giyeok.bibix.argsMap
 import com.giyeok.bibix.ast.BibixAst
 import com.giyeok.bibix.base.*
 import com.giyeok.bibix.graph.*
+import com.giyeok.bibix.repo.TargetOutputs
 import com.giyeok.bibix.utils.toProto
 
 class ExprEvaluator(
@@ -23,9 +24,14 @@ class ExprEvaluator(
 
   private val valueCaster: ValueCaster get() = ValueCaster(buildGraphRunner, projectId)
 
+  private val valueStore get() = buildGraphRunner.valueStore
+
+  // task를 만들 때만 필요하므로 처음 필요할 때 등록한다
+  private val localLetsId by lazy { valueStore.idOf(localLets) }
+
   fun evalTask(exprNodeId: ExprNodeId) =
     // isRunningActionStmt는 action stmt에서도 가장 바깥의 call expr에만 적용되면 됨
-    EvalExpr(projectId, exprNodeId, importInstanceId, localLets, thisValue)
+    EvalExpr(projectId, exprNodeId, importInstanceId, localLetsId, thisValue)
 
   fun evaluateExpr(exprNodeId: ExprNodeId): BuildTaskResult =
     when (val exprNode = exprGraph.nodes.getValue(exprNodeId)) {
@@ -169,13 +175,14 @@ class ExprEvaluator(
             is BuildTaskResult.DataClassResult -> {
               val classType = DataClassType(callee.packageName, callee.name.toString())
               organizeParamsForDataClass(
+                valueStore,
                 projectId,
                 callee,
                 posArgs,
                 namedArgs
               ) { value ->
                 BuildTaskResult.WithResult(
-                  TypeCastValue(value, classType, projectId)
+                  TypeCastValue(valueStore.idOf(value), classType, projectId)
                 ) { casted ->
                   check(casted is BuildTaskResult.ResultWithValue)
                   BuildTaskResult.ValueResult(casted.value)
@@ -437,11 +444,32 @@ class ExprEvaluator(
       check(finalized is BuildTaskResult.ValueResult)
 
       BuildTaskResult.WithResult(
-        TypeCastValue(finalized.value, typeResult.type, projectId)
+        TypeCastValue(valueStore.idOf(finalized.value), typeResult.type, projectId)
       ) { casted ->
         check(casted is BuildTaskResult.ValueResult) { "$casted" }
-        buildGraphRunner.repo.targetSucceeded(targetId, casted.value)
-        BuildTaskResult.ValueOfTargetResult(casted.value, targetId)
+        val repo = buildGraphRunner.repo
+        // object 폴더의 파일들을 store에 넣고 해시하는 일은 continuation이 아닌 body에서 한다
+        BuildTaskResult.LongRunning(
+          body = {
+            repo.collectTargetOutputs(
+              targetId,
+              casted.value,
+              buildGraphRunner.fileHashStore::contentHashOf
+            )
+          },
+          after = { outputs ->
+            outputs as TargetOutputs
+            repo.targetSucceeded(
+              targetId,
+              casted.value,
+              outputs.outputDigest,
+              sha256Digests = outputs.sha256Digests
+            )
+            BuildTaskResult.ValueOfTargetResult(casted.value, targetId)
+          },
+          targetId = targetId,
+          ioBound = true,
+        )
       }
     }
   }
@@ -457,7 +485,7 @@ class ExprEvaluator(
         buildTask.buildRuleDefCtx.importInstanceId,
         buildRule,
         listOf(),
-        buildTask.params
+        valueStore.valueMapOf(buildTask.paramsId)
       ) { evalResult ->
         check(evalResult is BuildTaskResult.ValueOfTargetResult)
 
@@ -570,6 +598,7 @@ fun BuildGraphRunner.lookupFromImport(
 }
 
 fun organizeParamsForDataClass(
+  valueStore: ValueStore,
   callerProjectId: Int,
   dataClass: BuildTaskResult.DataClassResult,
   posArgs: List<BibixValue>,
@@ -577,6 +606,7 @@ fun organizeParamsForDataClass(
   func: (ClassInstanceValue) -> BuildTaskResult
 ): BuildTaskResult {
   return organizeParams(
+    valueStore,
     callerProjectId,
     dataClass.fieldTypes,
     dataClass.dataClassDef.def.fields.requiredParamNames(),
@@ -591,6 +621,7 @@ fun organizeParamsForDataClass(
 }
 
 fun organizeParams(
+  valueStore: ValueStore,
   callerProjectId: Int,
   paramTypes: List<Pair<String, BibixType>>,
   requiredParamNames: Set<String>,
@@ -606,11 +637,11 @@ fun organizeParams(
 
   // callee의 parameter 목록을 보고 posParams와 namedParams와 맞춰본다
   val posArgCastTasks = paramNames.zip(posArgs) { name, arg ->
-    TypeCastValue(arg, paramTypesMap.getValue(name), callerProjectId)
+    TypeCastValue(valueStore.idOf(arg), paramTypesMap.getValue(name), callerProjectId)
   }
   val namedArgPairs = namedArgs.entries.toList()
   val namedArgCastTasks = namedArgPairs.map { (name, arg) ->
-    TypeCastValue(arg, paramTypesMap.getValue(name), callerProjectId)
+    TypeCastValue(valueStore.idOf(arg), paramTypesMap.getValue(name), callerProjectId)
   }
 
   val remainingParamNames = paramNames.drop(posArgs.size).toSet()
@@ -1,75 +1,102 @@
 package com.giyeok.bibix.graph.runner
 
 import com.giyeok.bibix.*
-import com.giyeok.bibix.repo.newDigest
-import com.google.protobuf.kotlin.toByteString
-import com.google.protobuf.util.Timestamps
+import com.giyeok.bibix.base.*
+import com.giyeok.bibix.repo.FileContentHasher
+import com.giyeok.bibix.repo.FileHashCache
+import com.giyeok.bibix.repo.directoryTreeNode
+import com.giyeok.bibix.repo.fileHashWith
+import com.giyeok.bibix.repo.treeDigest
+import com.google.protobuf.ByteString
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinTask
 import kotlin.io.path.*
 
 // File hash는 동일한 빌드 run에서는 파일이 변경되지 않는다고 가정하고 해시값을 캐시해놓는 곳
 // TODO 그런데 bbxbuild 폴더 밑의 파일의 해시라면..? 변경되지 않는다고 일반적으로 가정할 수 있을까? 근데 변경되면.. 안되지 않나?
-class FileHashStore {
-  val fileHashCache: MutableMap<Path, BibixIdProto.FileHash> = mutableMapOf()
-  val directoryHashCache: MutableMap<Path, BibixIdProto.DirectoryHash> = mutableMapOf()
-
-  private inline fun <T> withCache(
+// 각 경로의 해시는 ForkJoinTask로 한 번만 계산하고, 디렉토리의 하위 항목들은 pool에서 병렬로 계산한다
+class FileHashStore(
+  private val metrics: BuildMetrics? = null,
+  private val hasher: FileContentHasher = FileContentHasher(),
+  // 이전 run들에서 계산한 해시. null이면 이번 run 안에서만 캐시한다
+  private val persistentCache: FileHashCache? = null,
+  private val pool: ForkJoinPool = ForkJoinPool.commonPool(),
+  // 다른 target의 object 폴더 밑의 경로이면 그 target의 output digest를 반환한다. 반환하면 내용을 해시하지 않는다
+  private val targetOutputDigests: ((Path) -> BibixIdProto.TargetOutputHash?)? = null,
+) {
+  private val fileHashTasks = ConcurrentHashMap<Path, ForkJoinTask<BibixIdProto.FileHash>>()
+  private val directoryHashTasks =
+    ConcurrentHashMap<Path, ForkJoinTask<BibixIdProto.DirectoryHash>>()
+
+  // path의 해시를 계산하는 task를 반환한다. 처음 요청된 path이면 task를 만들어서 시작시킨다
+  private fun <T> taskFor(
     path: Path,
-    cacheMap: MutableMap<Path, T>,
+    tasks: ConcurrentHashMap<Path, ForkJoinTask<T>>,
     calculateHash: () -> T
-  ): T {
-    val existing = synchronized(this) { cacheMap[path] }
+  ): ForkJoinTask<T> {
+    tasks[path]?.let { return it }
+    val newTask = ForkJoinTask.adapt(Callable { calculateHash() })
+    val existing = tasks.putIfAbsent(path, newTask)
     if (existing != null) {
       return existing
     }
-
-    val newHash = calculateHash()
-    synchronized(this) { cacheMap[path] = newHash }
-    return newHash
+    if (ForkJoinTask.getPool() == pool) {
+      newTask.fork()
+    } else {
+      pool.execute(newTask)
+    }
+    return newTask
   }
 
-  // race condition으로 인해서 같은 파일의 해시를 두번 계산해도 큰 문제는 없으니 그냥 쉽게 가자
-  private fun fileHashOf(path: Path): BibixIdProto.FileHash =
-    withCache(path, fileHashCache) {
-      val digest = newDigest()
-      val buffer = ByteArray(1000)
-      path.inputStream().buffered().use { stream ->
-        val read = stream.read(buffer, 0, 1000)
-        if (read > 0) {
-          digest.update(buffer, 0, read)
-        }
-      }
-      val fileHash = digest.digest().toByteString()
+  private fun contentHashOf(path: Path, attrs: BasicFileAttributes): ByteString =
+    persistentCache?.get(path, attrs) ?: run {
+      val newHash = hasher.hashContent(path, attrs.size())
+      metrics?.hashBytesRead?.add(attrs.size())
+      persistentCache?.put(path, attrs, newHash)
+      newHash
+    }
 
-      fileHash {
-        this.path = path.pathString
-        this.lastModifiedTime = Timestamps.fromMillis(Files.getLastModifiedTime(path).toMillis())
-        this.size = Files.size(path)
-        this.sha1Hash = fileHash
-      }
+  // 이번 run 안에서 바뀔 수 있는 파일(target이 방금 만든 파일 등)의 내용 해시. 이번 run의 캐시는 사용하지 않는다
+  fun contentHashOf(path: Path): ByteString =
+    contentHashOf(path, Files.readAttributes(path, BasicFileAttributes::class.java))
+
+  private fun fileHashTask(path: Path): ForkJoinTask<BibixIdProto.FileHash> =
+    taskFor(path, fileHashTasks) {
+      val attrs = Files.readAttributes(path, BasicFileAttributes::class.java)
+      fileHashWith(path, attrs, contentHashOf(path, attrs))
     }
 
-  private fun directoryHashOf(path: Path): BibixIdProto.DirectoryHash =
-    withCache(path, directoryHashCache) {
+  fun savePersistentCache() {
+    persistentCache?.save()
+  }
+
+  // 디렉토리의 해시는 path와 Merkle digest만 갖는다
+  private fun directoryHashTask(path: Path): ForkJoinTask<BibixIdProto.DirectoryHash> =
+    taskFor(path, directoryHashTasks) {
       val elems = path.listDirectoryEntries().sortedBy { it.name }
+      // 하위 항목들의 task를 모두 시작시킨 뒤에 순서대로 결과를 모은다
+      val elemTasks = elems.map { elem ->
+        if (Files.isDirectory(elem)) directoryHashTask(elem) else fileHashTask(elem)
+      }
+      val directories = mutableListOf<BibixIdProto.DirectoryHash>()
+      val files = mutableListOf<BibixIdProto.FileHash>()
+      elemTasks.forEach { task ->
+        when (val hash = task.join()) {
+          is BibixIdProto.DirectoryHash -> directories.add(hash)
+          is BibixIdProto.FileHash -> files.add(hash)
+        }
+      }
       directoryHash {
         this.path = path.pathString
-        elems.forEach { elem ->
-          if (Files.isDirectory(elem)) {
-            this.directories.add(directoryHashOf(elem))
-          } else {
-            this.files.add(fileHashOf(elem))
-          }
-        }
+        this.digest = directoryTreeNode(directories, files).treeDigest()
       }
     }
 
-  private fun getHashOf(path: Path): Pair<BibixIdProto.FileHash?, BibixIdProto.DirectoryHash?> =
-    synchronized(this) {
-      Pair(fileHashCache[path], directoryHashCache[path])
-    }
-
   fun traverseValue(value: BibixValueProto.BibixValue): List<String> = when (value.valueCase) {
     BibixValueProto.BibixValue.ValueCase.FILE_VALUE -> listOf(value.fileValue)
     BibixValueProto.BibixValue.ValueCase.DIRECTORY_VALUE -> listOf(value.directoryValue)
@@ -94,31 +121,51 @@ class FileHashStore {
     else -> listOf()
   }
 
+  // BibixValue를 proto로 바꾸지 않고 그 안의 file/directory 값들을 찾는다
+  fun traverseValue(value: BibixValue): List<String> = when (value) {
+    is FileValue -> listOf(value.file.absolutePathString())
+    is DirectoryValue -> listOf(value.directory.absolutePathString())
+    is CollectionValue -> value.values.flatMap { traverseValue(it) }
+    is TupleValue -> value.values.flatMap { traverseValue(it) }
+    is NamedTupleValue -> value.values.flatMap { traverseValue(it) }
+    is ClassInstanceValue -> value.fieldValues.values.flatMap { traverseValue(it) }
+    // path는 내용을 확인하지 않는다
+    else -> listOf()
+  }
+
+  fun extractInputHashes(args: Map<String, BibixValue>): BibixIdProto.InputHashes =
+    inputHashesFromPaths(args.values.flatMap { traverseValue(it) })
+
   fun extractInputHashes(value: BibixValueProto.BibixValue): BibixIdProto.InputHashes =
     inputHashesFromPaths(traverseValue(value))
 
   fun extractInputHashes(argsMap: BibixIdProto.ArgsMap): BibixIdProto.InputHashes =
     inputHashesFromPaths(argsMap.pairsList.flatMap { traverseValue(it.value) })
 
-  fun inputHashesFromPaths(paths: List<String>): BibixIdProto.InputHashes = inputHashes {
+  fun inputHashesFromPaths(paths: List<String>): BibixIdProto.InputHashes {
     val sortedPaths = paths.map { Path(it).normalize().absolute() }.distinct().sorted()
-    sortedPaths.forEach { path ->
-      val (fileHash, directoryHash) = getHashOf(path)
-      if (fileHash != null || directoryHash != null) {
-        if (fileHash != null) {
-          check(directoryHash == null)
-          files.add(fileHash)
-        } else {
-          check(directoryHash != null)
-          directories.add(directoryHash)
+    val outputHashes = mutableListOf<BibixIdProto.TargetOutputHash>()
+    val tasks = sortedPaths.mapNotNull { path ->
+      // upstream target이 같은 내용을 다시 만들었으면 파일의 수정 시각이 바뀌어도 input hash가 바뀌지 않는다
+      val outputHash = if (path.exists()) targetOutputDigests?.invoke(path) else null
+      when {
+        outputHash != null -> {
+          outputHashes.add(outputHash)
+          metrics?.targetOutputDigestsUsed?.increment()
+          null
         }
-      } else {
-        if (Files.isDirectory(path)) {
-          directories.add(directoryHashOf(path))
-        } else {
-          if (path.exists()) {
-            files.add(fileHashOf(path))
-          }
+
+        Files.isDirectory(path) -> directoryHashTask(path)
+        path.exists() -> fileHashTask(path)
+        else -> null
+      }
+    }
+    return inputHashes {
+      targetOutputs.addAll(outputHashes)
+      tasks.forEach { task ->
+        when (val hash = task.join()) {
+          is BibixIdProto.DirectoryHash -> directories.add(hash)
+          is BibixIdProto.FileHash -> files.add(hash)
         }
       }
     }
@@ -62,6 +62,12 @@ fun BuildGraphRunner.handleImportTask(importTask: Import): BuildTaskResult {
           )
         }
       } else {
+        multiGraph.importResolved(
+          importTask.projectId,
+          importTask.importName,
+          source.projectId,
+          importingName
+        )
         importResultFrom(source, importingName) { it }
       }
     }
@@ -194,10 +200,8 @@ fun BuildGraphRunner.handleEvalImportSource(buildTask: EvalImportSource): BuildT
   }
 }
 
-// NOTE handleImportLocation도 LongRunning 안에서 돌리면 좋겠지만 multiGraph가 thread-safe하지 않기 때문에 그냥 메인 스레드에서 돌도록 한다
-// - 스크립트 읽고 파싱하는 부분만 LongRunning으로 뺄 수는 있을 것 같음
-// - 그런데 그러면 읽어놓고 addProject 하려고 할 때 이미 같은 location의 프로젝트가 있으면 추가하지 않고 기존 것을 이미 사용하도록하면 되긴 할텐데
-//   복잡도에 비해 benefit이 그다지 크지 않을 것 같음
+// NOTE 같은 location을 여러 스레드에서 동시에 import하면 스크립트를 여러번 읽고 파싱할 수 있다.
+// - 이 경우 multiGraph.addProject가 먼저 추가된 프로젝트의 id를 반환하므로 결과는 같은 프로젝트를 가리키게 됨
 private fun BuildGraphRunner.handleImportLocation(
   importerProjectId: Int,
   importerImportInstanceId: Int,
@@ -239,6 +243,8 @@ fun BuildGraphRunner.createImportInstance(
   importerImportName: BibixName,
   importedProjectId: Int,
 ): BuildTaskResult.WithResult {
+  multiGraph.importResolved(importerProjectId, importerImportName, importedProjectId)
+
   val importerGraph = multiGraph.getProjectGraph(importerProjectId)
   val newRedefs = importerGraph.varRedefs[importerImportName] ?: mapOf()
 
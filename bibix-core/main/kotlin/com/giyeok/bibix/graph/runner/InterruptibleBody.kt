@@ -0,0 +1,63 @@
+package com.giyeok.bibix.graph.runner
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.NonCancellable
+import kotlinx.coroutines.suspendCancellableCoroutine
+import kotlinx.coroutines.withContext
+
+// body를 dispatch로 넘긴 스레드에서 실행하고 결과를 기다린다.
+// 기다리는 coroutine이 취소되면 아직 시작하지 않은 body는 실행하지 않고, 실행 중인 body는 스레드를 interrupt한다.
+// 취소되어도 body가 실제로 끝날 때까지 기다린 뒤에 반환하므로, postCondition 같은 정리 작업이 body와 겹치지 않는다
+suspend fun <T> runInterruptibly(dispatch: (Runnable) -> Unit, body: () -> T): T {
+  val state = InterruptibleBodyState()
+  val done = CompletableDeferred<Unit>()
+  try {
+    return suspendCancellableCoroutine { cont ->
+      cont.invokeOnCancellation { state.cancel() }
+      dispatch {
+        val result = if (state.start()) {
+          try {
+            runCatching(body)
+          } finally {
+            state.finish()
+          }
+        } else {
+          Result.failure(CancellationException("Cancelled before start"))
+        }
+        done.complete(Unit)
+        cont.resumeWith(result)
+      }
+    }
+  } catch (e: CancellationException) {
+    withContext(NonCancellable) { done.await() }
+    throw e
+  }
+}
+
+private class InterruptibleBodyState {
+  private var thread: Thread? = null
+  private var cancelled = false
+
+  @Synchronized
+  fun start(): Boolean {
+    if (cancelled) {
+      return false
+    }
+    thread = Thread.currentThread()
+    return true
+  }
+
+  @Synchronized
+  fun finish() {
+    thread = null
+    // body가 끝난 뒤에 들어온 interrupt가 다음 작업에 영향을 주지 않도록 지운다
+    Thread.interrupted()
+  }
+
+  @Synchronized
+  fun cancel() {
+    cancelled = true
+    thread?.interrupt()
+  }
+}
@@ -0,0 +1,47 @@
+package com.giyeok.bibix.graph.runner
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import java.util.concurrent.ConcurrentHashMap
+
+// 여러 coroutine이 같은 key의 값을 동시에 요청해도 값은 한 번만 계산되도록 하는 memo table.
+// lock 없이 ConcurrentHashMap과 CompletableDeferred만 사용한다
+class MemoTable<K: Any, V> {
+  private val promises = ConcurrentHashMap<K, CompletableDeferred<V>>()
+
+  private fun promiseOf(key: K): CompletableDeferred<V> =
+    promises[key] ?: promises.computeIfAbsent(key) { CompletableDeferred() }
+
+  // key에 대해 처음 호출한 쪽만 compute를 실행하고, 나머지는 그 결과를 기다린다
+  suspend fun getOrCompute(key: K, compute: suspend () -> V): V {
+    val existing = promises[key]
+    if (existing != null) {
+      return existing.await()
+    }
+    val promise = CompletableDeferred<V>()
+    val raced = promises.putIfAbsent(key, promise)
+    if (raced != null) {
+      return raced.await()
+    }
+    val value = try {
+      compute()
+    } catch (e: Throwable) {
+      promise.completeExceptionally(e)
+      if (e is CancellationException) {
+        // 취소된 계산은 나중에 다시 요청되면 새로 계산한다
+        promises.remove(key, promise)
+      }
+      throw e
+    }
+    promise.complete(value)
+    return value
+  }
+
+  // 다른 곳에서 complete로 값을 채울 때까지 기다린다
+  suspend fun await(key: K): V = promiseOf(key).await()
+
+  // 이미 값이 채워져 있으면 무시된다
+  fun complete(key: K, value: V) {
+    promiseOf(key).complete(value)
+  }
+}
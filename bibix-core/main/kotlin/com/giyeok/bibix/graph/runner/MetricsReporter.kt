@@ -0,0 +1,47 @@
+package com.giyeok.bibix.graph.runner
+
+import com.giyeok.bibix.utils.jsonString
+import java.io.PrintStream
+import java.nio.file.Path
+import kotlin.io.path.writeText
+
+// 빌드가 끝난 뒤에 BuildMetrics의 snapshot을 출력한다
+fun interface MetricsReporter {
+  fun report(snapshot: MetricsSnapshot)
+}
+
+class ConsoleMetricsReporter(private val out: PrintStream = System.out): MetricsReporter {
+  override fun report(snapshot: MetricsSnapshot) {
+    out.println("=== build metrics ===")
+    snapshot.counters.forEach { (name, value) ->
+      out.println("$name: $value")
+    }
+    snapshot.cacheHitRatio?.let { ratio ->
+      out.println("cache hit ratio: ${"%.1f".format(ratio * 100)}%")
+    }
+    snapshot.histograms.forEach { (name, histogram) ->
+      if (histogram.count > 0) {
+        out.println("$name: count=${histogram.count} sum=${histogram.sum} max=${histogram.max} p50=${histogram.p50} p90=${histogram.p90} p99=${histogram.p99}")
+      }
+    }
+  }
+}
+
+class JsonFileMetricsReporter(private val file: Path): MetricsReporter {
+  override fun report(snapshot: MetricsSnapshot) {
+    file.writeText(toJson(snapshot))
+  }
+
+  companion object {
+    fun toJson(snapshot: MetricsSnapshot): String {
+      val counters = snapshot.counters.entries.joinToString(",") { (name, value) ->
+        "${jsonString(name)}:$value"
+      }
+      val histograms = snapshot.histograms.entries.joinToString(",") { (name, h) ->
+        "${jsonString(name)}:{\"count\":${h.count},\"sum\":${h.sum},\"max\":${h.max},\"p50\":${h.p50},\"p90\":${h.p90},\"p99\":${h.p99}}"
+      }
+      val cacheHitRatio = snapshot.cacheHitRatio?.let { ",\"cache_hit_ratio\":$it" } ?: ""
+      return "{\"counters\":{$counters},\"histograms\":{$histograms}$cacheHitRatio}\n"
+    }
+  }
+}
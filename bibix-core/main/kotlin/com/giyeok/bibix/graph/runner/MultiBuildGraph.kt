@@ -1,26 +1,25 @@
 package com.giyeok.bibix.graph.runner
 
-import com.giyeok.bibix.ast.BibixParser
+import com.giyeok.bibix.graph.BibixName
 import com.giyeok.bibix.graph.BibixProjectLocation
 import com.giyeok.bibix.graph.BuildGraph
-import com.giyeok.jparser.ktlib.ParsingErrorKt
-import com.google.common.collect.BiMap
-import com.google.common.collect.HashBiMap
-
-class MultiBuildGraph private constructor(
-  val projectGraphs: MutableMap<Int, BuildGraph>,
-  val projectPackages: BiMap<Int, String>,
-  val projectLocations: BiMap<Int, BibixProjectLocation>,
-  val projectSources: MutableMap<Int, String>,
-) {
+import com.giyeok.bibix.graph.DefinitionCycleException
+import com.google.common.collect.ImmutableBiMap
+import com.google.common.collect.ImmutableMap
+
+// 여러 스레드에서 동시에 읽을 수 있도록 프로젝트 정보는 immutable snapshot으로 관리한다.
+// 프로젝트 추가는 빌드 전체에서 몇 번 일어나지 않으므로 추가할 때마다 snapshot을 새로 만든다(copy-on-write)
+class MultiBuildGraph private constructor(initialSnapshot: Snapshot) {
   constructor(projects: Map<Int, ProjectInfo>): this(
-    projects.mapValues { it.value.graph }.toMutableMap(),
-    HashBiMap.create(projects.mapNotNull { (projectId, projectInfo) ->
-      projectInfo.graph.packageName?.let { projectId to it }
-    }.toMap()),
-    HashBiMap.create(projects.filter { it.value.location != null }
-      .mapValues { it.value.location!! }),
-    projects.mapValues { it.value.scriptSource }.toMutableMap()
+    Snapshot(
+      ImmutableMap.copyOf(projects.mapValues { it.value.graph }),
+      ImmutableBiMap.copyOf(projects.mapNotNull { (projectId, projectInfo) ->
+        projectInfo.graph.packageName?.let { projectId to it }
+      }.toMap()),
+      ImmutableBiMap.copyOf(projects.filter { it.value.location != null }
+        .mapValues { it.value.location!! }),
+      ImmutableMap.copyOf(projects.mapValues { it.value.scriptSource }),
+    )
   )
 
   data class ProjectInfo(
@@ -29,33 +28,105 @@ class MultiBuildGraph private constructor(
     val graph: BuildGraph,
   )
 
-  private fun nextProjectId(): Int = (projectGraphs.keys.maxOrNull() ?: 0) + 1
+  private data class Snapshot(
+    val projectGraphs: ImmutableMap<Int, BuildGraph>,
+    val projectPackages: ImmutableBiMap<Int, String>,
+    val projectLocations: ImmutableBiMap<Int, BibixProjectLocation>,
+    val projectSources: ImmutableMap<Int, String>,
+  ) {
+    fun nextProjectId(): Int = (projectGraphs.keys.maxOrNull() ?: 0) + 1
+  }
+
+  @Volatile
+  private var snapshot: Snapshot = initialSnapshot
+
+  // 프로젝트들 사이의 정의 관계. 각 스크립트 안의 싸이클은 BuildGraph를 만들 때 검사되고,
+  // 여기서는 import로 이어지는 다른 프로젝트의 정의까지 포함한 싸이클을 검사한다
+  private val definitionRels = ProjectDefinitionRels()
 
+  init {
+    initialSnapshot.projectGraphs.forEach { (projectId, graph) ->
+      definitionRels.addProject(projectId, graph.definitionGraph)?.let { throwCycle(it) }
+    }
+  }
+
+  private fun throwCycle(cycle: List<Pair<Int, BibixName>>): Nothing {
+    val snapshot = this.snapshot
+    throw DefinitionCycleException(cycle.map { (projectId, name) ->
+      val project = snapshot.projectPackages[projectId]
+        ?: snapshot.projectLocations[projectId]?.projectRoot?.toString()
+        ?: "$projectId"
+      "$project:$name"
+    })
+  }
+
+  val projectGraphs: Map<Int, BuildGraph> get() = snapshot.projectGraphs
+  val projectPackages: ImmutableBiMap<Int, String> get() = snapshot.projectPackages
+  val projectLocations: ImmutableBiMap<Int, BibixProjectLocation> get() = snapshot.projectLocations
+  val projectSources: Map<Int, String> get() = snapshot.projectSources
+
+  // location에 이미 프로젝트가 추가되어 있으면 기존 project id를 반환한다.
+  // 두 스레드가 같은 프로젝트를 동시에 로드하는 경우, 먼저 추가한 쪽의 graph를 사용하게 된다
   fun addProject(
     location: BibixProjectLocation,
     graph: BuildGraph,
     source: String
-  ): Int {
-    val projectId = nextProjectId()
-
-    check(projectId !in projectGraphs)
-    check(!projectLocations.containsValue(location))
-    projectGraphs[projectId] = graph
-    if (graph.packageName != null) {
-      check(graph.packageName !in projectPackages.inverse())
-      projectPackages[projectId] = graph.packageName
+  ): Int = synchronized(this) {
+    val current = snapshot
+    val existing = current.projectLocations.inverse()[location]
+    if (existing != null) {
+      return existing
     }
-    projectLocations[projectId] = location
-    projectSources[projectId] = source
-    return projectId
+
+    val projectId = current.nextProjectId()
+
+    check(projectId !in current.projectGraphs)
+    val newPackages = if (graph.packageName != null) {
+      check(graph.packageName !in current.projectPackages.inverse())
+      ImmutableBiMap.builder<Int, String>()
+        .putAll(current.projectPackages)
+        .put(projectId, graph.packageName)
+        .build()
+    } else {
+      current.projectPackages
+    }
+    snapshot = Snapshot(
+      projectGraphs = ImmutableMap.builder<Int, BuildGraph>()
+        .putAll(current.projectGraphs)
+        .put(projectId, graph)
+        .build(),
+      projectPackages = newPackages,
+      projectLocations = ImmutableBiMap.builder<Int, BibixProjectLocation>()
+        .putAll(current.projectLocations)
+        .put(projectId, location)
+        .build(),
+      projectSources = ImmutableMap.builder<Int, String>()
+        .putAll(current.projectSources)
+        .put(projectId, source)
+        .build(),
+    )
+    definitionRels.addProject(projectId, graph.definitionGraph)?.let { throwCycle(it) }
+    projectId
+  }
+
+  // importerProjectId 프로젝트의 importName이 importedProjectId 프로젝트(importedName이 null이 아니면 그 안의 정의)를
+  // 가리킨다는 것을 알게 되었을 때 호출한다. 이 import 때문에 프로젝트 사이에 정의의 싸이클이 생기면 예외를 던진다
+  fun importResolved(
+    importerProjectId: Int,
+    importName: BibixName,
+    importedProjectId: Int,
+    importedName: BibixName? = null,
+  ) {
+    definitionRels.importResolved(importerProjectId, importName, importedProjectId, importedName)
+      ?.let { throwCycle(it) }
   }
 
   fun getProjectGraph(projectId: Int): BuildGraph =
-    projectGraphs[projectId] ?: throw IllegalStateException()
+    snapshot.projectGraphs[projectId] ?: throw IllegalStateException()
 
   fun getProjectIdByLocation(location: BibixProjectLocation): Int? =
-    projectLocations.inverse()[location]
+    snapshot.projectLocations.inverse()[location]
 
   fun getProjectIdByPackageName(packageName: String): Int? =
-    projectPackages.inverse()[packageName]
+    snapshot.projectPackages.inverse()[packageName]
 }
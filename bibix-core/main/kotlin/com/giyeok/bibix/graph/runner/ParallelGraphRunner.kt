@@ -1,223 +1,346 @@
 package com.giyeok.bibix.graph.runner
 
+import com.giyeok.bibix.repo.BibixRepoProto.TaskProfile
 import kotlinx.coroutines.*
-import kotlinx.coroutines.flow.MutableStateFlow
-import kotlinx.coroutines.flow.filterNotNull
-import kotlinx.coroutines.flow.first
-import kotlinx.coroutines.sync.Mutex
-import kotlinx.coroutines.sync.withLock
 import java.util.concurrent.ExecutorService
 
 class ParallelGraphRunner(
   private val runner: BuildGraphRunner,
   private val executor: ExecutorService,
   private val jobExecutorTracker: ExecutorTracker?,
+  private val scheduler: CriticalPathScheduler? = null,
+  // null이 아니면 LongRunning body들을 executor 대신 virtual thread에서 실행한다
+  private val virtualThreadRunner: VirtualThreadBodyRunner? = null,
+  // false이면 task 사이의 관계를 기록하지 않아서 실행 중의 싸이클 검사와 critical path 계산을 하지 않는다
+  private val trackTaskRelations: Boolean = true,
+  private val failureMode: FailureMode = FailureMode.KeepGoing,
 ) {
-  private val runnerMutex = Mutex()
+  private val profiler = runner.profiler
+  private val metrics = runner.repo.metrics
 
-  private val targetValuesMutex = Mutex()
-  private val targetValues =
-    mutableMapOf<String, MutableStateFlow<BuildTaskResult.ValueOfTargetResult?>>()
+  // target id -> target 값. 빌드가 실패한 target은 실패가 들어간다
+  private val targetValues = MemoTable<String, FailureOr<BuildTaskResult.ValueOfTargetResult>>()
 
-  private suspend inline fun <T> safeRunnerRun(block: () -> T): T =
-    runnerMutex.withLock {
-      block()
-    }
+  // runTasksOrFailure 한 번에 해당하는 상태. 그 실행에서 시작된 coroutine들은 모두 scope 아래에서 실행되고,
+  // LongRunning body처럼 실패 시 취소해야 하는 작업들은 scope 아래의 cancellables에서 실행된다.
+  // task 사이에 결과를 전달하는 coroutine들은 취소하지 않으므로, 실패한 task의 오류는 그대로 root까지 전달된다
+  class TasksRun(
+    val taskRels: TaskRelManager,
+    val scope: CoroutineScope,
+  ) {
+    private val cancellables = CoroutineScope(scope.coroutineContext + SupervisorJob(scope.coroutineContext[Job]))
 
-  private inline fun launch(crossinline block: suspend () -> Unit) {
-    CoroutineScope(executor.asCoroutineDispatcher()).launch {
-      block()
+    @Volatile
+    var firstFailure: Throwable? = null
+      private set
+
+    fun failed(error: Throwable, failureMode: FailureMode) {
+      synchronized(this) {
+        if (firstFailure != null) {
+          return
+        }
+        firstFailure = error
+      }
+      if (failureMode == FailureMode.FailFast) {
+        cancellables.cancel(CancellationException("Build failed", error))
+      }
     }
+
+    // FailFast 모드에서 다른 task가 실패하면 block을 취소하고 FailureOr.Cancelled를 반환한다.
+    // 이미 다른 task가 실패한 뒤라면 block은 시작하지 않는다
+    suspend fun <T> cancellableByFailure(block: suspend () -> T): FailureOr<T> =
+      try {
+        FailureOr.Result(cancellables.async { block() }.await())
+      } catch (e: CancellationException) {
+        // 이 coroutine 자체가 취소된 경우엔 그대로 취소
+        currentCoroutineContext().ensureActive()
+        FailureOr.Failure(FailureOr.Cancelled(firstFailure))
+      }
   }
 
-  private inline fun <T> async(crossinline block: suspend () -> T): Deferred<T> =
-    CoroutineScope(executor.asCoroutineDispatcher()).async {
+  private inline fun <T> TasksRun.async(crossinline block: suspend () -> T): Deferred<T> =
+    scope.async {
       block()
     }
 
   private suspend fun handleResultOrFailure(
-    taskRels: TaskRelManager,
+    run: TasksRun,
     task: BuildTask,
     resultOrFailure: FailureOr<BuildTaskResult>
   ): Deferred<FailureOr<BuildTaskResult.FinalResult>> = when (resultOrFailure) {
     is FailureOr.Failure -> {
-      taskRels.markTaskFailed(task, resultOrFailure)
+      run.taskRels.markTaskFailed(task, resultOrFailure)
+      if (resultOrFailure.error !is CancellationException) {
+        run.failed(resultOrFailure.error, failureMode)
+      }
       CompletableDeferred(FailureOr.Failure(resultOrFailure.error))
     }
 
     is FailureOr.Result -> when (val result = resultOrFailure.result) {
       is BuildTaskResult.FinalResult -> {
-        taskRels.markTaskFinished(task)
+        run.taskRels.markTaskFinished(task)
         if (result is BuildTaskResult.ValueOfTargetResult) {
-          targetValuesMutex.withLock {
-            val existing = targetValues[result.targetId]
-            if (existing != null) {
-              existing.value = result
-            } else {
-              targetValues[result.targetId] = MutableStateFlow(result)
-            }
-          }
+          targetValues.complete(result.targetId, FailureOr.Result(result))
         }
         CompletableDeferred(FailureOr.Result(result))
       }
 
       is BuildTaskResult.WithResult ->
-        async {
-          val detectedCycle = taskRels.addTaskRelation(task, result.task)
+        run.async {
+          val detectedCycle = run.taskRels.addTaskRelation(task, result.task)
           if (detectedCycle != null) {
-            FailureOr.Failure(FailureOr.CycleFound(detectedCycle))
+            handleResultOrFailure(run, task, FailureOr.Failure(FailureOr.CycleFound(detectedCycle))).await()
           } else {
-            when (val subResult = runTaskToFinalOrFailure(taskRels, result.task).await()) {
+            when (val subResult = runTaskToFinalOrFailure(run, result.task).await()) {
               is FailureOr.Failure<*> -> {
                 FailureOr.Failure(subResult.error)
               }
 
               is FailureOr.Result -> {
                 val next = try {
-                  FailureOr.Result(safeRunnerRun {
-                    result.func(subResult.result)
-                  })
+                  FailureOr.Result(result.func(subResult.result))
                 } catch (e: Throwable) {
                   FailureOr.Failure(e)
                 }
-                handleResultOrFailure(taskRels, task, next).await()
+                handleResultOrFailure(run, task, next).await()
               }
             }
           }
         }
 
       is BuildTaskResult.WithResultList -> {
-        async {
-          val detectedCycle = taskRels.addTaskRelations(task, result.tasks)
+        run.async {
+          val detectedCycle = run.taskRels.addTaskRelations(task, result.tasks)
           if (detectedCycle != null) {
-            FailureOr.Failure(FailureOr.CycleFound(detectedCycle))
+            handleResultOrFailure(run, task, FailureOr.Failure(FailureOr.CycleFound(detectedCycle))).await()
           } else {
-            val subResults = result.tasks.map { runTaskToFinalOrFailure(taskRels, it) }.awaitAll()
+            val subResults = runTasksConcurrently(run, result.tasks)
             if (subResults.any { it is FailureOr.Failure }) {
               val errors = subResults.filterIsInstance<FailureOr.Failure<*>>().map { it.error }
               FailureOr.Failure(IllegalStateException(errors.first()))
             } else {
               val next = try {
                 val subResultsList = subResults.map { (it as FailureOr.Result).result }
-                FailureOr.Result(safeRunnerRun {
-                  result.func(subResultsList)
-                })
+                FailureOr.Result(result.func(subResultsList))
               } catch (e: Throwable) {
                 FailureOr.Failure(e)
               }
-              handleResultOrFailure(taskRels, task, next).await()
+              handleResultOrFailure(run, task, next).await()
             }
           }
         }
       }
 
       is BuildTaskResult.LongRunning ->
-        async {
-          val stateFlow = MutableStateFlow<FailureOr<BuildTaskResult.FinalResult>?>(null)
-          executor.execute {
-            jobExecutorTracker?.notifyJobStartedFor(task)
-            launch {
-              try {
-                val bodyResult = try {
-                  result.preCondition()
-                  FailureOr.Result(result.body())
-                } catch (e: Throwable) {
-                  FailureOr.Failure(e)
-                } finally {
-                  try {
-                    result.postCondition()
-                  } catch (e: Throwable) {
-                    // TODO 이건 어떻게 처리하지?
-                    e.printStackTrace()
-                  }
-                }
-                val longRunningResult = when (bodyResult) {
-                  is FailureOr.Failure -> FailureOr.Failure(bodyResult.error)
-                  is FailureOr.Result -> safeRunnerRun {
-                    try {
-                      FailureOr.Result(result.after(bodyResult.result))
-                    } catch (e: Throwable) {
-                      FailureOr.Failure(e)
-                    }
-                  }
-                }
-                stateFlow.value = handleResultOrFailure(taskRels, task, longRunningResult).await()
-              } finally {
-                jobExecutorTracker?.notifyJobFinished(task)
-              }
+        run.async {
+          val bodyResult = try {
+            result.preCondition()
+            run.cancellableByFailure { runLongRunningBody(run, task, result) }
+          } catch (e: CancellationException) {
+            throw e
+          } catch (e: Throwable) {
+            FailureOr.Failure(e)
+          } finally {
+            try {
+              result.postCondition()
+            } catch (e: Throwable) {
+              // TODO 이건 어떻게 처리하지?
+              e.printStackTrace()
+            }
+          }
+          val longRunningResult = when (bodyResult) {
+            is FailureOr.Failure -> FailureOr.Failure(bodyResult.error)
+            is FailureOr.Result -> try {
+              FailureOr.Result(result.after(bodyResult.result))
+            } catch (e: Throwable) {
+              FailureOr.Failure(e)
             }
           }
-          stateFlow.filterNotNull().first()
+          handleResultOrFailure(run, task, longRunningResult).await()
+        }
+
+      is BuildTaskResult.BuildingTarget ->
+        run.async {
+          val built: FailureOr<BuildTaskResult> = try {
+            FailureOr.Result(result.build())
+          } catch (e: CancellationException) {
+            throw e
+          } catch (e: Throwable) {
+            FailureOr.Failure(e)
+          }
+          val targetResult = handleResultOrFailure(run, task, built).await()
+          if (targetResult is FailureOr.Failure) {
+            // KeepGoing 모드에서도 같은 target을 기다리던 task들이 끝날 수 있도록 실패를 전달한다
+            targetValues.complete(result.targetId, FailureOr.Failure(targetResult.error))
+          }
+          targetResult
         }
 
       is BuildTaskResult.DuplicateTargetResult -> {
-        // TODO target 빌드가 실패하는 경우 처리가 안됨..
-        val stateFlow = targetValuesMutex.withLock {
-          targetValues.getOrPut(result.targetId) { MutableStateFlow(null) }
+        run.async {
+          val startMicros = profiler.nowMicros()
+          val awaited = run.cancellableByFailure { targetValues.await(result.targetId) }
+          val targetResult: FailureOr<BuildTaskResult.ValueOfTargetResult> = when (awaited) {
+            is FailureOr.Failure -> FailureOr.Failure(awaited.error)
+            is FailureOr.Result -> awaited.result
+          }
+          profiler.record(
+            TaskProfile.Kind.TASK,
+            task,
+            result.targetId,
+            startMicros,
+            reuse = TaskProfile.ReuseSource.DUPLICATE_TARGET,
+            waitMicros = profiler.nowMicros() - startMicros,
+            failed = targetResult is FailureOr.Failure,
+          )
+          targetResult
         }
-        async { FailureOr.Result(stateFlow.filterNotNull().first()) }
       }
     }
   }
 
-  private val cacheMutex = Mutex()
-  private val cache =
-    mutableMapOf<CacheableBuildTask, MutableStateFlow<FailureOr<BuildTaskResult>?>>()
+  // LongRunning의 body는 critical path가 긴 것부터 실행될 수 있도록 우선순위를 붙여서 실행한다
+  private suspend fun runLongRunningBody(
+    run: TasksRun,
+    task: BuildTask,
+    longRunning: BuildTaskResult.LongRunning
+  ): Any {
+    val priority = scheduler?.priorityOf(longRunning.targetId) ?: 0L
+    val queuedMicros = profiler.nowMicros()
+    metrics.bodyQueued()
+    var started = false
+    val body = {
+      started = true
+      jobExecutorTracker?.notifyJobStartedFor(task)
+      val startTime = System.nanoTime()
+      val startMicros = profiler.nowMicros()
+      metrics.bodyStarted((startMicros - queuedMicros) / 1000)
+      var succeeded = false
+      try {
+        val result = longRunning.body()
+        succeeded = true
+        result
+      } finally {
+        val durationMillis = (System.nanoTime() - startTime) / 1_000_000
+        metrics.bodyDurations.record(durationMillis)
+        scheduler?.bodyFinished(run.taskRels, task, longRunning.targetId, durationMillis)
+        profiler.record(
+          TaskProfile.Kind.BODY,
+          task,
+          longRunning.targetId,
+          startMicros,
+          waitMicros = startMicros - queuedMicros,
+          failed = !succeeded,
+        )
+        jobExecutorTracker?.notifyJobFinished(task)
+      }
+    }
+    try {
+      if (virtualThreadRunner != null) {
+        return virtualThreadRunner.run(priority, longRunning.ioBound, body)
+      }
+      return runInterruptibly({ job ->
+        if (executor is PriorityThreadPoolExecutor) {
+          executor.execute(priority, job)
+        } else {
+          executor.execute(job)
+        }
+      }, body)
+    } finally {
+      // 취소되어서 시작하지 못한 body
+      if (!started) {
+        metrics.bodyDequeued()
+      }
+    }
+  }
+
+  // 캐시와 TaskRelManager는 BuildTask 대신 taskIds에서 발급한 int id를 key로 사용한다
+  private val taskIds = BuildTaskIds()
+  private val cache = MemoTable<Int, FailureOr<BuildTaskResult>>()
 
   private suspend fun runBuildTaskOrFailure(task: BuildTask): FailureOr<BuildTaskResult> {
+    metrics.taskStarted(task)
     return try {
-      FailureOr.Result(safeRunnerRun { runner.runBuildTask(task) })
+      FailureOr.Result(runner.runBuildTask(task))
+    } catch (e: CancellationException) {
+      throw e
     } catch (e: Throwable) {
       FailureOr.Failure(e)
     }
   }
 
   private suspend fun cacheOrRunBuildTask(
-    taskRels: TaskRelManager,
+    run: TasksRun,
     task: BuildTask
   ): FailureOr<BuildTaskResult> = when (task) {
     is CacheableBuildTask -> {
-      var isExisting: Boolean
-      val flow: MutableStateFlow<FailureOr<BuildTaskResult>?>
-      cacheMutex.withLock {
-        val existing = cache[task]
-        if (existing != null) {
-          isExisting = true
-          flow = existing
-        } else {
-          isExisting = false
-          flow = MutableStateFlow(null)
-          cache[task] = flow
-        }
+      val startMicros = profiler.nowMicros()
+      var computed = false
+      val result = cache.getOrCompute(taskIds.idOf(task)) {
+        computed = true
+        val result = runBuildTaskOrFailure(task)
+        handleResultOrFailure(run, task, result).await()
       }
-      if (isExisting) {
-        flow.value ?: flow.filterNotNull().first()
+      if (computed) {
+        metrics.cacheMisses.increment()
       } else {
-        val result = runBuildTaskOrFailure(task)
-        val finalResult = handleResultOrFailure(taskRels, task, result).await()
-        flow.value = finalResult
-        finalResult
+        metrics.cacheHits.increment()
       }
+      // 캐시에 있던 결과를 사용한 경우엔 다른 곳에서 계산중이던 결과를 기다린 시간을 기록한다
+      val targetId =
+        ((result as? FailureOr.Result)?.result as? BuildTaskResult.ValueOfTargetResult)?.targetId
+      profiler.record(
+        TaskProfile.Kind.TASK,
+        task,
+        targetId,
+        startMicros,
+        cache = if (computed) TaskProfile.CacheResult.MISS else TaskProfile.CacheResult.HIT,
+        waitMicros = if (computed) 0 else profiler.nowMicros() - startMicros,
+        failed = result is FailureOr.Failure,
+      )
+      result
     }
 
     else -> runBuildTaskOrFailure(task)
   }
 
   suspend fun runTaskToFinalOrFailure(
-    taskRels: TaskRelManager,
+    run: TasksRun,
     task: BuildTask
   ): Deferred<FailureOr<BuildTaskResult.FinalResult>> {
-    val result = cacheOrRunBuildTask(taskRels, task)
-    return handleResultOrFailure(taskRels, task, result)
+    val result = cacheOrRunBuildTask(run, task)
+    return handleResultOrFailure(run, task, result)
   }
 
+  // runTaskToFinalOrFailure는 cacheable task인 경우 결과가 나올 때까지 기다리므로,
+  // 여러 task를 동시에 진행시키려면 각각 별도의 coroutine에서 시작해야 한다
+  private suspend fun runTasksConcurrently(
+    run: TasksRun,
+    tasks: List<BuildTask>
+  ): List<FailureOr<BuildTaskResult.FinalResult>> =
+    tasks.map { task ->
+      run.async { runTaskToFinalOrFailure(run, task).await() }
+    }.awaitAll()
+
+  // 빌드 중에 실패한 task가 있을 때
+  // - FailFast이면 실행 중인 body는 interrupt하고 아직 시작하지 않은 body는 실행하지 않는다.
+  //   취소된 body의 결과는 FailureOr.Cancelled가 되어 다른 실패와 같은 방식으로 전달된다
+  // - KeepGoing이면 실패한 task에 의존하지 않는 task들은 계속 진행한다
   suspend fun runTasksOrFailure(tasks: List<BuildTask>): Map<BuildTask, FailureOr<BuildTaskResult.FinalResult>> {
-    val taskRels = TaskRelManager()
+    val taskRels = TaskRelManager(taskIds, trackTaskRelations)
     tasks.forEach { taskRels.addRootTask(it) }
-    val results = tasks.map {
-      runTaskToFinalOrFailure(taskRels, it)
-    }.awaitAll()
-    return tasks.zip(results).toMap()
+    val runJob = SupervisorJob(currentCoroutineContext()[Job])
+    val run = TasksRun(taskRels, CoroutineScope(executor.asCoroutineDispatcher() + runJob))
+    try {
+      val rootResults = tasks.map { task ->
+        run.async { runTaskToFinalOrFailure(run, task).await() }
+      }
+      val results = rootResults.awaitAll()
+      scheduler?.runFinished(taskRels)
+      return tasks.zip(results).toMap()
+    } finally {
+      runJob.cancel()
+    }
   }
 
   suspend fun runTasks(tasks: List<BuildTask>): Map<BuildTask, BuildTaskResult.FinalResult> {
@@ -229,11 +352,18 @@ class ParallelGraphRunner(
 
 sealed class FailureOr<out T> {
   data class Result<T>(val result: T): FailureOr<T>()
-  data class Failure<T>(val error: Throwable): FailureOr<T>() {
-    init {
-      error.printStackTrace()
-    }
-  }
+  data class Failure<T>(val error: Throwable): FailureOr<T>()
 
   data class CycleFound(val cycle: TasksCycle): Exception()
+
+  // FailFast 모드에서 다른 task의 실패 때문에 취소된 경우
+  data class Cancelled(override val cause: Throwable?): Exception("Cancelled by another failure", cause)
+}
+
+enum class FailureMode {
+  // 실패한 task가 생기면 빌드 전체를 바로 취소한다
+  FailFast,
+
+  // 실패한 task에 의존하지 않는 task들은 계속 빌드한다
+  KeepGoing,
 }
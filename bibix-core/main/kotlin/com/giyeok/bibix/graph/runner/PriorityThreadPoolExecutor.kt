@@ -0,0 +1,51 @@
+package com.giyeok.bibix.graph.runner
+
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+// priority가 높은 작업부터 실행하는 고정 크기 thread pool.
+// priority 없이 execute로 들어온 작업(주로 coroutine continuation)은 금방 끝나므로 항상 가장 먼저 실행한다.
+// priority가 같으면 먼저 들어온 작업을 먼저 실행한다
+class PriorityThreadPoolExecutor(
+  threadCount: Int,
+  threadFactory: ThreadFactory,
+): ThreadPoolExecutor(
+  threadCount,
+  threadCount,
+  0L,
+  TimeUnit.MILLISECONDS,
+  PriorityBlockingQueue(),
+  threadFactory
+) {
+  private val sequence = AtomicLong()
+
+  private class PrioritizedRunnable(
+    val priority: Long,
+    val sequence: Long,
+    val runnable: Runnable,
+  ): Runnable, Comparable<PrioritizedRunnable> {
+    override fun run() {
+      runnable.run()
+    }
+
+    override fun compareTo(other: PrioritizedRunnable): Int {
+      val priorityCompare = other.priority.compareTo(priority)
+      return if (priorityCompare != 0) priorityCompare else sequence.compareTo(other.sequence)
+    }
+  }
+
+  override fun execute(command: Runnable) {
+    if (command is PrioritizedRunnable) {
+      super.execute(command)
+    } else {
+      execute(Long.MAX_VALUE, command)
+    }
+  }
+
+  fun execute(priority: Long, command: Runnable) {
+    super.execute(PrioritizedRunnable(priority, sequence.getAndIncrement(), command))
+  }
+}
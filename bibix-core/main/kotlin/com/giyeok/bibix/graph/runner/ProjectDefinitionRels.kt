@@ -0,0 +1,73 @@
+package com.giyeok.bibix.graph.runner
+
+import com.giyeok.bibix.graph.BibixName
+import com.giyeok.bibix.graph.DefinitionGraph
+
+// 여러 프로젝트에 걸친 정의들 사이의 관계.
+// 프로젝트 안의 관계는 프로젝트가 추가될 때 넣고, 다른 프로젝트의 정의를 참조하는 관계는 import가 어느 프로젝트를
+// 가리키는지 알게 되었을 때 넣는다. 관계를 넣을 때마다 TasksOrder로 싸이클이 생기는지 검사한다
+class ProjectDefinitionRels {
+  private val ids = mutableMapOf<Pair<Int, BibixName>, Int>()
+  private val names = mutableListOf<Pair<Int, BibixName>>()
+  private val rels = TasksOrder()
+  private val graphs = mutableMapOf<Int, DefinitionGraph>()
+  private val resolvedImports = mutableSetOf<Pair<Int, BibixName>>()
+
+  private fun idOf(projectId: Int, name: BibixName): Int =
+    ids.getOrPut(Pair(projectId, name)) {
+      names.add(Pair(projectId, name))
+      names.size - 1
+    }
+
+  // 싸이클이 생기면 싸이클을 이루는 (project id, 정의 이름)들을 반환한다. 각 정의는 다음 정의에 의존한다
+  private fun addRel(
+    projectId: Int,
+    name: BibixName,
+    depProjectId: Int,
+    depName: BibixName
+  ): List<Pair<Int, BibixName>>? =
+    rels.addRel(idOf(projectId, name), idOf(depProjectId, depName))?.reversed()?.map { names[it] }
+
+  @Synchronized
+  fun addProject(projectId: Int, graph: DefinitionGraph): List<Pair<Int, BibixName>>? {
+    check(projectId !in graphs)
+    graphs[projectId] = graph
+    graph.localDeps.forEach { (name, deps) ->
+      deps.forEach { dep ->
+        addRel(projectId, name, projectId, dep)?.let { return it }
+      }
+    }
+    return null
+  }
+
+  // importerProjectId 프로젝트의 importName이 importedProjectId 프로젝트를 가리킨다는 것을 알게 되었을 때 호출한다.
+  // importedName이 null이면 프로젝트 전체를 import한 것이고, null이 아니면 그 프로젝트의 importedName 정의를 import한 것
+  @Synchronized
+  fun importResolved(
+    importerProjectId: Int,
+    importName: BibixName,
+    importedProjectId: Int,
+    importedName: BibixName?,
+  ): List<Pair<Int, BibixName>>? {
+    if (!resolvedImports.add(Pair(importerProjectId, importName))) {
+      return null
+    }
+    val importerGraph = graphs[importerProjectId] ?: return null
+    val importedGraph = graphs[importedProjectId] ?: return null
+    if (importedName != null) {
+      val importedDef = importedGraph.definitionOf(importedName) ?: return null
+      return addRel(importerProjectId, importName, importedProjectId, importedDef)
+    }
+    importerGraph.importedDeps.forEach { (name, importedDeps) ->
+      importedDeps.forEach { (depImportName, depName) ->
+        if (depImportName == importName) {
+          val importedDef = importedGraph.definitionOf(depName)
+          if (importedDef != null) {
+            addRel(importerProjectId, name, importedProjectId, importedDef)?.let { return it }
+          }
+        }
+      }
+    }
+    return null
+  }
+}
@@ -3,14 +3,24 @@ package com.giyeok.bibix.graph.runner
 import java.util.concurrent.ConcurrentHashMap
 
 // TODO TaskRelManager는 기본적으로 진행 상황 파악을 위한 시각화 기능을 위한 것
-//      현재는 빌드 태스크 사이클 감지도 하고 있지만, 이건 나중에는 build graph를 로드할 때 하면 좋을 듯
-class TaskRelManager {
+// 싸이클 감지는 notable task들의 topological order를 TasksOrder로 관리하면서 관계가 추가될 때마다 한다.
+// 정의들 사이의 싸이클은 BuildGraph와 MultiBuildGraph에서 빌드 전에 검사하므로, trackRelations가 false이면
+// 관계를 기록하지 않는다. 이 경우 plugin이 동적으로 만드는 싸이클은 감지되지 않는다
+class TaskRelManager(
+  private val taskIds: BuildTaskIds = BuildTaskIds(),
+  private val trackRelations: Boolean = true,
+) {
   // TaskRelManager는 모든 BuildTask의 관계를 관리하지는 않고, 그 중 관심 있는 몇몇 종류만 관리한다.
   // 그래서 cycle 검사할 때 notableRels만 검색해서 검색 속도를 빠르게 하기 위함
-  private val notableAncestors = ConcurrentHashMap<BuildTask, MutableSet<BuildTask>>()
-  private val notableRels = TasksGraph()
+  // task는 모두 taskIds에서 발급한 id로 관리한다
+  private val notableAncestors = ConcurrentHashMap<Int, MutableSet<Int>>()
+  private val notableRels = TasksOrder()
 
   fun addRootTask(task: BuildTask) {
+    if (trackRelations && task.isNotableTask()) {
+      val taskId = taskIds.idOf(task)
+      notableAncestors.putIfAbsent(taskId, ConcurrentHashMap.newKeySet<Int>().also { it.add(taskId) })
+    }
   }
 
   private fun BuildTask.isNotableTask() =
@@ -22,56 +32,50 @@ class TaskRelManager {
   fun markTaskFailed(failedTask: BuildTask, subResult: FailureOr.Failure<*>) {
   }
 
-  private fun checkCycleFrom(task: BuildTask, path: TaskList): TasksCycle? {
-    if (path.contains(task)) {
-      return TasksCycle(path.takeUntil(task, mutableListOf(task)))
-    }
-
-    val nextPath = TaskList.Cons(task, path)
-    notableRels.childrenOf(task)?.forEach { child ->
-      val cycle = checkCycleFrom(child, nextPath)
-      if (cycle != null) {
-        return cycle
-      }
-    }
-    return null
-  }
-
-  private fun addNotableTaskRel(parentTask: BuildTask, childTask: BuildTask) {
+  private fun addNotableTaskRel(parentTaskId: Int, childTask: BuildTask, childTaskId: Int): TasksCycle? {
     if (childTask.isNotableTask()) {
-      notableAncestors[parentTask]?.forEach { ancestor ->
-        notableRels.addRel(ancestor, childTask)
+      notableAncestors[parentTaskId]?.forEach { ancestor ->
+        val cycle = notableRels.addRel(ancestor, childTaskId)
+        if (cycle != null) {
+          return TasksCycle(cycle.map { taskIds.taskOf(it) })
+        }
       }
-      notableAncestors[childTask] = mutableSetOf(childTask)
+      notableAncestors[childTaskId] = ConcurrentHashMap.newKeySet<Int>().also { it.add(childTaskId) }
     } else {
-      notableAncestors[parentTask]?.let { ancestors ->
-        notableAncestors.getOrPut(childTask) { ConcurrentHashMap.newKeySet() }.addAll(ancestors)
+      notableAncestors[parentTaskId]?.let { ancestors ->
+        notableAncestors.getOrPut(childTaskId) { ConcurrentHashMap.newKeySet() }.addAll(ancestors)
       }
     }
+    return null
+  }
+
+  // task를 실행하게 만든 가장 가까운 notable task들의 id
+  fun notableOwnersOf(task: BuildTask): Set<Int> {
+    val taskId = taskIds.idOf(task)
+    return if (task.isNotableTask()) setOf(taskId) else notableAncestors[taskId]?.toSet() ?: setOf()
   }
 
+  // notable task들 사이의 관계(parent id -> children id)의 snapshot
+  fun notableRelations(): Map<Int, Set<Int>> = notableRels.toMap()
+
   // 새로 추가된 task 관계에 의해 싸이클이 생기면 TasksCycle을 반환한다. 싸이클이 발견되지 않으면 null을 반환한다
   fun addTaskRelation(parentTask: BuildTask, childTask: BuildTask): TasksCycle? {
-    addNotableTaskRel(parentTask, childTask)
-    return if (childTask.isNotableTask()) {
-      checkCycleFrom(childTask, TaskList.Nil)
-    } else {
-      null
+    if (!trackRelations) {
+      return null
     }
+    return addNotableTaskRel(taskIds.idOf(parentTask), childTask, taskIds.idOf(childTask))
   }
 
   // 새로 추가된 task 관계에 의해 싸이클이 생기면 TasksCycle을 반환한다. 싸이클이 발견되지 않으면 null을 반환한다
   fun addTaskRelations(parentTask: BuildTask, childrenTasks: List<BuildTask>): TasksCycle? {
-    childrenTasks.forEach { childTask ->
-      addNotableTaskRel(parentTask, childTask)
+    if (!trackRelations) {
+      return null
     }
-    val notableChildren = childrenTasks.filter { it.isNotableTask() }
-    if (notableChildren.isNotEmpty()) {
-      notableChildren.forEach { child ->
-        val cycle = checkCycleFrom(child, TaskList.Nil)
-        if (cycle != null) {
-          return cycle
-        }
+    val parentTaskId = taskIds.idOf(parentTask)
+    childrenTasks.forEach { childTask ->
+      val cycle = addNotableTaskRel(parentTaskId, childTask, taskIds.idOf(childTask))
+      if (cycle != null) {
+        return cycle
       }
     }
     return null
@@ -79,41 +83,3 @@ class TaskRelManager {
 }
 
 data class TasksCycle(val path: List<BuildTask>)
-
-sealed class TaskList {
-  abstract fun contains(task: BuildTask): Boolean
-
-  fun takeUntil(task: BuildTask, list: MutableList<BuildTask>): List<BuildTask> {
-    var pointer = this
-    while (pointer != Nil) {
-      check(pointer is Cons)
-      list.add(pointer.task)
-      if (task == pointer.task) break
-      pointer = pointer.parent
-    }
-    return list
-  }
-
-  data class Cons(val task: BuildTask, val parent: TaskList): TaskList() {
-    override fun contains(task: BuildTask): Boolean =
-      if (this.task == task) true else parent.contains(task)
-  }
-
-  data object Nil: TaskList() {
-    override fun contains(task: BuildTask): Boolean = false
-  }
-}
-
-class TasksGraph {
-  private val parentToChild = ConcurrentHashMap<BuildTask, MutableSet<BuildTask>>()
-
-  fun addRel(parent: BuildTask, child: BuildTask) {
-    parentToChild.getOrPut(parent) { ConcurrentHashMap.newKeySet() }.add(child)
-  }
-
-  fun addRels(parent: BuildTask, children: List<BuildTask>) {
-    parentToChild.getOrPut(parent) { ConcurrentHashMap.newKeySet() }.addAll(children)
-  }
-
-  fun childrenOf(parent: BuildTask) = parentToChild[parent]
-}
@@ -0,0 +1,89 @@
+package com.giyeok.bibix.graph.runner
+
+// task 사이의 관계(parent -> child)를 추가하면서 topological order를 유지한다.
+// Pearce-Kelly의 dynamic topological ordering 알고리즘을 사용해서, 새 관계가 기존 순서와 맞지 않을 때
+// 두 task의 order 사이에 있는 task들만 다시 정렬한다. 싸이클이 생기는 관계는 추가되지 않는다.
+// 모든 parent -> child 관계에 대해 orders[parent] < orders[child]가 유지된다
+class TasksOrder {
+  private val orders = HashMap<Int, Int>()
+  private val children = HashMap<Int, MutableSet<Int>>()
+  private val parents = HashMap<Int, MutableSet<Int>>()
+  private var nextOrder = 0
+
+  private fun orderOf(task: Int): Int = orders.getOrPut(task) { nextOrder++ }
+
+  // 관계를 추가하면 싸이클이 생기는 경우 싸이클을 이루는 task들을 반환한다. 그렇지 않으면 null을 반환한다.
+  // 반환되는 싸이클은 child부터 시작해서 각 task 다음에 그 task의 parent가 오고, 마지막은 다시 child로 끝난다
+  @Synchronized
+  fun addRel(parent: Int, child: Int): List<Int>? {
+    if (parent == child) {
+      return listOf(child, parent)
+    }
+    if (children[parent]?.contains(child) == true) {
+      return null
+    }
+    val upperBound = orderOf(parent)
+    val lowerBound = orderOf(child)
+    if (lowerBound < upperBound) {
+      // child에서 갈 수 있는 task들 중 order가 upperBound보다 작은 것들
+      val forwardPreds = HashMap<Int, Int>()
+      val forward = mutableListOf<Int>()
+      val stack = ArrayDeque<Int>()
+      forwardPreds[child] = child
+      stack.addLast(child)
+      while (stack.isNotEmpty()) {
+        val next = stack.removeLast()
+        forward.add(next)
+        children[next]?.forEach { grandChild ->
+          if (grandChild == parent) {
+            return cycleOf(parent, child, next, forwardPreds)
+          }
+          if (grandChild !in forwardPreds && orders.getValue(grandChild) < upperBound) {
+            forwardPreds[grandChild] = next
+            stack.addLast(grandChild)
+          }
+        }
+      }
+
+      // parent로 올 수 있는 task들 중 order가 lowerBound보다 큰 것들
+      val backwardVisited = HashSet<Int>()
+      val backward = mutableListOf<Int>()
+      backwardVisited.add(parent)
+      stack.addLast(parent)
+      while (stack.isNotEmpty()) {
+        val next = stack.removeLast()
+        backward.add(next)
+        parents[next]?.forEach { grandParent ->
+          if (grandParent !in backwardVisited && orders.getValue(grandParent) > lowerBound) {
+            backwardVisited.add(grandParent)
+            stack.addLast(grandParent)
+          }
+        }
+      }
+
+      // 두 영역이 차지하던 order들을 backward 영역부터 다시 배정한다
+      val reordered = backward.sortedBy { orders.getValue(it) } + forward.sortedBy { orders.getValue(it) }
+      val availableOrders = reordered.map { orders.getValue(it) }.sorted()
+      reordered.zip(availableOrders).forEach { (task, order) ->
+        orders[task] = order
+      }
+    }
+    children.getOrPut(parent) { mutableSetOf() }.add(child)
+    parents.getOrPut(child) { mutableSetOf() }.add(parent)
+    return null
+  }
+
+  private fun cycleOf(parent: Int, child: Int, last: Int, forwardPreds: Map<Int, Int>): List<Int> {
+    val cycle = mutableListOf(child, parent)
+    var pointer = last
+    while (pointer != child) {
+      cycle.add(pointer)
+      pointer = forwardPreds.getValue(pointer)
+    }
+    cycle.add(child)
+    return cycle
+  }
+
+  @Synchronized
+  fun toMap(): Map<Int, Set<Int>> = children.mapValues { it.value.toSet() }
+}
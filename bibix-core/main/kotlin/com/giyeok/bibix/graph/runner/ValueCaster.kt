@@ -14,6 +14,8 @@ class ValueCaster(
 ) {
   val projectLocation: BibixProjectLocation? get() = buildGraphRunner.multiGraph.projectLocations[projectId]
 
+  private val valueStore get() = buildGraphRunner.valueStore
+
   private fun cannotCast(value: BibixValue, type: BibixType) =
     BuildTaskResult.TypeCastFailResult(value, type)
 
@@ -181,7 +183,7 @@ class ValueCaster(
 
               // TODO dataClass의 필드 중 optional이거나 default가 있는 경우 처리
               check(dataClass.fieldTypes.size == value.values.size)
-              organizeParamsForDataClass(projectId, dataClass, value.values, mapOf()) {
+              organizeParamsForDataClass(valueStore, projectId, dataClass, value.values, mapOf()) {
                 BuildTaskResult.ValueResult(it)
               }
             }
@@ -193,7 +195,7 @@ class ValueCaster(
             ) { dataClass ->
               check(dataClass is BuildTaskResult.DataClassResult)
 
-              organizeParamsForDataClass(projectId, dataClass, listOf(), value.valuesMap) {
+              organizeParamsForDataClass(valueStore, projectId, dataClass, listOf(), value.valuesMap) {
                 BuildTaskResult.ValueResult(it)
               }
             }
@@ -253,7 +255,7 @@ class ValueCaster(
         cannotCast(value, type)
       } else {
         BuildTaskResult.WithResult(
-          TypeCastValue(value, type.types[candidateIdx], projectId)
+          TypeCastValue(valueStore.idOf(value), type.types[candidateIdx], projectId)
         ) { result ->
           when (result) {
             is BuildTaskResult.ResultWithValue -> result
@@ -296,7 +298,7 @@ class ValueCaster(
     func: (List<BibixValue>) -> BibixValue
   ): BuildTaskResult =
     BuildTaskResult.WithResultList(values.map {
-      TypeCastValue(it, type, projectId)
+      TypeCastValue(valueStore.idOf(it), type, projectId)
     }) { results ->
       check(results.all { it is BuildTaskResult.ResultWithValue })
       val finalValue = func(results.map { (it as BuildTaskResult.ResultWithValue).value })
@@ -308,7 +310,7 @@ class ValueCaster(
     func: (List<BibixValue>) -> BibixValue
   ): BuildTaskResult =
     BuildTaskResult.WithResultList(valueAndTypes.map { (value, type) ->
-      TypeCastValue(value, type, projectId)
+      TypeCastValue(valueStore.idOf(value), type, projectId)
     }) { results ->
       check(results.all { it is BuildTaskResult.ResultWithValue })
       val finalValue = func(results.map { (it as BuildTaskResult.ResultWithValue).value })
@@ -329,6 +331,7 @@ class ValueCaster(
         val fieldTypeMaps = dataClass.fieldTypes.toMap()
         finalizeValues(finalizeCtx, value.fieldValues, fieldTypeMaps) { fieldNames, finVals ->
           organizeParamsForDataClass(
+            valueStore,
             projectId,
             dataClass,
             listOf(),
@@ -349,7 +352,7 @@ class ValueCaster(
         finalizeValues(finalizeCtx, value.fieldValues, fieldTypeMaps) { fieldNames, finVals ->
           val castTasks = fieldNames.zip(finVals).map { (name, value) ->
             val expectedType = fieldTypeMaps.getValue(name)
-            TypeCastValue(value, expectedType, projectId)
+            TypeCastValue(valueStore.idOf(value), expectedType, projectId)
           }
           BuildTaskResult.WithResultList(castTasks) { cast ->
             check(cast.size == finVals.size)
@@ -359,6 +362,7 @@ class ValueCaster(
             }
 
             organizeParamsForDataClass(
+              valueStore,
               projectId,
               dataClassResult,
               listOf(),
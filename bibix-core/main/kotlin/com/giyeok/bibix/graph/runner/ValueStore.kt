@@ -1,26 +1,55 @@
 package com.giyeok.bibix.graph.runner
 
 import com.giyeok.bibix.base.BibixValue
+import com.giyeok.bibix.base.structuralDigest
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.atomic.AtomicInteger
 
-// 원래는 꼭 thread safe할 필요가 없을 것 같은데 어딘가에서 오류가 생기는 것 같아서 thread-safe하게 만듦
-// BuildTask
+// BuildTask에 BibixValue를 직접 넣으면 ParallelGraphRunner에서 해시/동일성 비교를 할 때마다
+// value 전체를 훑어야 하므로, value는 ValueStore에 등록하고 BuildTask에는 id만 넣는다.
+// 같은 value(또는 value map)에는 항상 같은 id가 발급되므로 id만 비교해도 value를 비교한 것과 같다.
+// value의 hashCode는 value 전체를 훑으므로, value 안에 기억되는 structuralDigest를 key의 hashCode로 사용한다.
+// structuralDigest는 SetValue의 원소 순서나 상대/절대 경로를 구분하지 않으므로 digest가 같으면 equals로 한번 더 비교한다
 class ValueStore {
+  companion object {
+    // 빈 value map의 id
+    const val EMPTY_MAP_ID = 0
+  }
+
   private val idCounter = AtomicInteger(0)
   private val values = ConcurrentHashMap<Int, BibixValue>()
   private val valueMaps = ConcurrentHashMap<Int, Map<String, BibixValue>>()
+  private val valueIds = ConcurrentHashMap<InternKey<BibixValue>, Int>()
+  private val valueMapIds = ConcurrentHashMap<InternKey<Map<String, BibixValue>>, Int>()
+
+  // equals는 digest가 같을 때만 value를 비교한다
+  private class InternKey<T>(val digest: Any, val value: T) {
+    override fun hashCode(): Int = digest.hashCode()
+
+    override fun equals(other: Any?): Boolean =
+      other is InternKey<*> && digest == other.digest && (value === other.value || value == other.value)
+  }
+
+  init {
+    check(idOf(mapOf()) == EMPTY_MAP_ID)
+  }
 
   fun idOf(value: BibixValue): Int {
-    val newId = idCounter.incrementAndGet()
-    values[newId] = value
-    return newId
+    val key = InternKey(value.structuralDigest(), value)
+    return valueIds[key] ?: valueIds.computeIfAbsent(key) {
+      val newId = idCounter.getAndIncrement()
+      values[newId] = value
+      newId
+    }
   }
 
   fun idOf(valueMap: Map<String, BibixValue>): Int {
-    val newId = idCounter.incrementAndGet()
-    valueMaps[newId] = valueMap
-    return newId
+    val key = InternKey(valueMap.mapValues { it.value.structuralDigest() }, valueMap)
+    return valueMapIds[key] ?: valueMapIds.computeIfAbsent(key) {
+      val newId = idCounter.getAndIncrement()
+      valueMaps[newId] = valueMap
+      newId
+    }
   }
 
   fun valueOf(id: Int): BibixValue =
@@ -0,0 +1,80 @@
+package com.giyeok.bibix.graph.runner
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import java.util.*
+import java.util.concurrent.Executors
+
+// LongRunning body들을 virtual thread에서 실행한다.
+// ioBound인 body는 바로 실행하고, 그 외의 body는 cpuPermits개의 permit 중 하나를 얻어야 실행된다.
+// 이렇게 하면 네트워크나 외부 프로세스를 기다리는 body들이 CPU 작업을 위한 자리를 차지하지 않게 된다
+class VirtualThreadBodyRunner(cpuPermits: Int) {
+  private val executor = Executors.newVirtualThreadPerTaskExecutor()
+  private val permits = PrioritySemaphore(cpuPermits)
+
+  suspend fun <T> run(priority: Long, ioBound: Boolean, body: () -> T): T {
+    if (ioBound) {
+      return runOnVirtualThread(body)
+    }
+    permits.acquire(priority)
+    try {
+      return runOnVirtualThread(body)
+    } finally {
+      permits.release()
+    }
+  }
+
+  private suspend fun <T> runOnVirtualThread(body: () -> T): T =
+    runInterruptibly(executor::execute, body)
+
+  fun shutdown() {
+    executor.shutdown()
+  }
+}
+
+// permit을 기다리는 쪽이 여럿이면 priority가 높은 쪽에 먼저 permit을 준다
+class PrioritySemaphore(permits: Int) {
+  private var available = permits
+  private var sequence = 0L
+  private val waiters = PriorityQueue<Waiter>()
+
+  private class Waiter(val priority: Long, val sequence: Long): Comparable<Waiter> {
+    val deferred = CompletableDeferred<Unit>()
+
+    override fun compareTo(other: Waiter): Int {
+      val priorityCompare = other.priority.compareTo(priority)
+      return if (priorityCompare != 0) priorityCompare else sequence.compareTo(other.sequence)
+    }
+  }
+
+  suspend fun acquire(priority: Long) {
+    val waiter = synchronized(this) {
+      if (available > 0 && waiters.isEmpty()) {
+        available -= 1
+        return
+      }
+      Waiter(priority, sequence++).also { waiters.add(it) }
+    }
+    try {
+      waiter.deferred.await()
+    } catch (e: CancellationException) {
+      val alreadyGranted = synchronized(this) { !waiters.remove(waiter) }
+      if (alreadyGranted) {
+        // 취소되기 직전에 permit을 받았으면 다른 쪽에 넘겨준다
+        release()
+      }
+      throw e
+    }
+  }
+
+  fun release() {
+    val next = synchronized(this) {
+      val next = waiters.poll()
+      if (next == null) {
+        available += 1
+      }
+      next
+    }
+    next?.deferred?.complete(Unit)
+  }
+}
@@ -411,11 +411,11 @@ class CallExprEvaluator(
       }
 
       is BuildRuleReturn.WithDirectoryLock -> {
-        directoryLocker.acquireLock(returnValue.directory)
+        directoryLocker.acquireLock(returnValue.directory, returnValue.shared)
         val nextValue = try {
           returnValue.withLock()
         } finally {
-          directoryLocker.releaseLock(returnValue.directory)
+          directoryLocker.releaseLock(returnValue.directory, returnValue.shared)
         }
         return handleBuildRuleReturnValue(task, context, nextValue)
       }
@@ -705,11 +705,11 @@ class CallExprEvaluator(
       }
 
       is BuildRuleReturn.WithDirectoryLock -> {
-        directoryLocker.acquireLock(returnValue.directory)
+        directoryLocker.acquireLock(returnValue.directory, returnValue.shared)
         val nextValue = try {
           returnValue.withLock()
         } finally {
-          directoryLocker.releaseLock(returnValue.directory)
+          directoryLocker.releaseLock(returnValue.directory, returnValue.shared)
         }
         handleActionReturnValue(task, context, nextValue)
       }
@@ -2,6 +2,7 @@ package com.giyeok.bibix.plugins.curl
 
 import com.giyeok.bibix.base.BuildContext
 import com.giyeok.bibix.base.FileValue
+import com.giyeok.bibix.base.IoBound
 import com.giyeok.bibix.base.StringValue
 import java.io.File
 import java.io.InputStream
@@ -11,6 +12,7 @@ import kotlin.io.path.deleteIfExists
 import kotlin.io.path.outputStream
 
 class Download {
+  @IoBound
   fun build(context: BuildContext): FileValue {
     val url = URL((context.arguments.getValue("url") as StringValue).value)
     val filename = (context.arguments["filename"] as? StringValue)?.value ?: File(url.file).name
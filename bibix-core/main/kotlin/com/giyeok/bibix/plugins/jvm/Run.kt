@@ -4,6 +4,7 @@ import com.giyeok.bibix.base.*
 import kotlin.io.path.absolutePathString
 
 class Run {
+  @IoBound
   fun run(context: ActionContext): BuildRuleReturn {
     val deps = context.arguments.getValue("deps")
     return BuildRuleReturn.evalAndThen(
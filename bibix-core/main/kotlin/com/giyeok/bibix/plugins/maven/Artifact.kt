@@ -37,10 +37,20 @@ import java.time.Duration
 import java.time.Instant
 import java.util.*
 import java.util.concurrent.ConcurrentHashMap
+import kotlin.io.path.exists
 
 class Artifact {
   data class MavenArtifactName(val group: String, val artifact: String, val version: String?)
 
+  // shared directory GC로 jar가 지워졌으면 이전 결과를 재사용하지 않는다
+  private fun jarsExist(pkg: ClassPkg): Boolean {
+    val cpinfo = pkg.cpinfo
+    return (cpinfo !is JarInfo || cpinfo.jar.exists()) &&
+      pkg.deps.all { jarsExist(it) } &&
+      pkg.runtimeDeps.all { jarsExist(it) }
+  }
+
+  @IoBound
   fun build(context: BuildContext): BuildRuleReturn {
     if (!context.hashChanged &&
       context.prevBuildTime != null &&
@@ -48,7 +58,8 @@ class Artifact {
       Duration.between(
         context.prevBuildTime,
         Instant.now()
-      ) <= Duration.ofHours(6)
+      ) <= Duration.ofHours(6) &&
+      jarsExist(ClassPkg.fromBibix(context.prevResult!!))
     ) {
       return BuildRuleReturn.value(context.prevResult!!)
     }
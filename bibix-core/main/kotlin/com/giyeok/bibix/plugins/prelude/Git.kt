@@ -3,6 +3,7 @@ package com.giyeok.bibix.plugins.prelude
 import com.giyeok.bibix.base.BibixValue
 import com.giyeok.bibix.base.BuildContext
 import com.giyeok.bibix.base.BuildRuleReturn
+import com.giyeok.bibix.base.IoBound
 import com.giyeok.bibix.base.StringValue
 import com.giyeok.bibix.graph.runner.argsMapFrom
 import com.giyeok.bibix.interpreter.BibixProject
@@ -39,6 +40,7 @@ class Git {
   }
 
   // TODO buildscript name 지정할 수 있도록?
+  @IoBound
   fun build(context: BuildContext): BuildRuleReturn {
     val gitRepos = context.getSharedDirectory("com.giyeok.bibix.plugins.bibix.git")
 
@@ -2,14 +2,18 @@ package com.giyeok.bibix.repo
 
 import com.giyeok.bibix.BibixIdProto.InputHashes
 import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.giyeok.bibix.BibixIdProto.TargetOutputHash
 import com.giyeok.bibix.base.BaseRepo
 import com.giyeok.bibix.base.BibixValue
 import com.giyeok.bibix.base.ProgressLogger
 import com.giyeok.bibix.graph.BibixName
+import com.giyeok.bibix.graph.runner.BuildMetrics
 import com.giyeok.bibix.repo.BibixRepoProto.*
 import com.giyeok.bibix.repo.TargetStateKt.buildFailed
 import com.giyeok.bibix.repo.TargetStateKt.buildSucceeded
+import com.giyeok.bibix.targetOutputHash
 import com.giyeok.bibix.runner.RunConfigProto.RunConfig
+import com.giyeok.bibix.utils.toBibix
 import com.giyeok.bibix.utils.toProto
 import com.giyeok.sugarproto.sugarformat.SugarFormat
 import com.google.protobuf.ByteString
@@ -18,10 +22,11 @@ import com.google.protobuf.Timestamp
 import com.google.protobuf.empty
 import com.google.protobuf.util.Durations
 import com.google.protobuf.util.Timestamps
+import kotlinx.coroutines.runBlocking
+import java.io.Closeable
 import java.nio.file.FileSystem
 import java.nio.file.Files
 import java.nio.file.Path
-import java.time.Duration
 import java.time.Instant
 import java.util.*
 import kotlin.io.path.*
@@ -34,12 +39,12 @@ class BibixRepo(
   val projectRoot: Path,
   val bbxbuildDirectory: Path,
   val runConfig: RunConfig,
-  // repo data
+  // repo data - repoDataFile은 마지막 snapshot이고, 그 이후의 변경 내용은 repoLogFile에 append된다
   val repoDataFile: Path,
-  val repoData: BibixRepoData.Builder,
+  val repoLogFile: Path,
+  val repoData: RepoDataStore,
   // target logs data
   val targetLogsFile: Path,
-  val targetLogs: BibixTargetLogs.Builder,
   // targets
   val objectsDirectory: Path,
   val outputsDirectory: Path,
@@ -48,75 +53,183 @@ class BibixRepo(
   val sharedDirectoriesMap: MutableMap<String, Path>,
   val directoryLocker: DirectoryLocker,
   val debuggingMode: Boolean = false,
-): BaseRepo {
+  val metrics: BuildMetrics = BuildMetrics(),
+  // load에서 bbxbuild 폴더에 잡은 repo lock. shutdown할 때 놓는다
+  private val repoLocker: DirectoryLocker? = null,
+): BaseRepo, Closeable {
   private fun now() = Timestamps.fromMillis(System.currentTimeMillis())
 
-  override fun prepareSharedDirectory(sharedRepoName: String): Path = synchronized(this) {
-    val directory = sharedDirectoriesMap[sharedRepoName]
-    if (directory == null) {
-      val newDirectory = sharedRootDirectory.resolve(sharedRepoName)
-      if (newDirectory.notExists()) {
-        newDirectory.createDirectory()
-        sharedDirectoriesMap[sharedRepoName] = newDirectory
-      }
-      newDirectory
+  private val repoLog = RepoLog(
+    logFile = repoLogFile,
+    snapshotFile = repoDataFile,
+    fsyncPolicy = runConfig.repoLogFsync,
+    metrics = metrics,
+    lock = this,
+    repoData = repoData,
+  )
+
+  private val targetLogWriter = TargetLogWriter(targetLogsFile, metrics)
+
+  // run config에서 켠 경우에만 사용한다
+  val contentStore: ContentAddressedStore? =
+    if (runConfig.contentAddressedObjects) {
+      ContentAddressedStore(bbxbuildDirectory.resolve("cas"), metrics)
+    } else {
+      null
+    }
+
+  val remoteCache: RemoteCacheClient? =
+    if (runConfig.remoteCacheUrl.isNotEmpty()) {
+      RemoteCacheClient(runConfig.remoteCacheUrl, metrics)
     } else {
-      directory
+      null
     }
+
+  // remote cache entry의 결과 값에 사용한다
+  private fun remoteCachePathsFor(targetId: String) =
+    RemoteCachePaths(
+      objectsDirectory.resolve(targetId),
+      bbxbuildDirectory,
+      projectRoot,
+      sharedRootDirectory
+    )
+
+  // remote cache key와 output digest에 사용한다. 다른 target의 object 폴더 밑의 경로는 그 target의 output digest로 바꾼다
+  private fun remoteCacheKeyPathsFor(targetId: String) =
+    RemoteCachePaths(
+      objectsDirectory.resolve(targetId),
+      bbxbuildDirectory,
+      projectRoot,
+      sharedRootDirectory,
+      ::targetOutputOf
+    )
+
+  // 로컬에서 재사용할 수 없는 target의 결과를 remote cache에서 찾는다.
+  // 찾으면 object 폴더를 받아온 파일들로 바꾸고 target을 성공으로 기록한다.
+  // 네트워크와 파일 IO를 하므로 LongRunning body에서 호출한다
+  fun fetchFromRemoteCache(
+    targetId: String,
+    targetIdData: TargetIdData,
+    inputHashes: InputHashes,
+    contentHash: (Path) -> ByteString,
+  ): BibixValue? {
+    val client = remoteCache ?: return null
+    val key = remoteCacheKey(targetIdData, inputHashes, remoteCacheKeyPathsFor(targetId))
+      ?: return null
+    // 이전 결과를 올리고 있으면 object 폴더를 바꾸기 전에 기다린다
+    client.awaitUpload(objectsDirectory.resolve(targetId))
+    val value = client.fetch(
+      key,
+      objectsDirectory.resolve(targetId),
+      remoteCachePathsFor(targetId)
+    )?.toBibix() ?: return null
+    targetSucceeded(
+      targetId,
+      value,
+      collectTargetOutputs(targetId, value, contentHash).outputDigest,
+      uploadToRemoteCache = false
+    )
+    return value
   }
 
-  private fun saveRepoData() {
-    // TODO 임의로 5초에 한번만 저장하게 했는데 더 잘 할 수 없을까..
-    val updateNeeded = synchronized(this) {
-      if (lastUpdated == null ||
-        Duration.between(lastUpdated, Instant.now()) >= Duration.ofSeconds(30)
-      ) {
-        lastUpdated = Instant.now()
-        true
-      } else {
-        false
-      }
+  // target을 실제로 실행하기 전에 호출한다. 이전 빌드의 결과를 remote cache에 올리고 있으면 끝날 때까지 기다리고,
+  // 이전 빌드의 결과가 store와 파일을 공유하고 있으면 분리한다
+  fun prepareObjectDirectory(targetId: String) {
+    remoteCache?.awaitUpload(objectsDirectory.resolve(targetId))
+    contentStore?.unshareDirectory(objectsDirectory.resolve(targetId))
+  }
+
+  private val absoluteObjectsDirectory = objectsDirectory.absolute().normalize()
+
+  // path가 다른 target의 object 폴더 밑에 있고 그 target이 성공한 상태이면 그 target의 output digest를 반환한다.
+  // 다시 빌드되는 중인 target은 targetStarted에서 결과가 지워지므로 null이 된다
+  fun targetOutputOf(path: Path): TargetOutputHash? {
+    val absolutePath = path.absolute().normalize()
+    if (!absolutePath.startsWith(absoluteObjectsDirectory) || absolutePath == absoluteObjectsDirectory) {
+      return null
+    }
+    val targetId = absoluteObjectsDirectory.relativize(absolutePath).getName(0).pathString
+    val state = getTargetState(targetId) ?: return null
+    if (state.stateCase != TargetState.StateCase.BUILD_SUCCEEDED ||
+      state.buildSucceeded.outputDigest.isEmpty
+    ) {
+      return null
     }
-    if (updateNeeded) {
-      commitRepoData()
+    return targetOutputHash {
+      this.path = absolutePath.pathString
+      this.targetId = targetId
+      this.outputDigest = state.buildSucceeded.outputDigest
     }
   }
 
+  // repoData를 바꾼 synchronized 블록 안에서 바뀐 항목들만 담아서 호출한다
+  private fun logRepoData(block: BibixRepoDataKt.Dsl.() -> Unit) {
+    repoLog.append(bibixRepoData(block))
+  }
+
+  override fun prepareSharedDirectory(sharedRepoName: String): Path = synchronized(this) {
+    sharedDirectoriesMap.getOrPut(sharedRepoName) {
+      // shared root는 다른 bibix 프로세스와 같이 쓸 수 있으므로 동시에 만들어도 실패하지 않도록 한다
+      sharedRootDirectory.resolve(sharedRepoName).createDirectories()
+    }
+  }
+
+  // repo log를 repo.idx snapshot으로 compact하고 지금까지 남긴 로그들을 파일에 쓴다
   fun commitRepoData() {
-    synchronized(this) {
-      repoDataFile.outputStream().buffered().use { writer ->
-        repoData.build().writeTo(writer)
-      }
-      if (targetLogs.targetLogsCount > 0 || targetLogs.actionLogsCount > 0) {
-        targetLogsFile.bufferedWriter().use { writer ->
-          SugarFormat.printTo(targetLogs, writer)
-        }
-      }
+    repoLog.flush(compact = true)
+    targetLogWriter.flush()
+  }
+
+  // 이번 run에서 실행되거나 재사용된 target들. 마지막 사용 시각은 run마다 한 번만 기록한다
+  private val accessedTargets = mutableSetOf<String>()
+
+  private fun touchTarget(targetId: String) {
+    if (accessedTargets.add(targetId)) {
+      val now = timeProvider().toProto()
+      repoData.putTargetLastAccess(targetId, now)
+      logRepoData { this.targetLastAccess[targetId] = now }
     }
   }
 
+  fun isAccessedInThisRun(targetId: String): Boolean = synchronized(this) {
+    targetId in accessedTargets
+  }
+
+  // GC로 target의 object를 지운 뒤에 호출해서 재사용되지 않도록 repo에서도 지운다
+  fun removeTarget(targetId: String) = synchronized(this) {
+    repoData.removeTarget(targetId)
+    logRepoData { this.removedTargets.add(targetId) }
+  }
+
   // withPrevState는 사용 가능한 기존의 target state가 있을 떄, 그 값을 재사용할 수 있는지 확인하기 위함
   fun <T> targetStarted(
     targetId: String,
-    targetIdData: TargetIdData,
+    // 새로 기록해야 할 때만 호출된다
+    targetIdData: () -> TargetIdData,
     inputHashes: InputHashes,
     inputHashString: ByteString,
     withPrevState: (prevState: TargetState) -> T?
   ): Pair<T?, TargetState?> = synchronized(this) {
     val uniqueRunId = this.uniqueRunId
+    touchTarget(targetId)
     fun putData() {
-      repoData.putTargetIdData(targetId, targetIdData)
-      repoData.putTargetStates(targetId, targetState {
+      val newTargetIdData = targetIdData()
+      val newTargetState = targetState {
         this.uniqueRunId = uniqueRunId
         this.buildStartTime = timeProvider().toProto()
         this.inputHashes = inputHashes
         this.inputHashString = inputHashString
         this.buildStarted = empty {}
-      })
-      saveRepoData()
+      }
+      repoData.putTargetIdData(targetId, newTargetIdData)
+      repoData.putTargetState(targetId, newTargetState)
+      logRepoData {
+        this.targetIdData[targetId] = newTargetIdData
+        this.targetStates[targetId] = newTargetState
+      }
     }
 
-    val prevState = repoData.getTargetStatesOrDefault(targetId, null)
+    val prevState = repoData.getTargetState(targetId)
     if (prevState == null) {
       // (이번 run에서) 처음 실행하는 것이면 putData하고 null(reuse할 것 없음), null(prevState 없음) 반환
       putData()
@@ -164,41 +277,89 @@ class BibixRepo(
     }
   }
 
+  // target의 object 폴더의 파일들을 content store에 넣고 결과 값과 파일들로 output digest를 계산한다.
+  // 파일을 모두 읽으므로 LongRunning body에서 호출한다. store를 사용하면 store에 넣으면서 계산한 해시를 그대로 사용하고,
+  // 그렇지 않으면 contentHash로 계산한다
+  fun collectTargetOutputs(
+    targetId: String,
+    resultValue: BibixValue,
+    contentHash: (Path) -> ByteString,
+  ): TargetOutputs {
+    val objectDirectory = objectsDirectory.resolve(targetId)
+    val ingested = contentStore?.ingestDirectory(objectDirectory)
+    val outputFiles =
+      targetOutputFiles(objectDirectory) { file -> ingested?.get(file) ?: contentHash(file) }
+    // 결과 값의 경로들은 relocate해서 다른 머신에서 같은 결과를 만들었으면 같은 digest가 나오도록 한다.
+    // downstream target의 remote cache key에 이 digest가 들어간다
+    val resultValueProto = resultValue.toProto()
+    val relocated = remoteCacheKeyPathsFor(targetId).relocateValue(resultValueProto)
+    return TargetOutputs(targetOutputDigest(relocated ?: resultValueProto, outputFiles), ingested)
+  }
+
+  // outputDigest와 sha256Digests는 collectTargetOutputs의 결과
   fun targetSucceeded(
     targetId: String,
     resultValue: BibixValue,
+    outputDigest: ByteString,
+    uploadToRemoteCache: Boolean = true,
+    sha256Digests: Map<Path, ByteString>? = null,
   ) {
-    synchronized(this) {
+    val resultValueProto = resultValue.toProto()
+    val newState = synchronized(this) {
       val uniqueRunId = this.uniqueRunId
-      val prevState = repoData.targetStatesMap[targetId]
+      val prevState = repoData.getTargetState(targetId)
       if (prevState == null) {
         // 오류상황인데.. 그냥 대충 넣고 지나가자
-        repoData.putTargetStates(targetId, targetState {
+        repoData.putTargetState(targetId, targetState {
           this.uniqueRunId = uniqueRunId
           this.buildSucceeded = buildSucceeded {
             this.buildEndTime = timeProvider().toProto()
-            this.resultValue = resultValue.toProto()
+            this.resultValue = resultValueProto
+            this.outputDigest = outputDigest
           }
         })
       } else {
-        repoData.putTargetStates(targetId, prevState.toBuilder().apply {
+        repoData.putTargetState(targetId, prevState.toBuilder().apply {
           this.buildSucceeded = buildSucceeded {
             this.buildEndTime = timeProvider().toProto()
-            this.resultValue = resultValue.toProto()
+            this.resultValue = resultValueProto
+            this.outputDigest = outputDigest
           }
         }.build())
       }
-      saveRepoData()
+      val newState = repoData.getTargetState(targetId)!!
+      logRepoData { this.targetStates[targetId] = newState }
+      newState
+    }
+    // input hash를 모르는 경우(targetStarted 없이 호출된 경우)에는 올리지 않는다
+    val client = remoteCache
+    if (client != null && uploadToRemoteCache && runConfig.remoteCacheUpload &&
+      !newState.inputHashString.isEmpty
+    ) {
+      val key = getTargetIdData(targetId)?.let { targetIdData ->
+        remoteCacheKey(targetIdData, newState.inputHashes, remoteCacheKeyPathsFor(targetId))
+      }
+      if (key == null) {
+        metrics.remoteCacheSkippedUploads.increment()
+        return
+      }
+      client.uploadAsync(
+        key,
+        newState.buildSucceeded.resultValue,
+        objectsDirectory.resolve(targetId),
+        remoteCachePathsFor(targetId),
+        sha256Digests
+      )
     }
   }
 
   // TODO 필요한 곳에서 targetFailed 호출하도록 수정
   fun targetFailed(targetId: String, message: String) = synchronized(this) {
     val uniqueRunId = this.uniqueRunId
-    val prevState = repoData.targetStatesMap[targetId]
+    val prevState = repoData.getTargetState(targetId)
     if (prevState == null) {
       // 오류상황인데.. 그냥 대충 넣고 지나가자
-      repoData.putTargetStates(targetId, targetState {
+      repoData.putTargetState(targetId, targetState {
         this.uniqueRunId = uniqueRunId
         this.buildFailed = buildFailed {
           this.buildFailTime = timeProvider().toProto()
@@ -206,18 +367,17 @@ class BibixRepo(
         }
       })
     } else {
-      repoData.putTargetStates(targetId, prevState.toBuilder().apply {
+      repoData.putTargetState(targetId, prevState.toBuilder().apply {
         this.buildFailed = buildFailed {
           this.buildFailTime = timeProvider().toProto()
           this.errorMessage = message
         }
       }.build())
     }
-    saveRepoData()
+    val newState = repoData.getTargetState(targetId)!!
+    logRepoData { this.targetStates[targetId] = newState }
   }
 
-  private var lastUpdated: Instant? = null
-
   // objects 폴더 밑에 targetId의 이름을 가진 폴더가 있으면 outputs 폴더에 링크를 만든다
   fun linkNameToObjectIfExists(name: BibixName, targetId: String) {
     val linkFile = outputsDirectory.resolve(name.toString())
@@ -227,52 +387,96 @@ class BibixRepo(
       linkFile.createSymbolicLinkPointingTo(targetDirectory)
     }
     synchronized(this) {
-      repoData.putOutputNames(name.toString(), targetId)
+      repoData.putOutputName(name.toString(), targetId)
+      logRepoData { this.outputNames[name.toString()] = targetId }
     }
-    saveRepoData()
+  }
+
+  private var closed = false
+
+  // repo log와 target log를 쓰는 스레드, remote cache 업로드 스레드를 멈춘다.
+  // CLI가 아닌 곳(intellij plugin 등)에서 repo를 여러 번 열 때도 반드시 닫아야 다음에 여는 repo가 repo.log를 정리할 수 있다
+  override fun close() {
+    shutdown()
   }
 
   fun shutdown() {
-    commitRepoData()
+    synchronized(this) {
+      if (closed) {
+        return
+      }
+      closed = true
+    }
+    // 업로드는 object 폴더를 읽으므로 gc로 지우기 전에 끝낸다
+    remoteCache?.close()
+    if (runConfig.autoGc && runConfig.objectsSizeBudget > 0) {
+      ObjectsGarbageCollector(this).collect(runConfig.objectsSizeBudget)
+    }
+    if (runConfig.autoGc && runConfig.sharedSizeBudget > 0) {
+      SharedDirectoryGarbageCollector(sharedRootDirectory, directoryLocker, metrics)
+        .collect(runConfig.sharedSizeBudget)
+    }
+    try {
+      repoLog.close()
+    } finally {
+      try {
+        targetLogWriter.close()
+      } finally {
+        repoLocker?.let { locker -> runBlocking { locker.releaseLock(bbxbuildDirectory) } }
+      }
+    }
+  }
+
+  // 실행 기록은 run마다 별도 파일로 저장한다
+  fun saveExecutionProfile(profile: ExecutionProfile) {
+    val profilesDirectory = bbxbuildDirectory.resolve("profiles")
+    if (profilesDirectory.notExists()) {
+      profilesDirectory.createDirectory()
+    }
+    profilesDirectory.resolve("$uniqueRunId.pb").outputStream().buffered().use { output ->
+      profile.writeTo(output)
+    }
+    pruneRunFiles(profilesDirectory, KEPT_RUN_FILES)
   }
 
   fun getTargetState(targetId: String): TargetState? = synchronized(this) {
-    repoData.getTargetStatesOrDefault(targetId, null)
+    repoData.getTargetState(targetId)
   }
 
   fun getTargetIdData(targetId: String): TargetIdData? = synchronized(this) {
-    repoData.getTargetIdDataOrDefault(targetId, null)
+    repoData.getTargetIdData(targetId)
   }
 
-  private inner class ProgressLoggerRepoImpl<T>(
-    private var logsBuilderOpt: T? = null,
-    private val initLogsBuilder: () -> T,
-    private val addBlock: (T) -> LogBlock.Builder
-  ): ProgressLogger {
-    private fun initializeLogsBuilder(): T {
-      check(logsBuilderOpt == null)
-      val newBuilder = synchronized(this@BibixRepo) {
-        initLogsBuilder()
-      }
-      logsBuilderOpt = newBuilder
-      return newBuilder
+  fun getAllTargetBuildStats(): Map<String, TargetBuildStats> = synchronized(this) {
+    repoData.getAllTargetBuildStats()
+  }
+
+  fun getAllTargetLastAccess(): Map<String, Timestamp> = synchronized(this) {
+    repoData.getAllTargetLastAccess()
+  }
+
+  fun getAllOutputNames(): Map<String, String> = synchronized(this) {
+    repoData.getAllOutputNames()
+  }
+
+  fun putTargetBuildStats(stats: Map<String, TargetBuildStats>) {
+    synchronized(this) {
+      repoData.putAllTargetBuildStats(stats)
+      logRepoData { this.targetBuildStats.putAll(stats) }
     }
+  }
 
+  // 로그를 남길 때는 repo lock을 잡지 않고 target별 버퍼에 추가만 한다
+  private inner class ProgressLoggerRepoImpl(
+    private val buffer: TargetLogBuffer
+  ): ProgressLogger {
     private fun addLog(level: LogLevel, message: String) {
       if (level.number >= runConfig.minLogLevel.number) {
-        val logsBuilder = synchronized(this) {
-          logsBuilderOpt ?: initializeLogsBuilder()
-        }
-        val now = timeProvider().toProto()
-        synchronized(this@BibixRepo) {
-          addBlock(logsBuilder).apply {
-            this.level = level
-            this.time = now
-            this.message = message
-          }
-        }
-        // TODO repo data와 targets log 저장 루틴을 다르게 해야..
-        saveRepoData()
+        buffer.add(logBlock {
+          this.level = level
+          this.time = timeProvider().toProto()
+          this.message = message
+        })
       }
     }
 
@@ -289,30 +493,35 @@ class BibixRepo(
     }
   }
 
-  fun progressLoggerFor(targetIdHex: String): ProgressLogger {
-    // 어차피 같은 target은 두번 이상 실행되지 않기 때문에(그래야 하기 때문에) 기존의 targetLogs를 검색할 필요는 없다
-    return ProgressLoggerRepoImpl<TargetLogs.Builder>(null, {
-      targetLogs.addTargetLogsBuilder()
-        .setUniqueRunId(uniqueRunId)
-        .setTargetId(targetIdHex)
-    }, { it.addBlocksBuilder() })
-  }
+  fun progressLoggerFor(targetIdHex: String): ProgressLogger =
+    ProgressLoggerRepoImpl(targetLogWriter.bufferForTarget(uniqueRunId, targetIdHex))
 
   fun progressLoggerForAction(
     projectId: Int,
     importInstanceId: Int,
     name: BibixName
-  ): ProgressLogger {
-    return ProgressLoggerRepoImpl<ActionLogs.Builder>(null, {
-      targetLogs.addActionLogsBuilder()
-        .setUniqueRunId(uniqueRunId)
-        .setProjectId(projectId)
-        .setImportInstanceId(importInstanceId)
-        .setActionName(name.toString())
-    }, { it.addBlocksBuilder() })
-  }
+  ): ProgressLogger = ProgressLoggerRepoImpl(
+    targetLogWriter.bufferForAction(uniqueRunId, projectId, importInstanceId, name.toString())
+  )
 
   companion object {
+    // bbxbuild/profiles와 bbxbuild/logs에 남겨두는 run 별 파일의 수
+    const val KEPT_RUN_FILES = 20
+
+    // repo.idx와 repo.log를 쓰는 프로세스가 잡는 lock 파일
+    const val REPO_LOCK_FILE_NAME = "repo.lock"
+
+    // run마다 하나씩 쌓이는 파일들 중 최근 keep개만 남기고 지운다
+    fun pruneRunFiles(directory: Path, keep: Int) {
+      if (!directory.isDirectory()) {
+        return
+      }
+      directory.listDirectoryEntries("*.pb")
+        .sortedByDescending { it.getLastModifiedTime() }
+        .drop(keep)
+        .forEach { it.deleteIfExists() }
+    }
+
     private fun <T: Message.Builder> readSugarFormatOrDefault(
       file: Path,
       builder: T,
@@ -332,6 +541,25 @@ class BibixRepo(
       return defaultBuilder
     }
 
+    // shared_root_directory 설정, BIBIX_SHARED_ROOT 환경 변수, bbxbuild/shared 순서로 사용한다.
+    // ~로 시작하면 home 폴더 밑이고, 상대 경로이면 프로젝트 폴더를 기준으로 한다
+    private fun sharedRootDirectoryOf(
+      runConfig: RunConfig,
+      mainDirectory: Path,
+      bbxbuildDirectory: Path
+    ): Path {
+      val configured = runConfig.sharedRootDirectory.ifEmpty { System.getenv("BIBIX_SHARED_ROOT") ?: "" }
+      if (configured.isEmpty()) {
+        return bbxbuildDirectory.resolve("shared")
+      }
+      val expanded = if (configured == "~" || configured.startsWith("~/")) {
+        System.getProperty("user.home") + configured.drop(1)
+      } else {
+        configured
+      }
+      return mainDirectory.resolve(expanded).normalize()
+    }
+
     fun load(
       mainDirectory: Path,
       configFileName: String = "config.pbsuf",
@@ -350,22 +578,84 @@ class BibixRepo(
           .setTargetResultReuseDuration(Durations.fromHours(1))
       }.build()
 
-      val repoDataFile = bbxbuildDirectory.resolve("repo.pb")
-      val repoData = try {
-        repoDataFile.inputStream().buffered().use { input ->
-          BibixRepoData.parseFrom(input).toBuilder()
+      // repo.log는 쓰고 있는 프로세스만 replay하고 지울 수 있으므로, 같은 bbxbuild를 쓰는 다른 bibix 프로세스가
+      // repo를 닫을 때까지 기다린다. 비정상 종료된 프로세스의 lock은 OS가 풀어주므로,
+      // lock을 잡은 뒤에 남아있는 repo.log는 쓰던 프로세스가 없는 것이다
+      val repoLocker = FileDirectoryLocker(REPO_LOCK_FILE_NAME)
+      runBlocking { repoLocker.acquireLock(bbxbuildDirectory) }
+      try {
+        return loadLocked(
+          mainDirectory,
+          bbxbuildDirectory,
+          runConfig,
+          uniqueRunId,
+          debuggingMode,
+          repoLocker
+        )
+      } catch (e: Throwable) {
+        runBlocking { repoLocker.releaseLock(bbxbuildDirectory) }
+        throw e
+      }
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    private fun loadLocked(
+      mainDirectory: Path,
+      bbxbuildDirectory: Path,
+      runConfig: RunConfig,
+      uniqueRunId: String,
+      debuggingMode: Boolean,
+      repoLocker: DirectoryLocker,
+    ): BibixRepo {
+      // repo data는 mmap해서 필요한 항목만 읽는다
+      val repoDataFile = bbxbuildDirectory.resolve("repo.idx")
+      val legacyRepoDataFile = bbxbuildDirectory.resolve("repo.pb")
+      if (legacyRepoDataFile.exists()) {
+        // 예전 형식의 repo.pb가 남아있으면 repo.idx로 옮긴다. repo.pb는 repo.idx를 다 쓴 뒤에만 지운다
+        if (repoDataFile.notExists()) {
+          try {
+            val legacyData = legacyRepoDataFile.inputStream().buffered().use { input ->
+              BibixRepoData.parseFrom(input)
+            }
+            RepoIndex.write(repoDataFile, RepoDataStore.overlayEntries(legacyData))
+            legacyRepoDataFile.deleteIfExists()
+          } catch (e: Exception) {
+            // 옮기지 못했으면 기록을 지우지 않고 옆에 남겨둔다. 이번 run은 빈 repo로 시작한다
+            val backupFile = legacyRepoDataFile.resolveSibling("repo.pb.unmigrated")
+            System.err.println("Failed to migrate $legacyRepoDataFile, keeping it as $backupFile: $e")
+            repoDataFile.deleteIfExists()
+            legacyRepoDataFile.moveTo(backupFile, overwrite = true)
+          }
+        } else {
+          // 이전 로드에서 옮긴 뒤에 지우지 못한 것
+          legacyRepoDataFile.deleteIfExists()
         }
-      } catch (e: Exception) {
-        repoDataFile.writeText("")
-        BibixRepoData.newBuilder()
       }
+      // 이전 버전이 저장하던 디렉토리 Merkle tree 노드들은 읽는 곳이 없다
+      val legacyTreesDirectory = bbxbuildDirectory.resolve("trees")
+      if (legacyTreesDirectory.exists()) {
+        legacyTreesDirectory.deleteRecursively()
+      }
+      // 이전 run이 compact하지 못하고 종료되었으면 남아있는 기록들을 반영해서 snapshot을 새로 쓴다
+      val repoLogFile = bbxbuildDirectory.resolve("repo.log")
+      val replayed = BibixRepoData.newBuilder()
+      if (RepoLog.replay(repoLogFile, replayed) > 0) {
+        RepoIndex.write(
+          repoDataFile,
+          RepoDataStore(RepoIndex.open(repoDataFile), replayed).snapshot()
+        )
+      }
+      val repoData = RepoDataStore(RepoIndex.open(repoDataFile))
+      repoLogFile.deleteIfExists()
 
       val logsDirectory = bbxbuildDirectory.resolve("logs")
       if (logsDirectory.notExists()) {
         logsDirectory.createDirectory()
       }
-      val targetLogsFile = logsDirectory.resolve("$uniqueRunId.pbsuf")
-      val targetLogs = BibixTargetLogs.newBuilder()
+      // 이번 run의 로그 파일이 추가되므로 하나를 덜 남긴다
+      pruneRunFiles(logsDirectory, KEPT_RUN_FILES - 1)
+      // 사람이 읽을 때는 TargetLogWriter.render로 출력한다
+      val targetLogsFile = logsDirectory.resolve("$uniqueRunId.pb")
 
       val objectsDirectory = bbxbuildDirectory.resolve("objects")
       if (objectsDirectory.notExists()) {
@@ -375,9 +665,9 @@ class BibixRepo(
       if (outputsDirectory.notExists()) {
         outputsDirectory.createDirectory()
       }
-      val sharedRootDirectory = bbxbuildDirectory.resolve("shared")
+      val sharedRootDirectory = sharedRootDirectoryOf(runConfig, mainDirectory, bbxbuildDirectory)
       if (sharedRootDirectory.notExists()) {
-        sharedRootDirectory.createDirectory()
+        sharedRootDirectory.createDirectories()
       }
       return BibixRepo(
         uniqueRunId = uniqueRunId,
@@ -387,15 +677,16 @@ class BibixRepo(
         bbxbuildDirectory = bbxbuildDirectory,
         runConfig = runConfig,
         repoDataFile = repoDataFile,
+        repoLogFile = repoLogFile,
         repoData = repoData,
         targetLogsFile = targetLogsFile,
-        targetLogs = targetLogs,
         objectsDirectory = objectsDirectory,
         outputsDirectory = outputsDirectory,
         sharedRootDirectory = sharedRootDirectory,
         sharedDirectoriesMap = mutableMapOf(),
-        directoryLocker = DirectoryLockerImpl(),
+        directoryLocker = FileDirectoryLocker(),
         debuggingMode = debuggingMode,
+        repoLocker = repoLocker,
       )
     }
   }
@@ -0,0 +1,125 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.utils.toHexString
+import com.google.protobuf.ByteString
+import java.io.IOException
+import java.nio.file.FileAlreadyExistsException
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import kotlin.io.path.*
+
+// target이 만든 파일들을 내용의 digest로 한 번만 저장하는 store.
+// 파일은 bbxbuild/cas/<digest 앞 두 글자>/<digest 나머지>에 저장되고,
+// bbxbuild/objects/<target id> 밑의 파일은 store의 파일에 대한 hardlink로 바뀐다.
+// 같은 inode를 공유하므로 다시 빌드하기 전에 unshare해서 build rule이 파일을 직접 고쳐도 다른 target에 영향이 없도록 한다
+class ContentAddressedStore(
+  private val directory: Path,
+  private val metrics: BuildMetrics,
+) {
+  // 파일이 바뀌었는지 확인할 때와 달리 내용이 다른 파일이 같은 entry를 공유하면 안되므로 충돌에 강한 해시를 사용한다
+  private val hasher = FileContentHasher(FileHashAlgorithm.SHA256)
+
+  private fun entryFile(digest: ByteString): Path {
+    val hex = digest.toHexString()
+    return directory.resolve(hex.take(2)).resolve(hex.drop(2))
+  }
+
+  // hardlink 개수를 알 수 없는 파일 시스템이면 null
+  private fun linkCount(file: Path): Int? = try {
+    Files.getAttribute(file, "unix:nlink", LinkOption.NOFOLLOW_LINKS) as Int
+  } catch (_: UnsupportedOperationException) {
+    null
+  } catch (_: IllegalArgumentException) {
+    null
+  }
+
+  // file을 target 파일의 hardlink로 바꾼다. hardlink를 만들 수 없으면(다른 파일 시스템 등) 복사한다
+  private fun replaceWith(file: Path, target: Path) {
+    val tempFile = file.resolveSibling("${file.name}.${Thread.currentThread().id}.cas")
+    tempFile.deleteIfExists()
+    try {
+      Files.createLink(tempFile, target)
+    } catch (_: IOException) {
+      target.copyTo(tempFile)
+    } catch (_: UnsupportedOperationException) {
+      target.copyTo(tempFile)
+    }
+    tempFile.moveTo(file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+  }
+
+  // file의 내용 digest를 반환한다
+  private fun ingestFile(file: Path): ByteString {
+    val size = file.fileSize()
+    val digest = hasher.hashContent(file, size)
+    if ((linkCount(file) ?: 1) > 1) {
+      // 이미 store의 파일과 연결되어 있다
+      return digest
+    }
+    val entry = entryFile(digest)
+    if (entry.exists()) {
+      replaceWith(file, entry)
+      metrics.casDeduplicatedBytes.add(size)
+      return digest
+    }
+    entry.parent.createDirectories()
+    try {
+      Files.createLink(entry, file)
+    } catch (_: FileAlreadyExistsException) {
+      // 다른 스레드나 프로세스가 같은 내용을 먼저 넣었다
+      replaceWith(file, entry)
+      metrics.casDeduplicatedBytes.add(size)
+    } catch (_: IOException) {
+      // hardlink를 만들 수 없으면 store를 사용하지 않는다
+    } catch (_: UnsupportedOperationException) {
+    }
+    return digest
+  }
+
+  // 파일들을 바꾸는 동안 폴더를 순회하지 않도록 목록을 먼저 만든다
+  private fun regularFilesIn(directory: Path): List<Path> =
+    Files.walk(directory).use { paths ->
+      paths.filter { it.isRegularFile(LinkOption.NOFOLLOW_LINKS) }.toList()
+    }
+
+  // target이 성공한 뒤에 호출해서 object 폴더의 파일들을 store에 넣고, 각 파일의 내용 digest를 반환한다.
+  // 파일을 모두 읽으므로 LongRunning body에서 호출한다
+  fun ingestDirectory(objectDirectory: Path): Map<Path, ByteString> {
+    if (!objectDirectory.isDirectory()) {
+      return mapOf()
+    }
+    return regularFilesIn(objectDirectory).associateWith { ingestFile(it) }
+  }
+
+  // target을 다시 빌드하기 전에 호출해서 store와 공유하고 있는 파일들을 별도의 복사본으로 바꾼다
+  fun unshareDirectory(objectDirectory: Path) {
+    if (!objectDirectory.isDirectory()) {
+      return
+    }
+    regularFilesIn(objectDirectory).forEach { file ->
+      // hardlink 개수를 알 수 없으면 공유하고 있다고 가정한다
+      if ((linkCount(file) ?: 2) > 1) {
+        val tempFile = file.resolveSibling("${file.name}.${Thread.currentThread().id}.unshare")
+        file.copyTo(tempFile, overwrite = true)
+        tempFile.moveTo(file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+      }
+    }
+  }
+
+  // 어떤 object에서도 참조하지 않는(hardlink가 store에만 남은) 파일들을 지운다. 지운 바이트 수를 반환한다
+  fun sweep(): Long {
+    if (!directory.exists()) {
+      return 0
+    }
+    var freed = 0L
+    regularFilesIn(directory).forEach { entry ->
+      if (linkCount(entry) == 1) {
+        freed += entry.fileSize()
+        entry.deleteIfExists()
+      }
+    }
+    return freed
+  }
+}
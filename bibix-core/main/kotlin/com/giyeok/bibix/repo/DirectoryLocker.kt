@@ -1,41 +1,145 @@
 package com.giyeok.bibix.repo
 
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.NonCancellable
 import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.Semaphore
 import kotlinx.coroutines.sync.withLock
+import kotlinx.coroutines.withContext
+import java.io.IOException
+import java.nio.channels.FileChannel
+import java.nio.channels.FileLock
 import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.io.path.absolute
+import kotlin.io.path.createDirectories
 
 interface DirectoryLocker {
-  // suspend fun <T> withLock(directory: Path, func: () -> T): T
-  suspend fun acquireLock(directory: Path)
-  suspend fun releaseLock(directory: Path)
+  // shared lock은 다른 shared lock과 동시에 잡을 수 있다. 폴더를 읽기만 할 때 사용한다
+  suspend fun acquireLock(directory: Path, shared: Boolean = false)
+  suspend fun releaseLock(directory: Path, shared: Boolean = false)
 }
 
+// 같은 프로세스 안에서는 폴더별 상태로, 프로세스 사이에서는 폴더 안의 lock 파일에 FileChannel.lock을 잡아서 동기화한다.
+// 같은 머신에서 실행되는 여러 bibix 프로세스가 maven이나 git 저장소같은 shared directory를 같이 쓸 수 있다
 // needs to be thread safe
-class DirectoryLockerImpl: DirectoryLocker {
-  // TODO implement to support global lock(lock between multiple instances of bibix)
-  private val mutex = Mutex()
-  private val mutexes = mutableMapOf<Path, Mutex>()
-
-  private suspend fun getDirectoryMutex(directory: Path): Mutex {
-    val path = directory.absolute().normalize()
-    return mutex.withLock {
-      val existing = mutexes[path]
-      if (existing == null) {
-        val newMutex = Mutex()
-        mutexes[path] = newMutex
-        newMutex
-      } else {
-        existing
+class FileDirectoryLocker(
+  private val lockFileName: String = DEFAULT_LOCK_FILE_NAME,
+) : DirectoryLocker {
+  companion object {
+    const val DEFAULT_LOCK_FILE_NAME = ".bibix.lock"
+
+    // 한 프로세스 안에서 동시에 잡을 수 있는 shared lock의 수
+    private const val MAX_SHARED_HOLDERS = 1024
+
+    // 한 JVM에서 같은 파일에 FileLock을 두 번 잡으면 OverlappingFileLockException이 발생하므로
+    // 상태는 locker 인스턴스가 아니라 프로세스 전체에서 공유한다.
+    // 폴더별로 상태를 두고 ConcurrentHashMap으로 찾으므로 서로 다른 폴더의 lock끼리는 경쟁하지 않는다
+    private val states = ConcurrentHashMap<Path, DirectoryLockState>()
+  }
+
+  private class DirectoryLockState(val lockFile: Path) {
+    // exclusive lock은 permit을 모두 가져간다. permit을 가져가는 과정을 직렬화해서
+    // exclusive lock을 기다리는 동안 새 shared lock이 끼어들지 못하게 한다
+    val entryMutex = Mutex()
+    val permits = Semaphore(MAX_SHARED_HOLDERS)
+
+    // 이 프로세스가 잡고 있는 lock 파일의 lock과 그 lock을 사용하고 있는 holder 수
+    val fileLockMutex = Mutex()
+    var channel: FileChannel? = null
+    var fileLock: FileLock? = null
+    var holders = 0
+  }
+
+  private fun stateOf(directory: Path): DirectoryLockState {
+    val lockFile = directory.absolute().normalize().resolve(lockFileName)
+    return states.computeIfAbsent(lockFile) { DirectoryLockState(it) }
+  }
+
+  private fun permitsFor(shared: Boolean) = if (shared) 1 else MAX_SHARED_HOLDERS
+
+  override suspend fun acquireLock(directory: Path, shared: Boolean) {
+    val state = stateOf(directory)
+    state.entryMutex.withLock {
+      var acquired = 0
+      try {
+        while (acquired < permitsFor(shared)) {
+          state.permits.acquire()
+          acquired += 1
+        }
+      } catch (e: Throwable) {
+        repeat(acquired) { state.permits.release() }
+        throw e
       }
     }
+    try {
+      acquireFileLock(state, shared)
+    } catch (e: Throwable) {
+      repeat(permitsFor(shared)) { state.permits.release() }
+      throw e
+    }
   }
 
-  override suspend fun acquireLock(directory: Path) {
-    getDirectoryMutex(directory).lock()
+  override suspend fun releaseLock(directory: Path, shared: Boolean) {
+    val state = stateOf(directory)
+    withContext(NonCancellable) {
+      try {
+        releaseFileLock(state)
+      } finally {
+        repeat(permitsFor(shared)) { state.permits.release() }
+      }
+    }
+  }
+
+  // 프로세스 안에서는 permit으로 shared와 exclusive가 섞이지 않으므로 holder들은 모두 같은 모드이다.
+  // 처음 들어온 holder가 파일 lock을 잡고 마지막으로 나가는 holder가 놓는다
+  private suspend fun acquireFileLock(state: DirectoryLockState, shared: Boolean) {
+    state.fileLockMutex.withLock {
+      if (state.holders == 0) {
+        // 다른 프로세스가 lock을 놓을 때까지 스레드가 블록되므로 IO dispatcher에서 기다린다
+        withContext(Dispatchers.IO) { openFileLock(state, shared) }
+      }
+      state.holders += 1
+    }
   }
 
-  override suspend fun releaseLock(directory: Path) {
-    getDirectoryMutex(directory).unlock()
+  private fun openFileLock(state: DirectoryLockState, shared: Boolean) {
+    state.lockFile.parent.createDirectories()
+    val channel = try {
+      FileChannel.open(
+        state.lockFile,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+      )
+    } catch (e: UnsupportedOperationException) {
+      // FileChannel을 지원하지 않는 파일 시스템이면 프로세스 안에서만 lock을 잡는다
+      return
+    }
+    try {
+      state.fileLock = channel.lock(0, Long.MAX_VALUE, shared)
+      state.channel = channel
+    } catch (e: UnsupportedOperationException) {
+      channel.close()
+    } catch (e: IOException) {
+      channel.close()
+      throw e
+    }
+  }
+
+  private suspend fun releaseFileLock(state: DirectoryLockState) {
+    state.fileLockMutex.withLock {
+      state.holders -= 1
+      if (state.holders == 0) {
+        try {
+          state.fileLock?.release()
+        } finally {
+          state.channel?.close()
+          state.fileLock = null
+          state.channel = null
+        }
+      }
+    }
   }
 }
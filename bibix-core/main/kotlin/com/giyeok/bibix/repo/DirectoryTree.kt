@@ -0,0 +1,31 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.DirectoryHash
+import com.giyeok.bibix.BibixIdProto.FileHash
+import com.giyeok.bibix.directoryHash
+import com.giyeok.bibix.fileHash
+import com.google.protobuf.ByteString
+import kotlin.io.path.Path
+import kotlin.io.path.name
+
+// 디렉토리 하나의 Merkle tree 노드를 만든다. 노드에는 하위 항목들의 이름만 들어가고,
+// 하위 디렉토리는 digest만, 파일은 크기와 해시만 갖는다. 따라서 내용이 같은 디렉토리는 위치와 상관 없이 같은 digest를 갖는다.
+// 노드 자체는 digest를 계산하는 데만 사용하고 저장하지 않는다
+fun directoryTreeNode(directories: List<DirectoryHash>, files: List<FileHash>): DirectoryHash =
+  directoryHash {
+    directories.forEach { directory ->
+      this.directories.add(directoryHash {
+        this.path = Path(directory.path).name
+        this.digest = directory.digest
+      })
+    }
+    files.forEach { file ->
+      this.files.add(fileHash {
+        this.path = Path(file.path).name
+        this.size = file.size
+        this.sha1Hash = file.sha1Hash
+      })
+    }
+  }
+
+fun DirectoryHash.treeDigest(): ByteString = sha1Hash(this)
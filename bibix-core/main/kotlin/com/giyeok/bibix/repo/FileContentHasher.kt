@@ -0,0 +1,109 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto
+import com.giyeok.bibix.fileHash
+import com.google.common.hash.Hashing
+import com.google.protobuf.ByteString
+import com.google.protobuf.kotlin.toByteString
+import com.google.protobuf.util.Timestamps
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.nio.file.attribute.BasicFileAttributes
+import java.security.MessageDigest
+import kotlin.io.path.pathString
+
+enum class FileHashAlgorithm {
+  // 파일이 바뀌었는지 확인하는 용도로는 암호학적 해시가 필요 없으므로 빠른 해시를 기본으로 사용한다
+  MURMUR3_128,
+  SHA1,
+  SHA256,
+}
+
+// 파일의 내용 전체를 해시한다. mmapThreshold 이상인 파일은 memory-mapped I/O로 읽고,
+// 그보다 작은 파일은 스레드별로 하나씩 갖고 있는 버퍼로 읽는다.
+// FileHash.sha1_hash 필드에는 이름과 상관 없이 algorithm으로 계산한 값이 들어간다
+class FileContentHasher(
+  val algorithm: FileHashAlgorithm = FileHashAlgorithm.MURMUR3_128,
+  private val mmapThreshold: Long = 1L shl 20,
+) {
+  companion object {
+    private const val BUFFER_SIZE = 64 * 1024
+
+    // 2GB보다 큰 파일은 한번에 map할 수 없으므로 나눠서 map한다
+    private const val MAX_MAP_SIZE = 1L shl 30
+
+    private val buffers = ThreadLocal.withInitial { ByteBuffer.allocate(BUFFER_SIZE) }
+  }
+
+  private interface Sink {
+    fun update(buffer: ByteBuffer)
+    fun finish(): ByteString
+  }
+
+  private fun newSink(): Sink = when (algorithm) {
+    FileHashAlgorithm.MURMUR3_128 -> object: Sink {
+      private val hasher = Hashing.murmur3_128().newHasher()
+      override fun update(buffer: ByteBuffer) {
+        hasher.putBytes(buffer)
+      }
+
+      override fun finish(): ByteString = hasher.hash().asBytes().toByteString()
+    }
+
+    FileHashAlgorithm.SHA1, FileHashAlgorithm.SHA256 -> object: Sink {
+      private val digest = MessageDigest.getInstance(
+        if (algorithm == FileHashAlgorithm.SHA1) "SHA-1" else "SHA-256"
+      )
+
+      override fun update(buffer: ByteBuffer) {
+        digest.update(buffer)
+      }
+
+      override fun finish(): ByteString = digest.digest().toByteString()
+    }
+  }
+
+  fun hashContent(path: Path, size: Long): ByteString {
+    val sink = newSink()
+    FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+      if (size >= mmapThreshold) {
+        var position = 0L
+        while (position < size) {
+          val mapSize = minOf(size - position, MAX_MAP_SIZE)
+          sink.update(channel.map(FileChannel.MapMode.READ_ONLY, position, mapSize))
+          position += mapSize
+        }
+      } else {
+        val buffer = buffers.get()
+        while (true) {
+          buffer.clear()
+          if (channel.read(buffer) < 0) {
+            break
+          }
+          buffer.flip()
+          sink.update(buffer)
+        }
+      }
+    }
+    return sink.finish()
+  }
+
+  fun fileHashOf(path: Path): BibixIdProto.FileHash {
+    val attrs = Files.readAttributes(path, BasicFileAttributes::class.java)
+    return fileHashWith(path, attrs, hashContent(path, attrs.size()))
+  }
+}
+
+fun fileHashWith(
+  path: Path,
+  attrs: BasicFileAttributes,
+  contentHash: ByteString
+): BibixIdProto.FileHash = fileHash {
+  this.path = path.pathString
+  this.lastModifiedTime = Timestamps.fromMillis(attrs.lastModifiedTime().toMillis())
+  this.size = attrs.size()
+  this.sha1Hash = contentHash
+}
@@ -0,0 +1,112 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.repo.BibixRepoProto.CachedFileHash
+import com.giyeok.bibix.repo.BibixRepoProto.FileHashCacheData
+import com.google.protobuf.ByteString
+import java.io.IOException
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.io.path.*
+
+// 여러 run에 걸쳐서 파일 내용의 해시를 재사용하기 위한 캐시.
+// 경로, 크기, 수정 시각, file key(inode)가 모두 같으면 파일을 읽지 않고 이전에 계산한 해시를 사용한다
+class FileHashCache(
+  private val file: Path,
+  private val algorithm: FileHashAlgorithm,
+  private val entries: ConcurrentHashMap<String, CachedFileHash>,
+  private val clock: () -> Long = System::currentTimeMillis,
+) {
+  companion object {
+    // 최근에 수정된 파일은 해시를 계산한 뒤에 다시 수정되어도 수정 시각이 같을 수 있으므로 캐시하지 않는다
+    private const val RECENTLY_MODIFIED_MILLIS = 2000L
+
+    fun load(file: Path, algorithm: FileHashAlgorithm): FileHashCache {
+      val entries = ConcurrentHashMap<String, CachedFileHash>()
+      if (file.exists()) {
+        try {
+          val data = file.inputStream().buffered().use { FileHashCacheData.parseFrom(it) }
+          if (data.algorithm == algorithm.name) {
+            entries.putAll(data.filesMap)
+          }
+        } catch (_: Exception) {
+          // 캐시 파일이 깨졌으면 무시하고 새로 계산한다
+        }
+      }
+      return FileHashCache(file, algorithm, entries)
+    }
+  }
+
+  private val updated = AtomicBoolean(false)
+
+  // 이번 run에서 get이나 put한 경로들. save할 때 이 경로들은 확인하지 않고 남긴다
+  private val touched: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
+  private fun BasicFileAttributes.fileKeyString(): String = fileKey()?.toString() ?: ""
+
+  private fun BasicFileAttributes.lastModifiedNanos(): Long =
+    lastModifiedTime().to(TimeUnit.NANOSECONDS)
+
+  private fun CachedFileHash.matches(attrs: BasicFileAttributes): Boolean =
+    size == attrs.size() &&
+      lastModifiedNanos == attrs.lastModifiedNanos() &&
+      fileKey == attrs.fileKeyString()
+
+  fun get(path: Path, attrs: BasicFileAttributes): ByteString? {
+    val entry = entries[path.pathString] ?: return null
+    touched.add(path.pathString)
+    if (!entry.matches(attrs)) {
+      return null
+    }
+    return entry.contentHash
+  }
+
+  fun put(path: Path, attrs: BasicFileAttributes, contentHash: ByteString) {
+    if (attrs.lastModifiedTime().toMillis() >= clock() - RECENTLY_MODIFIED_MILLIS) {
+      entries.remove(path.pathString)?.let { updated.set(true) }
+      return
+    }
+    touched.add(path.pathString)
+    entries[path.pathString] = cachedFileHash {
+      this.size = attrs.size()
+      this.lastModifiedNanos = attrs.lastModifiedNanos()
+      this.fileKey = attrs.fileKeyString()
+      this.contentHash = contentHash
+    }
+    updated.set(true)
+  }
+
+  // 이번 run에서 사용하지 않은 항목 중 파일이 없어졌거나 바뀌어서 다시 쓸 수 없는 항목은 지운다
+  private fun pruneStaleEntries() {
+    entries.entries.removeIf { (pathString, entry) ->
+      if (pathString in touched) {
+        false
+      } else {
+        val attrs = try {
+          Path(pathString).readAttributes<BasicFileAttributes>()
+        } catch (_: IOException) {
+          null
+        }
+        attrs == null || !entry.matches(attrs)
+      }
+    }
+  }
+
+  // 바뀐 것이 없으면 파일을 다시 쓰지 않는다
+  fun save() {
+    if (!updated.getAndSet(false)) {
+      return
+    }
+    pruneStaleEntries()
+    val data = fileHashCacheData {
+      this.algorithm = this@FileHashCache.algorithm.name
+      this.files.putAll(entries)
+    }
+    // 저장하는 도중에 종료되어도 기존 캐시 파일이 깨지지 않도록 임시 파일에 쓴 뒤에 옮긴다
+    val tempFile = file.resolveSibling("${file.name}.tmp")
+    tempFile.outputStream().buffered().use { data.writeTo(it) }
+    tempFile.moveTo(file, overwrite = true)
+  }
+}
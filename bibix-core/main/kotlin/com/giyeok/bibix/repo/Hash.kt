@@ -2,95 +2,110 @@ package com.giyeok.bibix.repo
 
 import com.giyeok.bibix.*
 import com.giyeok.bibix.base.BibixValue
+import com.giyeok.bibix.base.structuralDigest
+import com.giyeok.bibix.graph.runner.FileHashStore
 import com.giyeok.bibix.utils.toProto
 import com.google.protobuf.ByteString
-import com.google.protobuf.kotlin.toByteString
-import com.google.protobuf.util.Timestamps
-import java.nio.file.Files
-import java.nio.file.Path
+import com.google.protobuf.CodedOutputStream
+import com.google.protobuf.MessageLite
+import com.google.protobuf.UnsafeByteOperations
+import java.io.OutputStream
 import java.security.MessageDigest
-import kotlin.io.path.*
 
 fun newDigest() = MessageDigest.getInstance("SHA-1")
 
-fun sha1Hash(bytes: ByteString): ByteString {
-  // TODO MessageDigest를 매번 얻어와야하나?
-  // TODO bytes.toByteArray()할 때랑 ByteString.copyFrom 할 때 메모리 카피 발생. 최적화 필요
-  val digest = newDigest()
-  return digest.digest(bytes.toByteArray()).toByteString()
+// proto를 byte array로 만들지 않고 CodedOutputStream으로 바로 digest에 쓴다.
+// 스레드마다 하나씩 만들어서 재사용한다
+class StreamingDigest {
+  private val digest = newDigest()
+  private val sink = object: OutputStream() {
+    override fun write(b: Int) {
+      digest.update(b.toByte())
+    }
+
+    override fun write(b: ByteArray, off: Int, len: Int) {
+      digest.update(b, off, len)
+    }
+  }
+  private val output = CodedOutputStream.newInstance(sink, 4096)
+  internal var inUse = false
+
+  fun update(message: MessageLite) {
+    message.writeTo(output)
+    output.flush()
+  }
+
+  fun update(bytes: ByteString) {
+    digest.update(bytes.asReadOnlyByteBuffer())
+  }
+
+  fun update(bytes: ByteArray) {
+    digest.update(bytes)
+  }
+
+  fun finish(): ByteString = UnsafeByteOperations.unsafeWrap(digest.digest())
 }
 
-fun sha1Hash(bytes: ByteArray): ByteString {
-  // TODO MessageDigest를 매번 얻어와야하나?
-  // TODO bytes.toByteArray()할 때랑 ByteString.copyFrom 할 때 메모리 카피 발생. 최적화 필요
-  val digest = newDigest()
-  return digest.digest(bytes).toByteString()
+private val streamingDigests = ThreadLocal.withInitial { StreamingDigest() }
+
+fun digestOf(block: StreamingDigest.() -> Unit): ByteString {
+  val cached = streamingDigests.get()
+  // digestOf 안에서 다시 digestOf가 호출되면 새로 만든 digest를 사용한다
+  val digest = if (cached.inUse) StreamingDigest() else cached
+  digest.inUse = true
+  try {
+    digest.block()
+    return digest.finish()
+  } catch (e: Throwable) {
+    // 쓰다 만 내용이 남아있을 수 있으므로 버린다
+    if (digest === cached) {
+      streamingDigests.remove()
+    }
+    throw e
+  } finally {
+    digest.inUse = false
+  }
 }
 
+fun sha1Hash(bytes: ByteString): ByteString = digestOf { update(bytes) }
+
+fun sha1Hash(bytes: ByteArray): ByteString = digestOf { update(bytes) }
+
+fun sha1Hash(message: MessageLite): ByteString = digestOf { update(message) }
+
 fun BibixValueProto.BibixValue.hashString(): ByteString =
-  sha1Hash(this.toByteString())
+  sha1Hash(this)
 
 fun BibixIdProto.ArgsMap.hashString(): ByteString {
   val argPairsList = this.pairsList.sortedBy { it.name }
-  // TODO sha1Hash 함수에서와 동일한 문제. 수정 필요
-  val digest = newDigest()
-  argPairsList.forEach {
-    digest.update(it.toByteArray())
+  return digestOf {
+    argPairsList.forEach { update(it) }
   }
-  return digest.digest().toByteString()
 }
 
-fun BibixIdProto.SourceId.hashString(): ByteString =
-  sha1Hash(this.toByteArray())
-
-fun inputHashesFromPaths(paths: List<String>): BibixIdProto.InputHashes {
-  fun fileHashOf(path: Path): BibixIdProto.FileHash {
-    val digest = newDigest()
-    val buffer = ByteArray(1000)
-    path.inputStream().buffered().use { stream ->
-      val read = stream.read(buffer, 0, 1000)
-      if (read > 0) {
-        digest.update(buffer, 0, read)
-      }
-    }
-    val fileHash = digest.digest().toByteString()
-
-    // TODO file.lastModified()나 file.length() 사용해도 괜찮나..?
-    return fileHash {
-      this.path = path.pathString
-      this.lastModifiedTime = Timestamps.fromMillis(Files.getLastModifiedTime(path).toMillis())
-      this.size = Files.size(path)
-      this.sha1Hash = fileHash
-    }
+// withBuildContext에서 사용하는 target id. 인자 값들은 toProto하지 않고 structural digest만 사용하므로
+// 인자 값의 크기와 상관 없이 인자의 수에 비례하는 시간이 걸린다
+fun targetIdOf(
+  sourceId: BibixIdProto.SourceId,
+  buildRule: BibixIdProto.BuildRuleData,
+  args: Map<String, BibixValue>
+): ByteString = digestOf {
+  update(targetIdData {
+    this.sourceId = sourceId
+    this.buildRule = buildRule
+  })
+  args.entries.sortedBy { it.key }.forEach { (name, value) ->
+    update(argPair { this.name = name })
+    update(value.structuralDigest())
   }
+}
 
-  fun traverseDirectory(path: Path): BibixIdProto.DirectoryHash {
-    val elems = path.listDirectoryEntries().sortedBy { it.name }
-    return directoryHash {
-      this.path = path.pathString
-      elems.forEach { elem ->
-        if (Files.isDirectory(elem)) {
-          this.directories.add(traverseDirectory(elem))
-        } else {
-          this.files.add(fileHashOf(elem))
-        }
-      }
-    }
-  }
+fun BibixIdProto.SourceId.hashString(): ByteString =
+  sha1Hash(this)
 
-  return inputHashes {
-    val sortedPaths = paths.map { Path(it).normalize().absolute() }.distinct().sorted()
-    sortedPaths.forEach { path ->
-      if (Files.isDirectory(path)) {
-        directories.add(traverseDirectory(path))
-      } else {
-        if (path.exists()) {
-          files.add(fileHashOf(path))
-        }
-      }
-    }
-  }
-}
+// FileHashStore와 같은 방식으로 해시를 계산하지만 결과를 캐시하지 않는다
+fun inputHashesFromPaths(paths: List<String>): BibixIdProto.InputHashes =
+  FileHashStore().inputHashesFromPaths(paths)
 
 fun BibixValue.hashString() = this.toProto().hashString()
 
@@ -120,10 +135,10 @@ fun BibixIdProto.ArgsMap.extractInputHashes(): BibixIdProto.InputHashes {
 }
 
 fun BibixIdProto.InputHashes.hashString() =
-  sha1Hash(this.toByteArray())
+  sha1Hash(this)
 
 fun BibixIdProto.TargetIdData.hashString() =
-  sha1Hash(this.toByteArray())
+  sha1Hash(this)
 
 fun BibixIdProto.ObjectIdData.hashString() =
-  sha1Hash(this.toByteArray())
+  sha1Hash(this)
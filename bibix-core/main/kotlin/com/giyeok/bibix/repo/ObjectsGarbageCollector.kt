@@ -0,0 +1,110 @@
+package com.giyeok.bibix.repo
+
+import com.google.protobuf.util.Timestamps
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import kotlin.io.path.*
+
+// bbxbuild/objects 폴더의 크기가 budget을 넘으면 오래 전에 사용된 object부터 지운다.
+// outputs 폴더의 링크나 output name이 가리키는 object와 이번 run에서 사용된 object는 지우지 않는다
+class ObjectsGarbageCollector(private val repo: BibixRepo) {
+  data class Result(
+    val evictedTargets: List<String>,
+    val evictedBytes: Long,
+    val remainingBytes: Long,
+  )
+
+  private data class ObjectEntry(
+    val targetId: String,
+    val directory: Path,
+    // object 폴더 안의 파일들. content addressed store를 쓰면 여러 object가 같은 inode를 공유하므로 inode별로 한 번만 센다
+    val inodes: Map<Any, Long>,
+    val lastAccessMillis: Long,
+  )
+
+  // fileKey를 지원하지 않는 파일 시스템이면 경로를 key로 사용한다
+  private fun inodesOf(directory: Path): Map<Any, Long> {
+    val inodes = mutableMapOf<Any, Long>()
+    Files.walk(directory).use { paths ->
+      paths.forEach { path ->
+        val attrs =
+          Files.readAttributes(path, BasicFileAttributes::class.java, LinkOption.NOFOLLOW_LINKS)
+        if (attrs.isRegularFile) {
+          inodes[attrs.fileKey() ?: path] = attrs.size()
+        }
+      }
+    }
+    return inodes
+  }
+
+  // 지우면 안 되는 target id들
+  private fun pinnedTargets(): Set<String> {
+    val pinned = mutableSetOf<String>()
+    pinned.addAll(repo.getAllOutputNames().values)
+    if (repo.outputsDirectory.exists()) {
+      repo.outputsDirectory.listDirectoryEntries().forEach { link ->
+        if (link.isSymbolicLink()) {
+          pinned.add(link.readSymbolicLink().name)
+        }
+      }
+    }
+    return pinned
+  }
+
+  @OptIn(ExperimentalPathApi::class)
+  fun collect(budgetBytes: Long): Result {
+    val pinned = pinnedTargets()
+    val lastAccess = repo.getAllTargetLastAccess()
+    val objects = repo.objectsDirectory.listDirectoryEntries()
+      .filter { it.isDirectory(LinkOption.NOFOLLOW_LINKS) }
+      .map { directory ->
+        val targetId = directory.name
+        // 마지막 사용 시각이 기록되지 않은 object는 폴더의 수정 시각을 사용한다
+        val accessMillis = lastAccess[targetId]?.let { Timestamps.toMillis(it) }
+          ?: directory.getLastModifiedTime().toMillis()
+        ObjectEntry(targetId, directory, inodesOf(directory), accessMillis)
+      }
+
+    // 각 inode를 참조하는 object의 수. object를 지워서 참조하는 object가 없어진 inode만 실제로 공간이 확보된다
+    val inodeRefs = mutableMapOf<Any, Int>()
+    val inodeSizes = mutableMapOf<Any, Long>()
+    objects.forEach { obj ->
+      obj.inodes.forEach { (key, size) ->
+        inodeRefs[key] = (inodeRefs[key] ?: 0) + 1
+        inodeSizes[key] = size
+      }
+    }
+    var totalSize = inodeSizes.values.sum()
+    val evicted = mutableListOf<String>()
+    var evictedBytes = 0L
+    val candidates = objects
+      .filter { it.targetId !in pinned && !repo.isAccessedInThisRun(it.targetId) }
+      .sortedBy { it.lastAccessMillis }
+    for (candidate in candidates) {
+      if (totalSize <= budgetBytes) {
+        break
+      }
+      // repo에서 먼저 지워야 지우는 도중에 종료되어도 반쯤 지워진 object를 재사용하지 않는다
+      repo.removeTarget(candidate.targetId)
+      candidate.directory.deleteRecursively()
+      var freed = 0L
+      candidate.inodes.forEach { (key, size) ->
+        val refs = inodeRefs.getValue(key) - 1
+        inodeRefs[key] = refs
+        if (refs == 0) {
+          freed += size
+        }
+      }
+      totalSize -= freed
+      evictedBytes += freed
+      evicted.add(candidate.targetId)
+      repo.metrics.gcEvictedObjects.increment()
+      repo.metrics.gcEvictedBytes.add(freed)
+    }
+    // 지운 object들만 참조하던 store의 파일들도 지운다
+    repo.contentStore?.sweep()
+    return Result(evicted, evictedBytes, totalSize)
+  }
+}
@@ -0,0 +1,220 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixValueProto.BibixValue
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.repo.BibixRepoProto.RemoteCacheEntry
+import com.giyeok.bibix.utils.toHexString
+import com.google.protobuf.ByteString
+import java.io.Closeable
+import java.io.IOException
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import kotlin.io.path.*
+
+// remote cache 서버와 HTTP로 통신한다.
+//   GET/PUT /v1/entries/<remote cache key hex> - RemoteCacheEntry. key는 remoteCacheKey 참고
+//   HEAD/GET/PUT /v1/blobs/<sha256 hex> - object 폴더에 있던 파일의 내용
+// 통신에 실패하면 빌드를 실패시키지 않고 cache miss로 취급한다
+class RemoteCacheClient(
+  baseUrl: String,
+  private val metrics: BuildMetrics,
+  timeout: Duration = Duration.ofSeconds(30),
+): Closeable {
+  private val baseUrl = baseUrl.trimEnd('/')
+  private val httpClient = HttpClient.newBuilder().connectTimeout(timeout).build()
+  private val requestTimeout = timeout
+  private val hasher = FileContentHasher(FileHashAlgorithm.SHA256)
+
+  // 업로드는 빌드를 기다리게 하지 않도록 별도 스레드에서 하고, 종료할 때 기다린다
+  private val uploadExecutor = Executors.newFixedThreadPool(2) { runnable ->
+    Thread(runnable, "bibix-remote-cache-upload").also { it.isDaemon = true }
+  }
+  private val pendingUploads = ConcurrentLinkedQueue<CompletableFuture<Unit>>()
+
+  // 업로드는 object 폴더의 파일을 직접 읽으므로, 같은 target을 다시 빌드하거나 받아오기 전에 awaitUpload로 기다린다
+  private val uploadsByDirectory = ConcurrentHashMap<Path, CompletableFuture<Unit>>()
+
+  private fun entryUri(key: ByteString) =
+    URI.create("$baseUrl/v1/entries/${key.toHexString()}")
+
+  private fun blobUri(digest: ByteString) =
+    URI.create("$baseUrl/v1/blobs/${digest.toHexString()}")
+
+  private fun request(uri: URI) = HttpRequest.newBuilder(uri).timeout(requestTimeout)
+
+  // 결과를 찾으면 objectDirectory를 받아온 파일들로 바꾸고, 이 머신의 경로로 바꾼 결과 값을 반환한다
+  fun fetch(
+    key: ByteString,
+    objectDirectory: Path,
+    paths: RemoteCachePaths,
+  ): BibixValue? = try {
+    val response = httpClient.send(
+      request(entryUri(key)).GET().build(),
+      HttpResponse.BodyHandlers.ofByteArray()
+    )
+    when (response.statusCode()) {
+      200 -> {
+        val entry = RemoteCacheEntry.parseFrom(response.body())
+        downloadObjectDirectory(entry, objectDirectory)
+        metrics.remoteCacheHits.increment()
+        paths.resolveValue(entry.resultValue)
+      }
+
+      404 -> {
+        metrics.remoteCacheMisses.increment()
+        null
+      }
+
+      else -> throw IOException("Unexpected status ${response.statusCode()} from remote cache")
+    }
+  } catch (e: IOException) {
+    metrics.remoteCacheFailures.increment()
+    null
+  }
+
+  @OptIn(ExperimentalPathApi::class)
+  private fun downloadObjectDirectory(entry: RemoteCacheEntry, objectDirectory: Path) {
+    // 모두 받은 뒤에 한번에 바꿔서 중간에 실패해도 반쯤 받은 폴더가 남지 않도록 한다
+    val tempDirectory = objectDirectory.resolveSibling("${objectDirectory.name}.remote")
+    tempDirectory.deleteRecursively()
+    tempDirectory.createDirectories()
+    try {
+      entry.filesList.forEach { file ->
+        val dest = tempDirectory.resolve(file.path).normalize()
+        if (!dest.startsWith(tempDirectory)) {
+          throw IOException("Invalid path from remote cache: ${file.path}")
+        }
+        dest.parent.createDirectories()
+        val response = httpClient.send(
+          request(blobUri(file.sha256)).GET().build(),
+          HttpResponse.BodyHandlers.ofFile(dest)
+        )
+        if (response.statusCode() != 200) {
+          throw IOException("Missing blob ${file.sha256.toHexString()} for ${file.path}")
+        }
+        if (hasher.hashContent(dest, dest.fileSize()) != file.sha256) {
+          throw IOException("Corrupted blob ${file.sha256.toHexString()} for ${file.path}")
+        }
+        if (file.executable) {
+          dest.toFile().setExecutable(true)
+        }
+      }
+      objectDirectory.deleteRecursively()
+      tempDirectory.moveTo(objectDirectory)
+    } catch (e: IOException) {
+      tempDirectory.deleteRecursively()
+      throw e
+    }
+  }
+
+  // 결과 값에 다른 머신에서 쓸 수 없는 경로가 있거나 object 폴더에 symlink가 있으면 올리지 않는다.
+  // sha256Digests에 있는 파일은 다시 해시하지 않는다
+  fun uploadAsync(
+    key: ByteString,
+    resultValue: BibixValue,
+    objectDirectory: Path,
+    paths: RemoteCachePaths,
+    sha256Digests: Map<Path, ByteString>? = null,
+  ) {
+    val relocated = paths.relocateValue(resultValue)
+    if (relocated == null) {
+      metrics.remoteCacheSkippedUploads.increment()
+      return
+    }
+    val future = CompletableFuture.supplyAsync({
+      try {
+        upload(key, relocated, objectDirectory, sha256Digests ?: mapOf())
+      } catch (e: IOException) {
+        metrics.remoteCacheFailures.increment()
+      }
+    }, uploadExecutor)
+    pendingUploads.add(future)
+    uploadsByDirectory[objectDirectory] = future
+    future.whenComplete { _, _ -> uploadsByDirectory.remove(objectDirectory, future) }
+  }
+
+  private fun upload(
+    key: ByteString,
+    resultValue: BibixValue,
+    objectDirectory: Path,
+    sha256Digests: Map<Path, ByteString>,
+  ) {
+    val entry = RemoteCacheEntry.newBuilder().setResultValue(resultValue)
+    if (objectDirectory.isDirectory()) {
+      val files = Files.walk(objectDirectory).use { paths ->
+        paths.filter { !it.isDirectory(LinkOption.NOFOLLOW_LINKS) }.toList()
+      }
+      if (files.any { it.isSymbolicLink() }) {
+        metrics.remoteCacheSkippedUploads.increment()
+        return
+      }
+      files.sortedBy { it.invariantSeparatorsPathString }.forEach { file ->
+        val size = file.fileSize()
+        val digest = sha256Digests[file] ?: hasher.hashContent(file, size)
+        uploadBlobIfAbsent(digest, file)
+        entry.addFilesBuilder()
+          .setPath(objectDirectory.relativize(file).invariantSeparatorsPathString)
+          .setSha256(digest)
+          .setSize(size)
+          .setExecutable(file.isExecutable())
+      }
+    }
+    // blob들을 모두 올린 뒤에 entry를 올려야 다른 머신이 blob이 없는 entry를 보지 않는다
+    val response = httpClient.send(
+      request(entryUri(key))
+        .PUT(HttpRequest.BodyPublishers.ofByteArray(entry.build().toByteArray()))
+        .build(),
+      HttpResponse.BodyHandlers.discarding()
+    )
+    if (response.statusCode() !in 200..299) {
+      throw IOException("Failed to upload entry: ${response.statusCode()}")
+    }
+    metrics.remoteCacheUploads.increment()
+  }
+
+  private fun uploadBlobIfAbsent(digest: ByteString, file: Path) {
+    val head = httpClient.send(
+      request(blobUri(digest)).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+      HttpResponse.BodyHandlers.discarding()
+    )
+    if (head.statusCode() == 200) {
+      return
+    }
+    val response = httpClient.send(
+      request(blobUri(digest)).PUT(HttpRequest.BodyPublishers.ofFile(file)).build(),
+      HttpResponse.BodyHandlers.discarding()
+    )
+    if (response.statusCode() !in 200..299) {
+      throw IOException("Failed to upload blob: ${response.statusCode()}")
+    }
+  }
+
+  // objectDirectory를 올리고 있으면 끝날 때까지 기다린다. 업로드가 실패해도 예외를 던지지 않는다
+  fun awaitUpload(objectDirectory: Path) {
+    uploadsByDirectory[objectDirectory]?.handle { _, _ -> }?.join()
+  }
+
+  // 진행 중인 업로드가 모두 끝날 때까지 기다린다
+  fun awaitUploads() {
+    while (true) {
+      val future = pendingUploads.poll() ?: break
+      future.join()
+    }
+  }
+
+  // 남은 업로드를 기다린 뒤 업로드 스레드를 멈춘다
+  override fun close() {
+    awaitUploads()
+    uploadExecutor.shutdown()
+  }
+}
@@ -0,0 +1,104 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.BuildRuleData
+import com.giyeok.bibix.BibixIdProto.InputHashes
+import com.giyeok.bibix.BibixIdProto.SourceId
+import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.google.protobuf.ByteString
+
+// remote cache에서 target의 결과를 찾는 key.
+// target id와 input hash에는 이 머신의 절대 경로와 파일의 수정 시각이 들어있어서 다른 머신과 공유할 수 없으므로,
+// 경로들은 RemoteCachePaths로 relocate하고 수정 시각은 빼서 내용과 프로젝트 기준 경로만으로 계산한다.
+// 다른 머신에서 쓸 수 없는 경로가 들어있으면 null
+fun remoteCacheKey(
+  targetIdData: TargetIdData,
+  inputHashes: InputHashes,
+  paths: RemoteCachePaths,
+): ByteString? {
+  val relocatedTargetIdData = relocateTargetIdData(targetIdData, paths) ?: return null
+  val relocatedInputHashes = relocateInputHashes(inputHashes, paths) ?: return null
+  return digestOf {
+    update(relocatedTargetIdData)
+    update(relocatedInputHashes)
+  }
+}
+
+private fun relocateSourceId(sourceId: SourceId, paths: RemoteCachePaths): SourceId? {
+  if (sourceId.sourceCase != SourceId.SourceCase.EXTERNAL_PLUGIN_OBJHASH) {
+    return sourceId
+  }
+  return sourceId.toBuilder().apply {
+    externalPluginObjhashBuilder.rootDirectory =
+      paths.relocate(sourceId.externalPluginObjhash.rootDirectory) ?: return null
+  }.build()
+}
+
+private fun relocateTargetIdData(targetIdData: TargetIdData, paths: RemoteCachePaths): TargetIdData? {
+  val buildRule = targetIdData.buildRule
+  val relocatedBuildRule = buildRule.toBuilder().apply {
+    buildRuleSourceId = relocateSourceId(buildRule.buildRuleSourceId, paths) ?: return null
+    when (buildRule.buildRuleCase) {
+      BuildRuleData.BuildRuleCase.BIBIX_VALUE_HASH -> {
+        val implHash = buildRule.bibixValueHash
+        bibixValueHashBuilder.implValue = paths.relocateValue(implHash.implValue) ?: return null
+        bibixValueHashBuilder.implValueFilesHash =
+          relocateInputHashes(implHash.implValueFilesHash, paths) ?: return null
+      }
+
+      // 다른 target의 id가 들어가므로 공유하지 않는다
+      BuildRuleData.BuildRuleCase.BUILD_RULE_IMPL_ID -> return null
+
+      else -> {}
+    }
+  }.build()
+  return targetIdData.toBuilder().apply {
+    sourceId = relocateSourceId(targetIdData.sourceId, paths) ?: return null
+    this.buildRule = relocatedBuildRule
+    argsMapBuilder.clearPairs()
+    targetIdData.argsMap.pairsList.sortedBy { it.name }.forEach { pair ->
+      argsMapBuilder.addPairs(
+        pair.toBuilder().setValue(paths.relocateValue(pair.value) ?: return null)
+      )
+    }
+  }.build()
+}
+
+// 파일은 수정 시각을 빼고 크기와 내용 해시만, 디렉토리는 Merkle digest만 남긴다.
+// 다른 target의 output은 그 target의 output digest로 바꾼 경로만 남긴다.
+// relocate한 경로들은 머신마다 순서가 다를 수 있으므로 다시 정렬한다
+private fun relocateInputHashes(inputHashes: InputHashes, paths: RemoteCachePaths): InputHashes? {
+  val builder = InputHashes.newBuilder()
+  inputHashes.directoriesList
+    .map { directory ->
+      directory.toBuilder()
+        .setPath(paths.relocate(directory.path) ?: return null)
+        .clearDirectories()
+        .clearFiles()
+        .build()
+    }
+    .sortedBy { it.path }
+    .forEach { builder.addDirectories(it) }
+  inputHashes.filesList
+    .map { file ->
+      file.toBuilder()
+        .setPath(paths.relocate(file.path) ?: return null)
+        .clearLastModifiedTime()
+        .build()
+    }
+    .sortedBy { it.path }
+    .forEach { builder.addFiles(it) }
+  inputHashes.nonExistentList
+    .map { paths.relocate(it) ?: return null }
+    .sorted()
+    .forEach { builder.addNonExistent(it) }
+  inputHashes.targetOutputsList
+    .map { output ->
+      output.toBuilder()
+        .setPath(paths.relocate(output.path) ?: return null)
+        .clearTargetId()
+        .build()
+    }
+    .sortedBy { it.path }
+    .forEach { builder.addTargetOutputs(it) }
+  return builder.build()
+}
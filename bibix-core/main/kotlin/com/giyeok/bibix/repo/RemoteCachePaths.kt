@@ -0,0 +1,115 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixValueProto.BibixValue
+import com.giyeok.bibix.BibixValueProto.NamedValue
+import com.giyeok.bibix.BibixValueProto.DataClassField
+import com.giyeok.bibix.BibixIdProto.TargetOutputHash
+import com.giyeok.bibix.utils.toHexString
+import java.nio.file.Path
+import kotlin.io.path.absolute
+import kotlin.io.path.invariantSeparatorsPathString
+
+// remote cache에 올리는 결과 값의 절대 경로를 머신과 상관 없는 형태로 바꾸고, 받아올 때 다시 이 머신의 경로로 바꾼다.
+// roots는 더 구체적인 것부터 확인한다
+class RemoteCachePaths(
+  objectDirectory: Path,
+  bbxbuildDirectory: Path,
+  projectRoot: Path,
+  sharedRootDirectory: Path? = null,
+  // 다른 target의 object 폴더 밑의 경로를 그 target의 output digest로 바꿀 때 사용한다.
+  // target id는 머신마다 다를 수 있으므로 null이면 다른 target의 object 폴더 밑의 경로는 relocate하지 않는다.
+  // output digest로 바꾼 경로는 resolve할 수 없으므로 remote cache key를 계산할 때만 사용한다
+  private val upstreamOutputOf: ((Path) -> TargetOutputHash?)? = null,
+) {
+  private val objectDirectory = objectDirectory.absolute().normalize()
+  private val objectsDirectory = this.objectDirectory.parent
+
+  private val roots = listOfNotNull(
+    "\${OBJECT}" to this.objectDirectory,
+    sharedRootDirectory?.let { "\${SHARED}" to it.absolute().normalize() },
+    "\${BBXBUILD}" to bbxbuildDirectory.absolute().normalize(),
+    "\${PROJECT}" to projectRoot.absolute().normalize(),
+  )
+
+  // roots 밖의 경로이면 null
+  fun relocate(path: String): String? {
+    val absolute = Path.of(path).absolute().normalize()
+    if (absolute.startsWith(objectsDirectory) && !absolute.startsWith(objectDirectory)) {
+      val upstream = upstreamOutputOf?.invoke(absolute) ?: return null
+      val upstreamDirectory = objectsDirectory.resolve(upstream.targetId)
+      val relative = upstreamDirectory.relativize(absolute).invariantSeparatorsPathString
+      val marker = "\${OUTPUT:${upstream.outputDigest.toHexString()}}"
+      return if (relative.isEmpty()) marker else "$marker/$relative"
+    }
+    for ((marker, root) in roots) {
+      if (absolute.startsWith(root)) {
+        val relative = root.relativize(absolute).invariantSeparatorsPathString
+        return if (relative.isEmpty()) marker else "$marker/$relative"
+      }
+    }
+    return null
+  }
+
+  fun resolve(path: String): String {
+    for ((marker, root) in roots) {
+      if (path == marker) {
+        return root.toString()
+      }
+      if (path.startsWith("$marker/")) {
+        return root.resolve(path.removePrefix("$marker/")).toString()
+      }
+    }
+    return path
+  }
+
+  // 값에 들어있는 경로들을 모두 relocate한다. 하나라도 roots 밖의 경로이면 null
+  fun relocateValue(value: BibixValue): BibixValue? =
+    mapPaths(value) { relocate(it) }
+
+  fun resolveValue(value: BibixValue): BibixValue =
+    mapPaths(value) { resolve(it) }!!
+
+  private fun mapPaths(value: BibixValue, f: (String) -> String?): BibixValue? {
+    fun mapList(values: List<BibixValue>): List<BibixValue>? =
+      values.map { mapPaths(it, f) ?: return null }
+
+    return when (value.valueCase) {
+      BibixValue.ValueCase.PATH_VALUE ->
+        value.toBuilder().setPathValue(f(value.pathValue) ?: return null).build()
+
+      BibixValue.ValueCase.FILE_VALUE ->
+        value.toBuilder().setFileValue(f(value.fileValue) ?: return null).build()
+
+      BibixValue.ValueCase.DIRECTORY_VALUE ->
+        value.toBuilder().setDirectoryValue(f(value.directoryValue) ?: return null).build()
+
+      BibixValue.ValueCase.LIST_VALUE -> value.toBuilder().apply {
+        listValueBuilder.clearValues().addAllValues(mapList(value.listValue.valuesList) ?: return null)
+      }.build()
+
+      BibixValue.ValueCase.SET_VALUE -> value.toBuilder().apply {
+        setValueBuilder.clearValues().addAllValues(mapList(value.setValue.valuesList) ?: return null)
+      }.build()
+
+      BibixValue.ValueCase.TUPLE_VALUE -> value.toBuilder().apply {
+        tupleValueBuilder.clearValues().addAllValues(mapList(value.tupleValue.valuesList) ?: return null)
+      }.build()
+
+      BibixValue.ValueCase.NAMED_TUPLE_VALUE -> value.toBuilder().apply {
+        val pairs = value.namedTupleValue.valuesList.map { pair ->
+          NamedValue.newBuilder(pair).setValue(mapPaths(pair.value, f) ?: return null).build()
+        }
+        namedTupleValueBuilder.clearValues().addAllValues(pairs)
+      }.build()
+
+      BibixValue.ValueCase.DATA_CLASS_INSTANCE_VALUE -> value.toBuilder().apply {
+        val fields = value.dataClassInstanceValue.fieldsList.map { field ->
+          DataClassField.newBuilder(field).setValue(mapPaths(field.value, f) ?: return null).build()
+        }
+        dataClassInstanceValueBuilder.clearFields().addAllFields(fields)
+      }.build()
+
+      else -> value
+    }
+  }
+}
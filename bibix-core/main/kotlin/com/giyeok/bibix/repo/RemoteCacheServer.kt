@@ -0,0 +1,141 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.utils.toHexString
+import com.google.protobuf.kotlin.toByteString
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import java.io.IOException
+import java.net.InetSocketAddress
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+import java.security.MessageDigest
+import java.util.concurrent.Executors
+import kotlin.io.path.*
+
+// 폴더 하나에 저장하는 remote cache 서버. 오프라인 테스트나 작은 팀에서 사용하기 위한 참조 구현이다.
+//   <directory>/entries/<key 앞 두 글자>/<key 나머지>.pb
+//   <directory>/blobs/<sha256 앞 두 글자>/<sha256 나머지>
+class RemoteCacheServer(
+  private val directory: Path,
+  port: Int,
+) {
+  companion object {
+    private val hexPattern = Regex("[0-9a-f]+")
+
+    // bibix remote cache 서버 실행: <directory> [port]
+    @JvmStatic
+    fun main(args: Array<String>) {
+      check(args.isNotEmpty()) { "Usage: RemoteCacheServer <directory> [port]" }
+      val port = args.getOrNull(1)?.toInt() ?: 8711
+      val server = RemoteCacheServer(Paths.get(args[0]), port)
+      server.start()
+      println("Remote cache server listening on port ${server.port}")
+    }
+  }
+
+  private val server: HttpServer = HttpServer.create(InetSocketAddress(port), 0)
+
+  val port: Int get() = server.address.port
+
+  init {
+    server.executor = Executors.newCachedThreadPool()
+    server.createContext("/v1/entries/") { exchange -> handle(exchange, isBlob = false) }
+    server.createContext("/v1/blobs/") { exchange -> handle(exchange, isBlob = true) }
+  }
+
+  fun start() {
+    server.start()
+  }
+
+  fun stop() {
+    server.stop(0)
+  }
+
+  // 경로에 hex 문자열이 아닌 것이 있으면 null - 저장 폴더 밖의 파일에 접근하지 못하도록
+  private fun entryFile(components: List<String>): Path? {
+    if (components.size != 1 || !hexPattern.matches(components[0]) || components[0].length < 3) {
+      return null
+    }
+    val hex = components[0]
+    return directory.resolve("entries").resolve(hex.take(2)).resolve("${hex.drop(2)}.pb")
+  }
+
+  private fun blobFile(components: List<String>): Path? {
+    if (components.size != 1 || !hexPattern.matches(components[0]) || components[0].length < 3) {
+      return null
+    }
+    val hex = components[0]
+    return directory.resolve("blobs").resolve(hex.take(2)).resolve(hex.drop(2))
+  }
+
+  private fun handle(exchange: HttpExchange, isBlob: Boolean) {
+    try {
+      val components = exchange.requestURI.path
+        .removePrefix(exchange.httpContext.path)
+        .split('/')
+        .filter { it.isNotEmpty() }
+      val file = if (isBlob) blobFile(components) else entryFile(components)
+      if (file == null) {
+        exchange.sendResponseHeaders(400, -1)
+        return
+      }
+      when (exchange.requestMethod) {
+        "HEAD" -> exchange.sendResponseHeaders(if (file.exists()) 200 else 404, -1)
+
+        "GET" -> if (file.exists()) {
+          // 길이를 0으로 보내면 chunked 응답이 되므로 빈 파일은 -1로 보낸다
+          val size = file.fileSize()
+          exchange.sendResponseHeaders(200, if (size == 0L) -1 else size)
+          file.inputStream().use { it.copyTo(exchange.responseBody) }
+        } else {
+          exchange.sendResponseHeaders(404, -1)
+        }
+
+        "PUT" -> {
+          val status = try {
+            if (save(exchange, file, if (isBlob) components[0] else null)) 201 else 400
+          } catch (e: IOException) {
+            500
+          }
+          exchange.sendResponseHeaders(status, -1)
+        }
+
+        else -> exchange.sendResponseHeaders(405, -1)
+      }
+    } finally {
+      exchange.close()
+    }
+  }
+
+  // 다 받은 뒤에 옮겨서 받는 도중의 파일을 다른 요청이 읽지 않도록 한다. blob은 내용의 digest가 맞는지 확인한다
+  private fun save(exchange: HttpExchange, file: Path, expectedDigestHex: String?): Boolean {
+    file.parent.createDirectories()
+    val tempFile = Files.createTempFile(file.parent, file.name, ".tmp")
+    try {
+      val digest = MessageDigest.getInstance("SHA-256")
+      tempFile.outputStream().use { output ->
+        val buffer = ByteArray(64 * 1024)
+        val input = exchange.requestBody
+        while (true) {
+          val read = input.read(buffer)
+          if (read < 0) {
+            break
+          }
+          digest.update(buffer, 0, read)
+          output.write(buffer, 0, read)
+        }
+      }
+      if (expectedDigestHex != null &&
+        digest.digest().toByteString().toHexString() != expectedDigestHex
+      ) {
+        return false
+      }
+      tempFile.moveTo(file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+      return true
+    } finally {
+      tempFile.deleteIfExists()
+    }
+  }
+}
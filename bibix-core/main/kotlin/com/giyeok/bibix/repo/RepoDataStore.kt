@@ -0,0 +1,224 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.giyeok.bibix.repo.BibixRepoProto.*
+import com.google.protobuf.ByteString
+import com.google.protobuf.MessageLite
+import com.google.protobuf.Timestamp
+
+// 마지막 snapshot(repo.idx)과 그 이후에 바뀐 항목들(overlay)을 합쳐서 BibixRepoData처럼 보여준다.
+// snapshot의 값들은 찾을 때만 decode하므로, 메모리에는 마지막 snapshot 이후에 바뀐 항목들만 올라온다.
+// snapshot()을 호출하면 그때까지의 overlay는 compacting으로 옮겨지고, 새 snapshot을 다 쓴 뒤에 rebase하면 버려진다.
+// 동기화는 호출하는 쪽(BibixRepo)에서 한다
+class RepoDataStore(
+  private var index: RepoIndex,
+  // repo log에서 replay한 항목들도 여기에 들어간다
+  private var overlay: BibixRepoData.Builder = BibixRepoData.newBuilder(),
+) {
+  // 쓰고 있는 snapshot에 들어간 overlay. rebase할 때까지는 index보다 우선한다
+  private var compacting: BibixRepoData.Builder? = null
+
+  // index(와 compacting)에 있는 항목들 중 지워진 target들. overlay에 새로 들어간 항목은 가려지지 않는다
+  private var removedTargets = overlay.removedTargetsList.toMutableSet()
+
+  // compacting에 기록된 지워진 target들. index의 항목만 가린다
+  private var compactingRemovedTargets = setOf<String>()
+
+  private fun isRemovedFromIndex(targetId: String) =
+    targetId in removedTargets || targetId in compactingRemovedTargets
+
+  private fun <T> targetEntry(
+    targetId: String,
+    kind: RepoIndexKind,
+    overlayGet: BibixRepoData.Builder.() -> T?,
+    parse: (ByteString) -> T,
+  ): T? {
+    overlay.overlayGet()?.let { return it }
+    if (targetId in removedTargets) {
+      return null
+    }
+    compacting?.overlayGet()?.let { return it }
+    if (targetId in compactingRemovedTargets) {
+      return null
+    }
+    return index.get(kind, targetId)?.let(parse)
+  }
+
+  fun getTargetIdData(targetId: String): TargetIdData? =
+    targetEntry(targetId, RepoIndexKind.TARGET_ID_DATA, { getTargetIdDataOrDefault(targetId, null) }) {
+      TargetIdData.parseFrom(it)
+    }
+
+  fun getTargetState(targetId: String): TargetState? =
+    targetEntry(targetId, RepoIndexKind.TARGET_STATE, { getTargetStatesOrDefault(targetId, null) }) {
+      TargetState.parseFrom(it)
+    }
+
+  fun getTargetLastAccess(targetId: String): Timestamp? =
+    targetEntry(
+      targetId,
+      RepoIndexKind.TARGET_LAST_ACCESS,
+      { getTargetLastAccessOrDefault(targetId, null) }
+    ) { Timestamp.parseFrom(it) }
+
+  fun getOutputName(name: String): String? =
+    overlay.getOutputNamesOrDefault(name, null)
+      ?: compacting?.getOutputNamesOrDefault(name, null)
+      ?: index.get(RepoIndexKind.OUTPUT_NAME, name)?.toStringUtf8()
+
+  fun getAllOutputNames(): Map<String, String> {
+    val names = mutableMapOf<String, String>()
+    index.entriesOf(RepoIndexKind.OUTPUT_NAME).forEach { (name, value) ->
+      names[name] = value.toStringUtf8()
+    }
+    compacting?.let { names.putAll(it.outputNamesMap) }
+    names.putAll(overlay.outputNamesMap)
+    return names
+  }
+
+  private fun <T> allTargetEntries(
+    kind: RepoIndexKind,
+    overlayMap: BibixRepoData.Builder.() -> Map<String, T>,
+    parse: (ByteString) -> T,
+  ): Map<String, T> {
+    val entries = mutableMapOf<String, T>()
+    index.entriesOf(kind).forEach { (targetId, value) ->
+      if (!isRemovedFromIndex(targetId)) {
+        entries[targetId] = parse(value)
+      }
+    }
+    compacting?.overlayMap()?.forEach { (targetId, value) ->
+      if (targetId !in removedTargets) {
+        entries[targetId] = value
+      }
+    }
+    entries.putAll(overlay.overlayMap())
+    return entries
+  }
+
+  fun getAllTargetBuildStats(): Map<String, TargetBuildStats> =
+    allTargetEntries(RepoIndexKind.TARGET_BUILD_STATS, { targetBuildStatsMap }) {
+      TargetBuildStats.parseFrom(it)
+    }
+
+  fun getAllTargetLastAccess(): Map<String, Timestamp> =
+    allTargetEntries(RepoIndexKind.TARGET_LAST_ACCESS, { targetLastAccessMap }) {
+      Timestamp.parseFrom(it)
+    }
+
+  fun putTargetIdData(targetId: String, targetIdData: TargetIdData) {
+    overlay.putTargetIdData(targetId, targetIdData)
+  }
+
+  fun putTargetState(targetId: String, targetState: TargetState) {
+    overlay.putTargetStates(targetId, targetState)
+  }
+
+  fun putOutputName(name: String, targetId: String) {
+    overlay.putOutputNames(name, targetId)
+  }
+
+  fun putAllTargetBuildStats(stats: Map<String, TargetBuildStats>) {
+    overlay.putAllTargetBuildStats(stats)
+  }
+
+  fun putTargetLastAccess(targetId: String, time: Timestamp) {
+    overlay.putTargetLastAccess(targetId, time)
+  }
+
+  // target id를 키로 갖는 항목들을 모두 지운다. output name은 지우지 않는다
+  fun removeTarget(targetId: String) {
+    overlay.removeTargetEntries(targetId)
+    overlay.addRemovedTargets(targetId)
+    removedTargets.add(targetId)
+  }
+
+  // 새 snapshot에 들어갈 entry들을 키 순서로 반환한다. index에 있던 값은 decode하지 않고 그대로 옮긴다.
+  // 지금까지의 overlay는 compacting으로 옮겨지므로, 반환한 entry들을 쓴 뒤에는 rebase, 실패하면 abortSnapshot을 호출해야 한다
+  fun snapshot(): List<RepoIndex.Entry> {
+    abortSnapshot()
+    val pending = overlay
+    compacting = pending
+    compactingRemovedTargets = removedTargets
+    overlay = BibixRepoData.newBuilder()
+    removedTargets = mutableSetOf()
+
+    val overlayEntries = overlayEntries(pending.build())
+    val merged = mutableListOf<RepoIndex.Entry>()
+    val indexEntries = index.entries().iterator()
+    var next = indexEntries.nextOrNull()
+    fun addIndexEntry(entry: RepoIndex.Entry) {
+      // output name을 제외한 항목들은 키가 target id이다
+      if (entry.key.byteAt(0) == RepoIndexKind.OUTPUT_NAME.prefix.code.toByte() ||
+        entry.key.substring(1).toStringUtf8() !in compactingRemovedTargets
+      ) {
+        merged.add(entry)
+      }
+    }
+    for (entry in overlayEntries) {
+      while (next != null && RepoIndex.entryComparator.compare(next, entry) < 0) {
+        addIndexEntry(next)
+        next = indexEntries.nextOrNull()
+      }
+      if (next != null && next.key == entry.key) {
+        // overlay의 값이 더 최신
+        next = indexEntries.nextOrNull()
+      }
+      merged.add(entry)
+    }
+    while (next != null) {
+      addIndexEntry(next)
+      next = indexEntries.nextOrNull()
+    }
+    return merged
+  }
+
+  // snapshot()의 결과를 쓴 새 index로 바꾸고 compacting을 버린다. 그 사이에 바뀐 항목들은 overlay에 남는다
+  fun rebase(newIndex: RepoIndex) {
+    index = newIndex
+    compacting = null
+    compactingRemovedTargets = setOf()
+  }
+
+  // snapshot을 쓰지 못했으면 compacting을 다시 overlay로 합친다
+  fun abortSnapshot() {
+    val pending = compacting ?: return
+    val newer = overlay.build()
+    // newer에서 지워진 target의 항목들은 newer에 다시 들어간 것만 남아야 한다
+    newer.removedTargetsList.forEach { pending.removeTargetEntries(it) }
+    pending.mergeFrom(newer)
+    overlay = pending
+    removedTargets = (compactingRemovedTargets + removedTargets).toMutableSet()
+    compacting = null
+    compactingRemovedTargets = setOf()
+  }
+
+  private fun <T> Iterator<T>.nextOrNull(): T? = if (hasNext()) next() else null
+
+  companion object {
+    fun overlayEntries(data: BibixRepoData): List<RepoIndex.Entry> {
+      val entries = mutableListOf<RepoIndex.Entry>()
+      fun addAll(kind: RepoIndexKind, map: Map<String, MessageLite>) {
+        map.forEach { (key, value) -> entries.add(RepoIndex.Entry(kind.keyOf(key), value.toByteString())) }
+      }
+      addAll(RepoIndexKind.TARGET_ID_DATA, data.targetIdDataMap)
+      addAll(RepoIndexKind.TARGET_STATE, data.targetStatesMap)
+      addAll(RepoIndexKind.TARGET_BUILD_STATS, data.targetBuildStatsMap)
+      addAll(RepoIndexKind.TARGET_LAST_ACCESS, data.targetLastAccessMap)
+      data.outputNamesMap.forEach { (name, targetId) ->
+        entries.add(
+          RepoIndex.Entry(RepoIndexKind.OUTPUT_NAME.keyOf(name), ByteString.copyFromUtf8(targetId))
+        )
+      }
+      entries.sortWith(RepoIndex.entryComparator)
+      return entries
+    }
+  }
+}
+
+fun BibixRepoData.Builder.removeTargetEntries(targetId: String) {
+  removeTargetIdData(targetId)
+  removeTargetStates(targetId)
+  removeTargetBuildStats(targetId)
+  removeTargetLastAccess(targetId)
+}
@@ -0,0 +1,159 @@
+package com.giyeok.bibix.repo
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.UnsafeByteOperations
+import java.io.BufferedOutputStream
+import java.io.DataOutputStream
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import kotlin.io.path.exists
+import kotlin.io.path.moveTo
+import kotlin.io.path.name
+
+// BibixRepoData의 map 하나에 대응된다. 키 앞에 prefix를 붙여서 하나의 정렬된 키 공간에 넣는다
+enum class RepoIndexKind(val prefix: Char) {
+  TARGET_LAST_ACCESS('a'),
+  TARGET_BUILD_STATS('b'),
+  TARGET_ID_DATA('d'),
+  OUTPUT_NAME('o'),
+  TARGET_STATE('s');
+
+  fun keyOf(key: String): ByteString = ByteString.copyFromUtf8("$prefix$key")
+}
+
+// bbxbuild/repo.idx. 정렬된 키 테이블과 값들을 담고 있는 파일을 mmap해서, 값은 찾을 때만 읽는다.
+//   magic(8) | entry 개수(int) | entry 테이블 | 키 영역 | 값 영역
+// entry 테이블의 각 항목은 키 위치(long), 키 길이(int), 값 위치(long), 값 길이(int)로 고정 크기이므로
+// 키를 이진 탐색할 수 있다. 파일 전체를 ByteBuffer 하나로 mmap하므로 2GB보다 작아야 한다
+class RepoIndex private constructor(private val buffer: ByteBuffer, val size: Int) {
+  data class Entry(val key: ByteString, val value: ByteString)
+
+  companion object {
+    private val MAGIC = "BBXIDX01".toByteArray(Charsets.US_ASCII)
+    private const val HEADER_SIZE = 12
+    private const val ENTRY_SIZE = 24
+    private const val MAX_FILE_SIZE = Int.MAX_VALUE.toLong()
+
+    private val keyComparator = ByteString.unsignedLexicographicalComparator()
+    val entryComparator: Comparator<Entry> = compareBy(keyComparator) { it.key }
+
+    val empty = RepoIndex(ByteBuffer.allocate(0), 0)
+
+    // 파일이 없거나 형식이 맞지 않으면 빈 index
+    fun open(file: Path): RepoIndex {
+      if (!file.exists()) {
+        return empty
+      }
+      val buffer = FileChannel.open(file, StandardOpenOption.READ).use { channel ->
+        if (channel.size() > MAX_FILE_SIZE) {
+          // write에서 만들지 않는 크기이므로 형식이 맞지 않는 것으로 취급한다
+          return empty
+        }
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+      }
+      if (buffer.capacity() < HEADER_SIZE) {
+        return empty
+      }
+      val magic = ByteArray(MAGIC.size)
+      buffer.get(0, magic)
+      if (!magic.contentEquals(MAGIC)) {
+        return empty
+      }
+      val size = buffer.getInt(MAGIC.size)
+      if (size < 0 || buffer.capacity() < HEADER_SIZE + ENTRY_SIZE.toLong() * size) {
+        return empty
+      }
+      return RepoIndex(buffer, size)
+    }
+
+    // entries는 키 순서로 정렬되어 있어야 한다.
+    // 다른 프로세스나 이전 index를 mmap하고 있는 쪽이 깨지지 않도록 임시 파일에 쓴 뒤에 옮긴다
+    fun write(file: Path, entries: List<Entry>) {
+      val fileSize = HEADER_SIZE.toLong() + ENTRY_SIZE.toLong() * entries.size +
+        entries.sumOf { it.key.size().toLong() + it.value.size().toLong() }
+      if (fileSize > MAX_FILE_SIZE) {
+        throw IOException("Repo index too large: $fileSize bytes")
+      }
+      val tempFile = file.resolveSibling("${file.name}.tmp")
+      FileChannel.open(
+        tempFile,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING
+      ).use { channel ->
+        val output = DataOutputStream(BufferedOutputStream(Channels.newOutputStream(channel)))
+        output.write(MAGIC)
+        output.writeInt(entries.size)
+        var keyOffset = HEADER_SIZE.toLong() + ENTRY_SIZE.toLong() * entries.size
+        var valueOffset = keyOffset + entries.sumOf { it.key.size().toLong() }
+        entries.forEach { entry ->
+          output.writeLong(keyOffset)
+          output.writeInt(entry.key.size())
+          output.writeLong(valueOffset)
+          output.writeInt(entry.value.size())
+          keyOffset += entry.key.size()
+          valueOffset += entry.value.size()
+        }
+        entries.forEach { it.key.writeTo(output) }
+        entries.forEach { it.value.writeTo(output) }
+        output.flush()
+        channel.force(true)
+      }
+      tempFile.moveTo(file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+    }
+  }
+
+  private fun entryPos(idx: Int): Int = HEADER_SIZE + ENTRY_SIZE * idx
+
+  // mmap된 영역을 복사하지 않고 감싸기만 한다
+  private fun slice(offset: Long, length: Int): ByteString =
+    UnsafeByteOperations.unsafeWrap(buffer.slice(offset.toInt(), length))
+
+  private fun keyAt(idx: Int): ByteString {
+    val pos = entryPos(idx)
+    return slice(buffer.getLong(pos), buffer.getInt(pos + 8))
+  }
+
+  private fun valueAt(idx: Int): ByteString {
+    val pos = entryPos(idx)
+    return slice(buffer.getLong(pos + 12), buffer.getInt(pos + 20))
+  }
+
+  // key 이상인 첫번째 entry의 위치
+  private fun lowerBound(key: ByteString): Int {
+    var low = 0
+    var high = size
+    while (low < high) {
+      val mid = (low + high) ushr 1
+      if (keyComparator.compare(keyAt(mid), key) < 0) {
+        low = mid + 1
+      } else {
+        high = mid
+      }
+    }
+    return low
+  }
+
+  fun get(kind: RepoIndexKind, key: String): ByteString? {
+    val indexKey = kind.keyOf(key)
+    val idx = lowerBound(indexKey)
+    return if (idx < size && keyAt(idx) == indexKey) valueAt(idx) else null
+  }
+
+  // kind에 속한 entry들을 (prefix를 뗀 키, 값)으로 키 순서대로 반환한다
+  fun entriesOf(kind: RepoIndexKind): Sequence<Pair<String, ByteString>> {
+    val prefix = kind.keyOf("")
+    return (lowerBound(prefix) until size).asSequence()
+      .map { keyAt(it) to it }
+      .takeWhile { (key, _) -> key.startsWith(prefix) }
+      .map { (key, idx) -> key.substring(prefix.size()).toStringUtf8() to valueAt(idx) }
+  }
+
+  fun entries(): Sequence<Entry> =
+    (0 until size).asSequence().map { Entry(keyAt(it), valueAt(it)) }
+}
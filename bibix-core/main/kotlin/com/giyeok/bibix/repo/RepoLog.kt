@@ -0,0 +1,196 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData
+import com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync
+import com.google.protobuf.InvalidProtocolBufferException
+import java.io.BufferedOutputStream
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.LinkedBlockingQueue
+import kotlin.io.path.*
+
+// BibixRepoData의 변경 기록을 bbxbuild/repo.log에 append한다.
+// 각 기록은 바뀐 항목만 담고 있는 BibixRepoData이고, 로드할 때 repo.idx(snapshot) 위에 순서대로 merge한다.
+// 기록은 백그라운드 스레드에서 모아서 쓰고, log가 compactThresholdBytes보다 커지면 snapshot을 새로 쓰고 log를 비운다
+class RepoLog(
+  private val logFile: Path,
+  private val snapshotFile: Path,
+  private val fsyncPolicy: RepoLogFsync,
+  private val metrics: BuildMetrics,
+  // snapshot은 append를 호출하는 쪽과 같은 lock 안에서 만든다
+  private val lock: Any,
+  private val repoData: RepoDataStore,
+  private val compactThresholdBytes: Long = 8L shl 20,
+) {
+  companion object {
+    private const val PERIODIC_FSYNC_MILLIS = 1000L
+
+    // snapshot 위에 log의 기록들을 순서대로 merge한다. 쓰다가 중단된 마지막 기록은 무시한다
+    fun replay(logFile: Path, repoData: BibixRepoData.Builder): Int {
+      if (!logFile.exists()) {
+        return 0
+      }
+      var count = 0
+      logFile.inputStream().buffered().use { input ->
+        while (true) {
+          val record = try {
+            BibixRepoData.parseDelimitedFrom(input)
+          } catch (_: InvalidProtocolBufferException) {
+            null
+          } ?: break
+          repoData.mergeFrom(record)
+          record.removedTargetsList.forEach { repoData.removeTargetEntries(it) }
+          count += 1
+        }
+      }
+      return count
+    }
+  }
+
+  private sealed class Item {
+    class Record(val data: BibixRepoData): Item()
+
+    class Flush(val compact: Boolean, val stop: Boolean): Item() {
+      val done = CompletableFuture<Unit>()
+    }
+  }
+
+  private val queue = LinkedBlockingQueue<Item>()
+  private var writerThread: Thread? = null
+  private var closed = false
+  private var lastFsync = System.currentTimeMillis()
+
+  // writer 스레드에서 기록을 쓰다가 난 오류. 다음 flush나 close에서 던지고, compact에 성공하면 지운다
+  @Volatile
+  private var writeError: Throwable? = null
+
+  private val channel: FileChannel by lazy {
+    FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE).also {
+      it.position(it.size())
+    }
+  }
+  private val output by lazy { BufferedOutputStream(Channels.newOutputStream(channel)) }
+
+  // 호출하는 쪽은 repo data를 바꾼 것과 같은 lock 안에서 append해야 한다
+  fun append(record: BibixRepoData) {
+    ensureWriterStarted()
+    queue.put(Item.Record(record))
+  }
+
+  @Synchronized
+  private fun ensureWriterStarted() {
+    // 닫힌 뒤에는 writer 스레드가 없으므로 기다리지 않고 바로 실패한다
+    check(!closed) { "Repo log $logFile is already closed" }
+    if (writerThread == null) {
+      writerThread = Thread({ writerLoop() }, "bibix-repo-log").also {
+        it.isDaemon = true
+        it.start()
+      }
+    }
+  }
+
+  // 지금까지 append된 기록들이 모두 파일에 쓰일 때까지 기다린다. compact이면 snapshot도 새로 쓴다
+  fun flush(compact: Boolean = false) {
+    ensureWriterStarted()
+    val flush = Item.Flush(compact, false)
+    queue.put(flush)
+    flush.done.join()
+  }
+
+  // snapshot을 새로 쓰고 백그라운드 스레드를 멈춘다. 이미 닫혔으면 아무것도 하지 않는다
+  fun close() {
+    val flush = Item.Flush(compact = true, stop = true)
+    synchronized(this) {
+      if (closed) {
+        return
+      }
+      ensureWriterStarted()
+      closed = true
+      queue.put(flush)
+    }
+    flush.done.join()
+  }
+
+  private fun writerLoop() {
+    while (true) {
+      val batch = mutableListOf(queue.take())
+      queue.drainTo(batch)
+
+      val flushes = mutableListOf<Item.Flush>()
+      try {
+        batch.forEach { item ->
+          when (item) {
+            is Item.Record -> {
+              item.data.writeDelimitedTo(output)
+              metrics.repoLogRecords.increment()
+            }
+
+            is Item.Flush -> flushes.add(item)
+          }
+        }
+        output.flush()
+        fsyncIfNeeded(flushes.isNotEmpty())
+
+        if (flushes.any { it.compact } || channel.size() >= compactThresholdBytes) {
+          compact()
+          // snapshot에는 메모리의 항목들이 모두 들어가므로 쓰지 못했던 기록들도 반영되었다
+          writeError = null
+        }
+      } catch (e: Throwable) {
+        // 기다리는 flush가 없어도 기록을 잃어버린 것이 조용히 지나가지 않도록 남겨둔다
+        System.err.println("Failed to write $logFile: $e")
+        writeError = writeError ?: e
+      }
+      val error = writeError
+      flushes.forEach { flush ->
+        if (error == null) {
+          flush.done.complete(Unit)
+        } else {
+          flush.done.completeExceptionally(error)
+        }
+      }
+      if (flushes.any { it.stop }) {
+        channel.close()
+        return
+      }
+    }
+  }
+
+  private fun fsyncIfNeeded(flushRequested: Boolean) {
+    val needed = when (fsyncPolicy) {
+      RepoLogFsync.FSYNC_EVERY_BATCH -> true
+      RepoLogFsync.FSYNC_PERIODIC ->
+        flushRequested || System.currentTimeMillis() - lastFsync >= PERIODIC_FSYNC_MILLIS
+
+      else -> false
+    }
+    if (needed) {
+      channel.force(false)
+      lastFsync = System.currentTimeMillis()
+    }
+  }
+
+  private fun compact() {
+    val entries = synchronized(lock) {
+      // lock 안에서 snapshot을 만들었으므로 아직 쓰지 않은 기록들도 모두 snapshot에 포함되어 있다
+      queue.removeIf { it is Item.Record }
+      repoData.snapshot()
+    }
+    try {
+      RepoIndex.write(snapshotFile, entries)
+    } catch (e: Throwable) {
+      synchronized(lock) { repoData.abortSnapshot() }
+      throw e
+    }
+    // 새 snapshot에 들어간 항목들은 메모리에서 내리고 새 index에서 읽는다
+    val newIndex = RepoIndex.open(snapshotFile)
+    synchronized(lock) { repoData.rebase(newIndex) }
+    metrics.repoSaves.increment()
+    channel.truncate(0)
+    channel.position(0)
+  }
+}
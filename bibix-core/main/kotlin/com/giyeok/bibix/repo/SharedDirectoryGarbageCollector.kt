@@ -0,0 +1,126 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import kotlinx.coroutines.runBlocking
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.time.Duration
+import java.time.Instant
+import kotlin.io.path.*
+
+// shared root 밑의 shared directory들의 크기가 budget을 넘으면 오래 사용되지 않은 entry부터 지운다.
+// entry는 파일을 직접 가지고 있거나 git 저장소인 가장 바깥쪽 폴더이다.
+// 예: maven 저장소의 <group>/<artifact>/<version>, git plugin의 <repo id>
+// 여러 프로젝트가 쓰는 폴더라서 repo에 사용 기록이 없으므로, entry 안의 파일들의 마지막 접근 시각 중 가장 최근 것을 사용한다.
+// 정리하는 동안 shared directory들의 exclusive lock을 잡으므로 같은 shared root를 쓰는 다른 bibix 프로세스와 충돌하지 않는다
+class SharedDirectoryGarbageCollector(
+  private val sharedRootDirectory: Path,
+  private val directoryLocker: DirectoryLocker,
+  private val metrics: BuildMetrics,
+  // atime은 relatime 등으로 하루에 한 번 정도만 갱신되므로 그보다 최근에 사용된 entry는 지우지 않는다
+  private val minIdle: Duration = Duration.ofDays(1),
+  private val timeProvider: () -> Instant = Instant::now,
+) {
+  data class Result(
+    val evictedEntries: List<Path>,
+    val evictedBytes: Long,
+    val remainingBytes: Long,
+  )
+
+  private data class SharedEntry(
+    val path: Path,
+    val size: Long,
+    val lastAccessMillis: Long,
+  )
+
+  private fun isLockFile(path: Path) = path.name == FileDirectoryLocker.DEFAULT_LOCK_FILE_NAME
+
+  private fun findEntries(sharedDirectory: Path): List<Path> {
+    val entries = mutableListOf<Path>()
+    fun traverse(directory: Path) {
+      val children = directory.listDirectoryEntries().filterNot { isLockFile(it) }
+      children.forEach { child ->
+        if (!child.isDirectory(LinkOption.NOFOLLOW_LINKS)) {
+          // shared directory 바로 밑의 파일은 각각 entry로 취급한다
+          entries.add(child)
+        } else {
+          val grandChildren = child.listDirectoryEntries().filterNot { isLockFile(it) }
+          val isEntry = grandChildren.any { !it.isDirectory(LinkOption.NOFOLLOW_LINKS) } ||
+            child.resolve(".git").exists(LinkOption.NOFOLLOW_LINKS)
+          if (isEntry) {
+            entries.add(child)
+          } else {
+            traverse(child)
+          }
+        }
+      }
+    }
+    traverse(sharedDirectory)
+    return entries
+  }
+
+  private fun sharedEntry(path: Path): SharedEntry {
+    var size = 0L
+    var lastAccess = 0L
+    Files.walk(path).use { paths ->
+      paths.forEach { file ->
+        val attrs =
+          Files.readAttributes(file, BasicFileAttributes::class.java, LinkOption.NOFOLLOW_LINKS)
+        // 폴더의 atime은 GC가 목록을 읽을 때도 바뀌므로 파일만 본다.
+        // atime을 기록하지 않는 파일 시스템도 있으므로 수정 시각도 함께 본다
+        if (attrs.isRegularFile) {
+          size += attrs.size()
+          lastAccess = maxOf(
+            lastAccess,
+            attrs.lastAccessTime().toMillis(),
+            attrs.lastModifiedTime().toMillis()
+          )
+        }
+      }
+    }
+    return SharedEntry(path, size, lastAccess)
+  }
+
+  @OptIn(ExperimentalPathApi::class)
+  fun collect(budgetBytes: Long): Result = runBlocking {
+    if (!sharedRootDirectory.exists()) {
+      return@runBlocking Result(listOf(), 0, 0)
+    }
+    // 여러 폴더의 lock을 잡으므로 항상 같은 순서로 잡아서 다른 프로세스의 GC와 deadlock이 생기지 않도록 한다
+    val sharedDirectories = sharedRootDirectory.listDirectoryEntries()
+      .filter { it.isDirectory(LinkOption.NOFOLLOW_LINKS) }
+      .sortedBy { it.name }
+    val locked = mutableListOf<Path>()
+    try {
+      sharedDirectories.forEach { directory ->
+        directoryLocker.acquireLock(directory)
+        locked.add(directory)
+      }
+
+      val entries = sharedDirectories.flatMap { findEntries(it) }.map { sharedEntry(it) }
+      var totalSize = entries.sumOf { it.size }
+      val evicted = mutableListOf<Path>()
+      var evictedBytes = 0L
+      val idleBefore = timeProvider().minus(minIdle).toEpochMilli()
+      val candidates = entries
+        .filter { it.lastAccessMillis < idleBefore }
+        .sortedBy { it.lastAccessMillis }
+      for (candidate in candidates) {
+        if (totalSize <= budgetBytes) {
+          break
+        }
+        candidate.path.deleteRecursively()
+        totalSize -= candidate.size
+        evictedBytes += candidate.size
+        evicted.add(candidate.path)
+        metrics.sharedGcEvictedEntries.increment()
+        metrics.sharedGcEvictedBytes.add(candidate.size)
+      }
+      Result(evicted, evictedBytes, totalSize)
+    } finally {
+      locked.asReversed().forEach { directoryLocker.releaseLock(it) }
+    }
+  }
+}
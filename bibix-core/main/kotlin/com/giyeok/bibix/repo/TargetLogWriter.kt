@@ -0,0 +1,195 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.repo.BibixRepoProto.*
+import com.giyeok.sugarproto.sugarformat.SugarFormat
+import com.google.protobuf.InvalidProtocolBufferException
+import java.io.BufferedWriter
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.io.path.exists
+import kotlin.io.path.inputStream
+import kotlin.io.path.outputStream
+
+// target(또는 action) 하나의 로그 버퍼. 로그를 남기는 스레드는 lock 없이 버퍼에 추가만 하고,
+// TargetLogWriter의 스레드가 주기적으로 가져가서 파일에 쓴다
+class TargetLogBuffer internal constructor(
+  private val writer: TargetLogWriter,
+  // blocks가 비어있는 TargetLogs나 ActionLogs 하나만 들어있는 헤더
+  private val header: BibixTargetLogs,
+) {
+  private val pending = ConcurrentLinkedQueue<LogBlock>()
+
+  // writer에 등록되어서 아직 drain되지 않았으면 true. 로그가 많이 쌓여도 writer에는 한 번만 등록된다
+  private val registered = AtomicBoolean(false)
+
+  fun add(block: LogBlock) {
+    pending.add(block)
+    if (registered.compareAndSet(false, true)) {
+      writer.register(this)
+    }
+  }
+
+  // 지금까지 쌓인 로그들을 헤더와 합쳐서 기록 하나로 만든다. 쌓인 로그가 없으면 null
+  internal fun drain(): BibixTargetLogs? {
+    // poll하기 전에 풀어야 그 사이에 추가된 로그가 다시 등록된다
+    registered.set(false)
+    val blocks = generateSequence { pending.poll() }.toList()
+    if (blocks.isEmpty()) {
+      return null
+    }
+    return header.toBuilder().apply {
+      targetLogsBuilderList.forEach { it.addAllBlocks(blocks) }
+      actionLogsBuilderList.forEach { it.addAllBlocks(blocks) }
+    }.build()
+  }
+}
+
+// run 하나의 로그를 bbxbuild/logs/<unique run id>.pb에 append한다.
+// 각 기록은 한 target의 로그 일부만 담고 있는 BibixTargetLogs이고, 사람이 읽을 때는 render로 합쳐서 SugarFormat으로 출력한다
+class TargetLogWriter(
+  private val logFile: Path,
+  private val metrics: BuildMetrics,
+  private val flushIntervalMillis: Long = 200,
+) {
+  companion object {
+    fun readAll(logFile: Path): BibixTargetLogs {
+      val targetLogs = LinkedHashMap<TargetLogs, TargetLogs.Builder>()
+      val actionLogs = LinkedHashMap<ActionLogs, ActionLogs.Builder>()
+      if (logFile.exists()) {
+        logFile.inputStream().buffered().use { input ->
+          while (true) {
+            val record = try {
+              BibixTargetLogs.parseDelimitedFrom(input)
+            } catch (_: InvalidProtocolBufferException) {
+              // 쓰다가 중단된 마지막 기록은 무시한다
+              null
+            } ?: break
+            record.targetLogsList.forEach { logs ->
+              targetLogs.getOrPut(logs.toBuilder().clearBlocks().build()) { logs.toBuilder().clearBlocks() }
+                .addAllBlocks(logs.blocksList)
+            }
+            record.actionLogsList.forEach { logs ->
+              actionLogs.getOrPut(logs.toBuilder().clearBlocks().build()) { logs.toBuilder().clearBlocks() }
+                .addAllBlocks(logs.blocksList)
+            }
+          }
+        }
+      }
+      return bibixTargetLogs {
+        this.targetLogs.addAll(targetLogs.values.map { it.build() })
+        this.actionLogs.addAll(actionLogs.values.map { it.build() })
+      }
+    }
+
+    fun render(logFile: Path, writer: BufferedWriter) {
+      SugarFormat.printTo(readAll(logFile), writer)
+    }
+  }
+
+  private class Flush(val stop: Boolean) {
+    val done = CompletableFuture<Unit>()
+  }
+
+  // 로그가 쌓여있는 버퍼들. writer 스레드가 비울 때 제거한다
+  private val dirtyBuffers = ConcurrentLinkedQueue<TargetLogBuffer>()
+  private val flushRequests = LinkedBlockingQueue<Flush>()
+  private var writerThread: Thread? = null
+
+  private val output by lazy {
+    logFile.outputStream(StandardOpenOption.CREATE, StandardOpenOption.APPEND).buffered()
+  }
+
+  fun bufferForTarget(uniqueRunId: String, targetId: String): TargetLogBuffer {
+    val header = targetLogs {
+      this.uniqueRunId = uniqueRunId
+      this.targetId = targetId
+    }
+    return TargetLogBuffer(this, bibixTargetLogs { this.targetLogs.add(header) })
+  }
+
+  fun bufferForAction(
+    uniqueRunId: String,
+    projectId: Int,
+    importInstanceId: Int,
+    actionName: String
+  ): TargetLogBuffer {
+    val header = actionLogs {
+      this.uniqueRunId = uniqueRunId
+      this.projectId = projectId
+      this.importInstanceId = importInstanceId
+      this.actionName = actionName
+    }
+    return TargetLogBuffer(this, bibixTargetLogs { this.actionLogs.add(header) })
+  }
+
+  internal fun register(buffer: TargetLogBuffer) {
+    ensureWriterStarted()
+    dirtyBuffers.add(buffer)
+  }
+
+  @Synchronized
+  private fun ensureWriterStarted() {
+    if (writerThread == null) {
+      writerThread = Thread({ writerLoop() }, "bibix-target-logs").also {
+        it.isDaemon = true
+        it.start()
+      }
+    }
+  }
+
+  // 지금까지 추가된 로그들이 모두 파일에 쓰일 때까지 기다린다
+  fun flush() {
+    requestFlush(Flush(stop = false))
+  }
+
+  fun close() {
+    requestFlush(Flush(stop = true))
+  }
+
+  private fun requestFlush(flush: Flush) {
+    val started = synchronized(this) { writerThread != null }
+    if (started) {
+      flushRequests.put(flush)
+      flush.done.join()
+    }
+  }
+
+  private fun writerLoop() {
+    while (true) {
+      val flushes = mutableListOf<Flush>()
+      flushRequests.poll(flushIntervalMillis, TimeUnit.MILLISECONDS)?.let { flushes.add(it) }
+      flushRequests.drainTo(flushes)
+      try {
+        writeDirtyBuffers()
+        flushes.forEach { it.done.complete(Unit) }
+      } catch (e: Throwable) {
+        flushes.forEach { it.done.completeExceptionally(e) }
+      }
+      if (flushes.any { it.stop }) {
+        output.close()
+        return
+      }
+    }
+  }
+
+  private fun writeDirtyBuffers() {
+    var written = false
+    // 로그를 계속 남기는 버퍼가 다시 등록되더라도 끝없이 돌지 않도록 지금 등록되어 있는 것들만 비운다
+    repeat(dirtyBuffers.size) {
+      val buffer = dirtyBuffers.poll() ?: return@repeat
+      val record = buffer.drain() ?: return@repeat
+      record.writeDelimitedTo(output)
+      metrics.logRecords.increment()
+      written = true
+    }
+    if (written) {
+      output.flush()
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.FileHash
+import com.giyeok.bibix.BibixValueProto
+import com.giyeok.bibix.fileHash
+import com.google.protobuf.ByteString
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import kotlin.io.path.*
+
+// BibixRepo.collectTargetOutputs의 결과.
+// sha256Digests는 content store에 넣으면서 계산한 object 폴더 파일들의 SHA-256이고, store를 사용하지 않으면 null.
+// remote cache에 올릴 때 파일들을 다시 해시하지 않도록 그대로 넘긴다
+class TargetOutputs(
+  val outputDigest: ByteString,
+  val sha256Digests: Map<Path, ByteString>?,
+)
+
+// object 폴더의 파일들의 상대 경로와 내용 해시. 파일을 모두 읽으므로 LongRunning body에서 호출한다.
+// 파일의 수정 시각은 포함하지 않으므로 target이 다시 빌드되어도 같은 파일들을 만들었으면 같은 값이 나온다
+fun targetOutputFiles(
+  objectDirectory: Path,
+  contentHash: (Path) -> ByteString,
+): List<FileHash> {
+  if (!objectDirectory.isDirectory()) {
+    return listOf()
+  }
+  return Files.walk(objectDirectory).use { paths ->
+    paths.filter { !it.isDirectory(LinkOption.NOFOLLOW_LINKS) }.toList()
+  }.map { file ->
+    val hash = if (file.isSymbolicLink()) {
+      ByteString.copyFromUtf8(file.readSymbolicLink().pathString)
+    } else {
+      contentHash(file)
+    }
+    fileHash {
+      this.path = objectDirectory.relativize(file).invariantSeparatorsPathString
+      this.sha1Hash = hash
+    }
+  }.sortedBy { it.path }
+}
+
+// target의 결과 값과 targetOutputFiles로 output digest를 계산한다
+fun targetOutputDigest(
+  resultValue: BibixValueProto.BibixValue,
+  outputFiles: List<FileHash>,
+): ByteString =
+  digestOf {
+    update(resultValue)
+    outputFiles.forEach { update(it) }
+  }
@@ -0,0 +1,17 @@
+package com.giyeok.bibix.utils
+
+// JSON 라이브러리 없이 간단한 JSON을 직접 만들 때 사용
+fun jsonString(value: String): String {
+  val builder = StringBuilder("\"")
+  value.forEach { c ->
+    when {
+      c == '"' -> builder.append("\\\"")
+      c == '\\' -> builder.append("\\\\")
+      c == '\n' -> builder.append("\\n")
+      c < ' ' -> builder.append("\\u%04x".format(c.code))
+      else -> builder.append(c)
+    }
+  }
+  builder.append('"')
+  return builder.toString()
+}
@@ -0,0 +1,88 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+
+class BuildMetricsTest {
+  @Test
+  fun testHistogram() {
+    val histogram = BuildMetrics.Histogram()
+    (1L..100L).forEach { histogram.record(it) }
+    val snapshot = histogram.snapshot()
+    assertThat(snapshot.count).isEqualTo(100)
+    assertThat(snapshot.sum).isEqualTo(5050)
+    assertThat(snapshot.max).isEqualTo(100)
+    // bucket 상한으로 근사하므로 실제 값 이상이고 두 배 미만이다
+    assertThat(snapshot.p50).isIn(50L..99L)
+    assertThat(snapshot.p90).isIn(90L..100L)
+    assertThat(snapshot.p99).isIn(99L..100L)
+
+    assertThat(BuildMetrics.Histogram().snapshot())
+      .isEqualTo(HistogramSnapshot(0, 0, 0, 0, 0, 0))
+  }
+
+  @Test
+  fun testConcurrentCounters() {
+    val metrics = BuildMetrics()
+    val executor = Executors.newFixedThreadPool(4)
+    try {
+      (0 until 4).map {
+        executor.submit {
+          repeat(10000) {
+            metrics.counter("count").increment()
+            metrics.histogram("values").record(it.toLong())
+          }
+        }
+      }.forEach { it.get() }
+    } finally {
+      executor.shutdown()
+    }
+    val snapshot = metrics.snapshot()
+    assertThat(snapshot.counters["count"]).isEqualTo(40000)
+    assertThat(snapshot.histograms.getValue("values").count).isEqualTo(40000)
+    assertThat(snapshot.histograms.getValue("values").max).isEqualTo(9999)
+  }
+
+  @Test
+  fun testRunnerMetrics() {
+    // a와 b가 모두 shared에 의존하므로 shared는 한 번은 캐시에서 가져온다
+    val runner = syntheticBuildGraphRunner { task ->
+      check(task is EvalTarget)
+      when (val name = task.name.toString()) {
+        "shared" -> BuildTaskResult.LongRunning(
+          body = { StringValue(name) },
+          after = { BuildTaskResult.ValueResult(it as StringValue) },
+        )
+
+        else -> BuildTaskResult.WithResult(EvalTarget(1, 0, BibixName("shared"))) {
+          BuildTaskResult.ValueResult(StringValue(name))
+        }
+      }
+    }
+    val executor = PriorityThreadPoolExecutor(2, Executors.defaultThreadFactory())
+    try {
+      runBlocking {
+        ParallelGraphRunner(runner, executor, null)
+          .runTasksOrFailure(listOf("a", "b").map { EvalTarget(1, 0, BibixName(it)) })
+      }
+    } finally {
+      executor.shutdown()
+    }
+
+    val snapshot = runner.repo.metrics.snapshot()
+    assertThat(snapshot.counters["tasks.EvalTarget"]).isEqualTo(3)
+    assertThat(snapshot.counters["cache.hits"]).isEqualTo(1)
+    assertThat(snapshot.counters["cache.misses"]).isEqualTo(3)
+    assertThat(snapshot.cacheHitRatio).isEqualTo(0.25)
+    assertThat(snapshot.histograms.getValue("bodies.duration_ms").count).isEqualTo(1)
+    assertThat(snapshot.histograms.getValue("bodies.queue_depth").max).isEqualTo(1)
+
+    val json = JsonFileMetricsReporter.toJson(snapshot)
+    assertThat(json).contains("\"cache.hits\":1")
+    assertThat(json).contains("\"cache_hit_ratio\":0.25")
+  }
+}
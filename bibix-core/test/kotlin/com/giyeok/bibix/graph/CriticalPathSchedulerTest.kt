@@ -0,0 +1,76 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.graph.runner.CriticalPathScheduler
+import com.giyeok.bibix.graph.runner.EvalTarget
+import com.giyeok.bibix.graph.runner.PriorityThreadPoolExecutor
+import com.giyeok.bibix.graph.runner.TaskRelManager
+import com.giyeok.bibix.repo.BibixRepo
+import com.google.common.jimfs.Jimfs
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.util.Durations
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class CriticalPathSchedulerTest {
+  @Test
+  fun testCriticalPath() {
+    val fs = Jimfs.newFileSystem()
+    val repo = BibixRepo.load(fs.getPath("/"))
+
+    // a는 b와 c가 필요하고, b는 d가 필요함
+    val a = EvalTarget(1, 0, BibixName("a"))
+    val b = EvalTarget(1, 0, BibixName("b"))
+    val c = EvalTarget(1, 0, BibixName("c"))
+    val d = EvalTarget(1, 0, BibixName("d"))
+    val taskRels = TaskRelManager()
+    taskRels.addRootTask(a)
+    taskRels.addTaskRelation(a, b)
+    taskRels.addTaskRelation(a, c)
+    taskRels.addTaskRelation(b, d)
+
+    val scheduler = CriticalPathScheduler(repo)
+    assertThat(scheduler.priorityOf("tb")).isEqualTo(0L)
+    scheduler.bodyFinished(taskRels, a, "ta", 50)
+    scheduler.bodyFinished(taskRels, b, "tb", 100)
+    scheduler.bodyFinished(taskRels, c, "tc", 10)
+    scheduler.bodyFinished(taskRels, d, "td", 5)
+    scheduler.runFinished(taskRels)
+
+    val stats = repo.getAllTargetBuildStats()
+    assertThat(stats.mapValues { Durations.toMillis(it.value.criticalPathDuration) })
+      .containsExactly("ta", 50L, "tb", 150L, "tc", 60L, "td", 155L)
+    assertThat(Durations.toMillis(stats.getValue("td").bodyDuration)).isEqualTo(5L)
+
+    val nextScheduler = CriticalPathScheduler(repo)
+    assertThat(nextScheduler.priorityOf("td")).isEqualTo(155L)
+    assertThat(nextScheduler.priorityOf("tc")).isEqualTo(60L)
+    // 기록이 없으면 평균
+    assertThat(nextScheduler.priorityOf("unknown")).isEqualTo((50L + 150L + 60L + 155L) / 4)
+  }
+
+  @Test
+  fun testPriorityThreadPoolExecutor() {
+    val executor = PriorityThreadPoolExecutor(1, Executors.defaultThreadFactory())
+    val started = CountDownLatch(1)
+    val blocker = CountDownLatch(1)
+    val order = mutableListOf<String>()
+    executor.execute {
+      started.countDown()
+      blocker.await()
+    }
+    started.await()
+
+    executor.execute(1L) { order.add("low") }
+    executor.execute(100L) { order.add("high") }
+    executor.execute(50L) { order.add("mid1") }
+    executor.execute(50L) { order.add("mid2") }
+    executor.execute { order.add("plain") }
+    blocker.countDown()
+
+    executor.shutdown()
+    executor.awaitTermination(10, TimeUnit.SECONDS)
+    assertThat(order).containsExactly("plain", "high", "mid1", "mid2", "low").inOrder()
+  }
+}
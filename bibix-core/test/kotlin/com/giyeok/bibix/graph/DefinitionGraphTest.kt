@@ -0,0 +1,86 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.ast.BibixParser
+import com.giyeok.bibix.frontend.BuildFrontend
+import com.giyeok.bibix.graph.runner.ProjectDefinitionRels
+import com.giyeok.bibix.plugins.prelude.preludePlugin
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+class DefinitionGraphTest {
+  private fun names(vararg names: String) = names.map { BibixName(it) }
+
+  private fun defGraph(
+    localDeps: Map<String, List<String>>,
+    importedDeps: Map<String, List<Pair<String, String>>> = mapOf(),
+  ) = DefinitionGraph(
+    definitions = (localDeps.keys + localDeps.values.flatten() + importedDeps.keys)
+      .map { BibixName(it) }.toSet(),
+    localDeps = localDeps.entries.associate { (name, deps) ->
+      BibixName(name) to deps.map { BibixName(it) }.toSet()
+    },
+    importedDeps = importedDeps.entries.associate { (name, deps) ->
+      BibixName(name) to deps.map { Pair(BibixName(it.first), BibixName(it.second)) }.toSet()
+    },
+  )
+
+  @Test
+  fun testFindCycle() {
+    assertThat(defGraph(mapOf("a" to listOf("b", "c"), "b" to listOf("c"))).findCycle()).isNull()
+    assertThat(defGraph(mapOf("a" to listOf("b"), "b" to listOf("c"), "c" to listOf("b"))).findCycle())
+      .containsExactlyElementsIn(names("b", "c", "b")).inOrder()
+    assertThat(defGraph(mapOf("a" to listOf("a"))).findCycle())
+      .containsExactlyElementsIn(names("a", "a")).inOrder()
+  }
+
+  @Test
+  fun testDefinitionOf() {
+    val graph = defGraph(mapOf("ns.a" to listOf("b")))
+    assertThat(graph.definitionOf(BibixName("ns.a.field"))).isEqualTo(BibixName("ns.a"))
+    assertThat(graph.definitionOf(BibixName("b"))).isEqualTo(BibixName("b"))
+    assertThat(graph.definitionOf(BibixName("ns"))).isNull()
+  }
+
+  @Test
+  fun testCrossProjectCycle() {
+    // project 1: a = lib.x, lib은 project 2를 import
+    // project 2: x = y, y = main.a, main은 project 1을 import
+    val rels = ProjectDefinitionRels()
+    assertThat(rels.addProject(1, defGraph(
+      mapOf("a" to listOf("lib"), "lib" to listOf()),
+      mapOf("a" to listOf("lib" to "x")),
+    ))).isNull()
+    assertThat(rels.addProject(2, defGraph(
+      mapOf("x" to listOf("y"), "y" to listOf("main"), "main" to listOf()),
+      mapOf("y" to listOf("main" to "a.field")),
+    ))).isNull()
+
+    assertThat(rels.importResolved(1, BibixName("lib"), 2, null)).isNull()
+    // 같은 import가 다시 resolve되어도 문제 없음
+    assertThat(rels.importResolved(1, BibixName("lib"), 2, null)).isNull()
+    assertThat(rels.importResolved(2, BibixName("main"), 1, null)).containsExactly(
+      Pair(1, BibixName("a")),
+      Pair(2, BibixName("x")),
+      Pair(2, BibixName("y")),
+      Pair(1, BibixName("a")),
+    ).inOrder()
+  }
+
+  @Test
+  fun testCyclicScript() {
+    val script = BibixParser.parse(
+      """
+        a = b
+        b = c
+        c = a
+        d = a
+      """.trimIndent()
+    )
+    val preludeNames = NameLookupTable.fromDefs(preludePlugin.defs).names.keys
+    val exception = assertThrows<DefinitionCycleException> {
+      BuildGraph.fromScript(script, BuildFrontend.defaultPreloadedPlugins.keys, preludeNames)
+    }
+    assertThat(exception.cycle).containsExactly("a", "b", "c", "a").inOrder()
+  }
+}
@@ -0,0 +1,70 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.*
+import com.giyeok.bibix.repo.BibixRepoProto.TaskProfile
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+
+class ExecutionProfilerTest {
+  // a와 b가 모두 shared에 의존하므로 shared는 한 번만 실행되고 한 번은 캐시에서 가져온다
+  private fun syntheticRunner(): BuildGraphRunner = syntheticBuildGraphRunner { task ->
+    check(task is EvalTarget)
+    when (val name = task.name.toString()) {
+      "shared" -> BuildTaskResult.LongRunning(
+        body = {
+          Thread.sleep(50)
+          StringValue(name)
+        },
+        after = { BuildTaskResult.ValueResult(it as StringValue) },
+        targetId = "shared-target",
+      )
+
+      "a", "b" -> BuildTaskResult.WithResult(EvalTarget(1, 0, BibixName("shared"))) {
+        BuildTaskResult.ValueResult(StringValue(name))
+      }
+
+      else -> throw IllegalStateException()
+    }
+  }
+
+  @Test
+  fun test() {
+    val runner = syntheticRunner()
+    val executor = PriorityThreadPoolExecutor(2, Executors.defaultThreadFactory())
+    try {
+      val prunner = ParallelGraphRunner(runner, executor, null)
+      runBlocking {
+        prunner.runTasksOrFailure(listOf("a", "b").map { EvalTarget(1, 0, BibixName(it)) })
+      }
+    } finally {
+      executor.shutdown()
+    }
+
+    val profile = runner.profiler.toProto("test-run")
+    assertThat(profile.uniqueRunId).isEqualTo("test-run")
+
+    val bodies = profile.tasksList.filter { it.kind == TaskProfile.Kind.BODY }
+    assertThat(bodies).hasSize(1)
+    val body = bodies.first()
+    assertThat(body.name).isEqualTo("shared")
+    assertThat(body.targetId).isEqualTo("shared-target")
+    assertThat(body.endMicros - body.startMicros).isAtLeast(50_000L)
+    assertThat(profile.getThreads(body.thread)).startsWith("pool-")
+
+    val shared = profile.tasksList.filter { it.kind == TaskProfile.Kind.TASK && it.name == "shared" }
+    assertThat(shared.map { it.cache })
+      .containsExactly(TaskProfile.CacheResult.MISS, TaskProfile.CacheResult.HIT)
+    assertThat(profile.tasksList.filter { it.kind == TaskProfile.Kind.TASK }.map { it.name })
+      .containsAtLeast("a", "b")
+    assertThat(profile.tasksList.none { it.failed }).isTrue()
+
+    val trace = profile.toChromeTraceJson()
+    assertThat(trace).startsWith("{\"traceEvents\":[")
+    assertThat(trace).contains("\"ph\":\"M\"")
+    assertThat(trace).contains("\"name\":\"shared\",\"cat\":\"body\"")
+    assertThat(trace).contains("\"cache\":\"HIT\"")
+  }
+}
@@ -0,0 +1,197 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class FailureModeTest {
+  private val slowTargets = 6
+
+  // 한 번의 run에서 사용하는 latch들. body들이 서로를 기다리게 해서 실행 순서를 고정한다
+  private class Latches(runningSlowBodies: Int) {
+    val failStarted = CountDownLatch(1)
+    val slowStarted = CountDownLatch(runningSlowBodies)
+
+    // KeepGoing이면 fail이 실패할 때 slow 타겟들을 끝내고, FailFast이면 interrupt될 때까지 기다리게 한다
+    val release = CountDownLatch(1)
+  }
+
+  private val interrupted = AtomicInteger()
+  private val finished = AtomicInteger()
+
+  private fun awaitLatch(latch: CountDownLatch) {
+    check(latch.await(30, TimeUnit.SECONDS)) { "timed out" }
+  }
+
+  // fail은 slow 타겟들의 body가 모두 시작된 뒤에 실패하고, slow 타겟들은 release될 때까지 기다리고,
+  // dependent는 fail에 의존한다
+  private fun syntheticRunner(latches: Latches, failureMode: FailureMode): BuildGraphRunner =
+    syntheticBuildGraphRunner { task ->
+      check(task is EvalTarget)
+      val name = task.name.toString()
+      when {
+        name == "fail" -> BuildTaskResult.LongRunning(
+          body = {
+            latches.failStarted.countDown()
+            awaitLatch(latches.slowStarted)
+            if (failureMode == FailureMode.KeepGoing) {
+              latches.release.countDown()
+            }
+            throw IllegalStateException("failed")
+          },
+          after = { throw IllegalStateException() },
+        )
+
+        // slow 타겟들의 body가 fail의 body보다 먼저 executor를 차지하지 않도록 gate 뒤에 시작한다
+        name == "gate" -> BuildTaskResult.LongRunning(
+          body = {
+            awaitLatch(latches.failStarted)
+            StringValue("gate")
+          },
+          after = { BuildTaskResult.ValueResult(it as StringValue) },
+        )
+
+        name.startsWith("slow") -> BuildTaskResult.WithResult(EvalTarget(1, 0, BibixName("gate"))) {
+          BuildTaskResult.LongRunning(
+            body = {
+              latches.slowStarted.countDown()
+              try {
+                awaitLatch(latches.release)
+                finished.incrementAndGet()
+              } catch (e: InterruptedException) {
+                interrupted.incrementAndGet()
+                throw e
+              }
+              StringValue(name)
+            },
+            after = { BuildTaskResult.ValueResult(it as StringValue) },
+            ioBound = true,
+          )
+        }
+
+        name == "dependent" -> BuildTaskResult.WithResult(EvalTarget(1, 0, BibixName("fail"))) {
+          BuildTaskResult.ValueResult(StringValue("dependent"))
+        }
+
+        else -> throw IllegalStateException()
+      }
+    }
+
+  private fun roots(): List<BuildTask> =
+    listOf(EvalTarget(1, 0, BibixName("fail")), EvalTarget(1, 0, BibixName("dependent"))) +
+      (0 until slowTargets).map { EvalTarget(1, 0, BibixName("slow$it")) }
+
+  // executor의 스레드 4개 중 fail이 하나를 차지하므로 slow 타겟들은 3개만 실행되고 나머지는 큐에서 기다린다.
+  // virtual thread에서는 io bound인 slow 타겟들이 모두 동시에 실행된다
+  private fun runningSlowBodies(useVirtualThreads: Boolean) = if (useVirtualThreads) slowTargets else 3
+
+  private fun run(
+    failureMode: FailureMode,
+    useVirtualThreads: Boolean
+  ): Map<BuildTask, FailureOr<BuildTaskResult.FinalResult>> {
+    interrupted.set(0)
+    finished.set(0)
+    val latches = Latches(runningSlowBodies(useVirtualThreads))
+    val executor = PriorityThreadPoolExecutor(4, Executors.defaultThreadFactory())
+    val virtualThreadRunner = if (useVirtualThreads) VirtualThreadBodyRunner(4) else null
+    try {
+      val prunner = ParallelGraphRunner(
+        syntheticRunner(latches, failureMode),
+        executor,
+        null,
+        virtualThreadRunner = virtualThreadRunner,
+        failureMode = failureMode,
+      )
+      return runBlocking { prunner.runTasksOrFailure(roots()) }
+    } finally {
+      executor.shutdown()
+      virtualThreadRunner?.shutdown()
+    }
+  }
+
+  private fun errorOf(result: FailureOr<*>?): Throwable =
+    (result as FailureOr.Failure<*>).error
+
+  private fun testFailFast(useVirtualThreads: Boolean) {
+    val results = run(FailureMode.FailFast, useVirtualThreads)
+    assertThat(errorOf(results[EvalTarget(1, 0, BibixName("fail"))]))
+      .hasMessageThat().isEqualTo("failed")
+    (0 until slowTargets).forEach {
+      assertThat(errorOf(results[EvalTarget(1, 0, BibixName("slow$it"))]))
+        .isInstanceOf(FailureOr.Cancelled::class.java)
+    }
+    assertThat(finished.get()).isEqualTo(0)
+    // 실행 중이던 body만 interrupt되고 큐에 있던 body는 실행되지 않는다
+    assertThat(interrupted.get()).isEqualTo(runningSlowBodies(useVirtualThreads))
+  }
+
+  @Test
+  fun testFailFast() {
+    testFailFast(false)
+  }
+
+  @Test
+  fun testFailFastWithVirtualThreads() {
+    testFailFast(true)
+  }
+
+  @Test
+  fun testKeepGoing() {
+    val results = run(FailureMode.KeepGoing, false)
+    assertThat(errorOf(results[EvalTarget(1, 0, BibixName("fail"))]))
+      .hasMessageThat().isEqualTo("failed")
+    assertThat(results[EvalTarget(1, 0, BibixName("dependent"))])
+      .isInstanceOf(FailureOr.Failure::class.java)
+    (0 until slowTargets).forEach {
+      assertThat(results[EvalTarget(1, 0, BibixName("slow$it"))])
+        .isEqualTo(FailureOr.Result(BuildTaskResult.ValueResult(StringValue("slow$it"))))
+    }
+    assertThat(finished.get()).isEqualTo(slowTargets)
+    assertThat(interrupted.get()).isEqualTo(0)
+  }
+
+  @Test
+  fun testDuplicateTargetFailure() {
+    // owner와 waiter가 같은 target을 빌드하려고 하고, owner의 빌드가 실패한다
+    val runner = syntheticBuildGraphRunner { task ->
+      check(task is EvalTarget)
+      when (task.name.toString()) {
+        "owner" -> BuildTaskResult.BuildingTarget("target") {
+          BuildTaskResult.LongRunning(
+            body = { throw IllegalStateException("failed") },
+            after = { throw IllegalStateException() },
+            targetId = "target",
+          )
+        }
+
+        "waiter" -> BuildTaskResult.DuplicateTargetResult("target")
+        else -> throw IllegalStateException()
+      }
+    }
+    val executor = PriorityThreadPoolExecutor(4, Executors.defaultThreadFactory())
+    try {
+      val prunner = ParallelGraphRunner(runner, executor, null, failureMode = FailureMode.KeepGoing)
+      val results = runBlocking {
+        withTimeout(30_000) {
+          prunner.runTasksOrFailure(
+            listOf(EvalTarget(1, 0, BibixName("waiter")), EvalTarget(1, 0, BibixName("owner")))
+          )
+        }
+      }
+      // waiter도 끝나지 않고 기다리는 대신 owner의 실패를 받는다
+      assertThat(errorOf(results[EvalTarget(1, 0, BibixName("owner"))]))
+        .hasMessageThat().isEqualTo("failed")
+      assertThat(errorOf(results[EvalTarget(1, 0, BibixName("waiter"))]))
+        .hasMessageThat().isEqualTo("failed")
+    } finally {
+      executor.shutdown()
+    }
+  }
+}
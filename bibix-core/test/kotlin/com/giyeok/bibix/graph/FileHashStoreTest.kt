@@ -0,0 +1,89 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.graph.runner.FileHashStore
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+import java.util.concurrent.Executors
+import kotlin.io.path.createDirectories
+import kotlin.io.path.pathString
+import kotlin.io.path.writeBytes
+import kotlin.random.Random
+
+class FileHashStoreTest {
+  private fun createTree(root: Path): Long {
+    val random = Random(0)
+    var totalBytes = 0L
+    (0 until 10).forEach { dirIdx ->
+      (0 until 10).forEach { subIdx ->
+        val dir = root.resolve("dir$dirIdx/sub$subIdx").createDirectories()
+        (0 until 5).forEach { fileIdx ->
+          val bytes = random.nextBytes(100 + random.nextInt(5000))
+          dir.resolve("file$fileIdx").writeBytes(bytes)
+          totalBytes += bytes.size
+        }
+      }
+    }
+    return totalBytes
+  }
+
+  @Test
+  fun testConcurrentHashingIsDeduplicated(@TempDir root: Path) {
+    val totalBytes = createTree(root)
+    val metrics = BuildMetrics()
+    val store = FileHashStore(metrics)
+
+    // 같은 디렉토리와 그 하위 디렉토리들을 여러 스레드에서 동시에 요청한다
+    val requests = (0 until 10).map { dirIdx ->
+      listOf(root.resolve("dir$dirIdx").pathString, root.resolve("dir$dirIdx/sub3").pathString)
+    } + listOf(listOf(root.pathString))
+    val executor = Executors.newFixedThreadPool(8)
+    val results = try {
+      (requests + requests.reversed()).map { paths ->
+        executor.submit<Any> { store.inputHashesFromPaths(paths) }
+      }.map { it.get() }
+    } finally {
+      executor.shutdown()
+    }
+
+    // 모든 파일은 정확히 한 번씩만 읽었다
+    assertThat(metrics.snapshot().counters["hash.bytes_read"]).isEqualTo(totalBytes)
+    assertThat(results.take(requests.size)).isEqualTo(results.drop(requests.size).reversed())
+
+    // 병렬로 계산한 결과는 새로 계산한 결과와 같다
+    val fresh = FileHashStore().inputHashesFromPaths(listOf(root.pathString))
+    assertThat(results[requests.size - 1]).isEqualTo(fresh)
+  }
+
+  @Test
+  fun testMerkleDigests(@TempDir root: Path) {
+    createTree(root)
+    fun digestOf(path: Path) =
+      FileHashStore().inputHashesFromPaths(listOf(path.pathString)).directoriesList.single().digest
+
+    val before = FileHashStore()
+      .inputHashesFromPaths(listOf(root.pathString)).directoriesList.single()
+    // TargetState에는 하위 항목 없이 digest만 저장된다
+    assertThat(before.directoriesList).isEmpty()
+    assertThat(before.filesList).isEmpty()
+
+    val dir4Before = digestOf(root.resolve("dir4"))
+    val sub5Before = digestOf(root.resolve("dir3/sub5"))
+    root.resolve("dir3/sub5/file2").writeBytes(byteArrayOf(1, 2, 3))
+    // 바뀐 파일을 포함하는 디렉토리들의 digest만 바뀐다
+    assertThat(digestOf(root)).isNotEqualTo(before.digest)
+    assertThat(digestOf(root.resolve("dir3/sub5"))).isNotEqualTo(sub5Before)
+    assertThat(digestOf(root.resolve("dir4"))).isEqualTo(dir4Before)
+
+    // 내용이 같은 디렉토리는 위치가 달라도 digest가 같다
+    val dir3 = FileHashStore().inputHashesFromPaths(listOf(root.resolve("dir3").pathString))
+    val copied = root.resolve("copied").createDirectories()
+    root.resolve("dir3").toFile().copyRecursively(copied.resolve("dir3").toFile())
+    val copiedDir3 =
+      FileHashStore().inputHashesFromPaths(listOf(copied.resolve("dir3").pathString))
+    assertThat(copiedDir3.directoriesList.single().digest)
+      .isEqualTo(dir3.directoriesList.single().digest)
+  }
+}
@@ -0,0 +1,93 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.graph.runner.MemoTable
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.*
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.filterNotNull
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+// ParallelGraphRunner의 task 캐시를 Mutex + MutableStateFlow로 구현했던 방식과 MemoTable을 비교한다.
+// 같은 key를 여러 coroutine에서 동시에 요청하는, EvalTarget/EvalCallExpr 캐시와 비슷한 패턴을 흉내낸다
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class MemoTableBenchmark {
+  private val keys = 50000
+  private val lookupsPerKey = 4
+  private val threads = 4
+
+  private class MutexStateFlowCache<K, V> {
+    private val mutex = Mutex()
+    private val cache = mutableMapOf<K, MutableStateFlow<V?>>()
+
+    suspend fun getOrCompute(key: K, compute: suspend () -> V): V {
+      var isExisting: Boolean
+      val flow: MutableStateFlow<V?>
+      mutex.withLock {
+        val existing = cache[key]
+        if (existing != null) {
+          isExisting = true
+          flow = existing
+        } else {
+          isExisting = false
+          flow = MutableStateFlow(null)
+          cache[key] = flow
+        }
+      }
+      return if (isExisting) {
+        flow.value ?: flow.filterNotNull().first()
+      } else {
+        val value = compute()
+        flow.value = value
+        value
+      }
+    }
+  }
+
+  private fun measure(getOrCompute: suspend (Int, suspend () -> Int) -> Int): Pair<Long, Int> {
+    val computed = AtomicInteger()
+    val executor = Executors.newFixedThreadPool(threads)
+    try {
+      val dispatcher = executor.asCoroutineDispatcher()
+      val startTime = System.nanoTime()
+      val sum = runBlocking(dispatcher) {
+        (0 until lookupsPerKey).flatMap { round ->
+          (0 until keys).map { idx ->
+            val key = if (round % 2 == 0) idx else keys - 1 - idx
+            async {
+              getOrCompute(key) {
+                computed.incrementAndGet()
+                yield()
+                key
+              }
+            }
+          }
+        }.awaitAll().sum()
+      }
+      val elapsed = (System.nanoTime() - startTime) / 1_000_000
+      assertThat(computed.get()).isEqualTo(keys)
+      return Pair(elapsed, sum)
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  fun benchmark() {
+    repeat(3) {
+      val mutexCache = MutexStateFlowCache<Int, Int>()
+      val (mutexElapsed, mutexSum) = measure { key, compute -> mutexCache.getOrCompute(key, compute) }
+      val memoTable = MemoTable<Int, Int>()
+      val (memoElapsed, memoSum) = measure { key, compute -> memoTable.getOrCompute(key, compute) }
+      assertThat(memoSum).isEqualTo(mutexSum)
+      println("lookups=${keys * lookupsPerKey} mutex+StateFlow=${mutexElapsed}ms MemoTable=${memoElapsed}ms")
+    }
+  }
+}
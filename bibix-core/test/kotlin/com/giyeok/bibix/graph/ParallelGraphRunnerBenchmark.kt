@@ -0,0 +1,93 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+
+// 스크립트 파싱 없이 taskInterceptor로 수천개의 target으로 이루어진 layered graph를 만들어서
+// ParallelGraphRunner가 스레드 수에 따라 얼마나 scale하는지 측정한다.
+// 각 target은 이전 layer의 target 몇 개를 참조하고, 참조한 값들을 받은 뒤 runner 안에서 CPU 작업을 한다.
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class ParallelGraphRunnerBenchmark {
+  private val layers = 5
+  private val targetsPerLayer = 800
+  private val depsPerTarget = 3
+  private val workRounds = 1000
+
+  private fun targetName(layer: Int, idx: Int) = BibixName("t${layer}_$idx")
+
+  private fun depsOf(layer: Int, idx: Int): List<Int> =
+    if (layer == 0) listOf() else (0 until depsPerTarget).map { (idx * 7 + it * 131) % targetsPerLayer }
+
+  private fun work(inputs: List<String>): String {
+    val digest = MessageDigest.getInstance("SHA-256")
+    var bytes = inputs.joinToString(",").toByteArray()
+    repeat(workRounds) {
+      bytes = digest.digest(bytes)
+    }
+    return bytes.take(8).joinToString("") { "%02x".format(it) }
+  }
+
+  private fun syntheticRunner(): BuildGraphRunner {
+    val names = ConcurrentHashMap<BibixName, Pair<Int, Int>>()
+    for (layer in 0 until layers) {
+      for (idx in 0 until targetsPerLayer) {
+        names[targetName(layer, idx)] = Pair(layer, idx)
+      }
+    }
+    return syntheticBuildGraphRunner { task ->
+      check(task is EvalTarget)
+      val (layer, idx) = names.getValue(task.name)
+      val deps = depsOf(layer, idx).map { EvalTarget(1, 0, targetName(layer - 1, it)) }
+      BuildTaskResult.WithResultList(deps) { results ->
+        val inputs = results.map { ((it as BuildTaskResult.ValueResult).value as StringValue).value }
+        BuildTaskResult.ValueResult(StringValue(work(inputs + task.name.toString())))
+      }
+    }
+  }
+
+  private fun runWithThreads(threads: Int): Pair<Long, Map<BuildTask, FailureOr<BuildTaskResult.FinalResult>>> {
+    val executor = Executors.newFixedThreadPool(threads)
+    try {
+      val prunner = ParallelGraphRunner(syntheticRunner(), executor, null)
+      val roots = (0 until targetsPerLayer).map { EvalTarget(1, 0, targetName(layers - 1, it)) }
+      val startTime = System.nanoTime()
+      val results = runBlocking { prunner.runTasksOrFailure(roots) }
+      return Pair((System.nanoTime() - startTime) / 1_000_000, results)
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  fun benchmark() {
+    // warm up
+    runWithThreads(Runtime.getRuntime().availableProcessors())
+
+    val cores = Runtime.getRuntime().availableProcessors()
+    val threadCounts = generateSequence(1) { it * 2 }.takeWhile { it <= cores }.toList()
+      .let { if (it.last() != cores) it + cores else it }
+
+    var baseResults: Map<BuildTask, FailureOr<BuildTaskResult.FinalResult>>? = null
+    var baseTime = 0L
+    threadCounts.forEach { threads ->
+      val (elapsed, results) = runWithThreads(threads)
+      assertThat(results.values.all { it is FailureOr.Result }).isTrue()
+      if (baseResults == null) {
+        baseResults = results
+        baseTime = elapsed
+      } else {
+        assertThat(results).isEqualTo(baseResults)
+      }
+      println("threads=$threads targets=${layers * targetsPerLayer} elapsed=${elapsed}ms speedup=${"%.2f".format(baseTime.toDouble() / elapsed)}")
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.Architecture
+import com.giyeok.bibix.base.BuildEnv
+import com.giyeok.bibix.base.OS
+import com.giyeok.bibix.graph.runner.*
+import com.giyeok.bibix.repo.BibixRepo
+import com.google.common.collect.ImmutableBiMap
+import com.google.common.jimfs.Jimfs
+import org.codehaus.plexus.classworlds.ClassWorld
+import java.util.concurrent.ConcurrentHashMap
+
+// 스크립트 없이 taskInterceptor만으로 동작하는 BuildGraphRunner. 벤치마크와 runner 테스트용
+fun syntheticBuildGraphRunner(taskInterceptor: (BuildTask) -> BuildTaskResult?): BuildGraphRunner {
+  val fs = Jimfs.newFileSystem()
+  return BuildGraphRunner(
+    multiGraph = MultiBuildGraph(mapOf()),
+    importInstances = ConcurrentHashMap(),
+    preloadedPluginIds = ImmutableBiMap.of(),
+    preloadedPluginInstanceProviders = mapOf(),
+    preludeNames = setOf(),
+    buildEnv = BuildEnv(OS.Linux("", ""), Architecture.X86_64),
+    fileSystem = fs,
+    repo = BibixRepo.load(fs.getPath("/")),
+    classPkgRunner = ClassPkgRunner(ClassWorld()),
+    fileHashStore = FileHashStore(),
+    taskInterceptor = taskInterceptor
+  )
+}
@@ -0,0 +1,60 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import kotlin.random.Random
+
+// ExecAction/EvalTarget 사이의 관계 5만개를 TaskRelManager에 추가하면서 싸이클 검사에 걸리는 시간을 잰다.
+// 관계는 깊은 DAG가 되도록 만들고, 관계가 추가되는 순서를 섞어서 topological order를 자주 다시 정렬하도록 한다
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class TaskRelManagerBenchmark {
+  private val actions = 100
+  private val targets = 10000
+  private val edges = 50000
+
+  private fun target(idx: Int) = EvalTarget(1, 0, BibixName("target$idx"))
+
+  private fun action(idx: Int) = ExecAction(1, 0, BibixName("action$idx"), ValueStore.EMPTY_MAP_ID)
+
+  private fun relations(random: Random): List<Pair<BuildTask, BuildTask>> {
+    // target i는 자기보다 번호가 큰 target에만 의존하므로 싸이클이 없다
+    val targetRels = (0 until edges - actions * 5).map {
+      val parent = random.nextInt(targets - 1)
+      val child = parent + 1 + random.nextInt(minOf(50, targets - parent - 1))
+      Pair<BuildTask, BuildTask>(target(parent), target(child))
+    }
+    val actionRels = (0 until actions * 5).map {
+      Pair<BuildTask, BuildTask>(action(it % actions), target(random.nextInt(targets)))
+    }
+    // 이어진 target들이 먼저 추가되지 않도록 섞는다
+    return (targetRels + actionRels).shuffled(random)
+  }
+
+  @Test
+  fun benchmark() {
+    repeat(3) { round ->
+      val rels = relations(Random(round))
+      val taskRels = TaskRelManager()
+      (0 until actions).forEach { taskRels.addRootTask(action(it)) }
+      (0 until targets).forEach { taskRels.addRootTask(target(it)) }
+
+      val startTime = System.nanoTime()
+      rels.forEach { (parent, child) ->
+        assertThat(taskRels.addTaskRelation(parent, child)).isNull()
+      }
+      val elapsed = (System.nanoTime() - startTime) / 1_000_000
+
+      // 가장 깊은 쪽에서 root쪽으로 가는 관계를 추가하면 싸이클이 발견되어야 한다
+      val deepest = rels.map { it.second }.filterIsInstance<EvalTarget>()
+        .maxBy { it.name.toString().removePrefix("target").toInt() }
+      val cycleStart = rels.first { it.second == deepest }.first
+      assertThat(taskRels.addTaskRelation(deepest, cycleStart)).isNotNull()
+
+      println("relations=${rels.size} elapsed=${elapsed}ms")
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import kotlin.random.Random
+
+class TaskRelManagerTest {
+  private fun target(idx: Int) = EvalTarget(1, 0, BibixName("t$idx"))
+
+  @Test
+  fun testCyclePath() {
+    val taskRels = TaskRelManager()
+    taskRels.addRootTask(target(0))
+    assertThat(taskRels.addTaskRelation(target(0), target(1))).isNull()
+    assertThat(taskRels.addTaskRelation(target(1), target(2))).isNull()
+    // 0 -> 1 -> 2 -> 0
+    assertThat(taskRels.addTaskRelation(target(2), target(0)))
+      .isEqualTo(TasksCycle(listOf(target(0), target(2), target(1), target(0))))
+
+    // notable하지 않은 task를 거쳐서 생기는 싸이클
+    val taskRels2 = TaskRelManager()
+    val evalVar = EvalVar(1, 0, BibixName("v"))
+    taskRels2.addRootTask(target(0))
+    assertThat(taskRels2.addTaskRelation(target(0), evalVar)).isNull()
+    assertThat(taskRels2.addTaskRelation(evalVar, target(0)))
+      .isEqualTo(TasksCycle(listOf(target(0), target(0))))
+  }
+
+  @Test
+  fun testRandomRelations() {
+    // 관계를 무작위 순서로 추가하면서 매번 단순 탐색으로 구한 싸이클 여부와 비교한다
+    val random = Random(1234)
+    val taskCount = 150
+    val taskRels = TaskRelManager()
+    (0 until taskCount).forEach { taskRels.addRootTask(target(it)) }
+    val accepted = mutableMapOf<Int, MutableSet<Int>>()
+
+    fun reachable(from: Int, to: Int): Boolean {
+      val visited = mutableSetOf(from)
+      val stack = ArrayDeque(listOf(from))
+      while (stack.isNotEmpty()) {
+        val next = stack.removeLast()
+        if (next == to) return true
+        accepted[next]?.forEach { if (visited.add(it)) stack.addLast(it) }
+      }
+      return false
+    }
+
+    repeat(1500) {
+      val parent = random.nextInt(taskCount)
+      val child = random.nextInt(taskCount)
+      val expectCycle = reachable(child, parent)
+      val cycle = taskRels.addTaskRelation(target(parent), target(child))
+      if (expectCycle) {
+        checkNotNull(cycle)
+        assertThat(cycle.path.first()).isEqualTo(target(child))
+        assertThat(cycle.path.last()).isEqualTo(target(child))
+        assertThat(cycle.path[1]).isEqualTo(target(parent))
+      } else {
+        assertThat(cycle).isNull()
+        accepted.getOrPut(parent) { mutableSetOf() }.add(child)
+      }
+    }
+  }
+}
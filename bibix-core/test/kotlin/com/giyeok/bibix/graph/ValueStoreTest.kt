@@ -0,0 +1,65 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.*
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import java.nio.file.Path
+
+class ValueStoreTest {
+  @Test
+  fun testInterning() {
+    val store = ValueStore()
+    assertThat(store.idOf(mapOf())).isEqualTo(ValueStore.EMPTY_MAP_ID)
+
+    val a1 = store.idOf(ListValue(StringValue("a"), StringValue("b")))
+    val a2 = store.idOf(ListValue(listOf(StringValue("a"), StringValue("b"))))
+    val b = store.idOf(ListValue(StringValue("b"), StringValue("a")))
+    assertThat(a1).isEqualTo(a2)
+    assertThat(b).isNotEqualTo(a1)
+    assertThat(store.valueOf(b)).isEqualTo(ListValue(StringValue("b"), StringValue("a")))
+
+    val m1 = store.idOf(mapOf("x" to StringValue("1"), "y" to BooleanValue(true)))
+    val m2 = store.idOf(mapOf("y" to BooleanValue(true), "x" to StringValue("1")))
+    assertThat(m1).isEqualTo(m2)
+    assertThat(store.valueMapOf(m1)).containsExactly("x", StringValue("1"), "y", BooleanValue(true))
+
+    // 아직 ClassInstanceValue로 바뀌지 않은 값도 등록할 수 있다
+    val n1 = store.idOf(ListValue(NClassInstanceValue("xyz.A", mapOf("v" to StringValue("1")))))
+    val n2 = store.idOf(ListValue(NClassInstanceValue("xyz.A", mapOf("v" to StringValue("1")))))
+    val n3 = store.idOf(ListValue(NClassInstanceValue("xyz.A", mapOf("v" to StringValue("2")))))
+    assertThat(n1).isEqualTo(n2)
+    assertThat(n3).isNotEqualTo(n1)
+
+    // structuralDigest가 같아도 다른 값이면 다른 id를 갖는다
+    val s1 = store.idOf(SetValue(StringValue("a"), StringValue("b")))
+    val s2 = store.idOf(SetValue(StringValue("b"), StringValue("a")))
+    assertThat(s2).isNotEqualTo(s1)
+    assertThat(store.idOf(SetValue(StringValue("a"), StringValue("b")))).isEqualTo(s1)
+    assertThat(store.valueOf(s2)).isEqualTo(SetValue(StringValue("b"), StringValue("a")))
+
+    val relative = store.idOf(FileValue(Path.of("a.txt")))
+    val absolute = store.idOf(FileValue(Path.of("a.txt").toAbsolutePath()))
+    assertThat(absolute).isNotEqualTo(relative)
+    assertThat(store.valueOf(relative)).isEqualTo(FileValue(Path.of("a.txt")))
+    assertThat(store.valueOf(absolute)).isEqualTo(FileValue(Path.of("a.txt").toAbsolutePath()))
+
+    val sm1 = store.idOf(mapOf("x" to SetValue(StringValue("a"), StringValue("b"))))
+    val sm2 = store.idOf(mapOf("x" to SetValue(StringValue("b"), StringValue("a"))))
+    assertThat(sm2).isNotEqualTo(sm1)
+
+    // 같은 value로 만든 task는 같은 task
+    assertThat(TypeCastValue(a1, StringType, 1)).isEqualTo(TypeCastValue(a2, StringType, 1))
+  }
+
+  @Test
+  fun testBuildTaskIds() {
+    val taskIds = BuildTaskIds()
+    val a = taskIds.idOf(EvalTarget(1, 0, BibixName("a")))
+    val b = taskIds.idOf(EvalTarget(1, 0, BibixName("b")))
+    assertThat(taskIds.idOf(EvalTarget(1, 0, BibixName("a")))).isEqualTo(a)
+    assertThat(b).isNotEqualTo(a)
+    assertThat(taskIds.taskOf(b)).isEqualTo(EvalTarget(1, 0, BibixName("b")))
+    assertThat(taskIds.size).isEqualTo(2)
+  }
+}
@@ -0,0 +1,106 @@
+package com.giyeok.bibix.graph
+
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.*
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import java.security.MessageDigest
+import java.util.concurrent.Executors
+
+// 다운로드처럼 대부분의 시간을 기다리는 데 쓰는 target이 많은 graph에서
+// 고정 크기 thread pool로 body를 실행할 때와 virtual thread + CPU permit으로 실행할 때를 비교한다.
+// download target들은 sleep으로 I/O를 흉내내고, compile target들은 download target 몇 개를 받아서 CPU 작업을 한다
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class VirtualThreadBodyRunnerBenchmark {
+  private val threads = 4
+  private val downloads = 200
+  private val compiles = 50
+  private val depsPerCompile = 4
+  private val ioMillis = 30L
+  private val workRounds = 2000
+
+  private fun work(input: String): String {
+    val digest = MessageDigest.getInstance("SHA-256")
+    var bytes = input.toByteArray()
+    repeat(workRounds) {
+      bytes = digest.digest(bytes)
+    }
+    return bytes.take(8).joinToString("") { "%02x".format(it) }
+  }
+
+  private fun syntheticRunner(): BuildGraphRunner = syntheticBuildGraphRunner { task ->
+    check(task is EvalTarget)
+    val name = task.name.toString()
+    when {
+      name.startsWith("download") -> BuildTaskResult.LongRunning(
+        body = {
+          Thread.sleep(ioMillis)
+          StringValue(name)
+        },
+        after = { BuildTaskResult.ValueResult(it as StringValue) },
+        ioBound = true,
+      )
+
+      name.startsWith("compile") -> {
+        val idx = name.removePrefix("compile").toInt()
+        val deps = (0 until depsPerCompile).map {
+          EvalTarget(1, 0, BibixName("download${(idx * depsPerCompile + it) % downloads}"))
+        }
+        BuildTaskResult.WithResultList(deps) { results ->
+          val inputs = results.joinToString(",") {
+            ((it as BuildTaskResult.ValueResult).value as StringValue).value
+          }
+          BuildTaskResult.LongRunning(
+            body = { StringValue(work(inputs)) },
+            after = { BuildTaskResult.ValueResult(it as StringValue) },
+          )
+        }
+      }
+
+      else -> throw IllegalStateException()
+    }
+  }
+
+  private fun roots(): List<BuildTask> =
+    (0 until downloads).map { EvalTarget(1, 0, BibixName("download$it")) } +
+      (0 until compiles).map { EvalTarget(1, 0, BibixName("compile$it")) }
+
+  private fun run(useVirtualThreads: Boolean): Pair<Long, Map<BuildTask, FailureOr<BuildTaskResult.FinalResult>>> {
+    val executor = PriorityThreadPoolExecutor(threads, Executors.defaultThreadFactory())
+    val virtualThreadRunner = if (useVirtualThreads) VirtualThreadBodyRunner(threads) else null
+    try {
+      val prunner = ParallelGraphRunner(
+        syntheticRunner(),
+        executor,
+        null,
+        virtualThreadRunner = virtualThreadRunner
+      )
+      val startTime = System.nanoTime()
+      val results = runBlocking { prunner.runTasksOrFailure(roots()) }
+      return Pair((System.nanoTime() - startTime) / 1_000_000, results)
+    } finally {
+      executor.shutdown()
+      virtualThreadRunner?.shutdown()
+    }
+  }
+
+  @Test
+  fun benchmark() {
+    // warm up
+    run(false)
+    run(true)
+
+    val (platformElapsed, platformResults) = run(false)
+    val (virtualElapsed, virtualResults) = run(true)
+    assertThat(platformResults.values.all { it is FailureOr.Result }).isTrue()
+    assertThat(virtualResults).isEqualTo(platformResults)
+
+    val targets = downloads + compiles
+    println("platform threads=$threads: ${platformElapsed}ms (${"%.1f".format(targets * 1000.0 / platformElapsed)} targets/s)")
+    println("virtual threads, cpu permits=$threads: ${virtualElapsed}ms (${"%.1f".format(targets * 1000.0 / virtualElapsed)} targets/s)")
+  }
+}
@@ -0,0 +1,40 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.*
+
+class ContentAddressedStoreTest {
+  @OptIn(ExperimentalPathApi::class)
+  @Test
+  fun testDeduplicateAndUnshare(@TempDir dir: Path) {
+    val metrics = BuildMetrics()
+    val store = ContentAddressedStore(dir.resolve("cas"), metrics)
+    val object1 = dir.resolve("objects/t1").createDirectories()
+    val object2 = dir.resolve("objects/t2").createDirectories()
+    object1.resolve("gen.java").writeText("class A {}")
+    object2.resolve("sub").createDirectories().resolve("gen.java").writeText("class A {}")
+    object2.resolve("other.java").writeText("class B {}")
+
+    store.ingestDirectory(object1)
+    store.ingestDirectory(object2)
+    assertThat(Files.isSameFile(object1.resolve("gen.java"), object2.resolve("sub/gen.java")))
+      .isTrue()
+    assertThat(metrics.casDeduplicatedBytes.get()).isEqualTo("class A {}".length.toLong())
+
+    // 다시 빌드하기 전에 분리하면 파일을 고쳐도 다른 target의 파일은 바뀌지 않는다
+    store.unshareDirectory(object1)
+    object1.resolve("gen.java").writeText("class A { int x; }")
+    assertThat(object2.resolve("sub/gen.java").readText()).isEqualTo("class A {}")
+
+    // 참조하는 object가 없어진 파일만 지운다
+    object2.deleteRecursively()
+    assertThat(store.sweep()).isEqualTo(("class A {}".length + "class B {}".length).toLong())
+    store.ingestDirectory(object1)
+    assertThat(store.sweep()).isEqualTo(0)
+  }
+}
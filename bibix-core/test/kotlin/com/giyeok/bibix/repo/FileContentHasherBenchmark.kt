@@ -0,0 +1,72 @@
+package com.giyeok.bibix.repo
+
+import com.google.protobuf.kotlin.toByteString
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.inputStream
+import kotlin.io.path.writeBytes
+import kotlin.random.Random
+
+// 소스 파일 크기의 작은 파일들과 jar 크기의 큰 파일들이 섞인 디렉토리에서
+// 예전처럼 앞의 1000 바이트만 SHA-1로 해시하는 방식과 FileContentHasher로 내용 전체를 해시하는 방식을 비교한다
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class FileContentHasherBenchmark {
+  private val smallFiles = 4000
+  private val largeFiles = 20
+
+  private fun createTree(root: Path, random: Random): List<Path> {
+    val small = (0 until smallFiles).map { idx ->
+      val dir = root.resolve("src/pkg${idx % 40}").createDirectories()
+      val file = dir.resolve("File$idx.kt")
+      file.writeBytes(random.nextBytes(200 + random.nextInt(8000)))
+      file
+    }
+    val large = (0 until largeFiles).map { idx ->
+      val dir = root.resolve("libs").createDirectories()
+      val file = dir.resolve("lib$idx.jar")
+      file.writeBytes(random.nextBytes((1 shl 20) + random.nextInt(4 shl 20)))
+      file
+    }
+    return (small + large).shuffled(random)
+  }
+
+  private fun firstBlockSha1(path: Path): Any {
+    val digest = newDigest()
+    val buffer = ByteArray(1000)
+    path.inputStream().buffered().use { stream ->
+      val read = stream.read(buffer, 0, 1000)
+      if (read > 0) {
+        digest.update(buffer, 0, read)
+      }
+    }
+    return Pair(digest.digest().toByteString(), Files.size(path))
+  }
+
+  private fun measure(files: List<Path>, hash: (Path) -> Any): Long {
+    val startTime = System.nanoTime()
+    files.forEach { hash(it) }
+    return (System.nanoTime() - startTime) / 1_000_000
+  }
+
+  @Test
+  fun benchmark(@TempDir root: Path) {
+    val files = createTree(root, Random(0))
+    val totalBytes = files.sumOf { Files.size(it) }
+    println("files=${files.size} bytes=$totalBytes")
+
+    val hashers = FileHashAlgorithm.entries.map { FileContentHasher(it) }
+    repeat(3) { round ->
+      val firstBlock = measure(files) { firstBlockSha1(it) }
+      val results = hashers.map { hasher ->
+        "${hasher.algorithm}=${measure(files) { hasher.fileHashOf(it) }}ms"
+      }
+      println("round=$round firstBlockSha1=${firstBlock}ms ${results.joinToString(" ")}")
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.giyeok.bibix.repo
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.readBytes
+import kotlin.io.path.writeBytes
+import kotlin.random.Random
+
+class FileContentHasherTest {
+  @Test
+  fun testChangeAfterFirstBlock(@TempDir dir: Path) {
+    val file = dir.resolve("file")
+    val content = Random(0).nextBytes(5000)
+    file.writeBytes(content)
+    val mtime = Files.getLastModifiedTime(file)
+
+    FileHashAlgorithm.entries.forEach { algorithm ->
+      val hasher = FileContentHasher(algorithm)
+      val before = hasher.fileHashOf(file)
+
+      // 크기와 수정 시각은 그대로 두고 1000 바이트 이후의 내용만 바꾼다
+      file.writeBytes(content.copyOf().also { it[4000] = (it[4000] + 1).toByte() })
+      Files.setLastModifiedTime(file, mtime)
+      val after = hasher.fileHashOf(file)
+
+      assertThat(after.size).isEqualTo(before.size)
+      assertThat(after.lastModifiedTime).isEqualTo(before.lastModifiedTime)
+      assertThat(after.sha1Hash).isNotEqualTo(before.sha1Hash)
+
+      file.writeBytes(content)
+      Files.setLastModifiedTime(file, mtime)
+    }
+  }
+
+  @Test
+  fun testMappedAndBufferedReadsAgree(@TempDir dir: Path) {
+    val file = dir.resolve("file")
+    file.writeBytes(Random(1).nextBytes(300_000))
+
+    FileHashAlgorithm.entries.forEach { algorithm ->
+      val buffered = FileContentHasher(algorithm, mmapThreshold = Long.MAX_VALUE)
+      val mapped = FileContentHasher(algorithm, mmapThreshold = 0)
+      assertThat(mapped.fileHashOf(file).sha1Hash).isEqualTo(buffered.fileHashOf(file).sha1Hash)
+    }
+
+    // SHA-1은 이전과 같이 MessageDigest로 계산한 값과 같아야 한다
+    assertThat(FileContentHasher(FileHashAlgorithm.SHA1).fileHashOf(file).sha1Hash)
+      .isEqualTo(sha1Hash(file.readBytes()))
+  }
+
+  @Test
+  fun testEmptyFile(@TempDir dir: Path) {
+    val file = dir.resolve("empty")
+    Files.createFile(file)
+    val fileHash = FileContentHasher(mmapThreshold = 0).fileHashOf(file)
+    assertThat(fileHash.size).isEqualTo(0)
+    assertThat(fileHash.sha1Hash.isEmpty).isFalse()
+  }
+}
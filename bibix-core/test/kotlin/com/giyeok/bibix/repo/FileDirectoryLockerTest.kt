@@ -0,0 +1,105 @@
+package com.giyeok.bibix.repo
+
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.channels.FileChannel
+import java.nio.channels.OverlappingFileLockException
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.atomic.AtomicInteger
+
+class FileDirectoryLockerTest {
+  // 같은 JVM에서 잡은 lock이 있으면 OverlappingFileLockException이 발생한다
+  private fun tryLockFile(lockFile: Path, shared: Boolean): Boolean =
+    FileChannel.open(lockFile, StandardOpenOption.READ, StandardOpenOption.WRITE).use { channel ->
+      val lock = try {
+        channel.tryLock(0, Long.MAX_VALUE, shared)
+      } catch (e: OverlappingFileLockException) {
+        null
+      }
+      lock?.release()
+      lock != null
+    }
+
+  @Test
+  fun testHoldsLockFile(@TempDir tempDir: Path): Unit = runBlocking {
+    val directory = tempDir.resolve("shared")
+    val locker = FileDirectoryLocker()
+
+    locker.acquireLock(directory)
+    val lockFile = directory.resolve(".bibix.lock")
+    assertThat(tryLockFile(lockFile, shared = false)).isFalse()
+    locker.releaseLock(directory)
+
+    assertThat(tryLockFile(lockFile, shared = false)).isTrue()
+  }
+
+  @Test
+  fun testExclusiveLocksDoNotOverlap(@TempDir tempDir: Path): Unit = runBlocking {
+    val directory = tempDir.resolve("shared")
+    val lockers = listOf(FileDirectoryLocker(), FileDirectoryLocker())
+    val holders = AtomicInteger()
+    val maxHolders = AtomicInteger()
+
+    (0 until 8).map { index ->
+      async(Dispatchers.Default) {
+        val locker = lockers[index % 2]
+        locker.acquireLock(directory)
+        try {
+          maxHolders.accumulateAndGet(holders.incrementAndGet(), ::maxOf)
+          delay(10)
+          holders.decrementAndGet()
+        } finally {
+          locker.releaseLock(directory)
+        }
+      }
+    }.forEach { it.await() }
+
+    assertThat(maxHolders.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun testSharedLocks(@TempDir tempDir: Path): Unit = runBlocking {
+    val directory = tempDir.resolve("shared")
+    val locker = FileDirectoryLocker()
+
+    // shared lock끼리는 동시에 잡을 수 있다
+    locker.acquireLock(directory, shared = true)
+    withTimeout(1000) { locker.acquireLock(directory, shared = true) }
+
+    val exclusiveAcquired = CompletableDeferred<Unit>()
+    val exclusive = async(Dispatchers.Default) {
+      locker.acquireLock(directory)
+      exclusiveAcquired.complete(Unit)
+      locker.releaseLock(directory)
+    }
+
+    // exclusive lock은 shared lock이 모두 풀릴 때까지 기다린다
+    delay(100)
+    assertThat(exclusiveAcquired.isCompleted).isFalse()
+    locker.releaseLock(directory, shared = true)
+    delay(100)
+    assertThat(exclusiveAcquired.isCompleted).isFalse()
+    locker.releaseLock(directory, shared = true)
+
+    withTimeout(1000) { exclusive.await() }
+    assertThat(exclusiveAcquired.isCompleted).isTrue()
+  }
+
+  @Test
+  fun testDifferentDirectories(@TempDir tempDir: Path): Unit = runBlocking {
+    val locker = FileDirectoryLocker()
+
+    locker.acquireLock(tempDir.resolve("a"))
+    withTimeout(1000) { locker.acquireLock(tempDir.resolve("b")) }
+    locker.releaseLock(tempDir.resolve("b"))
+    locker.releaseLock(tempDir.resolve("a"))
+  }
+}
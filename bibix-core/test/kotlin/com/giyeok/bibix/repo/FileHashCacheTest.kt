@@ -0,0 +1,85 @@
+package com.giyeok.bibix.repo
+
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.ByteString
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.deleteExisting
+import kotlin.io.path.exists
+import kotlin.io.path.inputStream
+import kotlin.io.path.pathString
+import kotlin.io.path.writeText
+
+class FileHashCacheTest {
+  private fun attrsOf(path: Path) = Files.readAttributes(path, BasicFileAttributes::class.java)
+
+  @Test
+  fun testReuseAcrossLoads(@TempDir dir: Path) {
+    val cacheFile = dir.resolve("filehashes.pb")
+    val file = dir.resolve("input.txt")
+    file.writeText("hello")
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000))
+    val hash = ByteString.copyFromUtf8("hash")
+
+    val cache = FileHashCache.load(cacheFile, FileHashAlgorithm.MURMUR3_128)
+    assertThat(cache.get(file, attrsOf(file))).isNull()
+    cache.put(file, attrsOf(file), hash)
+    cache.save()
+    assertThat(cacheFile.exists()).isTrue()
+
+    val reloaded = FileHashCache.load(cacheFile, FileHashAlgorithm.MURMUR3_128)
+    assertThat(reloaded.get(file, attrsOf(file))).isEqualTo(hash)
+
+    // 알고리즘이 바뀌면 캐시를 사용하지 않는다
+    assertThat(FileHashCache.load(cacheFile, FileHashAlgorithm.SHA256).get(file, attrsOf(file)))
+      .isNull()
+
+    // 크기나 수정 시각이 바뀌면 캐시를 사용하지 않는다
+    file.writeText("hello world")
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 30_000))
+    assertThat(reloaded.get(file, attrsOf(file))).isNull()
+  }
+
+  @Test
+  fun testRecentlyModifiedFilesAreNotCached(@TempDir dir: Path) {
+    val file = dir.resolve("input.txt")
+    file.writeText("hello")
+
+    val cache = FileHashCache.load(dir.resolve("filehashes.pb"), FileHashAlgorithm.MURMUR3_128)
+    cache.put(file, attrsOf(file), ByteString.copyFromUtf8("hash"))
+    assertThat(cache.get(file, attrsOf(file))).isNull()
+  }
+
+  @Test
+  fun testPruneStaleEntries(@TempDir dir: Path) {
+    val cacheFile = dir.resolve("filehashes.pb")
+    val oldTime = FileTime.fromMillis(System.currentTimeMillis() - 60_000)
+    val files = listOf("a.txt", "b.txt", "c.txt", "d.txt").map { name ->
+      dir.resolve(name).also { file ->
+        file.writeText(name)
+        Files.setLastModifiedTime(file, oldTime)
+      }
+    }
+    val (a, b, c, d) = files
+    val hash = ByteString.copyFromUtf8("hash")
+
+    val cache = FileHashCache.load(cacheFile, FileHashAlgorithm.MURMUR3_128)
+    listOf(a, b, c).forEach { cache.put(it, attrsOf(it), hash) }
+    cache.save()
+
+    // 다음 run에서는 d만 해시한다. b는 지워졌고 c는 내용이 바뀌었다
+    b.deleteExisting()
+    c.writeText("changed")
+    Files.setLastModifiedTime(c, oldTime)
+    val reloaded = FileHashCache.load(cacheFile, FileHashAlgorithm.MURMUR3_128)
+    reloaded.put(d, attrsOf(d), hash)
+    reloaded.save()
+
+    val saved = cacheFile.inputStream().use { BibixRepoProto.FileHashCacheData.parseFrom(it) }
+    assertThat(saved.filesMap.keys).containsExactly(a.pathString, d.pathString)
+  }
+}
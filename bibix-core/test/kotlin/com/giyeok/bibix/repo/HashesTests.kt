@@ -2,8 +2,13 @@ package com.giyeok.bibix.repo
 
 import com.giyeok.bibix.argPair
 import com.giyeok.bibix.argsMap
+import com.giyeok.bibix.base.*
 import com.giyeok.bibix.bibixValue
+import com.giyeok.bibix.buildRuleData
 import com.giyeok.bibix.repo.hashString
+import com.giyeok.bibix.sourceId
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.kotlin.toByteString
 import org.junit.jupiter.api.Test
 
 class HashesTests {
@@ -25,4 +30,46 @@ class HashesTests {
     }
     println(argsMap.hashString())
   }
+
+  @Test
+  fun testStreamingDigest() {
+    val value = bibixValue {
+      this.stringValue = "foobar".repeat(10000)
+    }
+    val expected = newDigest().digest(value.toByteArray()).toByteString()
+    assertThat(value.hashString()).isEqualTo(expected)
+    assertThat(sha1Hash(value.toByteString())).isEqualTo(expected)
+
+    // digestOf 안에서 다시 해시를 계산해도 바깥쪽 digest에 영향을 주지 않는다
+    val nested = digestOf {
+      update(value)
+      assertThat(value.hashString()).isEqualTo(expected)
+    }
+    assertThat(nested).isEqualTo(expected)
+  }
+
+  @Test
+  fun testStructuralDigest() {
+    val a = ClassInstanceValue("pkg", "Dep", mapOf("name" to StringValue("a")))
+    val b = ClassInstanceValue("pkg", "Dep", mapOf("name" to StringValue("b")))
+
+    // set은 원소의 순서와 상관 없고, list는 순서가 다르면 digest도 다르다
+    assertThat(SetValue(a, b).structuralDigest()).isEqualTo(SetValue(b, a).structuralDigest())
+    assertThat(ListValue(a, b).structuralDigest()).isNotEqualTo(ListValue(b, a).structuralDigest())
+    assertThat(SetValue(a, b).structuralDigest()).isNotEqualTo(ListValue(a, b).structuralDigest())
+
+    // 같은 구조의 값은 다른 인스턴스여도 digest가 같다
+    val a2 = ClassInstanceValue("pkg", "Dep", mapOf("name" to StringValue("a")))
+    assertThat(a2.structuralDigest()).isEqualTo(a.structuralDigest())
+    assertThat(
+      NamedTupleValue("x" to a, "y" to b).structuralDigest()
+    ).isNotEqualTo(NamedTupleValue("y" to a, "x" to b).structuralDigest())
+
+    val sourceId = sourceId { this.bibixVersion = "test" }
+    val buildRule = buildRuleData { this.buildRuleClassName = "Rule" }
+    assertThat(targetIdOf(sourceId, buildRule, mapOf("deps" to SetValue(a, b), "x" to NoneValue)))
+      .isEqualTo(targetIdOf(sourceId, buildRule, mapOf("x" to NoneValue, "deps" to SetValue(b, a))))
+    assertThat(targetIdOf(sourceId, buildRule, mapOf("deps" to SetValue(a))))
+      .isNotEqualTo(targetIdOf(sourceId, buildRule, mapOf("deps" to SetValue(b))))
+  }
 }
@@ -0,0 +1,105 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.InputHashes
+import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.giyeok.bibix.base.NoneValue
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.ByteString
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createSymbolicLinkPointingTo
+import kotlin.io.path.exists
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.writeBytes
+
+class ObjectsGarbageCollectorTest {
+  private fun BibixRepo.createObject(targetId: String, size: Int): Path {
+    val directory = objectsDirectory.resolve(targetId).createDirectories()
+    directory.resolve("file").writeBytes(ByteArray(size))
+    return directory
+  }
+
+  @Test
+  fun testEvictLeastRecentlyUsed(@TempDir dir: Path) {
+    val repo1 = BibixRepo.load(dir, uniqueRunId = "run1")
+    repo1.targetStarted(
+      "a",
+      { TargetIdData.getDefaultInstance() },
+      InputHashes.getDefaultInstance(),
+      ByteString.EMPTY
+    ) { null }
+    repo1.targetSucceeded("a", NoneValue, ByteString.EMPTY)
+    repo1.shutdown()
+
+    // 이전 버전이 남긴 tree 노드들은 로드할 때 지운다
+    val treeNode = dir.resolve("bbxbuild/trees/ab/cdef.pb")
+    treeNode.parent.createDirectories()
+    treeNode.writeBytes(ByteArray(10))
+
+    val repo2 = BibixRepo.load(dir, uniqueRunId = "run2")
+    assertThat(dir.resolve("bbxbuild/trees").exists()).isFalse()
+    repo2.createObject("a", 100)
+    val pinned = repo2.createObject("b", 200)
+    repo2.outputsDirectory.resolve("output").createSymbolicLinkPointingTo(pinned)
+    val old = repo2.createObject("c", 300)
+    // 마지막 사용 시각이 기록되지 않은 object는 폴더의 수정 시각을 사용한다
+    Files.setLastModifiedTime(old, FileTime.fromMillis(System.currentTimeMillis() - 3600_000))
+
+    val result1 = ObjectsGarbageCollector(repo2).collect(350)
+    assertThat(result1.evictedTargets).containsExactly("c")
+    assertThat(result1.remainingBytes).isEqualTo(300)
+    assertThat(old.exists()).isFalse()
+
+    // output이 가리키는 object는 budget을 넘어도 지우지 않는다
+    val result2 = ObjectsGarbageCollector(repo2).collect(100)
+    assertThat(result2.evictedTargets).containsExactly("a")
+    assertThat(repo2.objectsDirectory.resolve("b").exists()).isTrue()
+    assertThat(repo2.getTargetState("a")).isNull()
+    repo2.shutdown()
+
+    val repo3 = BibixRepo.load(dir, uniqueRunId = "run3")
+    assertThat(repo3.getTargetState("a")).isNull()
+    repo3.shutdown()
+  }
+
+  @Test
+  fun testPruneRunFiles(@TempDir dir: Path) {
+    val profiles = dir.resolve("profiles").createDirectories()
+    val now = System.currentTimeMillis()
+    (0 until 5).forEach { idx ->
+      val file = profiles.resolve("run$idx.pb")
+      file.writeBytes(ByteArray(10))
+      Files.setLastModifiedTime(file, FileTime.fromMillis(now - (5 - idx) * 1000L))
+    }
+
+    BibixRepo.pruneRunFiles(profiles, 2)
+    assertThat(profiles.listDirectoryEntries().map { it.fileName.toString() })
+      .containsExactly("run3.pb", "run4.pb")
+  }
+
+  @Test
+  fun testSharedInodesCountedOnce(@TempDir dir: Path) {
+    val repo = BibixRepo.load(dir, uniqueRunId = "run1")
+    val now = System.currentTimeMillis()
+    val a = repo.createObject("a", 100)
+    // content addressed store를 쓰면 같은 내용의 파일은 hardlink로 공유된다
+    val b = repo.objectsDirectory.resolve("b").createDirectories()
+    Files.createLink(b.resolve("file"), a.resolve("file"))
+    val c = repo.createObject("c", 100)
+    Files.setLastModifiedTime(a, FileTime.fromMillis(now - 3000))
+    Files.setLastModifiedTime(b, FileTime.fromMillis(now - 2000))
+    Files.setLastModifiedTime(c, FileTime.fromMillis(now - 1000))
+
+    // a를 지워도 b가 같은 inode를 갖고 있으므로 공간이 확보되지 않는다
+    val result = ObjectsGarbageCollector(repo).collect(150)
+    assertThat(result.evictedTargets).containsExactly("a", "b").inOrder()
+    assertThat(result.evictedBytes).isEqualTo(100)
+    assertThat(result.remainingBytes).isEqualTo(100)
+    assertThat(c.exists()).isTrue()
+    repo.shutdown()
+  }
+}
@@ -0,0 +1,94 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto
+import com.giyeok.bibix.base.SetValue
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.buildRuleData
+import com.giyeok.bibix.graph.runner.argsMapFrom
+import com.giyeok.bibix.plugins.jvm.ClassPkg
+import com.giyeok.bibix.plugins.jvm.JarInfo
+import com.giyeok.bibix.plugins.jvm.MavenDep
+import com.giyeok.bibix.sourceId
+import com.giyeok.bibix.targetIdData
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.kotlin.toByteString
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty
+import java.nio.file.Path
+import kotlin.random.Random
+
+// maven.artifact로 가져온 ClassPkg들을 deps로 받는 build rule의 TargetIdData를 만들어서
+// 예전처럼 byte array로 serialize한 뒤에 해시하는 방식과 StreamingDigest를 비교한다
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "bibix.benchmark", matches = "true")
+class ProtoDigestBenchmark {
+  private val artifacts = 300
+  private val depsPerTarget = 40
+  private val targets = 200
+
+  private fun artifactPkgs(random: Random): List<ClassPkg> {
+    val pkgs = mutableListOf<ClassPkg>()
+    (0 until artifacts).forEach { idx ->
+      // 앞에서 만든 artifact들 중 몇 개를 transitive dependency로 갖는다
+      val deps = if (pkgs.isEmpty()) listOf() else (0 until random.nextInt(4)).map {
+        pkgs[random.nextInt(pkgs.size)]
+      }.distinct()
+      pkgs.add(
+        ClassPkg(
+          origin = MavenDep("central", "com.example.group$idx", "artifact$idx", "1.0.$idx", ""),
+          cpinfo = JarInfo(
+            Path.of("/home/user/.m2/repository/com/example/group$idx/artifact$idx-1.0.$idx.jar"),
+            null
+          ),
+          deps = deps,
+          runtimeDeps = listOf(),
+          nativeLibDirs = listOf(),
+        )
+      )
+    }
+    return pkgs
+  }
+
+  private fun targetIdDatas(random: Random): List<BibixIdProto.TargetIdData> {
+    val pkgs = artifactPkgs(random)
+    return (0 until targets).map { idx ->
+      val deps = (0 until depsPerTarget).map { pkgs[random.nextInt(pkgs.size)].toBibix() }
+      targetIdData {
+        this.sourceId = sourceId { this.bibixVersion = "0.8.2" }
+        this.buildRule = buildRuleData {
+          this.buildRuleClassName = "com.giyeok.bibix.plugins.ktjvm.Library"
+          this.buildRuleMethodName = "build"
+        }
+        this.argsMap = argsMapFrom(
+          mapOf(
+            "deps" to SetValue(deps),
+            "srcs" to StringValue("module$idx/**/*.kt"),
+          )
+        )
+      }
+    }
+  }
+
+  private fun copyingHash(data: BibixIdProto.TargetIdData) =
+    newDigest().digest(data.toByteArray()).toByteString()
+
+  @Test
+  fun benchmark() {
+    val datas = targetIdDatas(Random(0))
+    println("targets=${datas.size} bytes=${datas.sumOf { it.serializedSize }}")
+    datas.forEach { assertThat(it.hashString()).isEqualTo(copyingHash(it)) }
+
+    repeat(5) { round ->
+      var startTime = System.nanoTime()
+      repeat(20) { datas.forEach { copyingHash(it) } }
+      val copying = (System.nanoTime() - startTime) / 1_000_000
+
+      startTime = System.nanoTime()
+      repeat(20) { datas.forEach { it.hashString() } }
+      val streaming = (System.nanoTime() - startTime) / 1_000_000
+
+      println("round=$round copying=${copying}ms streaming=${streaming}ms")
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.*
+import com.giyeok.bibix.BibixIdProto.InputHashes
+import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.giyeok.bibix.base.FileValue
+import com.giyeok.bibix.base.ListValue
+import com.giyeok.bibix.base.StringValue
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.graph.runner.FileHashStore
+import com.giyeok.bibix.runner.RunConfigProto.RunConfig
+import com.giyeok.bibix.utils.toBibix
+import com.giyeok.bibix.utils.toHexString
+import com.giyeok.bibix.utils.toProto
+import com.giyeok.sugarproto.sugarformat.SugarFormat
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.empty
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.bufferedWriter
+import kotlin.io.path.createDirectories
+import kotlin.io.path.fileSize
+import kotlin.io.path.pathString
+import kotlin.io.path.readText
+import kotlin.io.path.writeText
+
+class RemoteCacheTest {
+  // machine 밑의 src/input.txt를 인자로 받는 target의 target id data와 input hash.
+  // 파일의 절대 경로와 수정 시각이 들어가므로 machine마다 target id와 input hash string이 다르다
+  private fun targetInputs(
+    machine: Path,
+    content: String,
+    modifiedMillis: Long
+  ): Pair<TargetIdData, InputHashes> {
+    val input = machine.resolve("src").createDirectories().resolve("input.txt")
+    input.writeText(content)
+    Files.setLastModifiedTime(input, FileTime.fromMillis(modifiedMillis))
+    val targetIdData = targetIdData {
+      this.sourceId = sourceId { this.mainSource = empty {} }
+      this.buildRule = buildRuleData {
+        this.buildRuleSourceId = sourceId { this.mainSource = empty {} }
+        this.nativeImpl = empty {}
+        this.buildRuleClassName = "com.example.Rule"
+        this.buildRuleMethodName = "build"
+      }
+      this.argsMap = argsMap {
+        this.pairs.add(argPair {
+          this.name = "src"
+          this.value = FileValue(input).toProto()
+        })
+      }
+    }
+    return Pair(targetIdData, FileHashStore().inputHashesFromPaths(listOf(input.pathString)))
+  }
+
+  private fun keyPaths(machine: Path, targetId: String) =
+    RemoteCachePaths(
+      machine.resolve("bbxbuild/objects/$targetId"),
+      machine.resolve("bbxbuild"),
+      machine
+    )
+
+  @Test
+  fun testUploadAndFetch(@TempDir dir: Path) {
+    val server = RemoteCacheServer(dir.resolve("server"), 0)
+    server.start()
+    try {
+      val url = "http://localhost:${server.port}"
+      val (targetIdData1, inputHashes1) = targetInputs(dir.resolve("machine1"), "input", 1000)
+      val (targetIdData2, inputHashes2) = targetInputs(dir.resolve("machine2"), "input", 2000)
+      val (targetIdData3, inputHashes3) = targetInputs(dir.resolve("machine3"), "changed", 1000)
+      assertThat(targetIdData2.hashString()).isNotEqualTo(targetIdData1.hashString())
+      assertThat(inputHashes2.hashString()).isNotEqualTo(inputHashes1.hashString())
+
+      // 위치와 수정 시각이 달라도 내용이 같으면 key가 같다
+      val key1 =
+        remoteCacheKey(targetIdData1, inputHashes1, keyPaths(dir.resolve("machine1"), "abcd"))!!
+      val key2 =
+        remoteCacheKey(targetIdData2, inputHashes2, keyPaths(dir.resolve("machine2"), "abcd"))!!
+      val key3 =
+        remoteCacheKey(targetIdData3, inputHashes3, keyPaths(dir.resolve("machine3"), "abcd"))!!
+      assertThat(key2).isEqualTo(key1)
+      assertThat(key3).isNotEqualTo(key1)
+
+      // 첫번째 머신에서 빌드한 결과를 올린다
+      val machine1 = dir.resolve("machine1")
+      val objectDirectory1 = machine1.resolve("bbxbuild/objects/abcd").createDirectories()
+      objectDirectory1.resolve("sub").createDirectories().resolve("out.txt").writeText("output")
+      objectDirectory1.resolve("empty.txt").writeText("")
+      val paths1 = RemoteCachePaths(objectDirectory1, machine1.resolve("bbxbuild"), machine1)
+      val value = ListValue(
+        FileValue(objectDirectory1.resolve("sub/out.txt")),
+        StringValue("hello"),
+      )
+      // content store에서 받은 해시가 있는 파일은 그 해시를 쓰고, 없는 파일은 업로드할 때 해시한다
+      val outFile1 = objectDirectory1.resolve("sub/out.txt")
+      val sha256Digests = mapOf(
+        outFile1 to FileContentHasher(FileHashAlgorithm.SHA256).hashContent(outFile1, outFile1.fileSize())
+      )
+      val client1 = RemoteCacheClient(url, BuildMetrics())
+      client1.uploadAsync(key1, value.toProto(), objectDirectory1, paths1, sha256Digests)
+      // 같은 target을 다시 빌드하기 전에는 그 target의 업로드만 기다린다
+      client1.awaitUpload(objectDirectory1)
+      outFile1.writeText("rebuilt")
+      client1.awaitUploads()
+
+      // 다른 위치에 있는 두번째 머신에서 받아온다
+      val machine2 = dir.resolve("machine2")
+      val objectDirectory2 = machine2.resolve("bbxbuild/objects/abcd")
+      val paths2 = RemoteCachePaths(objectDirectory2, machine2.resolve("bbxbuild"), machine2)
+      val metrics2 = BuildMetrics()
+      val client2 = RemoteCacheClient(url, metrics2)
+      assertThat(client2.fetch(key3, objectDirectory2, paths2)).isNull()
+      val fetched = client2.fetch(key2, objectDirectory2, paths2)!!.toBibix()
+      assertThat(fetched).isEqualTo(
+        ListValue(
+          FileValue(objectDirectory2.resolve("sub/out.txt").toAbsolutePath()),
+          StringValue("hello"),
+        )
+      )
+      assertThat(objectDirectory2.resolve("sub/out.txt").readText()).isEqualTo("output")
+      assertThat(objectDirectory2.resolve("empty.txt").readText()).isEqualTo("")
+      assertThat(metrics2.remoteCacheHits.get()).isEqualTo(1)
+      assertThat(metrics2.remoteCacheMisses.get()).isEqualTo(1)
+    } finally {
+      server.stop()
+    }
+  }
+
+  @Test
+  fun testSkipMachineSpecificPaths(@TempDir dir: Path) {
+    val paths = RemoteCachePaths(dir.resolve("bbxbuild/objects/abcd"), dir.resolve("bbxbuild"), dir)
+    assertThat(paths.relocate(dir.resolve("bbxbuild/shared/maven/a.jar").toString()))
+      .isEqualTo("\${BBXBUILD}/shared/maven/a.jar")
+    assertThat(paths.relocate("/usr/lib/jvm")).isNull()
+    assertThat(paths.relocateValue(FileValue(Path.of("/usr/lib/jvm")).toProto())).isNull()
+    // 다른 target의 object 폴더는 target id가 머신마다 다를 수 있으므로 relocate하지 않는다
+    val upstreamFile = dir.resolve("bbxbuild/objects/efgh/out.jar")
+    assertThat(paths.relocate(upstreamFile.toString())).isNull()
+
+    // key를 계산할 때는 다른 target의 output digest로 바꾼다
+    val keyPaths = RemoteCachePaths(
+      dir.resolve("bbxbuild/objects/abcd"),
+      dir.resolve("bbxbuild"),
+      dir,
+      upstreamOutputOf = { path ->
+        targetOutputHash {
+          this.path = path.toString()
+          this.targetId = "efgh"
+          this.outputDigest = sha1Hash("upstream".toByteArray())
+        }
+      }
+    )
+    assertThat(keyPaths.relocate(upstreamFile.toString()))
+      .isEqualTo("\${OUTPUT:${sha1Hash("upstream".toByteArray()).toHexString()}}/out.jar")
+  }
+
+  @Test
+  fun testFetchTargetBuiltInOtherRoot(@TempDir dir: Path) {
+    val server = RemoteCacheServer(dir.resolve("server"), 0)
+    server.start()
+    try {
+      fun loadRepo(machine: Path): BibixRepo {
+        machine.resolve("bbxbuild").createDirectories()
+        machine.resolve("bbxbuild/config.pbsuf").bufferedWriter().use { writer ->
+          SugarFormat.printTo(
+            RunConfig.newBuilder()
+              .setRemoteCacheUrl("http://localhost:${server.port}")
+              .setRemoteCacheUpload(true),
+            writer
+          )
+        }
+        return BibixRepo.load(machine)
+      }
+
+      // 첫번째 머신에서 빌드하고 결과를 올린다
+      val machine1 = dir.resolve("machine1")
+      val (targetIdData1, inputHashes1) = targetInputs(machine1, "input", 1000)
+      val targetId1 = targetIdData1.hashString().toHexString()
+      val repo1 = loadRepo(machine1)
+      repo1.targetStarted(targetId1, { targetIdData1 }, inputHashes1, inputHashes1.hashString()) {
+        null
+      }
+      val output1 = repo1.objectsDirectory.resolve(targetId1).createDirectories().resolve("out.txt")
+      output1.writeText("output")
+      val outputDigest1 = repo1.collectTargetOutputs(
+        targetId1,
+        FileValue(output1),
+        FileHashStore()::contentHashOf
+      ).outputDigest
+      repo1.targetSucceeded(targetId1, FileValue(output1), outputDigest1)
+      // 업로드가 끝날 때까지 기다린다
+      repo1.close()
+
+      // 다른 위치에 있는 두번째 머신에서는 target id와 input hash string이 다르지만 같은 결과를 받아온다
+      val machine2 = dir.resolve("machine2")
+      val (targetIdData2, inputHashes2) = targetInputs(machine2, "input", 2000)
+      val targetId2 = targetIdData2.hashString().toHexString()
+      assertThat(targetId2).isNotEqualTo(targetId1)
+      val repo2 = loadRepo(machine2)
+      repo2.targetStarted(targetId2, { targetIdData2 }, inputHashes2, inputHashes2.hashString()) {
+        null
+      }
+      val fetched = repo2.fetchFromRemoteCache(
+        targetId2,
+        targetIdData2,
+        inputHashes2,
+        FileHashStore()::contentHashOf
+      )
+      val output2 = repo2.objectsDirectory.resolve(targetId2).resolve("out.txt")
+      assertThat(fetched).isEqualTo(FileValue(output2.toAbsolutePath()))
+      assertThat(output2.readText()).isEqualTo("output")
+      assertThat(repo2.metrics.remoteCacheHits.get()).isEqualTo(1)
+      // output digest도 위치와 상관 없이 같다
+      assertThat(repo2.getTargetState(targetId2)!!.buildSucceeded.outputDigest)
+        .isEqualTo(outputDigest1)
+      repo2.close()
+    } finally {
+      server.stop()
+    }
+  }
+}
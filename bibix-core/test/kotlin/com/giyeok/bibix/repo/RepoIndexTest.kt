@@ -0,0 +1,51 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.util.Durations
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+
+class RepoIndexTest {
+  @Test
+  fun testLookupAndMerge(@TempDir dir: Path) {
+    val indexFile = dir.resolve("repo.idx")
+    val initial = BibixRepoData.newBuilder()
+    (0 until 1000).forEach {
+      initial.putTargetStates("target$it", targetState { this.uniqueRunId = "run1" })
+      initial.putOutputNames("name$it", "target$it")
+    }
+    initial.putTargetBuildStats("target1", targetBuildStats {
+      this.bodyDuration = Durations.fromMillis(10)
+    })
+    RepoIndex.write(indexFile, RepoDataStore.overlayEntries(initial.build()))
+
+    val store = RepoDataStore(RepoIndex.open(indexFile))
+    assertThat(store.getTargetState("target500")?.uniqueRunId).isEqualTo("run1")
+    assertThat(store.getTargetState("target1000")).isNull()
+    assertThat(store.getOutputName("name999")).isEqualTo("target999")
+    assertThat(store.getTargetIdData("target1")).isNull()
+    assertThat(store.getAllTargetBuildStats().keys).containsExactly("target1")
+
+    // overlay에 넣은 값이 index의 값보다 우선한다
+    store.putTargetState("target500", targetState { this.uniqueRunId = "run2" })
+    store.putTargetState("target1000", targetState { this.uniqueRunId = "run2" })
+    assertThat(store.getTargetState("target500")?.uniqueRunId).isEqualTo("run2")
+
+    RepoIndex.write(indexFile, store.snapshot())
+    val reopened = RepoDataStore(RepoIndex.open(indexFile))
+    assertThat(reopened.getTargetState("target499")?.uniqueRunId).isEqualTo("run1")
+    assertThat(reopened.getTargetState("target500")?.uniqueRunId).isEqualTo("run2")
+    assertThat(reopened.getTargetState("target1000")?.uniqueRunId).isEqualTo("run2")
+    assertThat(reopened.getOutputName("name0")).isEqualTo("target0")
+  }
+
+  @Test
+  fun testMissingOrBrokenIndex(@TempDir dir: Path) {
+    val indexFile = dir.resolve("repo.idx")
+    assertThat(RepoIndex.open(indexFile).size).isEqualTo(0)
+    indexFile.toFile().writeText("broken")
+    assertThat(RepoIndex.open(indexFile).size).isEqualTo(0)
+  }
+}
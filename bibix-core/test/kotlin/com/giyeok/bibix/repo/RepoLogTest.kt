@@ -0,0 +1,164 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.BibixName
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData
+import com.giyeok.bibix.runner.RunConfigProto.RepoLogFsync
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import kotlin.io.path.appendBytes
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.fileSize
+import kotlin.io.path.writeText
+
+class RepoLogTest {
+  private fun repoLogOf(dir: Path, repoData: RepoDataStore, threshold: Long = 8L shl 20) =
+    RepoLog(
+      logFile = dir.resolve("repo.log"),
+      snapshotFile = dir.resolve("repo.idx"),
+      fsyncPolicy = RepoLogFsync.FSYNC_NONE,
+      metrics = BuildMetrics(),
+      lock = repoData,
+      repoData = repoData,
+      compactThresholdBytes = threshold,
+    )
+
+  private fun RepoDataStore.record(repoLog: RepoLog, key: String, value: String) {
+    synchronized(this) {
+      putOutputName(key, value)
+      repoLog.append(bibixRepoData { this.outputNames[key] = value })
+    }
+  }
+
+  @Test
+  fun testReplayAfterUncleanShutdown(@TempDir dir: Path) {
+    val repoData = RepoDataStore(RepoIndex.empty)
+    val repoLog = repoLogOf(dir, repoData)
+    repoData.record(repoLog, "a", "1")
+    repoData.record(repoLog, "b", "2")
+    repoData.record(repoLog, "a", "3")
+    repoLog.flush()
+
+    // 마지막 기록을 쓰다가 종료된 상황
+    dir.resolve("repo.log").appendBytes(byteArrayOf(100, 1, 2))
+
+    val replayed = BibixRepoData.newBuilder()
+    assertThat(RepoLog.replay(dir.resolve("repo.log"), replayed)).isEqualTo(3)
+    assertThat(replayed.outputNamesMap).containsExactly("a", "3", "b", "2")
+  }
+
+  @Test
+  fun testCompaction(@TempDir dir: Path) {
+    val repoData = RepoDataStore(RepoIndex.empty)
+    val repoLog = repoLogOf(dir, repoData, threshold = 256)
+    (0 until 100).forEach { repoData.record(repoLog, "name$it", "target$it") }
+    repoLog.close()
+
+    assertThat(dir.resolve("repo.log").fileSize()).isEqualTo(0)
+    val snapshot = RepoDataStore(RepoIndex.open(dir.resolve("repo.idx")))
+    (0 until 100).forEach {
+      assertThat(snapshot.getOutputName("name$it")).isEqualTo("target$it")
+    }
+  }
+
+  @Test
+  fun testReadAfterCompaction(@TempDir dir: Path) {
+    val repoData = RepoDataStore(RepoIndex.empty)
+    val repoLog = repoLogOf(dir, repoData)
+    fun putState(targetId: String, runId: String) = synchronized(repoData) {
+      val state = targetState { this.uniqueRunId = runId }
+      repoData.putTargetState(targetId, state)
+      repoLog.append(bibixRepoData { this.targetStates[targetId] = state })
+    }
+
+    putState("t1", "run1")
+    putState("t2", "run1")
+    repoData.record(repoLog, "a", "1")
+    repoLog.flush(compact = true)
+    assertThat(dir.resolve("repo.log").fileSize()).isEqualTo(0)
+
+    // compact한 뒤에는 새 index에서 읽는다
+    assertThat(repoData.getTargetState("t1")?.uniqueRunId).isEqualTo("run1")
+    assertThat(repoData.getOutputName("a")).isEqualTo("1")
+
+    synchronized(repoData) {
+      repoData.removeTarget("t1")
+      repoLog.append(bibixRepoData { this.removedTargets.add("t1") })
+    }
+    putState("t2", "run2")
+    repoLog.flush(compact = true)
+    assertThat(repoData.getTargetState("t1")).isNull()
+    assertThat(repoData.getTargetState("t2")?.uniqueRunId).isEqualTo("run2")
+
+    // 지운 target을 다시 기록하면 다음 compact 이후에도 보인다
+    putState("t1", "run3")
+    repoLog.flush(compact = true)
+    assertThat(repoData.getTargetState("t1")?.uniqueRunId).isEqualTo("run3")
+    assertThat(repoData.getAllTargetLastAccess()).isEmpty()
+    repoLog.close()
+
+    val reopened = RepoDataStore(RepoIndex.open(dir.resolve("repo.idx")))
+    assertThat(reopened.getTargetState("t1")?.uniqueRunId).isEqualTo("run3")
+    assertThat(reopened.getTargetState("t2")?.uniqueRunId).isEqualTo("run2")
+  }
+
+  @Test
+  fun testWriteErrorAndClosedLog(@TempDir dir: Path) {
+    // snapshot 파일 자리에 폴더가 있어서 compact에 실패한다
+    dir.resolve("repo.idx").createDirectories().resolve("x").writeText("")
+    val repoData = RepoDataStore(RepoIndex.empty)
+    val repoLog = repoLogOf(dir, repoData, threshold = 1)
+    repoData.record(repoLog, "a", "1")
+    // 기다리는 flush가 없을 때 난 오류도 다음 flush에서 던진다
+    assertThrows<CompletionException> { repoLog.flush() }
+    assertThat(repoData.getOutputName("a")).isEqualTo("1")
+    assertThrows<CompletionException> { repoLog.close() }
+
+    // 닫힌 뒤에는 기다리지 않고 바로 실패한다
+    repoLog.close()
+    assertThrows<IllegalStateException> { repoLog.flush() }
+    assertThrows<IllegalStateException> { repoData.record(repoLog, "b", "2") }
+  }
+
+  @Test
+  fun testReopenClosedRepo(@TempDir dir: Path) {
+    // intellij plugin처럼 같은 프로젝트의 repo를 여러 번 열고 닫아도 기록이 남는다
+    (0 until 3).forEach { index ->
+      BibixRepo.load(dir).use { repo ->
+        (0 until index).forEach {
+          assertThat(repo.getAllOutputNames()["name$it"]).isEqualTo("target$it")
+        }
+        repo.linkNameToObjectIfExists(BibixName("name$index"), "target$index")
+      }
+    }
+    val repo = BibixRepo.load(dir)
+    assertThat(repo.getAllOutputNames()).hasSize(3)
+    repo.close()
+    // 이미 닫힌 repo를 다시 닫아도 문제가 없다
+    repo.shutdown()
+  }
+
+  @Test
+  fun testLoadWaitsForOpenRepo(@TempDir dir: Path) {
+    val repo1 = BibixRepo.load(dir)
+    repo1.linkNameToObjectIfExists(BibixName("a"), "target")
+    repo1.commitRepoData()
+    // 같은 bbxbuild를 쓰는 repo가 열려있으면 그 repo의 repo.log를 지우지 않도록 닫힐 때까지 기다린다
+    val loading = CompletableFuture.supplyAsync { BibixRepo.load(dir) }
+    assertThrows<TimeoutException> { loading.get(200, TimeUnit.MILLISECONDS) }
+    assertThat(dir.resolve("bbxbuild/repo.log").exists()).isTrue()
+    repo1.close()
+
+    val repo2 = loading.get()
+    assertThat(repo2.getAllOutputNames()["a"]).isEqualTo("target")
+    repo2.close()
+  }
+}
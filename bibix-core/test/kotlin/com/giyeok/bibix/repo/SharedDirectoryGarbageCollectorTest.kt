@@ -0,0 +1,79 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.giyeok.bibix.runner.RunConfigProto.RunConfig
+import com.giyeok.sugarproto.sugarformat.SugarFormat
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributeView
+import java.nio.file.attribute.FileTime
+import java.time.Duration
+import java.time.Instant
+import kotlin.io.path.bufferedWriter
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.writeBytes
+
+class SharedDirectoryGarbageCollectorTest {
+  private val now = Instant.parse("2026-10-01T00:00:00Z")
+
+  private fun createFile(file: Path, size: Int, lastUsed: Instant) {
+    file.parent.createDirectories()
+    file.writeBytes(ByteArray(size))
+    val time = FileTime.from(lastUsed)
+    Files.getFileAttributeView(file, BasicFileAttributeView::class.java)
+      .setTimes(time, time, null)
+  }
+
+  @Test
+  fun testEvictLeastRecentlyUsedEntries(@TempDir root: Path) {
+    val maven = root.resolve("com.giyeok.bibix.plugins.maven")
+    val git = root.resolve("com.giyeok.bibix.plugins.bibix.git")
+    // maven 저장소는 <group>/<artifact>/<version> 폴더가 entry이다
+    createFile(maven.resolve("org/foo/foo/1.0/foo-1.0.jar"), 100, now.minus(Duration.ofDays(30)))
+    createFile(maven.resolve("org/foo/foo/1.0/foo-1.0.pom"), 10, now.minus(Duration.ofDays(30)))
+    createFile(maven.resolve("org/foo/foo/2.0/foo-2.0.jar"), 200, now.minus(Duration.ofDays(3)))
+    // 최근에 사용된 entry는 budget을 넘어도 지우지 않는다
+    createFile(maven.resolve("org/bar/bar/1.0/bar-1.0.jar"), 300, now.minus(Duration.ofHours(1)))
+    // git 저장소는 .git 폴더를 가진 폴더 전체가 entry이다
+    createFile(git.resolve("abcd/.git/HEAD"), 50, now.minus(Duration.ofDays(10)))
+    createFile(git.resolve("abcd/src/Main.kt"), 50, now.minus(Duration.ofDays(10)))
+
+    val gc = SharedDirectoryGarbageCollector(root, FileDirectoryLocker(), BuildMetrics()) { now }
+
+    val result1 = gc.collect(600)
+    assertThat(result1.evictedEntries).containsExactly(maven.resolve("org/foo/foo/1.0"))
+    assertThat(result1.evictedBytes).isEqualTo(110)
+    assertThat(result1.remainingBytes).isEqualTo(600)
+    assertThat(maven.resolve("org/foo/foo/2.0/foo-2.0.jar").exists()).isTrue()
+
+    val result2 = gc.collect(0)
+    assertThat(result2.evictedEntries)
+      .containsExactly(git.resolve("abcd"), maven.resolve("org/foo/foo/2.0"))
+      .inOrder()
+    assertThat(result2.remainingBytes).isEqualTo(300)
+    assertThat(git.resolve("abcd").exists()).isFalse()
+    assertThat(maven.resolve("org/bar/bar/1.0/bar-1.0.jar").exists()).isTrue()
+  }
+
+  @Test
+  fun testSharedRootFromRunConfig(@TempDir dir: Path) {
+    val project = dir.resolve("project").createDirectories()
+    project.resolve("bbxbuild").createDirectories()
+    val runConfig = RunConfig.newBuilder()
+      .setMaxThreads(4)
+      .setSharedRootDirectory("../cache")
+    project.resolve("bbxbuild/config.pbsuf").bufferedWriter().use { writer ->
+      SugarFormat.printTo(runConfig, writer)
+    }
+
+    val repo = BibixRepo.load(project)
+    val shared = repo.prepareSharedDirectory("com.giyeok.bibix.plugins.maven")
+    assertThat(shared).isEqualTo(dir.resolve("cache/com.giyeok.bibix.plugins.maven"))
+    assertThat(shared.exists()).isTrue()
+    repo.shutdown()
+  }
+}
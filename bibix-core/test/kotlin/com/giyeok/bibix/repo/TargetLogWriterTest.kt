@@ -0,0 +1,48 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.graph.runner.BuildMetrics
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+import kotlin.concurrent.thread
+
+class TargetLogWriterTest {
+  @Test
+  fun testConcurrentLogs(@TempDir dir: Path) {
+    val logFile = dir.resolve("run.pb")
+    val writer = TargetLogWriter(logFile, BuildMetrics(), flushIntervalMillis = 1)
+    val buffers = (0 until 4).map { writer.bufferForTarget("run", "target$it") }
+    val actionBuffer = writer.bufferForAction("run", 1, 2, "action")
+
+    val threads = buffers.mapIndexed { idx, buffer ->
+      thread {
+        repeat(1000) { i ->
+          buffer.add(logBlock {
+            this.level = LogLevel.INFO
+            this.message = "target$idx $i"
+          })
+        }
+      }
+    }
+    actionBuffer.add(logBlock {
+      this.level = LogLevel.ERROR
+      this.message = "action"
+    })
+    threads.forEach { it.join() }
+    writer.close()
+
+    val logs = TargetLogWriter.readAll(logFile)
+    assertThat(logs.targetLogsList.map { it.targetId })
+      .containsExactly("target0", "target1", "target2", "target3")
+    logs.targetLogsList.forEach { targetLogs ->
+      // target별로 남긴 순서가 유지된다
+      assertThat(targetLogs.blocksList.map { it.message })
+        .containsExactlyElementsIn((0 until 1000).map { "${targetLogs.targetId} $it" })
+        .inOrder()
+    }
+    assertThat(logs.actionLogsList).hasSize(1)
+    assertThat(logs.actionLogsList[0].actionName).isEqualTo("action")
+    assertThat(logs.actionLogsList[0].blocksList.map { it.message }).containsExactly("action")
+  }
+}
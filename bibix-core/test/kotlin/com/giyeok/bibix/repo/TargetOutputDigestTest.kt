@@ -0,0 +1,108 @@
+package com.giyeok.bibix.repo
+
+import com.giyeok.bibix.BibixIdProto.InputHashes
+import com.giyeok.bibix.BibixIdProto.TargetIdData
+import com.giyeok.bibix.base.FileValue
+import com.giyeok.bibix.graph.runner.FileHashStore
+import com.giyeok.bibix.runner.RunConfigProto.RunConfig
+import com.giyeok.sugarproto.sugarformat.SugarFormat
+import com.google.common.truth.Truth.assertThat
+import com.google.protobuf.ByteString
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.bufferedWriter
+import kotlin.io.path.createDirectories
+import kotlin.io.path.pathString
+import kotlin.io.path.writeText
+
+class TargetOutputDigestTest {
+  // target을 다시 빌드해서 out.txt를 content로 새로 쓰고, 그 target의 output digest를 반환한다
+  private fun BibixRepo.buildTarget(targetId: String, content: String, modifiedMillis: Long): ByteString {
+    targetStarted(
+      targetId,
+      { TargetIdData.getDefaultInstance() },
+      InputHashes.getDefaultInstance(),
+      ByteString.copyFromUtf8(content)
+    ) { null }
+    val file = objectsDirectory.resolve(targetId).createDirectories().resolve("out.txt")
+    file.writeText(content)
+    Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis))
+    val value = FileValue(file)
+    val outputDigest = collectTargetOutputs(targetId, value, FileHashStore()::contentHashOf).outputDigest
+    targetSucceeded(targetId, value, outputDigest)
+    return getTargetState(targetId)!!.buildSucceeded.outputDigest
+  }
+
+  @Test
+  fun testSameOutputsHaveSameDigest(@TempDir dir: Path) {
+    val repo = BibixRepo.load(dir, uniqueRunId = "run1")
+
+    val digest1 = repo.buildTarget("a", "hello", 1000)
+    // 수정 시각만 다르고 내용이 같으면 digest가 같다
+    val digest2 = repo.buildTarget("a", "hello", 2000)
+    val digest3 = repo.buildTarget("a", "world", 2000)
+    assertThat(digest1.isEmpty).isFalse()
+    assertThat(digest2).isEqualTo(digest1)
+    assertThat(digest3).isNotEqualTo(digest1)
+    repo.shutdown()
+  }
+
+  @Test
+  fun testDownstreamInputHashes(@TempDir dir: Path) {
+    val repo = BibixRepo.load(dir, uniqueRunId = "run1")
+    val upstreamOutput = repo.objectsDirectory.resolve("a").resolve("out.txt")
+    fun downstreamInputHashes() =
+      FileHashStore(targetOutputDigests = repo::targetOutputOf)
+        .inputHashesFromPaths(listOf(upstreamOutput.pathString))
+
+    repo.buildTarget("a", "hello", 1000)
+    val hashes1 = downstreamInputHashes()
+    assertThat(hashes1.filesList).isEmpty()
+    assertThat(hashes1.targetOutputsList.map { it.targetId }).containsExactly("a")
+
+    // upstream이 같은 내용을 다시 만들면 downstream의 input hash는 바뀌지 않는다
+    repo.buildTarget("a", "hello", 2000)
+    assertThat(downstreamInputHashes().hashString()).isEqualTo(hashes1.hashString())
+
+    repo.buildTarget("a", "world", 3000)
+    assertThat(downstreamInputHashes().hashString()).isNotEqualTo(hashes1.hashString())
+
+    // 다시 빌드되는 중인 target의 파일은 내용을 해시한다
+    repo.targetStarted(
+      "a",
+      { TargetIdData.getDefaultInstance() },
+      InputHashes.getDefaultInstance(),
+      ByteString.copyFromUtf8("rebuild")
+    ) { null }
+    val rebuilding = downstreamInputHashes()
+    assertThat(rebuilding.targetOutputsList).isEmpty()
+    assertThat(rebuilding.filesList.map { it.path }).containsExactly(upstreamOutput.pathString)
+    repo.shutdown()
+  }
+
+  @Test
+  fun testOutputDigestWithContentStore(@TempDir dir: Path) {
+    val repo = BibixRepo.load(dir, uniqueRunId = "run1")
+    val plain = repo.buildTarget("a", "hello", 1000)
+    repo.shutdown()
+
+    // content store를 사용하면 store에 넣으면서 계산한 해시를 사용하고, 다른 해시는 계산하지 않는다
+    dir.resolve("bbxbuild/config.pbsuf").bufferedWriter().use { writer ->
+      SugarFormat.printTo(RunConfig.newBuilder().setContentAddressedObjects(true), writer)
+    }
+    val casRepo = BibixRepo.load(dir, uniqueRunId = "run2")
+    val file = casRepo.objectsDirectory.resolve("b").createDirectories().resolve("out.txt")
+    file.writeText("hello")
+    val value = FileValue(file)
+    val digest1 = casRepo.collectTargetOutputs("b", value) { throw AssertionError() }.outputDigest
+    assertThat(digest1.isEmpty).isFalse()
+    assertThat(digest1).isNotEqualTo(plain)
+    // 이미 store의 파일과 연결된 파일도 같은 digest가 나온다
+    val digest2 = casRepo.collectTargetOutputs("b", value) { throw AssertionError() }.outputDigest
+    assertThat(digest2).isEqualTo(digest1)
+    casRepo.shutdown()
+  }
+}
@@ -48,7 +48,9 @@ class BibixIntellijServiceImpl(
     memos[key] = ProjectInfoMemo(scriptHash, Instant.now(), flow)
     workers.execute {
       val loaded = try {
-        ProjectStructureExtractor(BibixProjectLocation.of(projectRoot, scriptName)).loadProject()
+        ProjectStructureExtractor(BibixProjectLocation.of(projectRoot, scriptName)).use { extractor ->
+          extractor.loadProject()
+        }
       } catch (e: Exception) {
         e.printStackTrace()
         throw StatusException(Status.FAILED_PRECONDITION)
@@ -7,7 +7,7 @@ import com.giyeok.bibix.graph.BibixProjectLocation
 import com.giyeok.bibix.intellij.*
 import com.giyeok.bibix.plugins.jvm.*
 import com.giyeok.bibix.plugins.maven.Artifact
-import com.giyeok.bibix.repo.BibixRepoProto.BibixRepoData
+import com.giyeok.bibix.repo.BibixRepo
 import com.giyeok.bibix.utils.toBibix
 import com.google.common.annotations.VisibleForTesting
 import java.nio.file.Path
@@ -16,7 +16,7 @@ import kotlin.io.path.*
 class ProjectInfoBuilder(
   val projectLocation: BibixProjectLocation,
   val buildResults: Map<String, ClassPkg>,
-  val repoData: BibixRepoData.Builder,
+  val repo: BibixRepo,
 ) {
   // target id -> name
   val namedTargets: Map<String, String> = buildResults.map {
@@ -176,7 +176,7 @@ class ProjectInfoBuilder(
     this.moduleName = "$rootModuleName.$moduleName"
     val origin = classPkg.origin as LocalBuilt
 
-    val targetIdData = repoData.getTargetIdDataOrDefault(origin.objHash, null)!!
+    val targetIdData = repo.getTargetIdData(origin.objHash)!!
 
     when (origin.builderName) {
       "java.library" -> {
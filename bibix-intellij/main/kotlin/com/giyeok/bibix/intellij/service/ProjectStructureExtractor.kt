@@ -24,12 +24,14 @@ import com.giyeok.bibix.plugins.jvm.ClassPkg
 import com.giyeok.bibix.plugins.jvm.ClassesInfo
 import com.giyeok.bibix.plugins.jvm.LocalBuilt
 import kotlinx.coroutines.runBlocking
+import java.io.Closeable
 import java.nio.file.Path
 import kotlin.io.path.absolute
 import kotlin.io.path.isDirectory
 import kotlin.io.path.listDirectoryEntries
 
-class ProjectStructureExtractor(projectLocation: BibixProjectLocation) {
+// 프로젝트를 불러올 때마다 새로 만들고, 다 쓴 뒤에는 repo를 닫는다
+class ProjectStructureExtractor(projectLocation: BibixProjectLocation) : Closeable {
   val buildFrontend = BuildFrontend(
     projectLocation,
     mapOf(),
@@ -123,12 +125,16 @@ class ProjectStructureExtractor(projectLocation: BibixProjectLocation) {
           }
         }
       }.toMap(),
-      buildFrontend.repo.repoData
+      buildFrontend.repo
     )
 
     return projectInfoBuilder.build(buildFrontend)
   }
 
+  override fun close() {
+    buildFrontend.close()
+  }
+
   private fun interceptTask(task: BuildTask): BuildTaskResult? {
     val candidate = evalTargets[task]
     if (candidate != null) {